@@ -1,14 +1,28 @@
 package com.example.demo.actors;
 
-import javafx.scene.image.*;
+import com.example.demo.utilities.SpriteMetrics;
+import com.example.demo.utilities.StateReader;
+import com.example.demo.utilities.StateWriter;
 
 /**
  * Abstract class representing an active actor in the game.
- * Extends JavaFX's {@link ImageView} to provide visual representation.
+ * Holds the actor's simulated state only; JavaFX nodes that display actors are kept in sync
+ * by the view layer, so the simulation can run without the FX toolkit.
  */
-public abstract class ActiveActor extends ImageView {
+public abstract sealed class ActiveActor permits ActiveActorDestructible {
 
-	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+	/** Classpath folder holding every actor sprite. */
+	public static final String IMAGE_LOCATION = "/com/example/demo/images/";
+
+	private final String imageName;
+	private final double width;
+	private final double height;
+	private double layoutX;
+	private double layoutY;
+	private double positionX;
+	private double positionY;
+	private double previousPositionX;
+	private double previousPositionY;
 
 	/**
 	 * Constructs an {@code ActiveActor} with the specified image, size, and initial position.
@@ -19,11 +33,74 @@ public abstract class ActiveActor extends ImageView {
 	 * @param initialYPos  the initial Y position of the actor on the screen
 	 */
 	public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-		this.setImage(new Image(getClass().getResource(IMAGE_LOCATION + imageName).toExternalForm()));
-		this.setLayoutX(initialXPos);
-		this.setLayoutY(initialYPos);
-		this.setFitHeight(imageHeight);
-		this.setPreserveRatio(true);
+		this.imageName = imageName;
+		this.layoutX = initialXPos;
+		this.layoutY = initialYPos;
+		this.height = imageHeight;
+		this.width = SpriteMetrics.widthAtHeight(IMAGE_LOCATION + imageName, imageHeight);
+	}
+
+	/**
+	 * Gets the name of the image file that represents the actor.
+	 *
+	 * @return the image file name, relative to {@link #IMAGE_LOCATION}
+	 */
+	public String getImageName() {
+		return imageName;
+	}
+
+	/**
+	 * Gets the rendered width of the actor, derived once from its sprite header and fit height.
+	 *
+	 * @return the width in pixels
+	 */
+	public double getWidth() {
+		return width;
+	}
+
+	/**
+	 * Gets the rendered height of the actor.
+	 *
+	 * @return the height in pixels
+	 */
+	public double getHeight() {
+		return height;
+	}
+
+	/**
+	 * Gets the horizontal origin the simulated offset is measured from.
+	 *
+	 * @return the layout X position
+	 */
+	public double getLayoutX() {
+		return layoutX;
+	}
+
+	/**
+	 * Gets the vertical origin the simulated offset is measured from.
+	 *
+	 * @return the layout Y position
+	 */
+	public double getLayoutY() {
+		return layoutY;
+	}
+
+	/**
+	 * Sets the horizontal origin of the actor.
+	 *
+	 * @param layoutX the new layout X position
+	 */
+	public void setLayoutX(double layoutX) {
+		this.layoutX = layoutX;
+	}
+
+	/**
+	 * Sets the vertical origin of the actor.
+	 *
+	 * @param layoutY the new layout Y position
+	 */
+	public void setLayoutY(double layoutY) {
+		this.layoutY = layoutY;
 	}
 
 	/**
@@ -38,7 +115,7 @@ public abstract class ActiveActor extends ImageView {
 	 * @param horizontalMove the distance to move horizontally
 	 */
 	protected void moveHorizontally(double horizontalMove) {
-		this.setTranslateX(getTranslateX() + horizontalMove);
+		positionX += horizontalMove;
 	}
 
 	/**
@@ -47,6 +124,116 @@ public abstract class ActiveActor extends ImageView {
 	 * @param verticalMove the distance to move vertically
 	 */
 	protected void moveVertically(double verticalMove) {
-		this.setTranslateY(getTranslateY() + verticalMove);
+		positionY += verticalMove;
+	}
+
+	/**
+	 * Gets the simulated horizontal offset of the actor from its layout position.
+	 *
+	 * @return the simulated X offset
+	 */
+	public double getPositionX() {
+		return positionX;
+	}
+
+	/**
+	 * Gets the simulated vertical offset of the actor from its layout position.
+	 *
+	 * @return the simulated Y offset
+	 */
+	public double getPositionY() {
+		return positionY;
+	}
+
+	/**
+	 * Sets the simulated horizontal offset of the actor.
+	 *
+	 * @param positionX the new X offset
+	 */
+	protected void setPositionX(double positionX) {
+		this.positionX = positionX;
+	}
+
+	/**
+	 * Sets the simulated vertical offset of the actor.
+	 *
+	 * @param positionY the new Y offset
+	 */
+	protected void setPositionY(double positionY) {
+		this.positionY = positionY;
+	}
+
+	/**
+	 * Places the actor at a new layout position with no simulated offset.
+	 * Used when an actor instance is reused instead of constructed anew.
+	 *
+	 * @param layoutX the new X layout position
+	 * @param layoutY the new Y layout position
+	 */
+	protected void resetPosition(double layoutX, double layoutY) {
+		this.layoutX = layoutX;
+		this.layoutY = layoutY;
+		positionX = 0;
+		positionY = 0;
+		previousPositionX = 0;
+		previousPositionY = 0;
+	}
+
+	/**
+	 * Writes the actor's simulated position. Subclasses with more state extend this and
+	 * {@link #readState(StateReader)} in the same order.
+	 *
+	 * @param writer the destination
+	 */
+	public void writeState(StateWriter writer) {
+		writer.writeDouble(layoutX);
+		writer.writeDouble(layoutY);
+		writer.writeDouble(positionX);
+		writer.writeDouble(positionY);
+		writer.writeDouble(previousPositionX);
+		writer.writeDouble(previousPositionY);
+	}
+
+	/**
+	 * Restores state written by {@link #writeState(StateWriter)}.
+	 *
+	 * @param reader the source
+	 */
+	public void readState(StateReader reader) {
+		layoutX = reader.readDouble();
+		layoutY = reader.readDouble();
+		positionX = reader.readDouble();
+		positionY = reader.readDouble();
+		previousPositionX = reader.readDouble();
+		previousPositionY = reader.readDouble();
+	}
+
+	/**
+	 * Records the current simulated position as the state before the next tick.
+	 * Called once at the start of every simulation tick.
+	 */
+	public void capturePreviousPosition() {
+		previousPositionX = positionX;
+		previousPositionY = positionY;
+	}
+
+	/**
+	 * Gets the horizontal offset to draw the actor at, between its previous and current simulated position.
+	 *
+	 * @param alpha the fraction of a tick elapsed since the last simulation step, in {@code [0, 1)}
+	 * @return the interpolated X offset
+	 */
+	public double getInterpolatedX(double alpha) {
+		return previousPositionX + (positionX - previousPositionX) * alpha;
+	}
+
+	/**
+	 * Gets the vertical offset to draw the actor at, between its previous and current simulated position.
+	 *
+	 * @param alpha the fraction of a tick elapsed since the last simulation step, in {@code [0, 1)}
+	 * @return the interpolated Y offset
+	 */
+	public double getInterpolatedY(double alpha) {
+		return previousPositionY + (positionY - previousPositionY) * alpha;
 	}
 }
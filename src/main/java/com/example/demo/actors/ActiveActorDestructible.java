@@ -1,17 +1,25 @@
 package com.example.demo.actors;
 
-import com.example.demo.utilities.Constants;
+import com.example.demo.models.FighterPlane;
+import com.example.demo.models.Projectile;
 import com.example.demo.utilities.Destructible;
-import javafx.geometry.BoundingBox;
-import javafx.geometry.Bounds;
+import com.example.demo.utilities.StateReader;
+import com.example.demo.utilities.StateWriter;
 
 /**
  * Abstract class representing an active and destructible actor in the game.
  * Extends {@link ActiveActor} and implements the {@link Destructible} interface.
+ * The hierarchy is sealed and every concrete actor class is final, so code that handles each
+ * concrete type in its own loop covers every actor and calls each method without virtual dispatch.
  */
-public abstract class ActiveActorDestructible extends ActiveActor implements Destructible {
+public abstract sealed class ActiveActorDestructible extends ActiveActor implements Destructible
+        permits FighterPlane, Projectile {
 
     private boolean isDestroyed;
+    private int boundsSlot = -1;
+    private long registryHandle = ActorRegistry.NO_HANDLE;
+    private long spawnSerial;
+    private GameEffects effects = GameEffects.NONE;
 
     /**
      * Constructs an {@code ActiveActorDestructible} with the specified image, size, and initial position.
@@ -80,32 +88,104 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
     }
 
     /**
-     * Gets the adjusted bounds of the actor for collision detection.
-     * Shrinks the bounding box based on predefined factors.
+     * Determines if the actor is visible within the screen boundaries.
      *
-     * @return the adjusted bounds as a {@link BoundingBox}
+     * @param screenWidth  the width of the screen
+     * @param screenHeight the height of the screen
+     * @return {@code true} if the actor is visible on the screen, {@code false} otherwise
      */
-    public Bounds getAdjustedBounds() {
-        Bounds originalBounds = this.getBoundsInParent();
+    public boolean isVisibleOnScreen(double screenWidth, double screenHeight) {
+        double minX = getLayoutX() + getPositionX();
+        double minY = getLayoutY() + getPositionY();
+        return minX + getWidth() > 0 && minX < screenWidth &&
+                minY + getHeight() > 0 && minY < screenHeight;
+    }
 
-        double width = originalBounds.getWidth() * Constants.BOUNDING_BOX_WIDTH_SHRINK_FACTOR;
-        double height = originalBounds.getHeight() * Constants.BOUNDING_BOX_HEIGHT_SHRINK_FACTOR;
-        double x = originalBounds.getMinX() + (originalBounds.getWidth() - width) / 2;
-        double y = originalBounds.getMinY() + (originalBounds.getHeight() - height) / 2;
+    /**
+     * Gets the slot this actor occupied in the most recent collision bounds snapshot.
+     *
+     * @return the snapshot slot, or {@code -1} if the actor has never been captured
+     */
+    public int getBoundsSlot() {
+        return boundsSlot;
+    }
 
-        return new BoundingBox(x, y, width, height);
+    /**
+     * Records the slot this actor occupies in the current collision bounds snapshot.
+     *
+     * @param boundsSlot the snapshot slot
+     */
+    public void setBoundsSlot(int boundsSlot) {
+        this.boundsSlot = boundsSlot;
     }
 
     /**
-     * Determines if the actor is visible within the screen boundaries.
+     * Gets the handle of this actor in the {@link ActorRegistry} that holds it.
      *
-     * @param screenWidth  the width of the screen
-     * @param screenHeight the height of the screen
-     * @return {@code true} if the actor is visible on the screen, {@code false} otherwise
+     * @return the registry handle, or {@link ActorRegistry#NO_HANDLE} if the actor is not registered
      */
-    public boolean isVisibleOnScreen(double screenWidth, double screenHeight) {
-        Bounds bounds = getBoundsInParent();
-        return bounds.getMaxX() > 0 && bounds.getMinX() < screenWidth &&
-                bounds.getMaxY() > 0 && bounds.getMinY() < screenHeight;
+    public long getRegistryHandle() {
+        return registryHandle;
+    }
+
+    /**
+     * Records the handle assigned to this actor by an {@link ActorRegistry}.
+     *
+     * @param registryHandle the registry handle
+     */
+    void setRegistryHandle(long registryHandle) {
+        this.registryHandle = registryHandle;
+    }
+
+    /**
+     * Gets the serial number the level assigned when this actor last entered play.
+     * Serials increase with every spawn, so they give actors a stable order that does not
+     * depend on object identity or on how long an actor has been tracked.
+     *
+     * @return the spawn serial
+     */
+    public long getSpawnSerial() {
+        return spawnSerial;
+    }
+
+    /**
+     * Sets the serial number of this actor's spawn.
+     *
+     * @param spawnSerial the spawn serial
+     */
+    public void setSpawnSerial(long spawnSerial) {
+        this.spawnSerial = spawnSerial;
+    }
+
+    @Override
+    public void writeState(StateWriter writer) {
+        super.writeState(writer);
+        writer.writeBoolean(isDestroyed);
+        writer.writeLong(spawnSerial);
+    }
+
+    @Override
+    public void readState(StateReader reader) {
+        super.readState(reader);
+        isDestroyed = reader.readBoolean();
+        spawnSerial = reader.readLong();
+    }
+
+    /**
+     * Gets the sink for this actor's visual and audio effects.
+     *
+     * @return the effects sink, {@link GameEffects#NONE} unless the actor is shown in a view
+     */
+    protected GameEffects getEffects() {
+        return effects;
+    }
+
+    /**
+     * Sets the sink for this actor's visual and audio effects.
+     *
+     * @param effects the effects sink
+     */
+    public void setEffects(GameEffects effects) {
+        this.effects = effects;
     }
 }
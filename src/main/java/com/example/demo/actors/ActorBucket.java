@@ -0,0 +1,101 @@
+package com.example.demo.actors;
+
+import java.util.Arrays;
+
+/**
+ * The actors of one exact class within an {@link ActorRegistry}, kept in their own packed array.
+ * Iterating a bucket sees a single concrete type, so a loop over it calls that type's methods
+ * directly instead of through a call site shared by every kind of actor.
+ * Buckets are maintained by their registry and stay valid for its lifetime.
+ *
+ * @param <T> the concrete actor class held by the bucket
+ */
+public final class ActorBucket<T extends ActiveActorDestructible> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Class<T> type;
+    private ActiveActorDestructible[] actors = new ActiveActorDestructible[INITIAL_CAPACITY];
+    private int[] slots = new int[INITIAL_CAPACITY];
+    private int size;
+
+    ActorBucket(Class<T> type) {
+        this.type = type;
+    }
+
+    /**
+     * Gets the class of the actors in this bucket.
+     *
+     * @return the bucket's actor class
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Gets the number of actors in this bucket.
+     *
+     * @return the bucket size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets an actor by its position in the bucket. Positions change when actors are removed.
+     *
+     * @param index the position, below {@link #size()}
+     * @return the actor at that position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (T) actors[index];
+    }
+
+    /**
+     * Appends an actor.
+     *
+     * @param actor the actor, of exactly this bucket's class
+     * @param slot  the actor's registry slot
+     * @return the actor's position in the bucket
+     */
+    int add(ActiveActorDestructible actor, int slot) {
+        if (size == actors.length) {
+            actors = Arrays.copyOf(actors, size * 2);
+            slots = Arrays.copyOf(slots, size * 2);
+        }
+        actors[size] = actor;
+        slots[size] = slot;
+        return size++;
+    }
+
+    /**
+     * Removes the actor at a position by moving the last actor into it.
+     *
+     * @param index the position to empty
+     * @return the registry slot of the actor moved into {@code index}, or {@code -1} if none moved
+     */
+    int removeAt(int index) {
+        int last = --size;
+        int moved = -1;
+        if (index != last) {
+            actors[index] = actors[last];
+            slots[index] = slots[last];
+            moved = slots[index];
+        }
+        actors[last] = null;
+        return moved;
+    }
+
+    /**
+     * Removes every actor.
+     */
+    void clear() {
+        Arrays.fill(actors, 0, size, null);
+        size = 0;
+    }
+}
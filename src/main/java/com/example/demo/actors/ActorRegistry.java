@@ -0,0 +1,333 @@
+package com.example.demo.actors;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * Dense storage for one group of actors with deferred, constant-time removal.
+ * <p>
+ * Actors are kept in a packed array. Removing an actor never shifts the array mid-tick:
+ * destroyed actors (and actors explicitly marked) stay in place until {@link #compact(Consumer)}
+ * runs once at the end of the tick, which fills each gap by moving the last actor into it.
+ * Indices therefore stay valid while actors are being updated or collided, and actors added
+ * during a pass are appended after the actors that were present when the pass started.
+ * </p>
+ * <p>
+ * Every registered actor receives a generational handle. A handle identifies one registration:
+ * once the actor is removed the handle's generation no longer matches and {@link #resolve(long)}
+ * returns {@code null}, even if the slot has since been reused by another actor.
+ * </p>
+ * <p>
+ * Each actor is also filed in the {@link ActorBucket} of its exact class, so the registry can
+ * be walked one concrete type at a time. A registry may be limited to a fixed set of classes,
+ * which lets its owner loop over exactly those buckets and know every actor is covered.
+ * </p>
+ * <p>
+ * The registry is read through the {@link java.util.List} interface; structural changes other
+ * than {@link #add(ActiveActorDestructible)} and {@link #clear()} are not supported.
+ * </p>
+ */
+public class ActorRegistry extends AbstractList<ActiveActorDestructible> implements RandomAccess {
+
+    /** Handle value of an actor that is not registered anywhere. */
+    public static final long NO_HANDLE = -1L;
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    private ActiveActorDestructible[] dense = new ActiveActorDestructible[INITIAL_CAPACITY];
+    private int[] denseToSlot = new int[INITIAL_CAPACITY];
+    private boolean[] pendingRemoval = new boolean[INITIAL_CAPACITY];
+    private int size;
+
+    private int[] slotToDense = new int[INITIAL_CAPACITY];
+    private int[] slotGeneration = new int[INITIAL_CAPACITY];
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeSlotCount;
+    private int slotCount;
+
+    private final List<Class<? extends ActiveActorDestructible>> permittedTypes;
+    private ActorBucket<?>[] buckets = new ActorBucket<?>[0];
+    private int[] slotBucket = new int[INITIAL_CAPACITY];
+    private int[] slotBucketIndex = new int[INITIAL_CAPACITY];
+
+    /**
+     * Constructs an {@code ActorRegistry} that accepts actors of any class.
+     */
+    public ActorRegistry() {
+        this.permittedTypes = null;
+    }
+
+    /**
+     * Constructs an {@code ActorRegistry} that only accepts actors of the given exact classes.
+     * A bucket is created up front for each class.
+     *
+     * @param permittedTypes the concrete actor classes the registry may hold
+     */
+    public ActorRegistry(List<Class<? extends ActiveActorDestructible>> permittedTypes) {
+        this.permittedTypes = List.copyOf(permittedTypes);
+        for (Class<? extends ActiveActorDestructible> type : this.permittedTypes) {
+            bucket(type);
+        }
+    }
+
+    /**
+     * Appends an actor and assigns it a new handle. Equivalent to {@link #register(ActiveActorDestructible)}.
+     *
+     * @param actor the actor to add
+     * @return {@code true}
+     * @throws IllegalStateException if the actor is already registered
+     */
+    @Override
+    public boolean add(ActiveActorDestructible actor) {
+        register(actor);
+        return true;
+    }
+
+    /**
+     * Appends an actor and assigns it a new handle.
+     *
+     * @param actor the actor to register
+     * @return the actor's handle
+     * @throws IllegalStateException    if the actor is already registered
+     * @throws IllegalArgumentException if the registry does not accept the actor's class
+     */
+    public long register(ActiveActorDestructible actor) {
+        if (actor.getRegistryHandle() != NO_HANDLE) {
+            throw new IllegalStateException("Actor is already registered with handle " + actor.getRegistryHandle());
+        }
+        int bucket = bucketIndex(actor.getClass());
+        int slot = allocateSlot();
+        ensureDenseCapacity(size + 1);
+        dense[size] = actor;
+        denseToSlot[size] = slot;
+        pendingRemoval[size] = false;
+        slotToDense[slot] = size;
+        size++;
+        slotBucket[slot] = bucket;
+        slotBucketIndex[slot] = buckets[bucket].add(actor, slot);
+
+        long handle = handle(slot, slotGeneration[slot]);
+        actor.setRegistryHandle(handle);
+        return handle;
+    }
+
+    /**
+     * Gets the bucket holding the registered actors of an exact class.
+     *
+     * @param type the concrete actor class
+     * @param <T>  the actor class
+     * @return the class's bucket, empty if no such actor is registered
+     * @throws IllegalArgumentException if the registry does not accept the class
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends ActiveActorDestructible> ActorBucket<T> bucket(Class<T> type) {
+        int index = bucketIndex(type);
+        return (ActorBucket<T>) buckets[index];
+    }
+
+    /**
+     * Gets the number of buckets, one per actor class registered so far or permitted.
+     *
+     * @return the bucket count
+     */
+    public int getBucketCount() {
+        return buckets.length;
+    }
+
+    /**
+     * Gets a bucket by index, in the order the buckets were created.
+     *
+     * @param index the bucket index, below {@link #getBucketCount()}
+     * @return the bucket
+     */
+    public ActorBucket<?> getBucket(int index) {
+        return buckets[index];
+    }
+
+    /**
+     * Looks up the actor a handle was issued for.
+     *
+     * @param handle a handle returned by {@link #register(ActiveActorDestructible)}
+     * @return the actor, or {@code null} if it has been removed from this registry
+     */
+    public ActiveActorDestructible resolve(long handle) {
+        if (handle == NO_HANDLE) {
+            return null;
+        }
+        int slot = (int) handle;
+        if (slot < 0 || slot >= slotCount || slotGeneration[slot] != (int) (handle >>> 32)) {
+            return null;
+        }
+        ActiveActorDestructible actor = dense[slotToDense[slot]];
+        return actor != null && actor.getRegistryHandle() == handle ? actor : null;
+    }
+
+    /**
+     * Checks whether a handle still refers to a registered actor.
+     *
+     * @param handle the handle to check
+     * @return {@code true} if the actor is still registered; {@code false} otherwise
+     */
+    public boolean isLive(long handle) {
+        return resolve(handle) != null;
+    }
+
+    /**
+     * Schedules a live actor for removal at the next compaction without destroying it.
+     *
+     * @param actor the actor to remove
+     * @return {@code true} if the actor belongs to this registry; {@code false} otherwise
+     */
+    public boolean markForRemoval(ActiveActorDestructible actor) {
+        if (resolve(actor.getRegistryHandle()) != actor) {
+            return false;
+        }
+        pendingRemoval[slotToDense[(int) actor.getRegistryHandle()]] = true;
+        return true;
+    }
+
+    /**
+     * Removes every destroyed or marked actor in a single pass.
+     * Each gap is filled by the last actor, so the relative order of the survivors may change.
+     * Handles of removed actors are invalidated.
+     *
+     * @param onRemoved receives each removed actor, for example to detach it from the scene
+     * @return the number of actors removed
+     */
+    public int compact(Consumer<? super ActiveActorDestructible> onRemoved) {
+        int removed = 0;
+        int i = 0;
+        while (i < size) {
+            ActiveActorDestructible actor = dense[i];
+            if (!pendingRemoval[i] && !actor.isDestroyed()) {
+                i++;
+                continue;
+            }
+            removeFromBucket(denseToSlot[i]);
+            releaseSlot(denseToSlot[i]);
+            actor.setRegistryHandle(NO_HANDLE);
+            moveLastInto(i);
+            removed++;
+            onRemoved.accept(actor);
+        }
+        return removed;
+    }
+
+    /**
+     * Performs an action for each actor present when the call starts.
+     * Actors appended by the action are not visited.
+     *
+     * @param action the action to perform
+     */
+    @Override
+    public void forEach(Consumer<? super ActiveActorDestructible> action) {
+        int count = size;
+        for (int i = 0; i < count; i++) {
+            action.accept(dense[i]);
+        }
+    }
+
+    @Override
+    public ActiveActorDestructible get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return dense[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every actor immediately and invalidates their handles.
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            releaseSlot(denseToSlot[i]);
+            dense[i].setRegistryHandle(NO_HANDLE);
+            dense[i] = null;
+        }
+        size = 0;
+        for (ActorBucket<?> bucket : buckets) {
+            bucket.clear();
+        }
+    }
+
+    private int bucketIndex(Class<?> type) {
+        for (int i = 0; i < buckets.length; i++) {
+            if (buckets[i].getType() == type) {
+                return i;
+            }
+        }
+        if (permittedTypes != null && buckets.length == permittedTypes.size()) {
+            throw new IllegalArgumentException("Registry does not accept " + type.getName());
+        }
+        buckets = Arrays.copyOf(buckets, buckets.length + 1);
+        buckets[buckets.length - 1] = newBucket(type);
+        return buckets.length - 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ActorBucket<?> newBucket(Class<?> type) {
+        return new ActorBucket<>((Class<? extends ActiveActorDestructible>) type);
+    }
+
+    private void removeFromBucket(int slot) {
+        int moved = buckets[slotBucket[slot]].removeAt(slotBucketIndex[slot]);
+        if (moved >= 0) {
+            slotBucketIndex[moved] = slotBucketIndex[slot];
+        }
+    }
+
+    private void moveLastInto(int index) {
+        int last = size - 1;
+        if (index != last) {
+            dense[index] = dense[last];
+            denseToSlot[index] = denseToSlot[last];
+            pendingRemoval[index] = pendingRemoval[last];
+            slotToDense[denseToSlot[index]] = index;
+        }
+        dense[last] = null;
+        size--;
+    }
+
+    private int allocateSlot() {
+        if (freeSlotCount > 0) {
+            return freeSlots[--freeSlotCount];
+        }
+        if (slotCount == slotToDense.length) {
+            int capacity = slotCount * 2;
+            slotToDense = Arrays.copyOf(slotToDense, capacity);
+            slotGeneration = Arrays.copyOf(slotGeneration, capacity);
+            freeSlots = Arrays.copyOf(freeSlots, capacity);
+            slotBucket = Arrays.copyOf(slotBucket, capacity);
+            slotBucketIndex = Arrays.copyOf(slotBucketIndex, capacity);
+        }
+        return slotCount++;
+    }
+
+    private void releaseSlot(int slot) {
+        slotGeneration[slot]++;
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    private void ensureDenseCapacity(int capacity) {
+        if (capacity <= dense.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, dense.length * 2);
+        dense = Arrays.copyOf(dense, newCapacity);
+        denseToSlot = Arrays.copyOf(denseToSlot, newCapacity);
+        pendingRemoval = Arrays.copyOf(pendingRemoval, newCapacity);
+    }
+
+    private static long handle(int slot, int generation) {
+        return ((long) generation << 32) | (slot & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.demo.actors;
+
+/**
+ * Receives the presentation side effects of gameplay events, such as hit flashes, explosions
+ * and sounds. The simulation only reports that an event happened; a view decides how to show it.
+ * Every method does nothing by default, so headless runs can use {@link #NONE}.
+ */
+public interface GameEffects {
+
+    /** Effects sink that ignores every event. */
+    GameEffects NONE = new GameEffects() {
+    };
+
+    /**
+     * Called when a fighter plane loses health.
+     *
+     * @param actor the plane that was hit
+     */
+    default void onHit(ActiveActorDestructible actor) {
+    }
+
+    /**
+     * Called when a projectile is absorbed by an active shield.
+     *
+     * @param actor the shielded actor
+     */
+    default void onShieldHit(ActiveActorDestructible actor) {
+    }
+
+    /**
+     * Called when an enemy plane takes damage.
+     *
+     * @param enemy the damaged enemy
+     */
+    default void onEnemyDamaged(ActiveActorDestructible enemy) {
+    }
+
+    /**
+     * Called when the player's plane fires a projectile.
+     *
+     * @param shooter the plane that fired
+     */
+    default void onShotFired(ActiveActorDestructible shooter) {
+    }
+}
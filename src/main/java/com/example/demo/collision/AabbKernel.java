@@ -0,0 +1,25 @@
+package com.example.demo.collision;
+
+/**
+ * Batch overlap test over candidate pairs of captured collision boxes.
+ * Implementations must report exactly the pairs {@link BoundsSnapshot#intersects(int, int)}
+ * accepts, in ascending order, so the choice of kernel never changes a tick.
+ *
+ * @see AabbKernels
+ */
+public interface AabbKernel {
+
+    /**
+     * Tests a range of candidate pairs and records the ones whose boxes overlap.
+     *
+     * @param bounds      the snapshot holding the boxes
+     * @param firstSlots  the first slot of each candidate
+     * @param secondSlots the second slot of each candidate
+     * @param from        the first candidate to test
+     * @param to          one past the last candidate to test
+     * @param contacts    receives the index of each overlapping candidate, from position 0;
+     *                    must have room for {@code to - from} entries
+     * @return the number of overlapping candidates written to {@code contacts}
+     */
+    int intersectAll(BoundsSnapshot bounds, int[] firstSlots, int[] secondSlots, int from, int to, int[] contacts);
+}
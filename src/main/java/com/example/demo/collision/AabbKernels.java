@@ -0,0 +1,68 @@
+package com.example.demo.collision;
+
+import com.example.demo.utilities.Constants;
+
+/**
+ * Picks the {@link AabbKernel} used by default, once at startup. The vector kernel is only
+ * compiled by the {@code vector} build profile, which also opens the
+ * {@code jdk.incubator.vector} module to the game; it is used when that build runs with
+ * {@link Constants#SIMD_KERNELS} set. Otherwise the scalar kernel is. Even then, ranges
+ * shorter than {@link Constants#SIMD_MIN_PAIRS} are tested by the scalar kernel.
+ */
+public final class AabbKernels {
+
+    private static final String VECTOR_KERNEL_CLASS = "com.example.demo.collision.VectorAabbKernel";
+
+    private static final AabbKernel SCALAR = new ScalarAabbKernel();
+    private static final AabbKernel VECTOR = loadVectorKernel();
+    private static final AabbKernel PREFERRED = Constants.SIMD_KERNELS && VECTOR != null ? VECTOR : SCALAR;
+
+    private AabbKernels() {
+    }
+
+    /**
+     * Gets the kernel that tests one pair at a time.
+     *
+     * @return the scalar kernel
+     */
+    public static AabbKernel scalar() {
+        return SCALAR;
+    }
+
+    /**
+     * Gets the kernel that uses the Vector API.
+     *
+     * @return the vector kernel, or {@code null} if it was not compiled or the
+     *         {@code jdk.incubator.vector} module is not loaded
+     */
+    public static AabbKernel vector() {
+        return VECTOR;
+    }
+
+    /**
+     * Gets the kernel picked for this JVM.
+     *
+     * @return the vector kernel if it is available and enabled; the scalar kernel otherwise
+     */
+    public static AabbKernel preferred() {
+        return PREFERRED;
+    }
+
+    /**
+     * Loads the vector kernel by name, so the default build neither compiles nor links
+     * against the incubator module.
+     */
+    private static AabbKernel loadVectorKernel() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            return (AabbKernel) Class.forName(VECTOR_KERNEL_CLASS)
+                    .getDeclaredConstructor(int.class, AabbKernel.class)
+                    .newInstance(Constants.SIMD_MIN_PAIRS, SCALAR);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Not compiled in, or compiled in but the module is not readable from the game
+            return null;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.demo.collision;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.utilities.Constants;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Per-tick snapshot of every actor's collision box, stored in parallel primitive arrays.
+ * Each actor is captured once after it has moved; all collision passes then read the same
+ * slots, so no bounds are recomputed or allocated inside the pair loops.
+ */
+public class BoundsSnapshot {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private ActiveActorDestructible[] actors = new ActiveActorDestructible[INITIAL_CAPACITY];
+    private double[] minX = new double[INITIAL_CAPACITY];
+    private double[] minY = new double[INITIAL_CAPACITY];
+    private double[] maxX = new double[INITIAL_CAPACITY];
+    private double[] maxY = new double[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Discards all captured bounds. Capacity is kept for the next tick.
+     */
+    public void clear() {
+        Arrays.fill(actors, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Captures the bounds of every actor in the list.
+     *
+     * @param list the actors to capture
+     */
+    public void captureAll(List<? extends ActiveActorDestructible> list) {
+        for (int i = 0; i < list.size(); i++) {
+            capture(list.get(i));
+        }
+    }
+
+    /**
+     * Captures the collision box of an actor from its simulated position and size,
+     * shrunk by the configured bounding box factors.
+     *
+     * @param actor the actor to capture
+     * @return the slot holding the actor's bounds
+     */
+    public int capture(ActiveActorDestructible actor) {
+        ensureCapacity(size + 1);
+        int slot = size++;
+
+        double width = actor.getWidth() * Constants.BOUNDING_BOX_WIDTH_SHRINK_FACTOR;
+        double height = actor.getHeight() * Constants.BOUNDING_BOX_HEIGHT_SHRINK_FACTOR;
+        double x = actor.getLayoutX() + actor.getPositionX() + (actor.getWidth() - width) / 2;
+        double y = actor.getLayoutY() + actor.getPositionY() + (actor.getHeight() - height) / 2;
+        set(slot, actor, x, y, x + width, y + height);
+        return slot;
+    }
+
+    /**
+     * Stores explicit bounds for an actor in a new slot.
+     *
+     * @param actor the actor the bounds belong to
+     * @param x0    the minimum X coordinate
+     * @param y0    the minimum Y coordinate
+     * @param x1    the maximum X coordinate
+     * @param y1    the maximum Y coordinate
+     * @return the slot holding the bounds
+     */
+    public int capture(ActiveActorDestructible actor, double x0, double y0, double x1, double y1) {
+        ensureCapacity(size + 1);
+        int slot = size++;
+        set(slot, actor, x0, y0, x1, y1);
+        return slot;
+    }
+
+    /**
+     * Finds the slot of an actor, capturing it first if it was added after the snapshot was taken.
+     *
+     * @param actor the actor to look up
+     * @return the actor's slot in this snapshot
+     */
+    public int slotOf(ActiveActorDestructible actor) {
+        int slot = actor.getBoundsSlot();
+        if (slot >= 0 && slot < size && actors[slot] == actor) {
+            return slot;
+        }
+        return capture(actor);
+    }
+
+    /**
+     * Tests two captured boxes for overlap. Touching edges count as overlapping.
+     *
+     * @param a the first slot
+     * @param b the second slot
+     * @return {@code true} if the boxes overlap; {@code false} otherwise
+     */
+    public boolean intersects(int a, int b) {
+        return minX[a] <= maxX[b] && maxX[a] >= minX[b]
+                && minY[a] <= maxY[b] && maxY[a] >= minY[b];
+    }
+
+    /**
+     * Tests the captured boxes of two actors for overlap.
+     *
+     * @param a the first actor
+     * @param b the second actor
+     * @return {@code true} if the boxes overlap; {@code false} otherwise
+     */
+    public boolean intersects(ActiveActorDestructible a, ActiveActorDestructible b) {
+        return intersects(slotOf(a), slotOf(b));
+    }
+
+    /**
+     * Gets the minimum X coordinate of a captured box.
+     *
+     * @param slot the snapshot slot
+     * @return the coordinate in scene space
+     */
+    public double getMinX(int slot) {
+        return minX[slot];
+    }
+
+    /**
+     * Gets the minimum Y coordinate of a captured box.
+     *
+     * @param slot the snapshot slot
+     * @return the coordinate in scene space
+     */
+    public double getMinY(int slot) {
+        return minY[slot];
+    }
+
+    /**
+     * Gets the maximum X coordinate of a captured box.
+     *
+     * @param slot the snapshot slot
+     * @return the coordinate in scene space
+     */
+    public double getMaxX(int slot) {
+        return maxX[slot];
+    }
+
+    /**
+     * Gets the maximum Y coordinate of a captured box.
+     *
+     * @param slot the snapshot slot
+     * @return the coordinate in scene space
+     */
+    public double getMaxY(int slot) {
+        return maxY[slot];
+    }
+
+    /**
+     * Gets the number of captured actors.
+     *
+     * @return the snapshot size
+     */
+    public int size() {
+        return size;
+    }
+
+    double[] minXArray() {
+        return minX;
+    }
+
+    double[] minYArray() {
+        return minY;
+    }
+
+    double[] maxXArray() {
+        return maxX;
+    }
+
+    double[] maxYArray() {
+        return maxY;
+    }
+
+    private void set(int slot, ActiveActorDestructible actor, double x0, double y0, double x1, double y1) {
+        actors[slot] = actor;
+        minX[slot] = x0;
+        minY[slot] = y0;
+        maxX[slot] = x1;
+        maxY[slot] = y1;
+        actor.setBoundsSlot(slot);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= actors.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, actors.length * 2);
+        actors = Arrays.copyOf(actors, newCapacity);
+        minX = Arrays.copyOf(minX, newCapacity);
+        minY = Arrays.copyOf(minY, newCapacity);
+        maxX = Arrays.copyOf(maxX, newCapacity);
+        maxY = Arrays.copyOf(maxY, newCapacity);
+    }
+}
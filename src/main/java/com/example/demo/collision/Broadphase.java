@@ -0,0 +1,43 @@
+package com.example.demo.collision;
+
+import com.example.demo.actors.ActiveActorDestructible;
+
+import java.util.List;
+
+/**
+ * Strategy for finding pairs of actors whose collision bounds may overlap.
+ * Implementations trade bookkeeping for fewer pair tests; the caller is responsible
+ * for confirming each reported pair and applying its consequences.
+ */
+public interface Broadphase {
+
+    /**
+     * Reports candidate pairs made of one actor from {@code first} and one from {@code second}.
+     * Neither list may be modified while the search is running.
+     *
+     * @param first   the actors used to query
+     * @param second  the actors being queried against
+     * @param bounds  the collision boxes captured for the current tick
+     * @param handler receives each candidate pair; returning {@code false} ends the search
+     */
+    void findPairs(List<? extends ActiveActorDestructible> first,
+                   List<? extends ActiveActorDestructible> second,
+                   BoundsSnapshot bounds,
+                   PairHandler handler);
+
+    /**
+     * Handles a candidate pair reported by a {@link Broadphase}.
+     */
+    @FunctionalInterface
+    interface PairHandler {
+
+        /**
+         * Called for each candidate pair.
+         *
+         * @param first  the actor from the first list
+         * @param second the actor from the second list
+         * @return {@code true} to keep searching; {@code false} to stop
+         */
+        boolean onPair(ActiveActorDestructible first, ActiveActorDestructible second);
+    }
+}
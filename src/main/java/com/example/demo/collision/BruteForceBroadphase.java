@@ -0,0 +1,35 @@
+package com.example.demo.collision;
+
+import com.example.demo.actors.ActiveActorDestructible;
+
+import java.util.List;
+
+/**
+ * Reference {@link Broadphase} that reports every pair of actors.
+ * Suitable for very small lists and as a baseline for verifying other strategies.
+ */
+public class BruteForceBroadphase implements Broadphase {
+
+    /**
+     * Reports all {@code first.size() * second.size()} pairs, iterating {@code first} in the outer loop.
+     *
+     * @param first   the actors used to query
+     * @param second  the actors being queried against
+     * @param bounds  unused; every pair is reported regardless of bounds
+     * @param handler receives each pair; returning {@code false} ends the search
+     */
+    @Override
+    public void findPairs(List<? extends ActiveActorDestructible> first,
+                          List<? extends ActiveActorDestructible> second,
+                          BoundsSnapshot bounds,
+                          PairHandler handler) {
+        for (int i = 0; i < first.size(); i++) {
+            ActiveActorDestructible a = first.get(i);
+            for (int j = 0; j < second.size(); j++) {
+                if (!handler.onPair(a, second.get(j))) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.demo.collision;
+
+/**
+ * The kinds of actor pairs tested for collisions each tick.
+ * Each category can be assigned its own {@link Broadphase}.
+ */
+public enum CollisionPairCategory {
+
+    /** Friendly planes against enemy planes. */
+    PLANE_PLANE,
+
+    /** Enemy planes against projectiles fired by the user. */
+    USER_PROJECTILE_ENEMY,
+
+    /** The user's plane against projectiles fired by enemies. */
+    ENEMY_PROJECTILE_USER
+}
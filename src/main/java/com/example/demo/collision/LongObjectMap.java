@@ -0,0 +1,90 @@
+package com.example.demo.collision;
+
+/**
+ * Open-addressing hash map from primitive {@code long} keys to objects.
+ * Lookups and insertions do not box their keys, so a grid can be queried every tick
+ * without allocating. Entries cannot be removed; callers keep emptied values for reuse.
+ *
+ * @param <V> the value type
+ */
+final class LongObjectMap<V> {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+    private int mask;
+
+    LongObjectMap() {
+        keys = new long[INITIAL_CAPACITY];
+        values = new Object[INITIAL_CAPACITY];
+        mask = INITIAL_CAPACITY - 1;
+    }
+
+    /**
+     * Gets the value stored for a key.
+     *
+     * @param key the key
+     * @return the value, or {@code null} if the key is absent
+     */
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        for (int index = indexOf(key); ; index = (index + 1) & mask) {
+            Object value = values[index];
+            if (value == null || keys[index] == key) {
+                return (V) value;
+            }
+        }
+    }
+
+    /**
+     * Stores a value for a key, replacing any previous value.
+     *
+     * @param key   the key
+     * @param value the value, which must not be {@code null}
+     */
+    void put(long key, V value) {
+        int index = indexOf(key);
+        while (values[index] != null && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        if (values[index] == null) {
+            size++;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (size * 2 > values.length) {
+            resize();
+        }
+    }
+
+    /**
+     * Gets the number of keys stored.
+     *
+     * @return the size
+     */
+    int size() {
+        return size;
+    }
+
+    private int indexOf(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resize() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new Object[oldValues.length * 2];
+        mask = values.length - 1;
+        size = 0;
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                put(oldKeys[i], (V) oldValues[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.example.demo.collision;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.utilities.Constants;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Confirms the candidate pairs reported by a {@link Broadphase} against the captured bounds.
+ * Candidates are recorded in the order the broadphase reports them and tested in fixed-size
+ * chunks, each writing its contacts to its own buffer. Large batches spread the chunks over a
+ * fork-join pool. Contacts are returned in candidate order no matter which thread tested them,
+ * so the caller can apply them exactly as a sequential pass would. Each chunk is tested by an
+ * {@link AabbKernel}, scalar unless {@link AabbKernels} picks the vector one.
+ */
+public class Narrowphase implements Broadphase.PairHandler {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int chunkSize;
+    private final int parallelThreshold;
+    private ForkJoinPool pool;
+    private AabbKernel kernel = AabbKernels.preferred();
+    private BoundsSnapshot bounds;
+
+    private ActiveActorDestructible[] firstActors = new ActiveActorDestructible[INITIAL_CAPACITY];
+    private ActiveActorDestructible[] secondActors = new ActiveActorDestructible[INITIAL_CAPACITY];
+    private int[] firstSlots = new int[INITIAL_CAPACITY];
+    private int[] secondSlots = new int[INITIAL_CAPACITY];
+    private int candidateCount;
+
+    private int[][] chunkContacts = new int[0][];
+    private int[] chunkContactCounts = new int[0];
+    private int[] contacts = new int[INITIAL_CAPACITY];
+    private int contactCount;
+
+    /**
+     * Constructs a {@code Narrowphase} with the default chunk size and parallel threshold.
+     */
+    public Narrowphase() {
+        this(Constants.NARROWPHASE_CHUNK_PAIRS, Constants.NARROWPHASE_PARALLEL_MIN_PAIRS);
+    }
+
+    /**
+     * Constructs a {@code Narrowphase}.
+     *
+     * @param chunkSize         the number of candidates tested by one task
+     * @param parallelThreshold the smallest batch handed to the pool; smaller batches are tested inline
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive
+     */
+    public Narrowphase(int chunkSize, int parallelThreshold) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Sets the pool that tests large batches.
+     *
+     * @param pool the pool to use, or {@code null} to always test on the calling thread
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Gets the pool that tests large batches.
+     *
+     * @return the pool in use, or {@code null} if every batch is tested on the calling thread
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Sets the kernel that tests each chunk of candidates.
+     *
+     * @param kernel the kernel to use
+     */
+    public void setKernel(AabbKernel kernel) {
+        this.kernel = Objects.requireNonNull(kernel);
+    }
+
+    /**
+     * Gets the kernel that tests each chunk of candidates.
+     *
+     * @return the kernel in use, {@link AabbKernels#preferred()} unless replaced
+     */
+    public AabbKernel getKernel() {
+        return kernel;
+    }
+
+    /**
+     * Discards the previous batch and starts recording candidates tested against the given bounds.
+     *
+     * @param bounds the collision boxes captured for the current tick
+     */
+    public void begin(BoundsSnapshot bounds) {
+        this.bounds = bounds;
+        Arrays.fill(firstActors, 0, candidateCount, null);
+        Arrays.fill(secondActors, 0, candidateCount, null);
+        candidateCount = 0;
+        contactCount = 0;
+    }
+
+    /**
+     * Records a candidate pair. Its bounds are looked up here, on the broadphase's thread,
+     * so the tests themselves only read the snapshot.
+     *
+     * @param first  the actor from the first list
+     * @param second the actor from the second list
+     * @return always {@code true}; every candidate is recorded
+     */
+    @Override
+    public boolean onPair(ActiveActorDestructible first, ActiveActorDestructible second) {
+        ensureCandidateCapacity(candidateCount + 1);
+        firstActors[candidateCount] = first;
+        secondActors[candidateCount] = second;
+        firstSlots[candidateCount] = bounds.slotOf(first);
+        secondSlots[candidateCount] = bounds.slotOf(second);
+        candidateCount++;
+        return true;
+    }
+
+    /**
+     * Tests every recorded candidate for overlap.
+     *
+     * @return the number of contacts found
+     */
+    public int run() {
+        int chunkCount = (candidateCount + chunkSize - 1) / chunkSize;
+        ensureChunkCapacity(chunkCount);
+        if (pool != null && chunkCount > 1 && candidateCount >= parallelThreshold) {
+            pool.invoke(new ChunkTask(0, chunkCount));
+        } else {
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                testChunk(chunk);
+            }
+        }
+        mergeChunks(chunkCount);
+        return contactCount;
+    }
+
+    /**
+     * Gets the number of candidates recorded since {@link #begin(BoundsSnapshot)}.
+     *
+     * @return the candidate count
+     */
+    public int getCandidateCount() {
+        return candidateCount;
+    }
+
+    /**
+     * Gets the number of contacts found by the last {@link #run()}.
+     *
+     * @return the contact count
+     */
+    public int getContactCount() {
+        return contactCount;
+    }
+
+    /**
+     * Gets the candidate index of a contact. Contacts are in ascending candidate order.
+     *
+     * @param contact the contact index, below {@link #getContactCount()}
+     * @return the index of the overlapping candidate
+     */
+    public int getContact(int contact) {
+        return contacts[contact];
+    }
+
+    /**
+     * Gets the actor from the first list of a candidate.
+     *
+     * @param candidate the candidate index
+     * @return the first actor of the pair
+     */
+    public ActiveActorDestructible getFirst(int candidate) {
+        return firstActors[candidate];
+    }
+
+    /**
+     * Gets the actor from the second list of a candidate.
+     *
+     * @param candidate the candidate index
+     * @return the second actor of the pair
+     */
+    public ActiveActorDestructible getSecond(int candidate) {
+        return secondActors[candidate];
+    }
+
+    private void testChunk(int chunk) {
+        int start = chunk * chunkSize;
+        int end = Math.min(start + chunkSize, candidateCount);
+        chunkContactCounts[chunk] = kernel.intersectAll(bounds, firstSlots, secondSlots, start, end, chunkContacts[chunk]);
+    }
+
+    private void mergeChunks(int chunkCount) {
+        contactCount = 0;
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int count = chunkContactCounts[chunk];
+            if (contacts.length < contactCount + count) {
+                contacts = Arrays.copyOf(contacts, Math.max(contactCount + count, contacts.length * 2));
+            }
+            System.arraycopy(chunkContacts[chunk], 0, contacts, contactCount, count);
+            contactCount += count;
+        }
+    }
+
+    private void ensureCandidateCapacity(int capacity) {
+        if (capacity <= firstActors.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, firstActors.length * 2);
+        firstActors = Arrays.copyOf(firstActors, newCapacity);
+        secondActors = Arrays.copyOf(secondActors, newCapacity);
+        firstSlots = Arrays.copyOf(firstSlots, newCapacity);
+        secondSlots = Arrays.copyOf(secondSlots, newCapacity);
+    }
+
+    private void ensureChunkCapacity(int chunkCount) {
+        if (chunkCount <= chunkContacts.length) {
+            return;
+        }
+        int oldCount = chunkContacts.length;
+        chunkContacts = Arrays.copyOf(chunkContacts, chunkCount);
+        chunkContactCounts = Arrays.copyOf(chunkContactCounts, chunkCount);
+        for (int chunk = oldCount; chunk < chunkCount; chunk++) {
+            chunkContacts[chunk] = new int[chunkSize];
+        }
+    }
+
+    /**
+     * Tests a range of chunks, splitting it in half until a single chunk is left.
+     */
+    private final class ChunkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        private ChunkTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                testChunk(from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkTask(from, middle), new ChunkTask(middle, to));
+        }
+    }
+}
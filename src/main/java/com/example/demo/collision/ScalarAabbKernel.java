@@ -0,0 +1,18 @@
+package com.example.demo.collision;
+
+/**
+ * {@link AabbKernel} that tests one candidate pair at a time. Always available.
+ */
+final class ScalarAabbKernel implements AabbKernel {
+
+    @Override
+    public int intersectAll(BoundsSnapshot bounds, int[] firstSlots, int[] secondSlots, int from, int to, int[] contacts) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (bounds.intersects(firstSlots[i], secondSlots[i])) {
+                contacts[count++] = i;
+            }
+        }
+        return count;
+    }
+}
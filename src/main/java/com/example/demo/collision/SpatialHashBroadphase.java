@@ -0,0 +1,241 @@
+package com.example.demo.collision;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.utilities.Constants;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link Broadphase} backed by a uniform grid.
+ * The actors of the second list are kept in grid buckets between calls; an actor is only
+ * re-bucketed when its bounds move into a different set of cells, and actors that disappear
+ * from the list are evicted. Actors of the first list query the cells they cover.
+ * Emptied buckets are kept for reuse, so a steady population moving around the grid
+ * does not allocate. Buckets are kept in spawn-serial order, so pairs are reported in an
+ * order that depends only on the current actors and not on when they were bucketed.
+ */
+public class SpatialHashBroadphase implements Broadphase {
+
+    private final double cellSize;
+    private final LongObjectMap<List<Entry>> cells = new LongObjectMap<>();
+    private final Map<ActiveActorDestructible, Entry> entries = new IdentityHashMap<>();
+    private final List<Entry> entryList = new ArrayList<>();
+
+    private int updateStamp;
+    private int queryStamp;
+    private long rebucketCount;
+    private int occupiedCellCount;
+
+    /**
+     * Constructs a {@code SpatialHashBroadphase} with the default cell size.
+     */
+    public SpatialHashBroadphase() {
+        this(Constants.SPATIAL_HASH_CELL_SIZE);
+    }
+
+    /**
+     * Constructs a {@code SpatialHashBroadphase}.
+     *
+     * @param cellSize the width and height of a grid cell in pixels
+     * @throws IllegalArgumentException if {@code cellSize} is not positive
+     */
+    public SpatialHashBroadphase(double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    @Override
+    public void findPairs(List<? extends ActiveActorDestructible> first,
+                          List<? extends ActiveActorDestructible> second,
+                          BoundsSnapshot bounds,
+                          PairHandler handler) {
+        updateBuckets(second, bounds);
+
+        for (int i = 0; i < first.size(); i++) {
+            ActiveActorDestructible actor = first.get(i);
+            int slot = bounds.slotOf(actor);
+            double minX = bounds.getMinX(slot);
+            double minY = bounds.getMinY(slot);
+            double maxX = bounds.getMaxX(slot);
+            double maxY = bounds.getMaxY(slot);
+            int minCellX = cell(minX);
+            int minCellY = cell(minY);
+            int maxCellX = cell(maxX);
+            int maxCellY = cell(maxY);
+            queryStamp++;
+
+            for (int cx = minCellX; cx <= maxCellX; cx++) {
+                for (int cy = minCellY; cy <= maxCellY; cy++) {
+                    List<Entry> bucket = cells.get(key(cx, cy));
+                    if (bucket == null) {
+                        continue;
+                    }
+                    for (int j = 0; j < bucket.size(); j++) {
+                        Entry entry = bucket.get(j);
+                        if (entry.queryStamp == queryStamp) {
+                            continue;
+                        }
+                        entry.queryStamp = queryStamp;
+                        if (entry.overlaps(minX, minY, maxX, maxY) && !handler.onPair(actor, entry.actor)) {
+                            return;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets how many times an indexed actor has moved to a different set of cells.
+     *
+     * @return the cumulative re-bucket count
+     */
+    public long getRebucketCount() {
+        return rebucketCount;
+    }
+
+    /**
+     * Gets the number of non-empty grid cells.
+     *
+     * @return the occupied cell count
+     */
+    public int getOccupiedCellCount() {
+        return occupiedCellCount;
+    }
+
+    /**
+     * Brings the grid in line with the current contents and positions of the indexed list.
+     *
+     * @param actors the actors to index
+     * @param bounds the collision boxes captured for the current tick
+     */
+    private void updateBuckets(List<? extends ActiveActorDestructible> actors, BoundsSnapshot bounds) {
+        updateStamp++;
+        for (int i = 0; i < actors.size(); i++) {
+            ActiveActorDestructible actor = actors.get(i);
+            Entry entry = entries.get(actor);
+            if (entry == null) {
+                entry = new Entry(actor);
+                entries.put(actor, entry);
+                entryList.add(entry);
+                entry.load(bounds);
+                insert(entry);
+            } else {
+                entry.load(bounds);
+                if (entry.cellsChanged() || entry.serial != actor.getSpawnSerial()) {
+                    remove(entry);
+                    insert(entry);
+                    rebucketCount++;
+                }
+            }
+            entry.updateStamp = updateStamp;
+        }
+        evictStaleEntries();
+    }
+
+    /**
+     * Removes entries whose actors were not present in the last update.
+     */
+    private void evictStaleEntries() {
+        for (int i = entryList.size() - 1; i >= 0; i--) {
+            Entry entry = entryList.get(i);
+            if (entry.updateStamp != updateStamp) {
+                remove(entry);
+                entries.remove(entry.actor);
+                int last = entryList.size() - 1;
+                entryList.set(i, entryList.get(last));
+                entryList.remove(last);
+            }
+        }
+    }
+
+    private void insert(Entry entry) {
+        entry.serial = entry.actor.getSpawnSerial();
+        entry.minCellX = cell(entry.minX);
+        entry.minCellY = cell(entry.minY);
+        entry.maxCellX = cell(entry.maxX);
+        entry.maxCellY = cell(entry.maxY);
+        for (int cx = entry.minCellX; cx <= entry.maxCellX; cx++) {
+            for (int cy = entry.minCellY; cy <= entry.maxCellY; cy++) {
+                long key = key(cx, cy);
+                List<Entry> bucket = cells.get(key);
+                if (bucket == null) {
+                    bucket = new ArrayList<>();
+                    cells.put(key, bucket);
+                }
+                if (bucket.isEmpty()) {
+                    occupiedCellCount++;
+                }
+                int index = bucket.size();
+                while (index > 0 && bucket.get(index - 1).serial > entry.serial) {
+                    index--;
+                }
+                bucket.add(index, entry);
+            }
+        }
+    }
+
+    private void remove(Entry entry) {
+        for (int cx = entry.minCellX; cx <= entry.maxCellX; cx++) {
+            for (int cy = entry.minCellY; cy <= entry.maxCellY; cy++) {
+                List<Entry> bucket = cells.get(key(cx, cy));
+                if (bucket != null && bucket.remove(entry) && bucket.isEmpty()) {
+                    occupiedCellCount--;
+                }
+            }
+        }
+    }
+
+    private int cell(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static long key(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Bookkeeping for an indexed actor: its last bounds and the cells it occupies.
+     */
+    private final class Entry {
+
+        private final ActiveActorDestructible actor;
+        private long serial;
+        private double minX;
+        private double minY;
+        private double maxX;
+        private double maxY;
+        private int minCellX;
+        private int minCellY;
+        private int maxCellX;
+        private int maxCellY;
+        private int updateStamp;
+        private int queryStamp;
+
+        private Entry(ActiveActorDestructible actor) {
+            this.actor = actor;
+        }
+
+        private void load(BoundsSnapshot bounds) {
+            int slot = bounds.slotOf(actor);
+            minX = bounds.getMinX(slot);
+            minY = bounds.getMinY(slot);
+            maxX = bounds.getMaxX(slot);
+            maxY = bounds.getMaxY(slot);
+        }
+
+        private boolean cellsChanged() {
+            return cell(minX) != minCellX || cell(minY) != minCellY
+                    || cell(maxX) != maxCellX || cell(maxY) != maxCellY;
+        }
+
+        private boolean overlaps(double otherMinX, double otherMinY, double otherMaxX, double otherMaxY) {
+            return minX <= otherMaxX && maxX >= otherMinX && minY <= otherMaxY && maxY >= otherMinY;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.demo.collision;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link Broadphase} that sorts both lists by their minimum X coordinate and sweeps
+ * along the X axis, only testing actors whose X intervals overlap.
+ * The sorted order is kept between calls, so the insertion sort used to restore it
+ * runs in close to linear time when actors move a little each tick. Actors with the same
+ * minimum X are ordered by spawn serial, so pairs are reported in an order that depends only
+ * on the current actors and not on the history of earlier calls.
+ */
+public class SweepAndPruneBroadphase implements Broadphase {
+
+    private final List<Interval> sorted = new ArrayList<>();
+    private final List<Interval> activeFirst = new ArrayList<>();
+    private final List<Interval> activeSecond = new ArrayList<>();
+    private final Map<ActiveActorDestructible, Interval> intervals = new IdentityHashMap<>();
+    private int stamp;
+
+    @Override
+    public void findPairs(List<? extends ActiveActorDestructible> first,
+                          List<? extends ActiveActorDestructible> second,
+                          BoundsSnapshot bounds,
+                          PairHandler handler) {
+        load(first, second, bounds);
+        insertionSort();
+
+        activeFirst.clear();
+        activeSecond.clear();
+        for (int i = 0; i < sorted.size(); i++) {
+            Interval interval = sorted.get(i);
+            prune(activeFirst, interval.minX);
+            prune(activeSecond, interval.minX);
+
+            List<Interval> others = interval.fromFirst ? activeSecond : activeFirst;
+            for (int j = 0; j < others.size(); j++) {
+                Interval other = others.get(j);
+                if (interval.minY <= other.maxY && interval.maxY >= other.minY) {
+                    boolean keepGoing = interval.fromFirst
+                            ? handler.onPair(interval.actor, other.actor)
+                            : handler.onPair(other.actor, interval.actor);
+                    if (!keepGoing) {
+                        return;
+                    }
+                }
+            }
+            (interval.fromFirst ? activeFirst : activeSecond).add(interval);
+        }
+    }
+
+    /**
+     * Refreshes the interval list from both actor lists. Actors that are still present keep
+     * their slot from the previous call, so the list stays nearly sorted between ticks;
+     * new actors are appended and actors that disappeared are dropped.
+     */
+    private void load(List<? extends ActiveActorDestructible> first, List<? extends ActiveActorDestructible> second,
+                      BoundsSnapshot bounds) {
+        stamp++;
+        refresh(first, true, bounds);
+        refresh(second, false, bounds);
+
+        int write = 0;
+        for (int read = 0; read < sorted.size(); read++) {
+            Interval interval = sorted.get(read);
+            if (interval.stamp == stamp) {
+                sorted.set(write++, interval);
+            } else {
+                intervals.remove(interval.actor);
+            }
+        }
+        while (sorted.size() > write) {
+            sorted.remove(sorted.size() - 1);
+        }
+    }
+
+    private void refresh(List<? extends ActiveActorDestructible> actors, boolean fromFirst, BoundsSnapshot bounds) {
+        for (int i = 0; i < actors.size(); i++) {
+            ActiveActorDestructible actor = actors.get(i);
+            Interval interval = intervals.get(actor);
+            if (interval == null) {
+                interval = new Interval(actor);
+                intervals.put(actor, interval);
+                sorted.add(interval);
+            }
+            interval.load(fromFirst, stamp, bounds);
+        }
+    }
+
+    private void insertionSort() {
+        for (int i = 1; i < sorted.size(); i++) {
+            Interval current = sorted.get(i);
+            int j = i - 1;
+            while (j >= 0 && sorted.get(j).follows(current)) {
+                sorted.set(j + 1, sorted.get(j));
+                j--;
+            }
+            sorted.set(j + 1, current);
+        }
+    }
+
+    private static void prune(List<Interval> active, double minX) {
+        for (int i = active.size() - 1; i >= 0; i--) {
+            if (active.get(i).maxX < minX) {
+                int last = active.size() - 1;
+                active.set(i, active.get(last));
+                active.remove(last);
+            }
+        }
+    }
+
+    /**
+     * The X and Y extents of one actor's collision bounds.
+     */
+    private static final class Interval {
+
+        private final ActiveActorDestructible actor;
+        private boolean fromFirst;
+        private int stamp;
+        private double minX;
+        private double maxX;
+        private double minY;
+        private double maxY;
+
+        private Interval(ActiveActorDestructible actor) {
+            this.actor = actor;
+        }
+
+        private void load(boolean fromFirst, int stamp, BoundsSnapshot bounds) {
+            int slot = bounds.slotOf(actor);
+            this.fromFirst = fromFirst;
+            this.stamp = stamp;
+            this.minX = bounds.getMinX(slot);
+            this.maxX = bounds.getMaxX(slot);
+            this.minY = bounds.getMinY(slot);
+            this.maxY = bounds.getMaxY(slot);
+        }
+
+        private boolean follows(Interval other) {
+            return minX > other.minX
+                    || (minX == other.minX && actor.getSpawnSerial() > other.actor.getSpawnSerial());
+        }
+    }
+}
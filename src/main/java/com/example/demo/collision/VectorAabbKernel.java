@@ -0,0 +1,60 @@
+package com.example.demo.collision;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link AabbKernel} that tests as many candidate pairs per step as the platform's preferred
+ * vector holds, gathering each pair's coordinates by slot. Needs the
+ * {@code jdk.incubator.vector} module and is only compiled by the {@code vector} build profile;
+ * {@link AabbKernels} loads it by name when both are present.
+ * Ranges shorter than the minimum are handed to a fallback kernel: the vector loop only stops
+ * allocating once the JIT has compiled it, which a few pairs per tick never trigger.
+ */
+final class VectorAabbKernel implements AabbKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private final int minPairs;
+    private final AabbKernel fallback;
+
+    VectorAabbKernel(int minPairs, AabbKernel fallback) {
+        this.minPairs = Math.max(minPairs, SPECIES.length());
+        this.fallback = fallback;
+    }
+
+    @Override
+    public int intersectAll(BoundsSnapshot bounds, int[] firstSlots, int[] secondSlots, int from, int to, int[] contacts) {
+        if (to - from < minPairs) {
+            return fallback.intersectAll(bounds, firstSlots, secondSlots, from, to, contacts);
+        }
+        double[] minX = bounds.minXArray();
+        double[] minY = bounds.minYArray();
+        double[] maxX = bounds.maxXArray();
+        double[] maxY = bounds.maxYArray();
+        int lanes = SPECIES.length();
+        int count = 0;
+        int i = from;
+        for (; i <= to - lanes; i += lanes) {
+            VectorMask<Double> overlap = DoubleVector.fromArray(SPECIES, minX, 0, firstSlots, i)
+                    .compare(VectorOperators.LE, DoubleVector.fromArray(SPECIES, maxX, 0, secondSlots, i))
+                    .and(DoubleVector.fromArray(SPECIES, maxX, 0, firstSlots, i)
+                            .compare(VectorOperators.GE, DoubleVector.fromArray(SPECIES, minX, 0, secondSlots, i)))
+                    .and(DoubleVector.fromArray(SPECIES, minY, 0, firstSlots, i)
+                            .compare(VectorOperators.LE, DoubleVector.fromArray(SPECIES, maxY, 0, secondSlots, i)))
+                    .and(DoubleVector.fromArray(SPECIES, maxY, 0, firstSlots, i)
+                            .compare(VectorOperators.GE, DoubleVector.fromArray(SPECIES, minY, 0, secondSlots, i)));
+            for (long lanesHit = overlap.toLong(); lanesHit != 0; lanesHit &= lanesHit - 1) {
+                contacts[count++] = i + Long.numberOfTrailingZeros(lanesHit);
+            }
+        }
+        for (; i < to; i++) {
+            if (bounds.intersects(firstSlots[i], secondSlots[i])) {
+                contacts[count++] = i;
+            }
+        }
+        return count;
+    }
+}
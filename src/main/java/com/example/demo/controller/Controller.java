@@ -2,11 +2,14 @@ package com.example.demo.controller;
 
 import com.example.demo.levels.LevelChangeListener;
 import com.example.demo.models.UserPlane;
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.layout.Pane;
+import com.example.demo.manager.EngineMonitor;
 import com.example.demo.manager.LevelManager;
+import com.example.demo.manager.LevelTransitionEvent;
 import com.example.demo.utilities.Constants;
 
 import javafx.geometry.Rectangle2D;
@@ -15,6 +18,7 @@ import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import javafx.stage.Stage;
 
+import javax.management.JMException;
 import java.io.File;
 
 /**
@@ -29,9 +33,11 @@ public class Controller implements LevelChangeListener {
 	private final Stage stage;
 	private MediaPlayer mediaPlayer;
 	private LevelManager currentLevel;
+	private final EngineMonitor engineMonitor = new EngineMonitor(Platform::runLater);
 
 	private double currentVolume = 0.5;
 	private double pendingSoundVolume = 0.5;
+	private boolean simulationThreaded = Constants.SIMULATION_THREADED;
 
 	/**
 	 * Initializes the Controller with the given stage.
@@ -40,9 +46,31 @@ public class Controller implements LevelChangeListener {
 	 */
 	public Controller(Stage stage) {
 		this.stage = stage;
+		registerEngineMonitor();
 		playBackgroundMusic();
 	}
 
+	/**
+	 * Registers the JMX bean that exposes live engine metrics and controls.
+	 * The game still runs if the platform MBean server refuses it.
+	 */
+	private void registerEngineMonitor() {
+		try {
+			engineMonitor.register();
+		} catch (JMException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Gets the JMX bean that monitors the current level.
+	 *
+	 * @return The engine monitor.
+	 */
+	public EngineMonitor getEngineMonitor() {
+		return engineMonitor;
+	}
+
 	/**
 	 * Gets the pending sound volume.
 	 *
@@ -74,17 +102,34 @@ public class Controller implements LevelChangeListener {
 	}
 
 	/**
-	 * Applies the pending sound volume to the user's plane.
+	 * Applies the pending sound volume to the current level's sound effects.
 	 */
 	public void applyPendingSoundVolume() {
-		UserPlane userPlane = getUserPlane();
-		if (userPlane != null) {
-			userPlane.setSoundVolume(pendingSoundVolume);
+		if (currentLevel != null) {
+			currentLevel.setSoundVolume(pendingSoundVolume);
 		} else {
-			System.err.println("Failed to apply pending sound volume. UserPlane is still null.");
+			System.err.println("Failed to apply pending sound volume. No level is active.");
 		}
 	}
 
+	/**
+	 * Checks whether levels run their simulation on a dedicated thread.
+	 *
+	 * @return {@code true} if the simulation is threaded
+	 */
+	public boolean isSimulationThreaded() {
+		return simulationThreaded;
+	}
+
+	/**
+	 * Sets whether levels started from now on run their simulation on a dedicated thread.
+	 *
+	 * @param simulationThreaded {@code true} to simulate off the JavaFX thread
+	 */
+	public void setSimulationThreaded(boolean simulationThreaded) {
+		this.simulationThreaded = simulationThreaded;
+	}
+
 	/**
 	 * Launches the game, setting up the stage with the appropriate dimensions
 	 * and displaying the main menu.
@@ -161,6 +206,7 @@ public class Controller implements LevelChangeListener {
 		MainMenu menu = new MainMenu(this);
 		Scene menuScene = menu.createMenuScene();
 		stage.setScene(menuScene);
+		engineMonitor.setLevel(null);
 	}
 
 	/**
@@ -183,6 +229,9 @@ public class Controller implements LevelChangeListener {
 			showMainMenu();
 			return;
 		}
+		LevelTransitionEvent transition = new LevelTransitionEvent(
+				currentLevel != null ? currentLevel.getClass().getName() : null, className);
+		transition.begin();
 		if (currentLevel != null) {
 			currentLevel.stop();
 		}
@@ -190,12 +239,15 @@ public class Controller implements LevelChangeListener {
 		var constructor = myClass.getConstructor(double.class, double.class, Controller.class);
 		currentLevel = (LevelManager) constructor.newInstance(stage.getHeight(), stage.getWidth(), this);
 		currentLevel.setLevelChangeListener(this);
+		engineMonitor.setLevel(currentLevel);
 
 		applyPendingSoundVolume();
+		currentLevel.setSimulationThreaded(simulationThreaded);
 
 		Scene scene = currentLevel.initializeScene();
 		stage.setScene(scene);
 		currentLevel.startGame();
+		transition.commit();
 	}
 
 	/**
@@ -6,6 +6,9 @@ import com.example.demo.manager.LevelManager;
 import com.example.demo.view.LevelView;
 import com.example.demo.controller.Controller;
 import com.example.demo.utilities.Constants;
+import com.example.demo.utilities.GameRandom;
+import com.example.demo.utilities.RandomStream;
+import com.example.demo.utilities.SimulationClock;
 
 /**
  * Represents Level One of the game. This level introduces basic enemy planes
@@ -17,7 +20,7 @@ public class LevelOne extends LevelManager {
 	private static final String NEXT_LEVEL = Constants.LEVEL_ONE_NEXT_LEVEL;
 	private static final int TOTAL_ENEMIES = Constants.LEVEL_ONE_TOTAL_ENEMIES;
 	private static final int KILLS_TO_ADVANCE = Constants.LEVEL_ONE_KILLS_TO_ADVANCE;
-	protected static final double ENEMY_SPAWN_PROBABILITY = Constants.LEVEL_ONE_ENEMY_SPAWN_PROBABILITY;
+	protected static final double ENEMY_SPAWN_RATE = Constants.LEVEL_ONE_ENEMY_SPAWN_RATE;
 	private static final int PLAYER_INITIAL_HEALTH = Constants.LEVEL_ONE_PLAYER_INITIAL_HEALTH;
 
 	/**
@@ -28,7 +31,20 @@ public class LevelOne extends LevelManager {
 	 * @param controller   The game controller for managing game states.
 	 */
 	public LevelOne(double screenHeight, double screenWidth, Controller controller) {
-		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, controller);
+		this(screenHeight, screenWidth, controller, false, GameRandom.newSeed());
+	}
+
+	/**
+	 * Constructs a LevelOne object, optionally without a JavaFX scene, with a fixed random seed.
+	 *
+	 * @param screenHeight The height of the game screen.
+	 * @param screenWidth  The width of the game screen.
+	 * @param controller   The game controller for managing game states.
+	 * @param headless     Whether the level runs without JavaFX.
+	 * @param seed         The seed for all gameplay randomness.
+	 */
+	public LevelOne(double screenHeight, double screenWidth, Controller controller, boolean headless, long seed) {
+		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, controller, headless, seed);
 	}
 
 	/**
@@ -49,7 +65,7 @@ public class LevelOne extends LevelManager {
 	 */
 	@Override
 	protected void initializeFriendlyUnits() {
-		getRoot().getChildren().add(getUser());
+		addFriendlyUnit(getUser());
 	}
 
 	/**
@@ -73,9 +89,10 @@ public class LevelOne extends LevelManager {
 	 * @return True if the enemy was successfully spawned; otherwise, false.
 	 */
 	boolean spawnSingleEnemy() {
-		if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
+		RandomStream spawnRandom = getRandom().stream(GameRandom.Channel.ENEMY_SPAWN);
+		if (spawnRandom.chance(SimulationClock.chancePerTick(ENEMY_SPAWN_RATE))) {
 			double newX = getScreenWidth();
-			double newY = Math.random() * getEnemyMaximumYPosition();
+			double newY = spawnRandom.nextDouble() * getEnemyMaximumYPosition();
 
 			if (isPositionValid(newX, newY)) {
 				addEnemyAtPosition(newX, newY);
@@ -94,8 +111,8 @@ public class LevelOne extends LevelManager {
 	 */
 	boolean isPositionValid(double x, double y) {
 		return enemyUnits.stream().noneMatch(enemy -> {
-			double existingX = enemy.getTranslateX();
-			double existingY = enemy.getTranslateY();
+			double existingX = enemy.getPositionX();
+			double existingY = enemy.getPositionY();
 			double distanceX = Math.abs(existingX - x);
 			double distanceY = Math.abs(existingY - y);
 			return distanceX < 100 && distanceY < 50; // Minimum spacing
@@ -109,7 +126,7 @@ public class LevelOne extends LevelManager {
 	 * @param y The y-coordinate for the enemy's position.
 	 */
 	void addEnemyAtPosition(double x, double y) {
-		EnemyPlane newEnemy = new EnemyPlane(x, y, getUser(), getRoot());
+		EnemyPlane newEnemy = new EnemyPlane(x, y, getUser(), getProjectileFactory(), getRandom().stream(GameRandom.Channel.ENEMY_FIRE).split());
 		addEnemyUnit(newEnemy);
 
 		ActiveActorDestructible homingProjectile = newEnemy.fireProjectile();
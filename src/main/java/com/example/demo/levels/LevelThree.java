@@ -4,8 +4,12 @@ import com.example.demo.manager.LevelManager;
 import com.example.demo.models.Boss;
 import com.example.demo.view.LevelView;
 import com.example.demo.view.LevelViewLevelThree;
+import com.example.demo.view.RenderFrame;
 import com.example.demo.controller.Controller;
 import com.example.demo.utilities.Constants;
+import com.example.demo.utilities.GameRandom;
+import com.example.demo.utilities.StateReader;
+import com.example.demo.utilities.StateWriter;
 
 import javafx.animation.FadeTransition;
 import javafx.scene.Scene;
@@ -43,6 +47,11 @@ public class LevelThree extends LevelManager {
      */
     private LevelViewLevelThree levelView;
 
+    /**
+     * The boss's shield health when the level view was last updated.
+     */
+    private int lastShieldHealth;
+
     /**
      * Constructs a LevelThree instance with the specified screen dimensions and controller.
      *
@@ -51,7 +60,20 @@ public class LevelThree extends LevelManager {
      * @param controller   The game controller to manage game states.
      */
     public LevelThree(double screenHeight, double screenWidth, Controller controller) {
-        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, controller);
+        this(screenHeight, screenWidth, controller, false, GameRandom.newSeed());
+    }
+
+    /**
+     * Constructs a LevelThree instance, optionally without a JavaFX scene, with a fixed random seed.
+     *
+     * @param screenHeight The height of the game screen.
+     * @param screenWidth  The width of the game screen.
+     * @param controller   The game controller to manage game states.
+     * @param headless     Whether the level runs without JavaFX.
+     * @param seed         The seed for all gameplay randomness.
+     */
+    public LevelThree(double screenHeight, double screenWidth, Controller controller, boolean headless, long seed) {
+        super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, controller, headless, seed);
         boss = new Boss(this);
     }
 
@@ -89,7 +111,7 @@ public class LevelThree extends LevelManager {
      */
     @Override
     protected void initializeFriendlyUnits() {
-        getRoot().getChildren().add(getUser());
+        addFriendlyUnit(getUser());
     }
 
     /**
@@ -101,14 +123,16 @@ public class LevelThree extends LevelManager {
         if (userIsDestroyed()) {
             loseGame();
         } else if (boss.isDestroyed()) {
-            timeline.stop();
-            getRoot().getChildren().removeIf(node -> node instanceof Text && ((Text) node).getText().contains("Objective"));
+            gameLoop.stop();
+            if (!isHeadless()) {
+                runOnFxThread(() -> getRoot().getChildren().removeIf(node -> node instanceof Text && ((Text) node).getText().contains("Objective")));
+            }
             winGame();
         }
     }
 
     /**
-     * Spawns the boss enemy if there are no other enemies present.
+     * Spawns the boss enemy if there are no other enemies present and moves it to its station.
      */
     @Override
     protected void spawnEnemyUnits() {
@@ -117,6 +141,7 @@ public class LevelThree extends LevelManager {
                 boss = new Boss(this);
             }
             addEnemyUnit(boss);
+            adjustBossPosition();
         }
     }
 
@@ -126,12 +151,15 @@ public class LevelThree extends LevelManager {
     @Override
     protected void updateLevelView() {
         super.updateLevelView();
-        adjustBossPosition();
         if (boss != null) {
             levelView.updateBossHealthBar(boss.getHealth(), 100);
+            if (boss.getShieldHealth() < lastShieldHealth) {
+                levelView.updateShieldHealthBar(boss.getShieldHealth(), Constants.BOSS_SHIELD_MAX_HEALTH);
+            }
+            lastShieldHealth = boss.getShieldHealth();
 
-            double bossX = boss.getLayoutX() + boss.getTranslateX();
-            double bossY = boss.getLayoutY() + boss.getTranslateY();
+            double bossX = boss.getLayoutX() + boss.getPositionX();
+            double bossY = boss.getLayoutY() + boss.getPositionY();
             levelView.updateShieldPosition(bossX, bossY);
 
             if (boss.isShielded()) {
@@ -143,28 +171,71 @@ public class LevelThree extends LevelManager {
     }
 
     /**
-     * Adjusts the boss's position on the screen.
+     * Updates the HUD from a frame, including boss health, shield status, and position.
+     *
+     * @param frame the frame being displayed
      */
-    public void adjustBossPosition() {
-        if (boss != null) {
-            double bossX = getScreenWidth() * 0.9 - boss.getBoundsInLocal().getWidth() / 2;
-            double bossY = getScreenHeight() * 0.5 - boss.getBoundsInLocal().getHeight() / 2;
-
-            boss.setLayoutX(bossX);
-            boss.setLayoutY(bossY);
+    @Override
+    protected void renderHud(RenderFrame frame) {
+        super.renderHud(frame);
+        if (frame.isBossPresent()) {
+            levelView.updateBossHealthBar(frame.getBossHealth(), 100);
+            if (frame.getBossShieldHealth() < lastShieldHealth) {
+                levelView.updateShieldHealthBar(frame.getBossShieldHealth(), Constants.BOSS_SHIELD_MAX_HEALTH);
+            }
+            lastShieldHealth = frame.getBossShieldHealth();
+            levelView.updateShieldPosition(frame.getBossX(), frame.getBossY());
 
-            System.out.println("Boss position adjusted to: (" + bossX + ", " + bossY + ")");
+            if (frame.isBossShielded()) {
+                levelView.showShield();
+            } else {
+                levelView.hideShield();
+            }
         }
     }
 
     /**
-     * Updates the position of the boss's shield in the level view.
+     * Gets the boss of this level.
+     *
+     * @return the boss
+     */
+    @Override
+    protected Boss getBoss() {
+        return boss;
+    }
+
+    /**
+     * Writes the boss's state, which is kept even while the boss is not on screen.
+     *
+     * @param writer the destination
+     */
+    @Override
+    protected void writeLevelState(StateWriter writer) {
+        boss.writeState(writer);
+    }
+
+    /**
+     * Restores the boss's state and has the next view update redraw the shield bar.
      *
-     * @param bossX The boss's X position.
-     * @param bossY The boss's Y position.
+     * @param reader the source
      */
-    public void updateBossShieldPosition(double bossX, double bossY) {
-        levelView.updateShieldPosition(bossX, bossY);
+    @Override
+    protected void readLevelState(StateReader reader) {
+        boss.readState(reader);
+        lastShieldHealth = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Adjusts the boss's position on the screen.
+     */
+    public void adjustBossPosition() {
+        if (boss != null) {
+            double bossX = getScreenWidth() * 0.9 - boss.getWidth() / 2;
+            double bossY = getScreenHeight() * 0.5 - boss.getHeight() / 2;
+
+            boss.setLayoutX(bossX);
+            boss.setLayoutY(bossY);
+        }
     }
 
     /**
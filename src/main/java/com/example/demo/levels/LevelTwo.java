@@ -6,6 +6,9 @@ import com.example.demo.manager.LevelManager;
 import com.example.demo.view.LevelView;
 import com.example.demo.controller.Controller;
 import com.example.demo.utilities.Constants;
+import com.example.demo.utilities.GameRandom;
+import com.example.demo.utilities.RandomStream;
+import com.example.demo.utilities.SimulationClock;
 
 /**
  * Represents Level Two of the game. This level introduces increased difficulty with
@@ -25,8 +28,8 @@ public class LevelTwo extends LevelManager {
 	/** The number of kills required to advance to the next level. */
 	private static final int KILLS_TO_ADVANCE = Constants.LEVEL_TWO_KILLS_TO_ADVANCE;
 
-	/** The probability of spawning an enemy plane in each update cycle. */
-	protected static final double ENEMY_SPAWN_PROBABILITY = Constants.LEVEL_TWO_ENEMY_SPAWN_PROBABILITY;
+	/** The expected number of enemy plane spawns per second while below the enemy cap. */
+	protected static final double ENEMY_SPAWN_RATE = Constants.LEVEL_TWO_ENEMY_SPAWN_RATE;
 
 	/** The initial health for the player's plane. */
 	private static final int PLAYER_INITIAL_HEALTH = Constants.LEVEL_TWO_PLAYER_INITIAL_HEALTH;
@@ -39,7 +42,20 @@ public class LevelTwo extends LevelManager {
 	 * @param controller   The game controller for managing game states.
 	 */
 	public LevelTwo(double screenHeight, double screenWidth, Controller controller) {
-		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, controller);
+		this(screenHeight, screenWidth, controller, false, GameRandom.newSeed());
+	}
+
+	/**
+	 * Constructs a LevelTwo object, optionally without a JavaFX scene, with a fixed random seed.
+	 *
+	 * @param screenHeight The height of the game screen.
+	 * @param screenWidth  The width of the game screen.
+	 * @param controller   The game controller for managing game states.
+	 * @param headless     Whether the level runs without JavaFX.
+	 * @param seed         The seed for all gameplay randomness.
+	 */
+	public LevelTwo(double screenHeight, double screenWidth, Controller controller, boolean headless, long seed) {
+		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, controller, headless, seed);
 		resetUserHealth(PLAYER_INITIAL_HEALTH);
 	}
 
@@ -62,7 +78,7 @@ public class LevelTwo extends LevelManager {
 	@Override
 	protected void initializeFriendlyUnits() {
 		resetUserHealth(PLAYER_INITIAL_HEALTH);
-		getRoot().getChildren().add(getUser());
+		addFriendlyUnit(getUser());
 	}
 
 	/**
@@ -72,17 +88,18 @@ public class LevelTwo extends LevelManager {
 	@Override
 	protected void spawnEnemyUnits() {
 		int currentNumberOfEnemies = getCurrentNumberOfEnemies();
+		RandomStream spawnRandom = getRandom().stream(GameRandom.Channel.ENEMY_SPAWN);
 
 		for (int i = 0; i < TOTAL_ENEMIES - currentNumberOfEnemies; i++) {
-			if (Math.random() < ENEMY_SPAWN_PROBABILITY) {
+			if (spawnRandom.chance(SimulationClock.chancePerTick(ENEMY_SPAWN_RATE))) {
 				double newEnemyInitialXPosition = getScreenWidth();
-				double newEnemyInitialYPosition = Math.random() * getEnemyMaximumYPosition();
+				double newEnemyInitialYPosition = spawnRandom.nextDouble() * getEnemyMaximumYPosition();
 
 				// Check if the spawn position is valid (no overlap with existing enemies)
 				boolean positionValid = enemyUnits.stream()
 						.noneMatch(enemy -> {
-							double existingX = enemy.getTranslateX();
-							double existingY = enemy.getTranslateY();
+							double existingX = enemy.getPositionX();
+							double existingY = enemy.getPositionY();
 							double distanceX = Math.abs(existingX - newEnemyInitialXPosition);
 							double distanceY = Math.abs(existingY - newEnemyInitialYPosition);
 
@@ -90,7 +107,7 @@ public class LevelTwo extends LevelManager {
 						});
 
 				if (positionValid) {
-					EnemyPlane newEnemy = new EnemyPlane(newEnemyInitialXPosition, newEnemyInitialYPosition, getUser(), getRoot());
+					EnemyPlane newEnemy = new EnemyPlane(newEnemyInitialXPosition, newEnemyInitialYPosition, getUser(), getProjectileFactory(), getRandom().stream(GameRandom.Channel.ENEMY_FIRE).split());
 					addEnemyUnit(newEnemy);
 					ActiveActorDestructible homingProjectile = newEnemy.fireProjectile();
 
@@ -0,0 +1,166 @@
+package com.example.demo.levels;
+
+import com.example.demo.controller.Controller;
+import com.example.demo.manager.LevelManager;
+import com.example.demo.models.EnemyPlane;
+import com.example.demo.utilities.Constants;
+import com.example.demo.utilities.GameRandom;
+import com.example.demo.utilities.RandomStream;
+import com.example.demo.utilities.StateReader;
+import com.example.demo.utilities.StateWriter;
+import com.example.demo.view.LevelView;
+
+/**
+ * Synthetic level used to measure tick cost under load. Every tick it tops the playfield up
+ * to a fixed number of enemy planes and user projectiles, so spawning, firing, collisions and
+ * removals all run at a steady, configurable volume. It has no objective and only ends if the
+ * player's (very large) health runs out. Populations large enough to benefit are updated in parallel.
+ */
+public class StressLevel extends LevelManager {
+
+	protected static final String BACKGROUND_IMAGE_NAME = Constants.LEVEL_ONE_BACKGROUND_IMAGE;
+	private static final int PLAYER_INITIAL_HEALTH = Constants.STRESS_LEVEL_PLAYER_INITIAL_HEALTH;
+	private static final int HEARTS_TO_DISPLAY = Constants.LEVEL_ONE_PLAYER_INITIAL_HEALTH;
+
+	private int enemyCount = Constants.STRESS_LEVEL_DEFAULT_ENEMIES;
+	private int projectileCount = Constants.STRESS_LEVEL_DEFAULT_PROJECTILES;
+
+	/**
+	 * Constructs a StressLevel object.
+	 *
+	 * @param screenHeight The height of the game screen.
+	 * @param screenWidth  The width of the game screen.
+	 * @param controller   The game controller for managing game states.
+	 */
+	public StressLevel(double screenHeight, double screenWidth, Controller controller) {
+		this(screenHeight, screenWidth, controller, false, GameRandom.newSeed());
+	}
+
+	/**
+	 * Constructs a StressLevel object, optionally without a JavaFX scene, with a fixed random seed.
+	 *
+	 * @param screenHeight The height of the game screen.
+	 * @param screenWidth  The width of the game screen.
+	 * @param controller   The game controller for managing game states.
+	 * @param headless     Whether the level runs without JavaFX.
+	 * @param seed         The seed for all gameplay randomness.
+	 */
+	public StressLevel(double screenHeight, double screenWidth, Controller controller, boolean headless, long seed) {
+		super(BACKGROUND_IMAGE_NAME, screenHeight, screenWidth, PLAYER_INITIAL_HEALTH, controller, headless, seed);
+		setParallelActorUpdate(true);
+	}
+
+	/**
+	 * Sets how many enemy planes the level keeps alive.
+	 *
+	 * @param enemyCount The number of enemies to maintain.
+	 * @throws IllegalArgumentException if the count is negative.
+	 */
+	public void setEnemyCount(int enemyCount) {
+		if (enemyCount < 0) {
+			throw new IllegalArgumentException("Enemy count must not be negative: " + enemyCount);
+		}
+		this.enemyCount = enemyCount;
+	}
+
+	/**
+	 * Gets how many enemy planes the level keeps alive.
+	 *
+	 * @return The number of enemies maintained.
+	 */
+	public int getEnemyCount() {
+		return enemyCount;
+	}
+
+	/**
+	 * Sets how many user projectiles the level keeps in flight, on top of those the player fires.
+	 *
+	 * @param projectileCount The number of projectiles to maintain.
+	 * @throws IllegalArgumentException if the count is negative.
+	 */
+	public void setProjectileCount(int projectileCount) {
+		if (projectileCount < 0) {
+			throw new IllegalArgumentException("Projectile count must not be negative: " + projectileCount);
+		}
+		this.projectileCount = projectileCount;
+	}
+
+	/**
+	 * Gets how many user projectiles the level keeps in flight.
+	 *
+	 * @return The number of projectiles maintained.
+	 */
+	public int getProjectileCount() {
+		return projectileCount;
+	}
+
+	/**
+	 * Writes the configured enemy and projectile counts.
+	 *
+	 * @param writer the destination
+	 */
+	@Override
+	protected void writeLevelState(StateWriter writer) {
+		writer.writeInt(enemyCount);
+		writer.writeInt(projectileCount);
+	}
+
+	/**
+	 * Restores the configured enemy and projectile counts.
+	 *
+	 * @param reader the source
+	 */
+	@Override
+	protected void readLevelState(StateReader reader) {
+		enemyCount = reader.readInt();
+		projectileCount = reader.readInt();
+	}
+
+	/**
+	 * Ends the level only if the player is destroyed.
+	 */
+	@Override
+	protected void checkIfGameOver() {
+		if (userIsDestroyed()) {
+			loseGame();
+		}
+	}
+
+	/**
+	 * Initializes the player's plane as a friendly unit in the level.
+	 */
+	@Override
+	protected void initializeFriendlyUnits() {
+		addFriendlyUnit(getUser());
+	}
+
+	/**
+	 * Tops the level up to the configured number of enemies and projectiles.
+	 * Enemies enter from the right edge; projectiles appear across the left half of the screen.
+	 */
+	@Override
+	protected void spawnEnemyUnits() {
+		RandomStream spawnRandom = getRandom().stream(GameRandom.Channel.ENEMY_SPAWN);
+
+		while (getCurrentNumberOfEnemies() < enemyCount) {
+			double y = spawnRandom.nextDouble() * getEnemyMaximumYPosition();
+			addEnemyUnit(new EnemyPlane(getScreenWidth(), y, getUser(), getProjectileFactory(),
+					getRandom().stream(GameRandom.Channel.ENEMY_FIRE).split()));
+		}
+		while (getCurrentNumberOfUserProjectiles() < projectileCount) {
+			double x = spawnRandom.nextDouble() * getScreenWidth() / 2;
+			double y = spawnRandom.nextDouble() * getEnemyMaximumYPosition();
+			addUserProjectile(getProjectileFactory().createUserProjectile(x, y));
+		}
+	}
+
+	/**
+	 * Instantiates the view for the stress level.
+	 *
+	 * @return A {@link LevelView} object for the stress level.
+	 */
+	@Override
+	protected LevelView instantiateLevelView() {
+		return new LevelView(getRoot(), HEARTS_TO_DISPLAY, false);
+	}
+}
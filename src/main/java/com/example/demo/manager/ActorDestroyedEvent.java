@@ -0,0 +1,37 @@
+package com.example.demo.manager;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event emitted when a destroyed actor is removed from a level. Disabled by default.
+ */
+@Name("com.example.demo.ActorDestroyed")
+@Label("Actor Destroyed")
+@Category({"Sky Battle", "Actors"})
+@Description("A destroyed actor was removed from the current level")
+@Enabled(false)
+@StackTrace(false)
+public class ActorDestroyedEvent extends jdk.jfr.Event {
+
+    /** Reason recorded for actors culled after leaving the viewport. */
+    static final String REASON_LEFT_VIEWPORT = "Left viewport";
+    /** Reason recorded for actors destroyed by damage. */
+    static final String REASON_DESTROYED = "Destroyed";
+
+    @Label("Actor Type")
+    String actorType;
+
+    @Label("Reason")
+    String reason;
+
+    @Label("Tick")
+    long tick;
+
+    @Label("Returned To Pool")
+    boolean pooled;
+}
@@ -0,0 +1,32 @@
+package com.example.demo.manager;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event emitted when an actor is added to a level. Disabled by default.
+ */
+@Name("com.example.demo.ActorSpawned")
+@Label("Actor Spawned")
+@Category({"Sky Battle", "Actors"})
+@Description("An actor was added to the current level")
+@Enabled(false)
+@StackTrace(false)
+public class ActorSpawnedEvent extends jdk.jfr.Event {
+
+    @Label("Actor Type")
+    String actorType;
+
+    @Label("Tick")
+    long tick;
+
+    @Label("X")
+    double x;
+
+    @Label("Y")
+    double y;
+}
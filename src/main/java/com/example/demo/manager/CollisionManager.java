@@ -1,128 +1,262 @@
 package com.example.demo.manager;
 
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.collision.BoundsSnapshot;
+import com.example.demo.collision.Broadphase;
+import com.example.demo.collision.BruteForceBroadphase;
+import com.example.demo.collision.CollisionPairCategory;
+import com.example.demo.collision.Narrowphase;
+import com.example.demo.collision.SpatialHashBroadphase;
+import com.example.demo.collision.SweepAndPruneBroadphase;
 import com.example.demo.models.Boss;
 import com.example.demo.models.UserPlane;
-import javafx.scene.Group;
-import javafx.scene.shape.Rectangle;
+import com.example.demo.utilities.Constants;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 public class CollisionManager {
 
-    private final Group root;
     private final double screenWidth;
     private final double screenHeight;
 
     private final List<ActiveActorDestructible> enemyUnits;
     private final List<ActiveActorDestructible> userProjectiles;
     private final List<ActiveActorDestructible> enemyProjectiles;
-    private final Map<ActiveActorDestructible, Rectangle> boundingBoxHighlights;
     private final UserPlane user;
+    private final List<ActiveActorDestructible> userList;
 
+    private final Map<CollisionPairCategory, Broadphase> broadphases = new EnumMap<>(CollisionPairCategory.class);
+    private final Broadphase referenceBroadphase = new BruteForceBroadphase();
+    private final BoundsSnapshot bounds = new BoundsSnapshot();
+    private Narrowphase narrowphase = new Narrowphase();
+
+    private long pairTestCount;
+    private long contactCount;
     private Boss boss;
+    private List<ActiveActorDestructible> bossList = Collections.emptyList();
 
-    public CollisionManager(Group root,
-                            double screenWidth,
+    public CollisionManager(double screenWidth,
                             double screenHeight,
                             List<ActiveActorDestructible> enemyUnits,
                             List<ActiveActorDestructible> userProjectiles,
                             List<ActiveActorDestructible> enemyProjectiles,
-                            Map<ActiveActorDestructible, Rectangle> boundingBoxHighlights,
                             UserPlane user) {
-        this.root = root;
         this.screenWidth = screenWidth;
         this.screenHeight = screenHeight;
         this.enemyUnits = enemyUnits;
         this.userProjectiles = userProjectiles;
         this.enemyProjectiles = enemyProjectiles;
-        this.boundingBoxHighlights = boundingBoxHighlights;
         this.user = user;
+        this.userList = Collections.singletonList(user);
+
+        broadphases.put(CollisionPairCategory.PLANE_PLANE, new BruteForceBroadphase());
+        broadphases.put(CollisionPairCategory.USER_PROJECTILE_ENEMY, new SpatialHashBroadphase());
+        broadphases.put(CollisionPairCategory.ENEMY_PROJECTILE_USER, new SweepAndPruneBroadphase());
+        if (Constants.COLLISION_PARALLEL_NARROWPHASE) {
+            narrowphase.setPool(ForkJoinPool.commonPool());
+        }
     }
 
     public void setBoss(Boss boss) {
         this.boss = boss;
+        this.bossList = boss != null ? Collections.singletonList(boss) : Collections.emptyList();
+    }
+
+    /**
+     * Selects the broadphase strategy used for a category of actor pairs.
+     * Strategies may keep state between ticks, so an instance must not be shared between categories.
+     *
+     * @param category   the pair category
+     * @param broadphase the strategy to use
+     */
+    public void setBroadphase(CollisionPairCategory category, Broadphase broadphase) {
+        broadphases.put(category, Objects.requireNonNull(broadphase));
+    }
+
+    /**
+     * Gets the broadphase strategy used for a category of actor pairs.
+     *
+     * @param category the pair category
+     * @return the strategy in use
+     */
+    public Broadphase getBroadphase(CollisionPairCategory category) {
+        return broadphases.get(category);
+    }
+
+    /**
+     * Replaces the narrowphase that confirms candidate pairs. Contacts are applied on the
+     * calling thread in the order the broadphase reported them, so the outcome of a tick is
+     * the same whichever pool, if any, the narrowphase tests them on.
+     *
+     * @param narrowphase the narrowphase to use
+     */
+    public void setNarrowphase(Narrowphase narrowphase) {
+        this.narrowphase = Objects.requireNonNull(narrowphase);
+    }
+
+    /**
+     * Gets the narrowphase that confirms candidate pairs.
+     *
+     * @return the collision narrowphase
+     */
+    public Narrowphase getNarrowphase() {
+        return narrowphase;
+    }
+
+    /**
+     * Captures the collision box of every actor for the current tick.
+     * Must be called once after the actors have moved and before any collision pass;
+     * actors added later in the tick are captured on first use.
+     *
+     * @param friendlyUnits the friendly planes
+     */
+    public void captureBounds(List<ActiveActorDestructible> friendlyUnits) {
+        bounds.clear();
+        bounds.captureAll(friendlyUnits);
+        bounds.captureAll(enemyUnits);
+        bounds.captureAll(userProjectiles);
+        bounds.captureAll(enemyProjectiles);
+    }
+
+    /**
+     * Gets the collision boxes captured for the current tick.
+     *
+     * @return the bounds snapshot
+     */
+    public BoundsSnapshot getBounds() {
+        return bounds;
+    }
+
+    /**
+     * Gets how many candidate pairs have been tested since this manager was created.
+     *
+     * @return the cumulative pair-test count
+     */
+    public long getPairTestCount() {
+        return pairTestCount;
+    }
+
+    /**
+     * Gets how many tested pairs overlapped and had their consequences applied.
+     *
+     * @return the cumulative contact count
+     */
+    public long getContactCount() {
+        return contactCount;
     }
 
     public void handleCollisions(List<ActiveActorDestructible> actors1, List<ActiveActorDestructible> actors2) {
-        for (ActiveActorDestructible actor : actors2) {
-            for (ActiveActorDestructible otherActor : actors1) {
-                if (actor.getAdjustedBounds().intersects(otherActor.getAdjustedBounds())) {
-                    actor.takeDamage();
-                    otherActor.takeDamage();
-                }
-            }
+        findContacts(referenceBroadphase, actors2, actors1);
+        for (int i = 0; i < narrowphase.getContactCount(); i++) {
+            int pair = narrowphase.getContact(i);
+            applyMutualDamage(narrowphase.getFirst(pair), narrowphase.getSecond(pair));
         }
+        pairTestCount += narrowphase.getCandidateCount();
     }
 
     public void handlePlaneCollisions(List<ActiveActorDestructible> friendlyUnits) {
-        handleCollisions(friendlyUnits, enemyUnits);
+        findContacts(broadphases.get(CollisionPairCategory.PLANE_PLANE), enemyUnits, friendlyUnits);
+        for (int i = 0; i < narrowphase.getContactCount(); i++) {
+            int pair = narrowphase.getContact(i);
+            applyMutualDamage(narrowphase.getFirst(pair), narrowphase.getSecond(pair));
+        }
+        pairTestCount += narrowphase.getCandidateCount();
     }
 
     public void handleUserProjectileCollisions(Runnable loseGameAction) {
-        List<ActiveActorDestructible> enemiesToRemove = new ArrayList<>();
-        List<ActiveActorDestructible> projectilesToRemove = new ArrayList<>();
-
-        for (ActiveActorDestructible enemy : enemyUnits) {
-            if (!enemy.isVisibleOnScreen(screenWidth, screenHeight)) {
-                continue;
-            }
-            for (ActiveActorDestructible projectile : userProjectiles) {
-                if (enemy.getAdjustedBounds().intersects(projectile.getAdjustedBounds())) {
-                    enemy.takeDamage();
-                    projectile.takeDamage();
-
-                    if (enemy.isDestroyed()) {
-                        user.incrementKillCount();
-                        enemiesToRemove.add(enemy);
-
-                        Rectangle highlight = boundingBoxHighlights.remove(enemy);
-                        if (highlight != null) {
-                            root.getChildren().remove(highlight);
-                        }
-                    }
-                    if (projectile.isDestroyed()) {
-                        projectilesToRemove.add(projectile);
-                    }
-                }
-            }
+        findContacts(broadphases.get(CollisionPairCategory.USER_PROJECTILE_ENEMY), enemyUnits, userProjectiles);
+        for (int i = 0; i < narrowphase.getContactCount(); i++) {
+            int pair = narrowphase.getContact(i);
+            applyEnemyHit(narrowphase.getFirst(pair), narrowphase.getSecond(pair));
         }
+        pairTestCount += narrowphase.getCandidateCount();
 
         if (boss != null) {
-            for (ActiveActorDestructible projectile : userProjectiles) {
-                if (boss.getAdjustedBounds().intersects(projectile.getAdjustedBounds())) {
-                    boss.takeDamage();
-                    projectile.takeDamage();
-                    if (projectile.isDestroyed()) {
-                        projectilesToRemove.add(projectile);
-                    }
-                }
+            findContacts(broadphases.get(CollisionPairCategory.USER_PROJECTILE_ENEMY), bossList, userProjectiles);
+            for (int i = 0; i < narrowphase.getContactCount(); i++) {
+                int pair = narrowphase.getContact(i);
+                applyBossHit(narrowphase.getFirst(pair), narrowphase.getSecond(pair));
             }
+            pairTestCount += narrowphase.getCandidateCount();
         }
 
-        for (ActiveActorDestructible projectile : enemyProjectiles) {
-            if (user.getAdjustedBounds().intersects(projectile.getAdjustedBounds())) {
-                user.takeDamage();
-                projectile.takeDamage();
-                if (projectile.isDestroyed()) {
-                    projectilesToRemove.add(projectile);
-                }
-
-                if (user.isDestroyed()) {
-                    loseGameAction.run();
-                    return;
-                }
+        // The sequential search stopped at the hit that destroyed the user; later pairs were never tested
+        findContacts(broadphases.get(CollisionPairCategory.ENEMY_PROJECTILE_USER), userList, enemyProjectiles);
+        int testedPairs = narrowphase.getCandidateCount();
+        boolean userDestroyed = false;
+        for (int i = 0; i < narrowphase.getContactCount() && !userDestroyed; i++) {
+            int pair = narrowphase.getContact(i);
+            userDestroyed = applyUserHit(narrowphase.getFirst(pair), narrowphase.getSecond(pair));
+            if (userDestroyed) {
+                testedPairs = pair + 1;
             }
         }
-
-        root.getChildren().removeAll(enemiesToRemove);
-        root.getChildren().removeAll(projectilesToRemove);
-        enemyUnits.removeAll(enemiesToRemove);
-        userProjectiles.removeAll(projectilesToRemove);
-        enemyProjectiles.removeAll(projectilesToRemove);
+        pairTestCount += testedPairs;
+        if (userDestroyed) {
+            loseGameAction.run();
+        }
     }
 
     public void handleEnemyProjectileCollisions(List<ActiveActorDestructible> friendlyUnits) {
-        handleCollisions(enemyProjectiles, friendlyUnits);
+        findContacts(broadphases.get(CollisionPairCategory.ENEMY_PROJECTILE_USER), friendlyUnits, enemyProjectiles);
+        for (int i = 0; i < narrowphase.getContactCount(); i++) {
+            int pair = narrowphase.getContact(i);
+            applyMutualDamage(narrowphase.getFirst(pair), narrowphase.getSecond(pair));
+        }
+        pairTestCount += narrowphase.getCandidateCount();
+    }
+
+    /**
+     * Collects the candidate pairs of a pass and confirms them, without changing any actor.
+     * The pass then applies the contacts in order, re-checking each actor's state, so an actor
+     * destroyed by an earlier contact is skipped just as a sequential search would skip it.
+     */
+    private void findContacts(Broadphase broadphase,
+                              List<? extends ActiveActorDestructible> first,
+                              List<? extends ActiveActorDestructible> second) {
+        narrowphase.begin(bounds);
+        broadphase.findPairs(first, second, bounds, narrowphase);
+        narrowphase.run();
+    }
+
+    private void applyMutualDamage(ActiveActorDestructible actor, ActiveActorDestructible otherActor) {
+        if (!actor.isDestroyed() && !otherActor.isDestroyed()) {
+            contactCount++;
+            actor.takeDamage();
+            otherActor.takeDamage();
+        }
+    }
+
+    private void applyEnemyHit(ActiveActorDestructible enemy, ActiveActorDestructible projectile) {
+        if (enemy.isDestroyed() || projectile.isDestroyed()
+                || !enemy.isVisibleOnScreen(screenWidth, screenHeight)) {
+            return;
+        }
+        contactCount++;
+        enemy.takeDamage();
+        projectile.takeDamage();
+
+        if (enemy.isDestroyed()) {
+            user.incrementKillCount();
+        }
+    }
+
+    private void applyBossHit(ActiveActorDestructible boss, ActiveActorDestructible projectile) {
+        if (!projectile.isDestroyed()) {
+            contactCount++;
+            boss.takeDamage();
+            projectile.takeDamage();
+        }
+    }
+
+    private boolean applyUserHit(ActiveActorDestructible user, ActiveActorDestructible projectile) {
+        if (!projectile.isDestroyed()) {
+            contactCount++;
+            user.takeDamage();
+            projectile.takeDamage();
+            return user.isDestroyed();
+        }
+        return false;
     }
 }
@@ -0,0 +1,40 @@
+package com.example.demo.manager;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning the collision phases of one tick. Disabled by default.
+ */
+@Name("com.example.demo.CollisionPassCompleted")
+@Label("Collision Pass Completed")
+@Category({"Sky Battle", "Game Loop"})
+@Description("Bounds capture and all collision checks of one tick")
+@Enabled(false)
+@StackTrace(false)
+public class CollisionPassEvent extends jdk.jfr.Event {
+
+    @Label("Tick")
+    long tick;
+
+    @Label("Pair Tests")
+    @Description("Candidate pairs reported by the broadphases and tested")
+    long pairTests;
+
+    @Label("Contacts")
+    @Description("Tested pairs that overlapped and were applied")
+    long contacts;
+
+    @Label("Enemies")
+    int enemies;
+
+    @Label("User Projectiles")
+    int userProjectiles;
+
+    @Label("Enemy Projectiles")
+    int enemyProjectiles;
+}
@@ -0,0 +1,82 @@
+package com.example.demo.manager;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.GameEffects;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * {@link GameEffects} that can hold events raised on the simulation thread until the JavaFX
+ * thread runs them. While not deferring, events go straight to the target.
+ */
+public class DeferredGameEffects implements GameEffects {
+
+    private final GameEffects target;
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private volatile boolean deferred;
+
+    /**
+     * Constructs a {@code DeferredGameEffects} that forwards events to the given effects.
+     *
+     * @param target the effects that show the events
+     */
+    public DeferredGameEffects(GameEffects target) {
+        this.target = target;
+    }
+
+    /**
+     * Sets whether events are queued for {@link #runPending()} instead of shown at once.
+     *
+     * @param deferred {@code true} to queue events
+     */
+    public void setDeferred(boolean deferred) {
+        this.deferred = deferred;
+    }
+
+    /**
+     * Shows every queued event, in the order the events were raised.
+     * Must be called on the thread that owns the target.
+     */
+    public void runPending() {
+        for (Runnable effect = pending.poll(); effect != null; effect = pending.poll()) {
+            effect.run();
+        }
+    }
+
+    @Override
+    public void onHit(ActiveActorDestructible actor) {
+        if (deferred) {
+            pending.offer(() -> target.onHit(actor));
+        } else {
+            target.onHit(actor);
+        }
+    }
+
+    @Override
+    public void onShieldHit(ActiveActorDestructible actor) {
+        if (deferred) {
+            pending.offer(() -> target.onShieldHit(actor));
+        } else {
+            target.onShieldHit(actor);
+        }
+    }
+
+    @Override
+    public void onEnemyDamaged(ActiveActorDestructible enemy) {
+        if (deferred) {
+            pending.offer(() -> target.onEnemyDamaged(enemy));
+        } else {
+            target.onEnemyDamaged(enemy);
+        }
+    }
+
+    @Override
+    public void onShotFired(ActiveActorDestructible shooter) {
+        if (deferred) {
+            pending.offer(() -> target.onShotFired(shooter));
+        } else {
+            target.onShotFired(shooter);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.demo.manager;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.utilities.Constants;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Culls actors that have left the playfield.
+ * An actor is despawned once its whole sprite lies beyond a configurable margin around the
+ * current viewport. Culled actors are destroyed so that the normal removal path takes them out
+ * of the scene and returns pooled projectiles; the number culled is counted per category.
+ */
+public class DespawnPolicy {
+
+    /**
+     * The kinds of actors tracked by the culled counters.
+     */
+    public enum Category {
+        USER_PROJECTILE,
+        ENEMY_PROJECTILE,
+        ENEMY_UNIT
+    }
+
+    private final long[] culledCounts = new long[Category.values().length];
+
+    private double viewportWidth;
+    private double viewportHeight;
+    private double margin;
+
+    /**
+     * Constructs a {@code DespawnPolicy} with the default margin.
+     *
+     * @param viewportWidth  the width of the visible playfield
+     * @param viewportHeight the height of the visible playfield
+     */
+    public DespawnPolicy(double viewportWidth, double viewportHeight) {
+        this(viewportWidth, viewportHeight, Constants.DESPAWN_MARGIN);
+    }
+
+    /**
+     * Constructs a {@code DespawnPolicy}.
+     *
+     * @param viewportWidth  the width of the visible playfield
+     * @param viewportHeight the height of the visible playfield
+     * @param margin         how far beyond the viewport an actor may travel before it is culled
+     */
+    public DespawnPolicy(double viewportWidth, double viewportHeight, double margin) {
+        setViewport(viewportWidth, viewportHeight);
+        setMargin(margin);
+    }
+
+    /**
+     * Updates the size of the visible playfield, for example after the window is resized.
+     *
+     * @param viewportWidth  the new viewport width
+     * @param viewportHeight the new viewport height
+     */
+    public void setViewport(double viewportWidth, double viewportHeight) {
+        this.viewportWidth = viewportWidth;
+        this.viewportHeight = viewportHeight;
+    }
+
+    /**
+     * Sets how far beyond the viewport an actor may travel before it is culled.
+     *
+     * @param margin the margin in pixels
+     * @throws IllegalArgumentException if {@code margin} is negative
+     */
+    public void setMargin(double margin) {
+        if (margin < 0) {
+            throw new IllegalArgumentException("Despawn margin must not be negative: " + margin);
+        }
+        this.margin = margin;
+    }
+
+    public double getMargin() {
+        return margin;
+    }
+
+    /**
+     * Destroys every live actor in the list that lies entirely outside the despawn area.
+     *
+     * @param actors   the actors to check
+     * @param category the counter to charge culled actors to
+     * @return the number of actors culled by this call
+     */
+    public int cull(List<? extends ActiveActorDestructible> actors, Category category) {
+        int culled = 0;
+        for (int i = 0; i < actors.size(); i++) {
+            ActiveActorDestructible actor = actors.get(i);
+            if (!actor.isDestroyed() && isOutside(actor)) {
+                actor.destroy();
+                culled++;
+            }
+        }
+        culledCounts[category.ordinal()] += culled;
+        return culled;
+    }
+
+    /**
+     * Checks whether an actor's sprite lies entirely outside the despawn area,
+     * using its simulated position.
+     *
+     * @param actor the actor to check
+     * @return {@code true} if the actor should be culled; {@code false} otherwise
+     */
+    public boolean isOutside(ActiveActorDestructible actor) {
+        double minX = actor.getLayoutX() + actor.getPositionX();
+        double minY = actor.getLayoutY() + actor.getPositionY();
+        return isOutside(minX, minY, minX + actor.getWidth(), minY + actor.getHeight());
+    }
+
+    /**
+     * Checks whether a box lies entirely outside the despawn area.
+     *
+     * @param minX the minimum X coordinate of the box
+     * @param minY the minimum Y coordinate of the box
+     * @param maxX the maximum X coordinate of the box
+     * @param maxY the maximum Y coordinate of the box
+     * @return {@code true} if no part of the box is inside the area; {@code false} otherwise
+     */
+    public boolean isOutside(double minX, double minY, double maxX, double maxY) {
+        return maxX < -margin || minX > viewportWidth + margin
+                || maxY < -margin || minY > viewportHeight + margin;
+    }
+
+    /**
+     * Gets the number of actors culled so far in one category.
+     *
+     * @param category the category to report
+     * @return the cumulative culled count
+     */
+    public long getCulledCount(Category category) {
+        return culledCounts[category.ordinal()];
+    }
+
+    /**
+     * Gets the number of actors culled so far in every category.
+     *
+     * @return the cumulative culled counts by category
+     */
+    public Map<Category, Long> getCulledCounts() {
+        Map<Category, Long> counts = new EnumMap<>(Category.class);
+        for (Category category : Category.values()) {
+            counts.put(category, culledCounts[category.ordinal()]);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.demo.manager;
+
+/**
+ * Runs two headless levels side by side and finds the first tick at which their simulation
+ * states differ. The expected run is the reference; the actual run is the one under suspicion,
+ * for example a level restored from snapshots or ticked in another update mode. Both levels are
+ * compared by {@link LevelManager#computeStateHash()} after creation and after every tick.
+ */
+public class DesyncDetector {
+
+    private final HeadlessRunner expectedRunner;
+    private final HeadlessRunner actualRunner;
+
+    /**
+     * Constructs a {@code DesyncDetector}. Each runner creates and steps its own level, with its
+     * own seed, input script and tick listener.
+     *
+     * @param expectedRunner the runner for the reference level
+     * @param actualRunner   the runner for the level under test
+     */
+    public DesyncDetector(HeadlessRunner expectedRunner, HeadlessRunner actualRunner) {
+        this.expectedRunner = expectedRunner;
+        this.actualRunner = actualRunner;
+    }
+
+    /**
+     * Runs both levels until their states differ, either level ends or the tick limit is reached.
+     *
+     * @param maxTicks the maximum number of ticks to simulate
+     * @return the first divergence, or {@code null} if the levels stayed identical
+     */
+    public Divergence run(long maxTicks) {
+        return run(expectedRunner.createLevel(), actualRunner.createLevel(), maxTicks);
+    }
+
+    /**
+     * Runs two existing levels until their states differ, either level ends or the tick limit
+     * is reached.
+     *
+     * @param expected the reference level, stepped by the expected runner
+     * @param actual   the level under test, stepped by the actual runner
+     * @param maxTicks the maximum number of ticks to simulate
+     * @return the first divergence, or {@code null} if the levels stayed identical
+     */
+    public Divergence run(LevelManager expected, LevelManager actual, long maxTicks) {
+        for (long ticks = 0; ; ticks++) {
+            long expectedHash = expected.computeStateHash();
+            long actualHash = actual.computeStateHash();
+            if (expectedHash != actualHash || expected.getTickCount() != actual.getTickCount()) {
+                return new Divergence(expected.getTickCount(), expectedHash, actualHash,
+                        expected.describeState(), actual.describeState());
+            }
+            if (ticks == maxTicks || expected.getOutcome() != LevelManager.Outcome.IN_PROGRESS) {
+                return null;
+            }
+            expectedRunner.run(expected, 1);
+            actualRunner.run(actual, 1);
+        }
+    }
+
+    /**
+     * Checks from the command line that saving and restoring a level does not change its run:
+     * the actual level is captured and restored in place every few ticks and compared with an
+     * uninterrupted run.
+     * Arguments: level class name, tick limit, seed and snapshot interval; all optional.
+     *
+     * @param args the command-line arguments
+     */
+    public static void main(String[] args) {
+        String levelClassName = args.length > 0 ? args[0] : "com.example.demo.levels.LevelOne";
+        long maxTicks = args.length > 1 ? Long.parseLong(args[1]) : 10_000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 1L;
+        int interval = args.length > 3 ? Integer.parseInt(args[3]) : 60;
+
+        HeadlessRunner expected = new HeadlessRunner(levelClassName);
+        HeadlessRunner actual = new HeadlessRunner(levelClassName);
+        for (HeadlessRunner runner : new HeadlessRunner[]{expected, actual}) {
+            runner.setSeed(seed);
+            runner.setInputScript(InputScript.patrolAndFire(60));
+        }
+        actual.setTickListener(level -> {
+            if (level.getTickCount() % interval == 0) {
+                LevelSnapshot.capture(level).restore(level);
+            }
+        });
+
+        Divergence divergence = new DesyncDetector(expected, actual).run(maxTicks);
+        System.out.println(divergence != null ? divergence : "No divergence in " + maxTicks + " ticks");
+    }
+
+    /**
+     * The first tick at which two runs disagree, with both states described for comparison.
+     */
+    public static final class Divergence {
+
+        private final long tick;
+        private final long expectedHash;
+        private final long actualHash;
+        private final String expectedState;
+        private final String actualState;
+
+        private Divergence(long tick, long expectedHash, long actualHash, String expectedState, String actualState) {
+            this.tick = tick;
+            this.expectedHash = expectedHash;
+            this.actualHash = actualHash;
+            this.expectedState = expectedState;
+            this.actualState = actualState;
+        }
+
+        /**
+         * Gets the tick after which the states first differed; {@code 0} means they differed
+         * from the start.
+         *
+         * @return the tick count of the expected level
+         */
+        public long getTick() {
+            return tick;
+        }
+
+        /**
+         * Gets the state hash of the reference level.
+         *
+         * @return the expected hash
+         */
+        public long getExpectedHash() {
+            return expectedHash;
+        }
+
+        /**
+         * Gets the state hash of the level under test.
+         *
+         * @return the actual hash
+         */
+        public long getActualHash() {
+            return actualHash;
+        }
+
+        /**
+         * Gets the description of the reference level at the diverging tick.
+         *
+         * @return the output of {@link LevelManager#describeState()}
+         */
+        public String getExpectedState() {
+            return expectedState;
+        }
+
+        /**
+         * Gets the description of the level under test at the diverging tick.
+         *
+         * @return the output of {@link LevelManager#describeState()}
+         */
+        public String getActualState() {
+            return actualState;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Diverged at tick %d: expected hash %016x, actual %016x%n--- expected%n%s--- actual%n%s",
+                    tick, expectedHash, actualHash, expectedState, actualState);
+        }
+    }
+}
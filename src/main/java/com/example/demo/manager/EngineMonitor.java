@@ -0,0 +1,211 @@
+package com.example.demo.manager;
+
+import com.example.demo.models.ProjectilePool;
+import com.example.demo.utilities.SimulationClock;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * Platform MXBean exposing live metrics and controls of the running game.
+ * Attribute reads come straight from the current level and may be a tick stale; anything that
+ * changes or walks the level is handed to the game thread through the given executor, and from
+ * there to the level's simulation thread while it simulates on one. Pausing and resuming stay
+ * on the game thread, which stops and restarts the simulation thread itself.
+ */
+public class EngineMonitor implements EngineMonitorMXBean {
+
+    /** The name the monitor is registered under. */
+    public static final String OBJECT_NAME = "com.example.demo:type=Engine";
+
+    private static final long DUMP_TIMEOUT_SECONDS = 5;
+
+    private final Executor gameThread;
+    private volatile LevelManager level;
+    private volatile long completedLevelKills;
+
+    /**
+     * Constructs an {@code EngineMonitor}.
+     *
+     * @param gameThread runs actions on the thread that owns the levels
+     */
+    public EngineMonitor(Executor gameThread) {
+        this.gameThread = gameThread;
+    }
+
+    /**
+     * Registers this monitor with the platform MBean server, replacing any earlier instance.
+     *
+     * @throws JMException if registration fails
+     */
+    public void register() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+        server.registerMBean(this, name);
+    }
+
+    /**
+     * Sets the level being monitored. Kills made in the previous level are added to the total.
+     *
+     * @param level the new current level, or {@code null} if none is running
+     */
+    public void setLevel(LevelManager level) {
+        LevelManager previous = this.level;
+        if (previous == level) {
+            return;
+        }
+        if (previous != null) {
+            completedLevelKills += previous.getUser().getNumberOfKills();
+        }
+        this.level = level;
+    }
+
+    @Override
+    public String getLevel() {
+        LevelManager current = level;
+        return current == null ? "" : current.getClass().getSimpleName();
+    }
+
+    @Override
+    public int getTickRate() {
+        return SimulationClock.getTicksPerSecond();
+    }
+
+    @Override
+    public double getSimulationSpeed() {
+        LevelManager current = level;
+        return current == null ? 1.0 : current.getGameLoop().getTimeScale();
+    }
+
+    @Override
+    public void setSimulationSpeed(double speed) {
+        if (!(speed > 0) || Double.isInfinite(speed)) {
+            throw new IllegalArgumentException("Simulation speed must be positive: " + speed);
+        }
+        LevelManager current = level;
+        if (current != null) {
+            onSimulation(current, () -> current.setSimulationSpeed(speed));
+        }
+    }
+
+    @Override
+    public long getTickCount() {
+        LevelManager current = level;
+        return current == null ? 0 : current.getTickCount();
+    }
+
+    @Override
+    public long getLastTickNanos() {
+        LevelManager current = level;
+        return current == null ? 0 : current.getGameLoop().getLastTickNanos();
+    }
+
+    @Override
+    public long getAverageTickNanos() {
+        LevelManager current = level;
+        return current == null ? 0 : current.getGameLoop().getAverageTickNanos();
+    }
+
+    @Override
+    public long getMaxTickNanos() {
+        LevelManager current = level;
+        return current == null ? 0 : current.getGameLoop().getMaxTickNanos();
+    }
+
+    @Override
+    public Map<String, Integer> getActorCounts() {
+        LevelManager current = level;
+        return current == null ? Collections.emptyMap() : current.getActorCounts();
+    }
+
+    @Override
+    public Map<String, Integer> getPoolOccupancy() {
+        LevelManager current = level;
+        if (current == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, Integer> occupancy = new LinkedHashMap<>();
+        for (ProjectilePool<?> pool : current.getProjectileFactory().getPools()) {
+            occupancy.put(pool.getName(), pool.getInUse());
+        }
+        return occupancy;
+    }
+
+    @Override
+    public int getLevelKills() {
+        LevelManager current = level;
+        return current == null ? 0 : current.getUser().getNumberOfKills();
+    }
+
+    @Override
+    public long getTotalKills() {
+        return completedLevelKills + getLevelKills();
+    }
+
+    @Override
+    public boolean isPaused() {
+        LevelManager current = level;
+        return current != null && current.isPaused();
+    }
+
+    @Override
+    public void pause() {
+        onLevel(current -> {
+            if (!current.isPaused() && !current.isHeadless()) {
+                current.pauseGame();
+            }
+        });
+    }
+
+    @Override
+    public void resume() {
+        onLevel(current -> {
+            if (current.isPaused()) {
+                current.resumeGame();
+            }
+        });
+    }
+
+    @Override
+    public String dumpState() {
+        LevelManager current = level;
+        if (current == null) {
+            return "No level is running.";
+        }
+        FutureTask<String> dump = new FutureTask<>(current::describeState);
+        onSimulation(current, dump);
+        try {
+            return dump.get(DUMP_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "Interrupted while waiting for the game thread.";
+        } catch (ExecutionException | TimeoutException e) {
+            return "State dump failed: " + e;
+        }
+    }
+
+    private void onSimulation(LevelManager current, Runnable action) {
+        gameThread.execute(() -> current.runOnSimulationThread(action));
+    }
+
+    private void onLevel(Consumer<LevelManager> action) {
+        LevelManager current = level;
+        if (current != null) {
+            gameThread.execute(() -> action.accept(current));
+        }
+    }
+}
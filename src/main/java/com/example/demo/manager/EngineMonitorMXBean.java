@@ -0,0 +1,121 @@
+package com.example.demo.manager;
+
+import java.util.Map;
+
+/**
+ * Management interface for watching and steering the running game through JMX.
+ * Attributes describe the level currently shown; they read as empty or zero while
+ * no level is running.
+ */
+public interface EngineMonitorMXBean {
+
+    /**
+     * Gets the class name of the current level.
+     *
+     * @return the level's simple class name, or an empty string if none is running
+     */
+    String getLevel();
+
+    /**
+     * Gets the number of simulation ticks per second. The rate is read-only here: replays and
+     * the rewind buffer are sized for the rate a level started with; use
+     * {@link #setSimulationSpeed(double)} to run the game faster or slower.
+     *
+     * @return the tick rate
+     */
+    int getTickRate();
+
+    /**
+     * Gets how fast simulated time passes relative to real time.
+     *
+     * @return the speed multiplier
+     */
+    double getSimulationSpeed();
+
+    /**
+     * Changes how fast simulated time passes relative to real time.
+     *
+     * @param speed the speed multiplier; {@code 1} is normal speed
+     */
+    void setSimulationSpeed(double speed);
+
+    /**
+     * Gets the number of ticks the current level has run.
+     *
+     * @return the tick count
+     */
+    long getTickCount();
+
+    /**
+     * Gets how long the current level's most recent tick took.
+     *
+     * @return the duration in nanoseconds
+     */
+    long getLastTickNanos();
+
+    /**
+     * Gets the current level's mean tick duration.
+     *
+     * @return the duration in nanoseconds
+     */
+    long getAverageTickNanos();
+
+    /**
+     * Gets the current level's longest tick.
+     *
+     * @return the duration in nanoseconds
+     */
+    long getMaxTickNanos();
+
+    /**
+     * Gets the number of live actors in each of the current level's lists.
+     *
+     * @return the counts keyed by list name
+     */
+    Map<String, Integer> getActorCounts();
+
+    /**
+     * Gets how many projectiles of each pool are currently in use.
+     *
+     * @return the in-use counts keyed by pool name
+     */
+    Map<String, Integer> getPoolOccupancy();
+
+    /**
+     * Gets the kills made in the current level.
+     *
+     * @return the level's kill count
+     */
+    int getLevelKills();
+
+    /**
+     * Gets the kills made since the game was launched, across all levels played.
+     *
+     * @return the cumulative kill count
+     */
+    long getTotalKills();
+
+    /**
+     * Checks whether the current level is paused.
+     *
+     * @return {@code true} if paused; {@code false} otherwise
+     */
+    boolean isPaused();
+
+    /**
+     * Pauses the current level as if the player had paused it.
+     */
+    void pause();
+
+    /**
+     * Resumes the current level.
+     */
+    void resume();
+
+    /**
+     * Describes the current level's full state.
+     *
+     * @return a human-readable dump of the level
+     */
+    String dumpState();
+}
@@ -0,0 +1,35 @@
+package com.example.demo.manager;
+
+import jdk.jfr.EventType;
+
+/**
+ * Cheap checks for whether the engine's Flight Recorder events are being recorded.
+ * Hot paths ask here before creating an event, so nothing is allocated or timed while no
+ * recording has the event enabled.
+ */
+final class GameEvents {
+
+    private static final EventType GAME_TICK = EventType.getEventType(GameTickEvent.class);
+    private static final EventType ACTOR_SPAWNED = EventType.getEventType(ActorSpawnedEvent.class);
+    private static final EventType ACTOR_DESTROYED = EventType.getEventType(ActorDestroyedEvent.class);
+    private static final EventType COLLISION_PASS = EventType.getEventType(CollisionPassEvent.class);
+
+    private GameEvents() {
+    }
+
+    static boolean isGameTickEnabled() {
+        return GAME_TICK.isEnabled();
+    }
+
+    static boolean isActorSpawnedEnabled() {
+        return ACTOR_SPAWNED.isEnabled();
+    }
+
+    static boolean isActorDestroyedEnabled() {
+        return ACTOR_DESTROYED.isEnabled();
+    }
+
+    static boolean isCollisionPassEnabled() {
+        return COLLISION_PASS.isEnabled();
+    }
+}
@@ -0,0 +1,309 @@
+package com.example.demo.manager;
+
+import com.example.demo.utilities.Constants;
+import com.example.demo.utilities.SimulationClock;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Fixed-timestep game loop driven by a JavaFX {@link AnimationTimer}.
+ * Real elapsed time is accumulated every pulse and consumed in whole simulation ticks,
+ * after which the renderer is asked to interpolate between the last two simulated states.
+ * The number of ticks per pulse is capped so that a slow frame cannot snowball.
+ *
+ * <p>A threaded loop runs the ticks on a dedicated simulation thread with the same fixed-step
+ * accounting, and the timer only asks the renderer to draw, with the interpolation factor
+ * estimated from the time since the last tick. A slow tick then delays the simulation but never
+ * a pulse of the JavaFX thread.</p>
+ */
+public class GameLoop {
+
+    private final Runnable tickAction;
+    private final DoubleConsumer renderAction;
+    private final int maxTicksPerFrame;
+
+    private AnimationTimer timer;
+    private double accumulator;
+    private long lastFrameNanos = -1;
+    private volatile boolean running;
+    private volatile int pauseCount;
+    private volatile double timeScale = 1.0;
+    private boolean threaded;
+    private Thread simulationThread;
+    private volatile long lastSimulatedNanos;
+    private volatile double leftoverSeconds;
+    private volatile long lastTickNanos;
+    private volatile long maxTickNanos;
+    private volatile long totalTickNanos;
+    private volatile long timedTicks;
+
+    /**
+     * Constructs a {@code GameLoop}.
+     *
+     * @param tickAction   invoked once per fixed simulation tick
+     * @param renderAction invoked once per pulse with the interpolation factor in {@code [0, 1)}
+     */
+    public GameLoop(Runnable tickAction, DoubleConsumer renderAction) {
+        this(tickAction, renderAction, Constants.SIMULATION_MAX_TICKS_PER_FRAME);
+    }
+
+    /**
+     * Constructs a {@code GameLoop} with a custom catch-up cap.
+     *
+     * @param tickAction       invoked once per fixed simulation tick
+     * @param renderAction     invoked once per pulse with the interpolation factor in {@code [0, 1)}
+     * @param maxTicksPerFrame the maximum number of ticks simulated for a single pulse
+     */
+    public GameLoop(Runnable tickAction, DoubleConsumer renderAction, int maxTicksPerFrame) {
+        this.tickAction = tickAction;
+        this.renderAction = renderAction;
+        this.maxTicksPerFrame = maxTicksPerFrame;
+    }
+
+    /**
+     * Starts or resumes the loop. Time spent paused is not simulated.
+     */
+    public void play() {
+        if (running) {
+            return;
+        }
+        running = true;
+        lastFrameNanos = -1;
+        if (threaded) {
+            startSimulationThread();
+        }
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    onPulse(now);
+                }
+            };
+        }
+        timer.start();
+    }
+
+    /**
+     * Pauses the loop, keeping the partially accumulated tick. A threaded loop waits for the
+     * simulation thread to finish its tick, unless the tick itself paused the loop.
+     */
+    public void pause() {
+        running = false;
+        pauseCount++;
+        if (timer != null) {
+            if (threaded && !Platform.isFxApplicationThread()) {
+                Platform.runLater(() -> {
+                    if (!running) {
+                        timer.stop();
+                    }
+                });
+            } else {
+                timer.stop();
+            }
+        }
+        joinSimulationThread();
+    }
+
+    /**
+     * Stops the loop and discards any accumulated time.
+     */
+    public void stop() {
+        pause();
+        accumulator = 0;
+    }
+
+    /**
+     * Checks whether the loop is currently running.
+     *
+     * @return {@code true} if the loop is running; {@code false} otherwise
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Sets whether ticks run on a dedicated simulation thread instead of the JavaFX thread.
+     * Takes effect the next time the loop is started.
+     *
+     * @param threaded {@code true} to simulate on a separate thread
+     * @throws IllegalStateException if the loop is running
+     */
+    public void setThreaded(boolean threaded) {
+        if (running) {
+            throw new IllegalStateException("Cannot change threading while the loop is running");
+        }
+        this.threaded = threaded;
+    }
+
+    /**
+     * Checks whether ticks run on a dedicated simulation thread.
+     *
+     * @return {@code true} if the loop is threaded
+     */
+    public boolean isThreaded() {
+        return threaded;
+    }
+
+    /**
+     * Sets how fast simulated time passes relative to real time. The tick rate is unchanged;
+     * a scale of {@code 2} simply runs twice as many ticks per second, up to the catch-up cap.
+     *
+     * @param timeScale the speed multiplier
+     * @throws IllegalArgumentException if {@code timeScale} is not positive and finite
+     */
+    public void setTimeScale(double timeScale) {
+        if (!(timeScale > 0) || Double.isInfinite(timeScale)) {
+            throw new IllegalArgumentException("Time scale must be positive: " + timeScale);
+        }
+        this.timeScale = timeScale;
+    }
+
+    /**
+     * Gets the speed multiplier applied to real time.
+     *
+     * @return the time scale
+     */
+    public double getTimeScale() {
+        return timeScale;
+    }
+
+    /**
+     * Gets how long the most recent tick took.
+     *
+     * @return the duration in nanoseconds
+     */
+    public long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    /**
+     * Gets the longest tick since the loop was created.
+     *
+     * @return the duration in nanoseconds
+     */
+    public long getMaxTickNanos() {
+        return maxTickNanos;
+    }
+
+    /**
+     * Gets the mean tick duration since the loop was created.
+     *
+     * @return the duration in nanoseconds, or {@code 0} if no tick has run
+     */
+    public long getAverageTickNanos() {
+        long ticks = timedTicks;
+        return ticks == 0 ? 0 : totalTickNanos / ticks;
+    }
+
+    /**
+     * Records a tick's duration. Only the thread running the ticks writes the statistics; they
+     * are volatile so monitoring threads see values at most a tick stale.
+     */
+    private void recordTickTime(long nanos) {
+        lastTickNanos = nanos;
+        maxTickNanos = Math.max(maxTickNanos, nanos);
+        totalTickNanos += nanos;
+        timedTicks++;
+    }
+
+    /**
+     * Handles an animation pulse.
+     *
+     * @param now the pulse timestamp in nanoseconds
+     */
+    private void onPulse(long now) {
+        if (threaded) {
+            double elapsedSeconds = (System.nanoTime() - lastSimulatedNanos) / 1_000_000_000.0 * timeScale;
+            renderAction.accept(Math.min((leftoverSeconds + elapsedSeconds) / SimulationClock.getTickSeconds(), 1.0));
+            return;
+        }
+        if (lastFrameNanos < 0) {
+            lastFrameNanos = now;
+            return;
+        }
+        double elapsedSeconds = (now - lastFrameNanos) / 1_000_000_000.0;
+        lastFrameNanos = now;
+        advance(elapsedSeconds * timeScale);
+    }
+
+    /**
+     * Advances the simulation by the given amount of real time and renders the result.
+     * Frame times above {@link Constants#SIMULATION_MAX_FRAME_SECONDS} are clamped, and any
+     * backlog left after {@code maxTicksPerFrame} ticks is dropped instead of carried over.
+     * A tick that pauses the loop ends the call; the loop need not be running otherwise.
+     *
+     * @param elapsedSeconds the real time elapsed since the previous call
+     * @return the number of ticks simulated
+     */
+    public int advance(double elapsedSeconds) {
+        int ticks = simulate(elapsedSeconds);
+        renderAction.accept(accumulator / SimulationClock.getTickSeconds());
+        return ticks;
+    }
+
+    private int simulate(double elapsedSeconds) {
+        double tickSeconds = SimulationClock.getTickSeconds();
+        accumulator += Math.min(Math.max(elapsedSeconds, 0), Constants.SIMULATION_MAX_FRAME_SECONDS);
+
+        int pausesBefore = pauseCount;
+        int ticks = 0;
+        while (accumulator >= tickSeconds && ticks < maxTicksPerFrame && pauseCount == pausesBefore) {
+            long tickStart = System.nanoTime();
+            tickAction.run();
+            recordTickTime(System.nanoTime() - tickStart);
+            accumulator -= tickSeconds;
+            ticks++;
+        }
+        if (accumulator >= tickSeconds) {
+            accumulator %= tickSeconds;
+        }
+        return ticks;
+    }
+
+    private void startSimulationThread() {
+        joinSimulationThread();
+        lastSimulatedNanos = System.nanoTime();
+        leftoverSeconds = accumulator;
+        simulationThread = new Thread(this::runSimulation, "simulation");
+        simulationThread.setDaemon(true);
+        simulationThread.start();
+    }
+
+    /**
+     * Waits for the simulation thread to finish its current tick and exit, unless called from
+     * that thread, which exits by itself once it returns to the loop.
+     */
+    private void joinSimulationThread() {
+        Thread thread = simulationThread;
+        if (thread == null || thread == Thread.currentThread()) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        simulationThread = null;
+    }
+
+    /**
+     * Body of the simulation thread: runs the ticks that are due, then sleeps until the next
+     * one is, until the loop is paused or stopped.
+     */
+    private void runSimulation() {
+        long previousNanos = lastSimulatedNanos;
+        while (running) {
+            long now = System.nanoTime();
+            simulate((now - previousNanos) / 1_000_000_000.0 * timeScale);
+            previousNanos = now;
+            leftoverSeconds = accumulator;
+            lastSimulatedNanos = now;
+            double waitSeconds = (SimulationClock.getTickSeconds() - accumulator) / timeScale;
+            LockSupport.parkNanos((long) (waitSeconds * 1_000_000_000.0));
+        }
+    }
+}
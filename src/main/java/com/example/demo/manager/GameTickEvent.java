@@ -0,0 +1,94 @@
+package com.example.demo.manager;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event covering one simulation tick, with the time spent in each phase.
+ * Disabled by default; enable it in a recording with {@code com.example.demo.GameTick#enabled=true}.
+ */
+@Name("com.example.demo.GameTick")
+@Label("Game Tick")
+@Category({"Sky Battle", "Game Loop"})
+@Description("One fixed simulation step of the current level")
+@Enabled(false)
+@StackTrace(false)
+public class GameTickEvent extends jdk.jfr.Event {
+
+    @Label("Level")
+    String level;
+
+    @Label("Tick")
+    long tick;
+
+    @Label("Actors")
+    int actors;
+
+    @Label("Previous Positions")
+    @Timespan
+    long previousPositions;
+
+    @Label("Spawn")
+    @Timespan
+    long spawn;
+
+    @Label("Update Actors")
+    @Timespan
+    long updateActors;
+
+    @Label("Enemy Fire")
+    @Timespan
+    long enemyFire;
+
+    @Label("Despawn")
+    @Timespan
+    long despawn;
+
+    @Label("Capture Bounds")
+    @Timespan
+    long captureBounds;
+
+    @Label("Plane Collisions")
+    @Timespan
+    long planeCollisions;
+
+    @Label("User Projectile Collisions")
+    @Timespan
+    long userProjectileCollisions;
+
+    @Label("Enemy Projectile Collisions")
+    @Timespan
+    long enemyProjectileCollisions;
+
+    @Label("Removal")
+    @Timespan
+    long removal;
+
+    @Label("Game Over Check")
+    @Timespan
+    long gameOverCheck;
+
+    /**
+     * Copies the latest simulation phase durations from a profiler.
+     *
+     * @param profiler the profiler that timed the tick
+     */
+    void setPhases(TickProfiler profiler) {
+        previousPositions = profiler.getLastNanos(TickProfiler.Phase.PREVIOUS_POSITIONS);
+        spawn = profiler.getLastNanos(TickProfiler.Phase.SPAWN);
+        updateActors = profiler.getLastNanos(TickProfiler.Phase.UPDATE_ACTORS);
+        enemyFire = profiler.getLastNanos(TickProfiler.Phase.ENEMY_FIRE);
+        despawn = profiler.getLastNanos(TickProfiler.Phase.DESPAWN);
+        captureBounds = profiler.getLastNanos(TickProfiler.Phase.CAPTURE_BOUNDS);
+        planeCollisions = profiler.getLastNanos(TickProfiler.Phase.PLANE_COLLISIONS);
+        userProjectileCollisions = profiler.getLastNanos(TickProfiler.Phase.USER_PROJECTILE_COLLISIONS);
+        enemyProjectileCollisions = profiler.getLastNanos(TickProfiler.Phase.ENEMY_PROJECTILE_COLLISIONS);
+        removal = profiler.getLastNanos(TickProfiler.Phase.REMOVAL);
+        gameOverCheck = profiler.getLastNanos(TickProfiler.Phase.GAME_OVER_CHECK);
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.demo.manager;
+
+import com.example.demo.controller.Controller;
+import com.example.demo.utilities.Constants;
+import com.example.demo.utilities.GameRandom;
+import com.example.demo.utilities.SimulationClock;
+
+import java.util.function.Consumer;
+
+/**
+ * Steps a level's simulation without a {@code Stage}, scene or animation timer.
+ * Ticks run back to back, so a level can be simulated many times faster than real time,
+ * for example to soak-test gameplay or to measure the cost of a tick. Levels are created with a
+ * fixed seed, so two runs with the same seed and the same tick listener play out identically.
+ */
+public class HeadlessRunner {
+
+    private final String levelClassName;
+    private final double screenWidth;
+    private final double screenHeight;
+    private long seed = GameRandom.newSeed();
+    private Consumer<LevelManager> tickListener = level -> { };
+    private InputScript inputScript = InputScript.NONE;
+
+    /**
+     * Constructs a {@code HeadlessRunner} for a level at the default screen size.
+     *
+     * @param levelClassName the fully qualified class name of the level
+     */
+    public HeadlessRunner(String levelClassName) {
+        this(levelClassName, Constants.SCREEN_WIDTH, Constants.SCREEN_HEIGHT);
+    }
+
+    /**
+     * Constructs a {@code HeadlessRunner} for a level.
+     *
+     * @param levelClassName the fully qualified class name of the level
+     * @param screenWidth    the width of the playfield
+     * @param screenHeight   the height of the playfield
+     */
+    public HeadlessRunner(String levelClassName, double screenWidth, double screenHeight) {
+        this.levelClassName = levelClassName;
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+    }
+
+    /**
+     * Sets the seed used for levels created by this runner.
+     *
+     * @param seed the seed for all gameplay randomness
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Gets the seed used for levels created by this runner.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Sets the input applied before every tick, for example a recorded {@link InputReplay}.
+     * The script receives the index of the tick about to run.
+     *
+     * @param inputScript the scripted input
+     */
+    public void setInputScript(InputScript inputScript) {
+        this.inputScript = inputScript;
+    }
+
+    /**
+     * Sets a callback invoked after every tick, for example to feed input or record state.
+     *
+     * @param tickListener the callback receiving the running level
+     */
+    public void setTickListener(Consumer<LevelManager> tickListener) {
+        this.tickListener = tickListener;
+    }
+
+    /**
+     * Creates a headless instance of the configured level, ready to tick.
+     *
+     * @return the new level
+     * @throws IllegalArgumentException if the level class cannot be instantiated headless
+     */
+    public LevelManager createLevel() {
+        try {
+            Class<?> levelClass = Class.forName(levelClassName);
+            LevelManager level = (LevelManager) levelClass
+                    .getConstructor(double.class, double.class, Controller.class, boolean.class, long.class)
+                    .newInstance(screenHeight, screenWidth, null, true, seed);
+            level.initializeSimulation();
+            return level;
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalArgumentException("Cannot create headless level " + levelClassName, e);
+        }
+    }
+
+    /**
+     * Runs a fresh level until it ends or the tick limit is reached.
+     *
+     * @param maxTicks the maximum number of ticks to simulate
+     * @return a summary of the run
+     */
+    public Result run(long maxTicks) {
+        return run(createLevel(), maxTicks);
+    }
+
+    /**
+     * Runs an existing headless level until it ends or the tick limit is reached.
+     *
+     * @param level    the level to step
+     * @param maxTicks the maximum number of ticks to simulate
+     * @return a summary of the run
+     */
+    public Result run(LevelManager level, long maxTicks) {
+        long start = System.nanoTime();
+        long ticks = 0;
+        while (ticks < maxTicks && level.getOutcome() == LevelManager.Outcome.IN_PROGRESS) {
+            inputScript.apply(level, level.getTickCount());
+            level.tick();
+            tickListener.accept(level);
+            ticks++;
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        return new Result(level.getRandom().getSeed(), ticks, level.getOutcome(), level.getUser().getNumberOfKills(),
+                level.getUser().getHealth(), elapsedNanos);
+    }
+
+    /**
+     * Runs a level headless from the command line.
+     * Arguments are the level class name, the tick limit and the seed, all optional.
+     *
+     * @param args the command-line arguments
+     */
+    public static void main(String[] args) {
+        String levelClassName = args.length > 0 ? args[0] : "com.example.demo.levels.LevelOne";
+        long maxTicks = args.length > 1 ? Long.parseLong(args[1]) : 100_000;
+        HeadlessRunner runner = new HeadlessRunner(levelClassName);
+        if (args.length > 2) {
+            runner.setSeed(Long.parseLong(args[2]));
+        }
+        System.out.println(runner.run(maxTicks));
+    }
+
+    /**
+     * Summary of a headless run.
+     */
+    public static final class Result {
+
+        private final long seed;
+        private final long ticks;
+        private final LevelManager.Outcome outcome;
+        private final int kills;
+        private final int userHealth;
+        private final long elapsedNanos;
+
+        private Result(long seed, long ticks, LevelManager.Outcome outcome, int kills, int userHealth, long elapsedNanos) {
+            this.seed = seed;
+            this.ticks = ticks;
+            this.outcome = outcome;
+            this.kills = kills;
+            this.userHealth = userHealth;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Gets the seed the level was created with.
+         *
+         * @return the seed
+         */
+        public long getSeed() {
+            return seed;
+        }
+
+        /**
+         * Gets the number of ticks simulated.
+         *
+         * @return the tick count
+         */
+        public long getTicks() {
+            return ticks;
+        }
+
+        /**
+         * Gets how the level ended.
+         *
+         * @return the outcome, {@link LevelManager.Outcome#IN_PROGRESS} if the tick limit was hit
+         */
+        public LevelManager.Outcome getOutcome() {
+            return outcome;
+        }
+
+        /**
+         * Gets the player's kill count at the end of the run.
+         *
+         * @return the number of kills
+         */
+        public int getKills() {
+            return kills;
+        }
+
+        /**
+         * Gets the player's health at the end of the run.
+         *
+         * @return the remaining health
+         */
+        public int getUserHealth() {
+            return userHealth;
+        }
+
+        /**
+         * Gets the wall-clock time spent simulating.
+         *
+         * @return the elapsed time in nanoseconds
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Gets how many times faster than real time the run was simulated.
+         *
+         * @return the ratio of simulated time to wall-clock time
+         */
+        public double getSpeedup() {
+            double simulatedNanos = ticks * 1_000_000_000.0 / SimulationClock.getTicksPerSecond();
+            return elapsedNanos > 0 ? simulatedNanos / elapsedNanos : Double.POSITIVE_INFINITY;
+        }
+
+        @Override
+        public String toString() {
+            return "Result[seed=" + seed + ", ticks=" + ticks + ", outcome=" + outcome + ", kills=" + kills
+                    + ", userHealth=" + userHealth + ", elapsedMillis=" + elapsedNanos / 1_000_000
+                    + ", speedup=" + String.format("%.1f", getSpeedup()) + "x]";
+        }
+    }
+}
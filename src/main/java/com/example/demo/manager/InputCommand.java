@@ -0,0 +1,16 @@
+package com.example.demo.manager;
+
+/**
+ * A player command issued through {@link InputManager}. Commands are what a replay records:
+ * they fully describe how the player influenced the simulation, independently of key bindings.
+ */
+public enum InputCommand {
+    MOVE_UP,
+    MOVE_DOWN,
+    MOVE_LEFT,
+    MOVE_RIGHT,
+    STOP_VERTICAL,
+    STOP_HORIZONTAL,
+    FIRE,
+    PAUSE
+}
@@ -4,16 +4,42 @@ import com.example.demo.models.UserPlane;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 public class InputManager {
 
     private final UserPlane user;
     private final Runnable fireProjectileAction;
     private final Runnable togglePauseAction;
+    private final Runnable toggleProfilerAction;
+    private Runnable saveReplayAction = () -> { };
+    private Runnable quickSaveAction = () -> { };
+    private Runnable quickLoadAction = () -> { };
+    private Runnable startRewindAction = () -> { };
+    private Runnable stopRewindAction = () -> { };
+    private InputRecorder recorder;
+    private Queue<InputCommand> pendingCommands;
+    private final AtomicBoolean pendingPauseRecord = new AtomicBoolean();
 
     public InputManager(UserPlane user, Runnable fireProjectileAction, Runnable togglePauseAction) {
+        this(user, fireProjectileAction, togglePauseAction, () -> { });
+    }
+
+    /**
+     * Constructs an {@code InputManager} that also binds the profiler overlay toggle.
+     *
+     * @param user                 the player's plane
+     * @param fireProjectileAction action run when the fire key is pressed
+     * @param togglePauseAction    action run when the pause key is pressed
+     * @param toggleProfilerAction action run when the profiler key ({@code F3}) is pressed
+     */
+    public InputManager(UserPlane user, Runnable fireProjectileAction, Runnable togglePauseAction, Runnable toggleProfilerAction) {
         this.user = user;
         this.fireProjectileAction = fireProjectileAction;
         this.togglePauseAction = togglePauseAction;
+        this.toggleProfilerAction = toggleProfilerAction;
     }
 
     public void initializeInputHandlers(ImageView background) {
@@ -22,19 +48,138 @@ public class InputManager {
         background.setOnKeyPressed(e -> {
             KeyCode kc = e.getCode();
             switch (kc) {
-                case UP -> user.moveUp();
-                case DOWN -> user.moveDown();
-                case LEFT -> user.moveLeft();
-                case RIGHT -> user.moveRight();
-                case SPACE -> fireProjectileAction.run();
-                case ESCAPE -> togglePauseAction.run();
+                case UP -> execute(InputCommand.MOVE_UP);
+                case DOWN -> execute(InputCommand.MOVE_DOWN);
+                case LEFT -> execute(InputCommand.MOVE_LEFT);
+                case RIGHT -> execute(InputCommand.MOVE_RIGHT);
+                case SPACE -> execute(InputCommand.FIRE);
+                case ESCAPE -> execute(InputCommand.PAUSE);
+                case F3 -> toggleProfilerAction.run();
+                case F5 -> quickSaveAction.run();
+                case F8 -> quickLoadAction.run();
+                case F9 -> saveReplayAction.run();
+                case R -> startRewindAction.run();
             }
         });
 
         background.setOnKeyReleased(e -> {
             KeyCode kc = e.getCode();
-            if (kc == KeyCode.UP || kc == KeyCode.DOWN) user.stop();
-            if (kc == KeyCode.LEFT || kc == KeyCode.RIGHT) user.stopHorizontal();
+            if (kc == KeyCode.UP || kc == KeyCode.DOWN) execute(InputCommand.STOP_VERTICAL);
+            if (kc == KeyCode.LEFT || kc == KeyCode.RIGHT) execute(InputCommand.STOP_HORIZONTAL);
+            if (kc == KeyCode.R) stopRewindAction.run();
         });
     }
+
+    /**
+     * Starts recording every command issued from now on.
+     *
+     * @param recorder the recorder receiving the commands, or {@code null} to stop recording
+     */
+    public void setRecorder(InputRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Gets the recorder receiving commands.
+     *
+     * @return the recorder, or {@code null} if input is not being recorded
+     */
+    public InputRecorder getRecorder() {
+        return recorder;
+    }
+
+    /**
+     * Sets the action run when the save-replay key ({@code F9}) is pressed.
+     *
+     * @param saveReplayAction the action
+     */
+    public void setSaveReplayAction(Runnable saveReplayAction) {
+        this.saveReplayAction = saveReplayAction;
+    }
+
+    /**
+     * Sets the actions run when the quick-save ({@code F5}) and quick-load ({@code F8}) keys are pressed.
+     *
+     * @param quickSaveAction the action that saves the level state
+     * @param quickLoadAction the action that restores the saved level state
+     */
+    public void setSaveStateActions(Runnable quickSaveAction, Runnable quickLoadAction) {
+        this.quickSaveAction = quickSaveAction;
+        this.quickLoadAction = quickLoadAction;
+    }
+
+    /**
+     * Sets the actions run when the rewind key ({@code R}) is pressed and released.
+     * The press action also runs on key repeat while the key is held.
+     *
+     * @param startRewindAction the action that starts running the level backwards
+     * @param stopRewindAction  the action that resumes normal play
+     */
+    public void setRewindActions(Runnable startRewindAction, Runnable stopRewindAction) {
+        this.startRewindAction = startRewindAction;
+        this.stopRewindAction = stopRewindAction;
+    }
+
+    /**
+     * Sets whether gameplay commands are queued for {@link #executePending()} instead of carried
+     * out at once, for when the simulation runs on its own thread. Pausing is never queued.
+     *
+     * @param deferred {@code true} to queue commands
+     */
+    public void setDeferred(boolean deferred) {
+        pendingCommands = deferred ? new ConcurrentLinkedQueue<>() : null;
+    }
+
+    /**
+     * Carries out every queued command in the order it was issued, and records any pause
+     * requested since the last call. Called by the simulation thread before each tick.
+     */
+    public void executePending() {
+        Queue<InputCommand> commands = pendingCommands;
+        if (commands == null) {
+            return;
+        }
+        if (pendingPauseRecord.getAndSet(false) && recorder != null) {
+            recorder.record(InputCommand.PAUSE);
+        }
+        for (InputCommand command = commands.poll(); command != null; command = commands.poll()) {
+            perform(command);
+        }
+    }
+
+    /**
+     * Records a command if recording is on, then carries it out. While deferred, gameplay
+     * commands are queued instead, and a pause takes effect at once but is recorded by the
+     * simulation thread, which owns the recorder. Paused time runs no ticks, so the pause is
+     * still stamped with the tick it was requested before.
+     *
+     * @param command the command to carry out
+     */
+    public void execute(InputCommand command) {
+        Queue<InputCommand> commands = pendingCommands;
+        if (commands == null) {
+            perform(command);
+        } else if (command == InputCommand.PAUSE) {
+            pendingPauseRecord.set(true);
+            togglePauseAction.run();
+        } else {
+            commands.offer(command);
+        }
+    }
+
+    private void perform(InputCommand command) {
+        if (recorder != null) {
+            recorder.record(command);
+        }
+        switch (command) {
+            case MOVE_UP -> user.moveUp();
+            case MOVE_DOWN -> user.moveDown();
+            case MOVE_LEFT -> user.moveLeft();
+            case MOVE_RIGHT -> user.moveRight();
+            case STOP_VERTICAL -> user.stop();
+            case STOP_HORIZONTAL -> user.stopHorizontal();
+            case FIRE -> fireProjectileAction.run();
+            case PAUSE -> togglePauseAction.run();
+        }
+    }
 }
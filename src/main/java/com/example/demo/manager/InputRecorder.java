@@ -0,0 +1,136 @@
+package com.example.demo.manager;
+
+import com.example.demo.utilities.Constants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Collects the player's commands into an {@link InputReplay}.
+ * Commands are stamped with the tick about to run. All commands issued before the same tick
+ * are folded into one frame holding the resulting movement state plus any fire or pause
+ * request, and a frame is only stored when something changed, so held keys cost nothing.
+ * The level hands the recorder a keyframe every {@link Constants#REPLAY_KEYFRAME_INTERVAL_TICKS}
+ * ticks, so a saved replay can seek without simulating the whole run again.
+ */
+public class InputRecorder {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final String levelClassName;
+    private final long seed;
+    private final int ticksPerSecond;
+    private final LongSupplier tickSource;
+
+    private long[] frameTicks = new long[INITIAL_CAPACITY];
+    private byte[] frameMasks = new byte[INITIAL_CAPACITY];
+    private int frameCount;
+    private int movementMask;
+    private int recordedMovementMask;
+    private long pendingTick = -1;
+    private int pendingMask;
+    private final List<Long> keyframeTicks = new ArrayList<>();
+    private final List<byte[]> keyframes = new ArrayList<>();
+
+    /**
+     * Constructs an {@code InputRecorder}.
+     *
+     * @param levelClassName the fully qualified class name of the recorded level
+     * @param seed           the level's random seed
+     * @param ticksPerSecond the simulation tick rate the level runs at
+     * @param tickSource     supplies the index of the tick about to run
+     */
+    public InputRecorder(String levelClassName, long seed, int ticksPerSecond, LongSupplier tickSource) {
+        this.levelClassName = levelClassName;
+        this.seed = seed;
+        this.ticksPerSecond = ticksPerSecond;
+        this.tickSource = tickSource;
+    }
+
+    /**
+     * Records a command issued before the current tick.
+     *
+     * @param command the command
+     */
+    public void record(InputCommand command) {
+        long tick = tickSource.getAsLong();
+        if (tick != pendingTick) {
+            flush();
+            pendingTick = tick;
+            pendingMask = 0;
+        }
+        switch (command) {
+            case MOVE_UP -> movementMask = (movementMask & ~InputReplay.VERTICAL) | InputReplay.UP;
+            case MOVE_DOWN -> movementMask = (movementMask & ~InputReplay.VERTICAL) | InputReplay.DOWN;
+            case MOVE_LEFT -> movementMask = (movementMask & ~InputReplay.HORIZONTAL) | InputReplay.LEFT;
+            case MOVE_RIGHT -> movementMask = (movementMask & ~InputReplay.HORIZONTAL) | InputReplay.RIGHT;
+            case STOP_VERTICAL -> movementMask &= ~InputReplay.VERTICAL;
+            case STOP_HORIZONTAL -> movementMask &= ~InputReplay.HORIZONTAL;
+            case FIRE -> pendingMask |= InputReplay.FIRE;
+            case PAUSE -> pendingMask |= InputReplay.PAUSE;
+        }
+    }
+
+    /**
+     * Captures a keyframe of the recorded level if its tick count falls on the keyframe interval.
+     * Call it after every tick, on the thread that runs the ticks.
+     *
+     * @param level the recorded level
+     */
+    public void captureKeyframe(LevelManager level) {
+        long tick = level.getTickCount();
+        if (tick % Constants.REPLAY_KEYFRAME_INTERVAL_TICKS != 0
+                || (!keyframeTicks.isEmpty() && tick <= keyframeTicks.get(keyframeTicks.size() - 1))) {
+            return;
+        }
+        keyframeTicks.add(tick);
+        keyframes.add(LevelSnapshot.capture(level, Constants.SNAPSHOT_COMPRESSION_LEVEL).toByteArray());
+    }
+
+    /**
+     * Gets the number of frames stored so far, not counting commands for the current tick.
+     *
+     * @return the frame count
+     */
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Builds a replay of everything recorded up to the current tick, with the keyframes captured
+     * so far. Recording may continue afterwards; later calls return longer replays.
+     *
+     * @return the replay
+     */
+    public InputReplay toReplay() {
+        flush();
+        return new InputReplay(levelClassName, seed, ticksPerSecond,
+                Arrays.copyOf(frameTicks, frameCount), Arrays.copyOf(frameMasks, frameCount),
+                tickSource.getAsLong(), keyframeTicks.stream().mapToLong(Long::longValue).toArray(),
+                keyframes.toArray(new byte[0][]));
+    }
+
+    /**
+     * Stores the pending frame if it changes the movement state or carries a one-off request.
+     */
+    private void flush() {
+        if (pendingTick < 0) {
+            return;
+        }
+        int mask = pendingMask | movementMask;
+        if (movementMask != recordedMovementMask || pendingMask != 0) {
+            if (frameCount == frameTicks.length) {
+                frameTicks = Arrays.copyOf(frameTicks, frameCount * 2);
+                frameMasks = Arrays.copyOf(frameMasks, frameCount * 2);
+            }
+            frameTicks[frameCount] = pendingTick;
+            frameMasks[frameCount] = (byte) mask;
+            frameCount++;
+            recordedMovementMask = movementMask;
+        }
+        pendingTick = -1;
+        pendingMask = 0;
+    }
+}
@@ -0,0 +1,577 @@
+package com.example.demo.manager;
+
+import com.example.demo.models.UserPlane;
+import com.example.demo.utilities.Constants;
+import com.example.demo.utilities.SimulationClock;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A recorded run of one level: its seed, tick rate and the player's input, tick by tick.
+ * Because every random decision comes from the seed and input is applied at tick boundaries,
+ * playing a replay back into a fresh level reproduces the original run exactly.
+ *
+ * <p>The binary format is a short header followed by one frame per tick on which the input
+ * changed. Each frame is the tick delta from the previous frame as an unsigned variable-length
+ * integer and a one-byte mask, so an idle second costs nothing and a key press about two bytes.
+ * Pause requests are stored for context only; paused time runs no ticks, so playback skips them.</p>
+ *
+ * <p>Since version 2 a replay may also carry keyframes: compressed {@link LevelSnapshot}s taken
+ * every few hundred ticks. They follow the frames back to back, and an index footer listing each
+ * keyframe's tick and length, then the footer's length and the magic number, ends the file.
+ * {@link #seek(long)} restores the last keyframe at or before the target and only simulates the
+ * remaining ticks, and a replay loaded from a file reads just that keyframe through the index.
+ * Version 1 files, which have no keyframes, are still read.</p>
+ */
+public class InputReplay {
+
+    static final int UP = 1;
+    static final int DOWN = 1 << 1;
+    static final int LEFT = 1 << 2;
+    static final int RIGHT = 1 << 3;
+    static final int FIRE = 1 << 4;
+    static final int PAUSE = 1 << 5;
+    static final int VERTICAL = UP | DOWN;
+    static final int HORIZONTAL = LEFT | RIGHT;
+
+    private static final int MAGIC = 0x53425250; // "SBRP"
+    private static final int VERSION = 2;
+    private static final int FIRST_KEYFRAME_VERSION = 2;
+    private static final int TRAILER_LENGTH = 8;
+    private static final long[] NO_KEYFRAMES = new long[0];
+
+    private final String levelClassName;
+    private final long seed;
+    private final int ticksPerSecond;
+    private final long[] frameTicks;
+    private final byte[] frameMasks;
+    private final long endTick;
+    private final long[] keyframeTicks;
+    private final KeyframeSource keyframes;
+
+    InputReplay(String levelClassName, long seed, int ticksPerSecond, long[] frameTicks, byte[] frameMasks, long endTick) {
+        this(levelClassName, seed, ticksPerSecond, frameTicks, frameMasks, endTick, NO_KEYFRAMES, index -> {
+            throw new IndexOutOfBoundsException("Replay has no keyframes");
+        });
+    }
+
+    InputReplay(String levelClassName, long seed, int ticksPerSecond, long[] frameTicks, byte[] frameMasks, long endTick,
+                long[] keyframeTicks, byte[][] keyframeData) {
+        this(levelClassName, seed, ticksPerSecond, frameTicks, frameMasks, endTick, keyframeTicks, index -> keyframeData[index]);
+    }
+
+    private InputReplay(String levelClassName, long seed, int ticksPerSecond, long[] frameTicks, byte[] frameMasks,
+                        long endTick, long[] keyframeTicks, KeyframeSource keyframes) {
+        this.levelClassName = levelClassName;
+        this.seed = seed;
+        this.ticksPerSecond = ticksPerSecond;
+        this.frameTicks = frameTicks;
+        this.frameMasks = frameMasks;
+        this.endTick = endTick;
+        this.keyframeTicks = keyframeTicks;
+        this.keyframes = keyframes;
+    }
+
+    /**
+     * Gets the class name of the recorded level.
+     *
+     * @return the fully qualified level class name
+     */
+    public String getLevelClassName() {
+        return levelClassName;
+    }
+
+    /**
+     * Gets the seed the recorded level was created with.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the simulation tick rate of the recording.
+     *
+     * @return the ticks per second
+     */
+    public int getTicksPerSecond() {
+        return ticksPerSecond;
+    }
+
+    /**
+     * Gets the number of ticks the recording covers.
+     *
+     * @return the tick count
+     */
+    public long getEndTick() {
+        return endTick;
+    }
+
+    /**
+     * Gets the number of stored input frames.
+     *
+     * @return the frame count
+     */
+    public int getFrameCount() {
+        return frameTicks.length;
+    }
+
+    /**
+     * Gets the number of stored keyframes.
+     *
+     * @return the keyframe count
+     */
+    public int getKeyframeCount() {
+        return keyframeTicks.length;
+    }
+
+    /**
+     * Gets the tick a keyframe was captured at.
+     *
+     * @param index the keyframe index, in tick order
+     * @return the tick
+     */
+    public long getKeyframeTick(int index) {
+        return keyframeTicks[index];
+    }
+
+    /**
+     * Gets a stored keyframe.
+     *
+     * @param index the keyframe index, in tick order
+     * @return the snapshot
+     * @throws IOException if the keyframe cannot be read
+     */
+    public LevelSnapshot getKeyframe(int index) throws IOException {
+        return LevelSnapshot.fromByteArray(keyframes.load(index));
+    }
+
+    /**
+     * Creates a copy of this replay with keyframes at the default interval and compression.
+     *
+     * @return the keyframed replay
+     */
+    public InputReplay withKeyframes() {
+        return withKeyframes(Constants.REPLAY_KEYFRAME_INTERVAL_TICKS, Constants.SNAPSHOT_COMPRESSION_LEVEL);
+    }
+
+    /**
+     * Creates a copy of this replay with a keyframe every {@code intervalTicks} ticks, made by
+     * playing the replay headless. Shorter intervals make seeking faster and files larger.
+     * The whole run is simulated again, so a live level should not call this; its recorder
+     * captures keyframes as the level plays.
+     *
+     * @param intervalTicks    the number of ticks between keyframes
+     * @param compressionLevel the {@link java.util.zip.Deflater} level for the keyframes, from 0 to 9
+     * @return the keyframed replay
+     * @throws IllegalArgumentException if the interval is not positive or the compression level is out of range
+     * @throws IllegalStateException if the simulation clock runs at another tick rate
+     */
+    public InputReplay withKeyframes(int intervalTicks, int compressionLevel) {
+        if (intervalTicks <= 0) {
+            throw new IllegalArgumentException("Keyframe interval must be positive: " + intervalTicks);
+        }
+        checkTickRate();
+        List<Long> ticks = new ArrayList<>();
+        List<byte[]> snapshots = new ArrayList<>();
+        HeadlessRunner runner = new HeadlessRunner(levelClassName);
+        runner.setSeed(seed);
+        runner.setInputScript(player());
+        runner.setTickListener(level -> {
+            if (level.getTickCount() % intervalTicks == 0) {
+                ticks.add(level.getTickCount());
+                snapshots.add(LevelSnapshot.capture(level, compressionLevel).toByteArray());
+            }
+        });
+        runner.run(endTick);
+        return new InputReplay(levelClassName, seed, ticksPerSecond, frameTicks, frameMasks, endTick,
+                ticks.stream().mapToLong(Long::longValue).toArray(), snapshots.toArray(new byte[0][]));
+    }
+
+    /**
+     * Recreates the replayed level as it was at a tick. The last keyframe at or before the tick is
+     * restored and the remaining ticks are simulated with the recorded input, so the cost is at
+     * most one keyframe interval regardless of the tick.
+     *
+     * @param tick the tick to seek to, between zero and {@link #getEndTick()}
+     * @return a headless level that has run {@code tick} ticks, or fewer if the run ended earlier
+     * @throws IOException if a keyframe cannot be read
+     * @throws IllegalArgumentException if the tick is outside the replay
+     * @throws IllegalStateException if the simulation clock runs at another tick rate
+     */
+    public LevelManager seek(long tick) throws IOException {
+        if (tick < 0 || tick > endTick) {
+            throw new IllegalArgumentException("Tick " + tick + " is outside the replay [0, " + endTick + "]");
+        }
+        checkTickRate();
+        HeadlessRunner runner = new HeadlessRunner(levelClassName);
+        runner.setSeed(seed);
+        LevelManager level = runner.createLevel();
+        int keyframe = Arrays.binarySearch(keyframeTicks, tick);
+        if (keyframe < 0) {
+            keyframe = -keyframe - 2;
+        }
+        if (keyframe >= 0) {
+            getKeyframe(keyframe).restore(level);
+        }
+        runner.setInputScript(player());
+        runner.run(level, tick - level.getTickCount());
+        return level;
+    }
+
+    /**
+     * Creates a script that feeds this replay's input into a level. Each script keeps its own
+     * position, so one replay can be played any number of times.
+     *
+     * @return a script to apply before every tick, starting from tick zero
+     */
+    public InputScript player() {
+        return new InputScript() {
+            private int cursor;
+
+            @Override
+            public void apply(LevelManager level, long tick) {
+                while (cursor < frameTicks.length && frameTicks[cursor] < tick) {
+                    cursor++;
+                }
+                while (cursor < frameTicks.length && frameTicks[cursor] == tick) {
+                    applyFrame(level, frameMasks[cursor++]);
+                }
+            }
+        };
+    }
+
+    /**
+     * Plays the replay headless into the level it was recorded in.
+     *
+     * @return the outcome of the replayed run
+     * @throws IllegalStateException if the simulation clock runs at another tick rate
+     */
+    public HeadlessRunner.Result play() {
+        return play(levelClassName);
+    }
+
+    /**
+     * Plays the replay headless into any level, with the recorded seed. The simulation clock must
+     * already run at the recorded tick rate.
+     *
+     * @param levelClassName the fully qualified class name of the level to drive
+     * @return the outcome of the replayed run
+     * @throws IllegalStateException if the simulation clock runs at another tick rate
+     */
+    public HeadlessRunner.Result play(String levelClassName) {
+        checkTickRate();
+        HeadlessRunner runner = new HeadlessRunner(levelClassName);
+        runner.setSeed(seed);
+        runner.setInputScript(player());
+        return runner.run(endTick);
+    }
+
+    /**
+     * Rejects playback at a tick rate other than the recording's. Actors read the rate from the
+     * shared {@link SimulationClock}, so a mismatched replay would diverge, and changing the clock
+     * here would also change it for any level running alongside.
+     */
+    private void checkTickRate() {
+        if (SimulationClock.getTicksPerSecond() != ticksPerSecond) {
+            throw new IllegalStateException("Replay was recorded at " + ticksPerSecond + " ticks per second, not "
+                    + SimulationClock.getTicksPerSecond());
+        }
+    }
+
+    /**
+     * Writes the replay in its binary format.
+     *
+     * @param out the destination; it is flushed but not closed
+     * @throws IOException if writing fails
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeUTF(levelClassName);
+        data.writeLong(seed);
+        writeVarLong(data, ticksPerSecond);
+        writeVarLong(data, endTick);
+        writeVarLong(data, frameTicks.length);
+        long previousTick = 0;
+        for (int i = 0; i < frameTicks.length; i++) {
+            writeVarLong(data, frameTicks[i] - previousTick);
+            data.writeByte(frameMasks[i]);
+            previousTick = frameTicks[i];
+        }
+
+        ByteArrayOutputStream footerBytes = new ByteArrayOutputStream();
+        DataOutputStream footer = new DataOutputStream(footerBytes);
+        writeVarLong(footer, keyframeTicks.length);
+        long previousKeyframe = 0;
+        for (int i = 0; i < keyframeTicks.length; i++) {
+            byte[] keyframe = keyframes.load(i);
+            data.write(keyframe);
+            writeVarLong(footer, keyframeTicks[i] - previousKeyframe);
+            writeVarLong(footer, keyframe.length);
+            previousKeyframe = keyframeTicks[i];
+        }
+        footerBytes.writeTo(data);
+        data.writeInt(footerBytes.size());
+        data.writeInt(MAGIC);
+        data.flush();
+    }
+
+    /**
+     * Reads a replay written by {@link #write(OutputStream)}.
+     *
+     * @param in the source
+     * @return the replay
+     * @throws IOException if reading fails or the data is not a replay
+     */
+    public static InputReplay read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        int version = readVersion(data);
+        InputReplay replay = readFrames(data);
+        if (version < FIRST_KEYFRAME_VERSION) {
+            return replay;
+        }
+        byte[] rest = data.readAllBytes();
+        if (rest.length < TRAILER_LENGTH) {
+            throw new EOFException("Replay is truncated");
+        }
+        ByteBuffer trailer = ByteBuffer.wrap(rest, rest.length - TRAILER_LENGTH, TRAILER_LENGTH);
+        int footerLength = trailer.getInt();
+        if (trailer.getInt() != MAGIC || footerLength < 0 || footerLength > rest.length - TRAILER_LENGTH) {
+            throw new IOException("Replay index is missing");
+        }
+        int footerStart = rest.length - TRAILER_LENGTH - footerLength;
+        KeyframeIndex index = KeyframeIndex.read(Arrays.copyOfRange(rest, footerStart, footerStart + footerLength));
+        if (index.sectionLength != footerStart) {
+            throw new IOException("Replay index does not match its keyframes");
+        }
+        return replay.withKeyframeSource(index.ticks,
+                i -> Arrays.copyOfRange(rest, (int) index.offsets[i], (int) (index.offsets[i] + index.lengths[i])));
+    }
+
+    private static int readVersion(DataInputStream data) throws IOException {
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        int version = data.readUnsignedByte();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+        return version;
+    }
+
+    /**
+     * Reads the header and input frames that follow the version byte.
+     */
+    private static InputReplay readFrames(DataInputStream data) throws IOException {
+        String levelClassName = data.readUTF();
+        long seed = data.readLong();
+        int ticksPerSecond = (int) readVarLong(data);
+        long endTick = readVarLong(data);
+        long frameCount = readVarLong(data);
+        if (frameCount > Integer.MAX_VALUE) {
+            throw new IOException("Replay has too many frames: " + frameCount);
+        }
+        long[] frameTicks = new long[(int) frameCount];
+        byte[] frameMasks = new byte[(int) frameCount];
+        long tick = 0;
+        for (int i = 0; i < frameCount; i++) {
+            tick += readVarLong(data);
+            frameTicks[i] = tick;
+            frameMasks[i] = data.readByte();
+        }
+        return new InputReplay(levelClassName, seed, ticksPerSecond, frameTicks, frameMasks, endTick);
+    }
+
+    /**
+     * Writes the replay to a file, creating parent directories as needed.
+     *
+     * @param file the destination
+     * @throws IOException if writing fails
+     */
+    public void save(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            write(out);
+        }
+    }
+
+    /**
+     * Reads a replay from a file.
+     *
+     * @param file the source
+     * @return the replay
+     * @throws IOException if reading fails or the file is not a replay
+     */
+    public static InputReplay load(Path file) throws IOException {
+        InputReplay replay;
+        int version;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            version = readVersion(in);
+            replay = readFrames(in);
+        }
+        if (version < FIRST_KEYFRAME_VERSION) {
+            return replay;
+        }
+
+        long fileLength = Files.size(file);
+        ByteBuffer trailer = readRange(file, fileLength - TRAILER_LENGTH, TRAILER_LENGTH);
+        int footerLength = trailer.getInt();
+        if (trailer.getInt() != MAGIC || footerLength < 0 || footerLength > fileLength - TRAILER_LENGTH) {
+            throw new IOException("Replay index is missing");
+        }
+        long footerStart = fileLength - TRAILER_LENGTH - footerLength;
+        KeyframeIndex index = KeyframeIndex.read(readRange(file, footerStart, footerLength).array());
+        long sectionStart = footerStart - index.sectionLength;
+        if (sectionStart < 0) {
+            throw new IOException("Replay index does not match its keyframes");
+        }
+        return replay.withKeyframeSource(index.ticks,
+                i -> readRange(file, sectionStart + index.offsets[i], index.lengths[i]).array());
+    }
+
+    private InputReplay withKeyframeSource(long[] keyframeTicks, KeyframeSource keyframes) {
+        return new InputReplay(levelClassName, seed, ticksPerSecond, frameTicks, frameMasks, endTick, keyframeTicks, keyframes);
+    }
+
+    private static ByteBuffer readRange(Path file, long position, int length) throws IOException {
+        if (position < 0) {
+            throw new EOFException("Replay is truncated");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new EOFException("Replay is truncated");
+                }
+            }
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Plays a replay file headless and prints the outcome.
+     * Arguments: replay path, then optionally a level class name to play it into.
+     *
+     * @param args the command-line arguments
+     * @throws IOException if the replay cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        InputReplay replay = load(Path.of(args[0]));
+        System.out.println(args.length > 1 ? replay.play(args[1]) : replay.play());
+    }
+
+    private static void applyFrame(LevelManager level, int mask) {
+        UserPlane user = level.getUser();
+        if ((mask & UP) != 0) {
+            user.moveUp();
+        } else if ((mask & DOWN) != 0) {
+            user.moveDown();
+        } else {
+            user.stop();
+        }
+        if ((mask & LEFT) != 0) {
+            user.moveLeft();
+        } else if ((mask & RIGHT) != 0) {
+            user.moveRight();
+        } else {
+            user.stopHorizontal();
+        }
+        if ((mask & FIRE) != 0) {
+            level.fireProjectile();
+        }
+    }
+
+    static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Supplies the encoded keyframes of a replay, from memory or from its file.
+     */
+    @FunctionalInterface
+    private interface KeyframeSource {
+
+        byte[] load(int index) throws IOException;
+    }
+
+    /**
+     * The keyframe index read from a replay's footer.
+     */
+    private static final class KeyframeIndex {
+
+        private final long[] ticks;
+        private final long[] offsets;
+        private final int[] lengths;
+        private final long sectionLength;
+
+        private KeyframeIndex(long[] ticks, long[] offsets, int[] lengths, long sectionLength) {
+            this.ticks = ticks;
+            this.offsets = offsets;
+            this.lengths = lengths;
+            this.sectionLength = sectionLength;
+        }
+
+        private static KeyframeIndex read(byte[] footer) throws IOException {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(footer));
+            long count = readVarLong(in);
+            if (count > footer.length) {
+                throw new IOException("Replay index is corrupt");
+            }
+            long[] ticks = new long[(int) count];
+            long[] offsets = new long[(int) count];
+            int[] lengths = new int[(int) count];
+            long tick = 0;
+            long offset = 0;
+            for (int i = 0; i < count; i++) {
+                tick += readVarLong(in);
+                long length = readVarLong(in);
+                if (length > Integer.MAX_VALUE) {
+                    throw new IOException("Replay keyframe is too large: " + length);
+                }
+                ticks[i] = tick;
+                offsets[i] = offset;
+                lengths[i] = (int) length;
+                offset += length;
+            }
+            return new KeyframeIndex(ticks, offsets, lengths, offset);
+        }
+    }
+
+    static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+}
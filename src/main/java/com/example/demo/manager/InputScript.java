@@ -0,0 +1,43 @@
+package com.example.demo.manager;
+
+import com.example.demo.models.UserPlane;
+
+/**
+ * Scripted player input for headless runs. The script is applied at the start of each tick,
+ * before the level is stepped, exactly where keyboard events would have been handled.
+ */
+@FunctionalInterface
+public interface InputScript {
+
+    /** Script that never presses anything. */
+    InputScript NONE = (level, tick) -> { };
+
+    /**
+     * Applies the input for one tick.
+     *
+     * @param level the level being driven
+     * @param tick  the index of the tick about to run, starting at zero
+     */
+    void apply(LevelManager level, long tick);
+
+    /**
+     * Creates a script that flies the player's plane up and down and fires on every tick.
+     *
+     * @param ticksPerLeg how many ticks each upward or downward leg lasts
+     * @return the script
+     */
+    static InputScript patrolAndFire(int ticksPerLeg) {
+        return (level, tick) -> {
+            UserPlane user = level.getUser();
+            long leg = tick / ticksPerLeg;
+            if (tick % ticksPerLeg == 0) {
+                if (leg % 2 == 0) {
+                    user.moveUp();
+                } else {
+                    user.moveDown();
+                }
+            }
+            level.fireProjectile();
+        };
+    }
+}
@@ -1,51 +1,109 @@
 package com.example.demo.manager;
 
-import java.util.*;
-import java.util.stream.Collectors;
-
 import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.ActorBucket;
+import com.example.demo.actors.ActorRegistry;
+import com.example.demo.actors.GameEffects;
 import com.example.demo.models.Boss;
+import com.example.demo.models.BossProjectile;
+import com.example.demo.models.EnemyPlane;
+import com.example.demo.models.EnemyProjectile;
 import com.example.demo.models.FighterPlane;
+import com.example.demo.models.ProjectileFactory;
+import com.example.demo.models.ProjectilePool;
 import com.example.demo.models.UserPlane;
+import com.example.demo.models.UserProjectile;
 import com.example.demo.controller.Controller;
 import com.example.demo.controller.PauseScreen;
 import com.example.demo.levels.LevelChangeListener;
 import com.example.demo.utilities.Constants;
+import com.example.demo.utilities.GameRandom;
+import com.example.demo.utilities.RandomStream;
+import com.example.demo.utilities.SimulationClock;
+import com.example.demo.utilities.SpriteRegistry;
+import com.example.demo.utilities.StateHasher;
+import com.example.demo.utilities.StateReader;
+import com.example.demo.utilities.StateWriter;
+import com.example.demo.utilities.TripleBuffer;
 import com.example.demo.view.*;
 import javafx.animation.*;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
 import javafx.scene.Group;
 import javafx.scene.Scene;
 import javafx.scene.image.*;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 import javafx.util.Duration;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
 
 public abstract class LevelManager {
 
+	/**
+	 * How a level run has ended, if it has.
+	 */
+	public enum Outcome {
+		IN_PROGRESS,
+		LOST,
+		WON,
+		ADVANCED
+	}
+
+	/**
+	 * The kinds of actor a saved state can recreate.
+	 */
+	private enum ActorKind {
+		USER,
+		BOSS,
+		ENEMY_PLANE,
+		USER_PROJECTILE,
+		ENEMY_PROJECTILE,
+		BOSS_PROJECTILE
+	}
+
 	private LevelChangeListener listener;
 	private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
+	private static final int PROFILER_WINDOW = Constants.PROFILER_WINDOW;
 
-	private static final int MILLISECOND_DELAY = 50;
 	private final double screenHeight;
 	private final double screenWidth;
 	private final double enemyMaximumYPosition;
 	private final Group root;
-	protected final Timeline timeline;
+	protected final GameLoop gameLoop;
+	private final ProjectileFactory projectileFactory;
+	private final GameRandom random;
 	private final UserPlane user;
 	private final Scene scene;
 	private final ImageView background;
+	private final boolean headless;
+	private final ActorViewLayer viewLayer;
+	private final FxGameEffects fxEffects;
+	private final DeferredGameEffects deferredEffects;
+	private final GameEffects effects;
 
-	private final List<ActiveActorDestructible> friendlyUnits;
-	public final List<ActiveActorDestructible> enemyUnits;
-	private final List<ActiveActorDestructible> userProjectiles;
-	private final List<ActiveActorDestructible> enemyProjectiles;
+	private final ActorRegistry friendlyUnits;
+	public final ActorRegistry enemyUnits;
+	private final ActorRegistry userProjectiles;
+	private final ActorRegistry enemyProjectiles;
 
 	private final Controller controller;
 	private UIManager levelUIManager;
 	private CollisionManager collisionManager;
+	private final DespawnPolicy despawnPolicy;
+	private final Consumer<ActiveActorDestructible> actorRemovedHandler = this::onActorRemoved;
+	private final Runnable loseGameAction = this::loseGame;
 	private InputManager inputManager;
 
 	private PauseScreen pauseMenu;
@@ -55,6 +113,31 @@ public abstract class LevelManager {
 
 	private boolean isPaused = false;
 	private boolean transitioningToNextLevel = false;
+	private Outcome outcome = Outcome.IN_PROGRESS;
+	private String nextLevelName;
+	private long tickCount;
+	private long nextSpawnSerial;
+	private LevelSnapshot checkpoint;
+	private RewindBuffer rewindBuffer;
+	private boolean rewinding;
+	private final StateHasher stateHasher = new StateHasher();
+	private StateHashLog stateHashLog;
+	private boolean threaded;
+	private TripleBuffer<RenderFrame> renderFrames;
+	private final Queue<Runnable> simulationTasks = new ConcurrentLinkedQueue<>();
+	private final Queue<ActiveActorDestructible> retiredActors = new ConcurrentLinkedQueue<>();
+	private final List<ActorRegistry> parallelUpdateLists;
+	private final ActorBucket<UserPlane> userPlaneBucket;
+	private final ActorBucket<EnemyPlane> enemyPlaneBucket;
+	private final ActorBucket<Boss> bossBucket;
+	private final ActorBucket<UserProjectile> userProjectileBucket;
+	private final ActorBucket<EnemyProjectile> enemyProjectileBucket;
+	private final ActorBucket<BossProjectile> bossProjectileBucket;
+	private ParallelActorUpdater actorUpdater;
+	private TickProfiler profiler;
+	private ProfilerOverlay profilerOverlay;
+	private TickProfiler eventProfiler;
+	private long lastFrameNanos;
 
 	private LevelView levelView;
 	private Text levelText;
@@ -64,26 +147,107 @@ public abstract class LevelManager {
 		return user;
 	}
 
+	/**
+	 * Gets the policy that culls actors leaving the viewport, including its culled counters.
+	 *
+	 * @return the level's {@link DespawnPolicy}
+	 */
+	public DespawnPolicy getDespawnPolicy() {
+		return despawnPolicy;
+	}
+
+	/**
+	 * Gets the manager that finds and applies this level's collisions each tick.
+	 *
+	 * @return the level's {@link CollisionManager}
+	 */
+	public CollisionManager getCollisionManager() {
+		return collisionManager;
+	}
+
+	/**
+	 * Gets the factory that provides this level's pooled projectiles.
+	 *
+	 * @return the level's {@link ProjectileFactory}
+	 */
+	public ProjectileFactory getProjectileFactory() {
+		return projectileFactory;
+	}
+
+	/**
+	 * Gets the seeded source of every random decision made in this level.
+	 *
+	 * @return the level's {@link GameRandom}
+	 */
+	public GameRandom getRandom() {
+		return random;
+	}
+
 	public LevelManager(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth, Controller controller) {
-		this.root = new Group();
-		this.scene = new Scene(root, screenWidth, screenHeight);
-		this.timeline = new Timeline();
-		this.user = new UserPlane(playerInitialHealth, this.scene);
-		this.friendlyUnits = new ArrayList<>();
-		this.enemyUnits = new ArrayList<>();
-		this.userProjectiles = new ArrayList<>();
-		this.enemyProjectiles = new ArrayList<>();
-		this.background = new ImageView(new Image(getClass().getResource(backgroundImageName).toExternalForm()));
+		this(backgroundImageName, screenHeight, screenWidth, playerInitialHealth, controller, false, GameRandom.newSeed());
+	}
+
+	/**
+	 * Constructs a level, optionally without any JavaFX scene.
+	 * A headless level has no scene, views, sounds or menus; it is driven by calling {@link #tick()}
+	 * and reports how it ended through {@link #getOutcome()}.
+	 *
+	 * @param backgroundImageName the background image resource, unused when headless
+	 * @param screenHeight        the height of the playfield
+	 * @param screenWidth         the width of the playfield
+	 * @param playerInitialHealth the initial health of the user's plane
+	 * @param controller          the game controller, may be {@code null} when headless
+	 * @param headless            {@code true} to run the simulation without JavaFX
+	 * @param seed                the seed for all gameplay randomness
+	 */
+	protected LevelManager(String backgroundImageName, double screenHeight, double screenWidth, int playerInitialHealth, Controller controller, boolean headless, long seed) {
+		this.headless = headless;
+		this.random = new GameRandom(seed);
 		this.screenHeight = screenHeight;
 		this.screenWidth = screenWidth;
 		this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
-		this.levelView = instantiateLevelView();
-		this.currentNumberOfEnemies = 0;
 		this.controller = controller;
-		this.levelUIManager = new UIManager(screenWidth, screenHeight, root, controller);
-		this.collisionManager = new CollisionManager(root, screenWidth, screenHeight, enemyUnits, userProjectiles, enemyProjectiles, boundingBoxHighlights, user);
-		initializeTimeline();
-		friendlyUnits.add(user);
+		this.gameLoop = new GameLoop(this::simulationStep, this::renderScene);
+		this.projectileFactory = new ProjectileFactory();
+		this.user = new UserPlane(playerInitialHealth, projectileFactory);
+		this.friendlyUnits = new ActorRegistry(List.of(UserPlane.class));
+		this.enemyUnits = new ActorRegistry(List.of(EnemyPlane.class, Boss.class));
+		this.userProjectiles = new ActorRegistry(List.of(UserProjectile.class));
+		this.enemyProjectiles = new ActorRegistry(List.of(EnemyProjectile.class, BossProjectile.class));
+		this.userPlaneBucket = friendlyUnits.bucket(UserPlane.class);
+		this.enemyPlaneBucket = enemyUnits.bucket(EnemyPlane.class);
+		this.bossBucket = enemyUnits.bucket(Boss.class);
+		this.userProjectileBucket = userProjectiles.bucket(UserProjectile.class);
+		this.enemyProjectileBucket = enemyProjectiles.bucket(EnemyProjectile.class);
+		this.bossProjectileBucket = enemyProjectiles.bucket(BossProjectile.class);
+		this.parallelUpdateLists = List.of(enemyUnits, userProjectiles, enemyProjectiles);
+		this.currentNumberOfEnemies = 0;
+		this.collisionManager = new CollisionManager(screenWidth, screenHeight, enemyUnits, userProjectiles, enemyProjectiles, user);
+		this.despawnPolicy = new DespawnPolicy(screenWidth, screenHeight);
+
+		if (headless) {
+			this.root = null;
+			this.scene = null;
+			this.background = null;
+			this.viewLayer = null;
+			this.fxEffects = null;
+			this.deferredEffects = null;
+			this.effects = GameEffects.NONE;
+		} else {
+			this.root = new Group();
+			this.scene = new Scene(root, screenWidth, screenHeight);
+			this.background = new ImageView(SpriteRegistry.get(backgroundImageName, (int) screenHeight, SpriteRegistry.Tier.SOFT));
+			this.viewLayer = new ActorViewLayer(new Group());
+			this.fxEffects = new FxGameEffects(viewLayer);
+			this.deferredEffects = new DeferredGameEffects(fxEffects);
+			this.effects = deferredEffects;
+			this.levelView = instantiateLevelView();
+			this.levelUIManager = new UIManager(screenWidth, screenHeight, root, controller);
+			InvalidationListener viewportListener = observable -> despawnPolicy.setViewport(scene.getWidth(), scene.getHeight());
+			scene.widthProperty().addListener(viewportListener);
+			scene.heightProperty().addListener(viewportListener);
+		}
+		user.setEffects(effects);
 	}
 
 	protected abstract void initializeFriendlyUnits();
@@ -93,11 +257,16 @@ public abstract class LevelManager {
 
 	public Scene initializeScene() {
 		initializeBackground();
-		initializeFriendlyUnits();
+		initializeSimulation();
+		checkpoint = LevelSnapshot.capture(this);
 		levelView.showHeartDisplay();
+		if (threaded) {
+			publishFrame();
+			renderScene(0);
+		}
 
 		startCountdown(() -> {
-			timeline.play();
+			gameLoop.play();
 			root.getChildren().remove(levelText);
 		});
 
@@ -154,6 +323,61 @@ public abstract class LevelManager {
 		return scene;
 	}
 
+	/**
+	 * Places the level's initial actors. Called by {@link #initializeScene()}, or directly
+	 * before the first {@link #tick()} when the level runs headless.
+	 */
+	public void initializeSimulation() {
+		initializeFriendlyUnits();
+	}
+
+	/**
+	 * Checks whether the level runs without a JavaFX scene.
+	 *
+	 * @return {@code true} if the level is headless; {@code false} otherwise
+	 */
+	public boolean isHeadless() {
+		return headless;
+	}
+
+	/**
+	 * Gets how the level has ended so far.
+	 *
+	 * @return the current {@link Outcome}
+	 */
+	public Outcome getOutcome() {
+		return outcome;
+	}
+
+	/**
+	 * Gets the level requested by {@link #goToNextLevel(String)}.
+	 *
+	 * @return the next level's class name, or {@code null} if the level has not advanced
+	 */
+	public String getNextLevelName() {
+		return nextLevelName;
+	}
+
+	/**
+	 * Gets the number of simulation ticks run since the level started.
+	 *
+	 * @return the tick count
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	/**
+	 * Sets the volume of the level's sound effects. Ignored when the level is headless.
+	 *
+	 * @param volume the desired volume level (0.0 to 1.0)
+	 */
+	public void setSoundVolume(double volume) {
+		if (fxEffects != null) {
+			fxEffects.setSoundVolume(volume);
+		}
+	}
+
 	protected boolean isGamePaused() {
 		return isPaused;
 	}
@@ -180,46 +404,336 @@ public abstract class LevelManager {
 	}
 
 	public void stop() {
-		timeline.stop();
+		gameLoop.stop();
+	}
+
+	/**
+	 * Changes how fast simulated time passes relative to real time while the level is displayed.
+	 *
+	 * @param speed the speed multiplier; {@code 1} is normal speed
+	 * @throws IllegalArgumentException if {@code speed} is not positive and finite
+	 */
+	public void setSimulationSpeed(double speed) {
+		gameLoop.setTimeScale(speed);
+	}
+
+	/**
+	 * Gets the loop that drives this level, including its tick timing statistics.
+	 *
+	 * @return the level's {@link GameLoop}
+	 */
+	public GameLoop getGameLoop() {
+		return gameLoop;
+	}
+
+	/**
+	 * Checks whether the level has been paused by the player or by a management client.
+	 *
+	 * @return {@code true} if paused; {@code false} otherwise
+	 */
+	public boolean isPaused() {
+		return isPaused;
 	}
 
-	private void initializeTimeline() {
-		timeline.setCycleCount(Timeline.INDEFINITE);
-		KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECOND_DELAY), e -> updateScene());
-		timeline.getKeyFrames().add(gameLoop);
-		timeline.pause();
+	/**
+	 * Advances the simulation by one fixed tick. The game loop calls this while the level
+	 * is displayed; headless callers may call it directly as fast as they like.
+	 */
+	public void tick() {
+		updateScene();
 	}
 
 	private void updateScene() {
+		TickProfiler profiler = this.profiler;
+		GameTickEvent tickEvent = null;
+		if (GameEvents.isGameTickEnabled()) {
+			tickEvent = new GameTickEvent();
+			tickEvent.begin();
+			if (profiler == null) {
+				profiler = getEventProfiler();
+			}
+		}
+		begin(profiler);
+		capturePreviousPositions();
+		mark(profiler, TickProfiler.Phase.PREVIOUS_POSITIONS);
 		spawnEnemyUnits();
+		mark(profiler, TickProfiler.Phase.SPAWN);
 		updateActors();
+		mark(profiler, TickProfiler.Phase.UPDATE_ACTORS);
 		generateEnemyProjectile();
 		updateNumberOfEnemies();
-		handleEnemyPenetration();
+		mark(profiler, TickProfiler.Phase.ENEMY_FIRE);
+		despawnActorsOutsideViewport();
+		mark(profiler, TickProfiler.Phase.DESPAWN);
+		CollisionPassEvent collisionEvent = beginCollisionEvent();
+		collisionManager.captureBounds(friendlyUnits);
+		mark(profiler, TickProfiler.Phase.CAPTURE_BOUNDS);
 		collisionManager.handlePlaneCollisions(friendlyUnits);
-		collisionManager.handleUserProjectileCollisions(this::loseGame);
+		mark(profiler, TickProfiler.Phase.PLANE_COLLISIONS);
+		collisionManager.handleUserProjectileCollisions(loseGameAction);
+		mark(profiler, TickProfiler.Phase.USER_PROJECTILE_COLLISIONS);
 		collisionManager.handleEnemyProjectileCollisions(friendlyUnits);
+		mark(profiler, TickProfiler.Phase.ENEMY_PROJECTILE_COLLISIONS);
+		if (collisionEvent != null) {
+			commitCollisionEvent(collisionEvent);
+		}
 		removeAllDestroyedActors();
-		updateKillCount();
-		updateLevelView();
+		mark(profiler, TickProfiler.Phase.REMOVAL);
 		checkIfGameOver();
+		mark(profiler, TickProfiler.Phase.GAME_OVER_CHECK);
+		if (tickEvent != null) {
+			commitTickEvent(tickEvent, profiler);
+		}
+		tickCount++;
+		if (stateHashLog != null) {
+			stateHashLog.record(this);
+		}
+		if (inputManager != null && inputManager.getRecorder() != null) {
+			inputManager.getRecorder().captureKeyframe(this);
+		}
+		if (rewindBuffer != null) {
+			rewindBuffer.record(this);
+		}
+	}
+
+	/**
+	 * Runs one game loop step: a normal tick, or while the rewind key is held, a step back
+	 * through the rewind buffer. On a simulation thread the step first takes the queued input
+	 * and control actions, and ends by publishing a frame for the renderer.
+	 */
+	private void simulationStep() {
+		if (threaded) {
+			for (Runnable task = simulationTasks.poll(); task != null; task = simulationTasks.poll()) {
+				task.run();
+			}
+			inputManager.executePending();
+		}
+		if (!rewinding) {
+			updateScene();
+		} else if (rewindBuffer.stepBack(this, Constants.REWIND_TICKS_PER_STEP) && !headless && !threaded) {
+			levelView.restoreHearts(user.getHealth());
+		}
+		if (threaded) {
+			publishFrame();
+		}
+	}
+
+	/**
+	 * Runs the simulation on its own thread instead of the JavaFX thread. The simulation then
+	 * never touches the scene: after every tick it publishes a {@link RenderFrame} through a
+	 * triple buffer, and each pulse the JavaFX thread draws the latest frame, runs the queued
+	 * effects and updates the HUD. Input and control keys reach the simulation through lock-free
+	 * queues, and the frame profiler is unavailable. Must be called before the level starts.
+	 *
+	 * @param threaded {@code true} to simulate on a separate thread
+	 * @throws IllegalStateException if the level is headless or already running
+	 */
+	public void setSimulationThreaded(boolean threaded) {
+		if (headless) {
+			throw new IllegalStateException("A headless level has no JavaFX thread to render for");
+		}
+		gameLoop.setThreaded(threaded);
+		this.threaded = threaded;
+		this.renderFrames = threaded ? new TripleBuffer<>(RenderFrame::new) : null;
+		deferredEffects.setDeferred(threaded);
+		if (inputManager != null) {
+			inputManager.setDeferred(threaded);
+		}
+	}
+
+	/**
+	 * Checks whether the simulation runs on its own thread.
+	 *
+	 * @return {@code true} if the simulation is threaded
+	 */
+	public boolean isSimulationThreaded() {
+		return threaded;
+	}
+
+	/**
+	 * Sets whether large actor populations are updated in parallel. When the enemies and
+	 * projectiles together cross {@link Constants#PARALLEL_UPDATE_MIN_ACTORS}, they are updated
+	 * in chunks on the common fork-join pool after the friendly planes they may read; smaller
+	 * populations are still updated in order. Effects raised during a parallel phase are queued
+	 * and shown once it ends.
+	 *
+	 * @param parallel {@code true} to allow parallel actor updates
+	 */
+	public void setParallelActorUpdate(boolean parallel) {
+		this.actorUpdater = parallel ? new ParallelActorUpdater() : null;
+	}
+
+	/**
+	 * Checks whether large actor populations are updated in parallel.
+	 *
+	 * @return {@code true} if parallel actor updates are allowed
+	 */
+	public boolean isParallelActorUpdate() {
+		return actorUpdater != null;
+	}
+
+	/**
+	 * Runs an action that reads or changes the simulation: on the simulation thread before its
+	 * next tick while that thread is running, otherwise at once. Must be called from the JavaFX
+	 * thread, which owns the simulation whenever the simulation thread is not running.
+	 *
+	 * @param action the action
+	 */
+	public void runOnSimulationThread(Runnable action) {
+		if (threaded && gameLoop.isRunning()) {
+			simulationTasks.offer(action);
+		} else {
+			action.run();
+		}
+	}
+
+	/**
+	 * Runs an action that changes the scene on the JavaFX thread. Levels call this for scene
+	 * changes made from the tick, which may run on the simulation thread.
+	 *
+	 * @param action the action
+	 */
+	protected void runOnFxThread(Runnable action) {
+		if (threaded && !Platform.isFxApplicationThread()) {
+			Platform.runLater(action);
+		} else {
+			action.run();
+		}
+	}
+
+	/**
+	 * Copies the displayed actors and HUD values into the writer's frame and publishes it.
+	 */
+	private void publishFrame() {
+		RenderFrame frame = renderFrames.getWriteBuffer();
+		frame.begin(tickCount, user.getHealth(), user.getNumberOfKills());
+		addToFrame(frame, friendlyUnits);
+		addToFrame(frame, enemyUnits);
+		addToFrame(frame, userProjectiles);
+		addToFrame(frame, enemyProjectiles);
+		Boss boss = getBoss();
+		if (boss != null) {
+			frame.setBoss(boss.getHealth(), boss.getShieldHealth(), boss.isShielded(),
+					boss.getLayoutX() + boss.getPositionX(), boss.getLayoutY() + boss.getPositionY());
+		}
+		renderFrames.publish();
+	}
+
+	private static void addToFrame(RenderFrame frame, ActorRegistry registry) {
+		for (int i = 0; i < registry.size(); i++) {
+			frame.addActor(registry.get(i));
+		}
+	}
+
+	/**
+	 * Turns recording of the last few seconds of play on or off. While it is on, every tick
+	 * stores a delta of the level state in a {@link RewindBuffer}.
+	 *
+	 * @param enabled {@code true} to record; {@code false} to stop and drop the history
+	 */
+	public void setRewindEnabled(boolean enabled) {
+		if (!enabled) {
+			rewindBuffer = null;
+			rewinding = false;
+		} else if (rewindBuffer == null) {
+			rewindBuffer = new RewindBuffer();
+		}
+	}
+
+	/**
+	 * Gets the buffer recording the last few seconds of play.
+	 *
+	 * @return the rewind buffer, or {@code null} if rewind is off
+	 */
+	public RewindBuffer getRewindBuffer() {
+		return rewindBuffer;
+	}
+
+	/**
+	 * Starts stepping the level backwards on every game loop step. Input recording stops,
+	 * because a replay can only describe a run played forwards from the start of the level.
+	 */
+	private void startRewind() {
+		if (rewindBuffer == null || rewinding || isPaused || outcome != Outcome.IN_PROGRESS) {
+			return;
+		}
+		rewinding = true;
+		inputManager.setRecorder(null);
+	}
+
+	private void stopRewind() {
+		rewinding = false;
+	}
+
+	private TickProfiler getEventProfiler() {
+		if (eventProfiler == null) {
+			eventProfiler = new TickProfiler(1);
+		}
+		return eventProfiler;
+	}
+
+	private void commitTickEvent(GameTickEvent event, TickProfiler profiler) {
+		event.end();
+		if (event.shouldCommit()) {
+			event.level = getClass().getSimpleName();
+			event.tick = tickCount;
+			event.actors = getActorCount();
+			event.setPhases(profiler);
+			event.commit();
+		}
+	}
+
+	/**
+	 * Starts a collision pass event if one is being recorded.
+	 *
+	 * @return the started event, or {@code null} if collision passes are not recorded
+	 */
+	private CollisionPassEvent beginCollisionEvent() {
+		if (!GameEvents.isCollisionPassEnabled()) {
+			return null;
+		}
+		CollisionPassEvent event = new CollisionPassEvent();
+		event.pairTests = collisionManager.getPairTestCount();
+		event.contacts = collisionManager.getContactCount();
+		event.begin();
+		return event;
+	}
+
+	private void commitCollisionEvent(CollisionPassEvent event) {
+		event.end();
+		if (event.shouldCommit()) {
+			event.tick = tickCount;
+			event.pairTests = collisionManager.getPairTestCount() - event.pairTests;
+			event.contacts = collisionManager.getContactCount() - event.contacts;
+			event.enemies = enemyUnits.size();
+			event.userProjectiles = userProjectiles.size();
+			event.enemyProjectiles = enemyProjectiles.size();
+			event.commit();
+		}
 	}
 
 	public void goToNextLevel(String levelName) {
+		outcome = Outcome.ADVANCED;
+		nextLevelName = levelName;
+		gameLoop.stop();
+		if (headless) {
+			return;
+		}
 		transitioningToNextLevel = true; // Start transition
-		timeline.stop();
-
-		FadeTransition fadeOut = new FadeTransition(Duration.seconds(1), root);
-		fadeOut.setFromValue(1.0);
-		fadeOut.setToValue(0.0);
 
-		fadeOut.setOnFinished(e -> {
-			transitioningToNextLevel = false; // End transition
-			if (listener != null) {
-				listener.onLevelChange(levelName); // Notify listener about the level change
-			}
+		runOnFxThread(() -> {
+			FadeTransition fadeOut = new FadeTransition(Duration.seconds(1), root);
+			fadeOut.setFromValue(1.0);
+			fadeOut.setToValue(0.0);
+
+			fadeOut.setOnFinished(e -> {
+				transitioningToNextLevel = false; // End transition
+				if (listener != null) {
+					listener.onLevelChange(levelName); // Notify listener about the level change
+				}
+			});
+			fadeOut.play();
 		});
-		fadeOut.play();
 	}
 
 	public void setLevelChangeListener(LevelChangeListener listener) {
@@ -227,13 +741,21 @@ public abstract class LevelManager {
 	}
 
 	protected void winGame() {
-		timeline.stop();
-		levelUIManager.showWinMenu(this::restartToLevelOne, this::goToMainMenu);
+		outcome = Outcome.WON;
+		gameLoop.stop();
+		if (headless) {
+			return;
+		}
+		runOnFxThread(() -> levelUIManager.showWinMenu(this::restartToLevelOne, this::goToMainMenu));
 	}
 
 	public void loseGame() {
-		timeline.stop();
-		showGameOverMenu();
+		outcome = Outcome.LOST;
+		gameLoop.stop();
+		if (headless) {
+			return;
+		}
+		runOnFxThread(this::showGameOverMenu);
 	}
 
 	private void togglePause() {
@@ -246,7 +768,7 @@ public abstract class LevelManager {
 
 	public void pauseGame() {
 		isPaused = true;
-		timeline.pause();
+		gameLoop.pause();
 
 		if (pauseMenu == null) {
 			pauseMenu = new PauseScreen(
@@ -264,7 +786,7 @@ public abstract class LevelManager {
 
 	public void resumeGame() {
 		isPaused = false;
-		timeline.play();
+		gameLoop.play();
 
 		if (pauseMenu != null) {
 			root.getChildren().remove(pauseMenu.getRoot());
@@ -272,32 +794,249 @@ public abstract class LevelManager {
 	}
 
 	// Actor Management
+	/**
+	 * Updates every actor, the friendly planes first since other actors read the user's position.
+	 * Each registry only accepts the classes it has buckets for, so one loop per concrete class
+	 * covers every actor, and each loop calls a single final class's update directly.
+	 */
 	private void updateActors() {
-		friendlyUnits.forEach(ActiveActorDestructible::updateActor);
-		enemyUnits.forEach(ActiveActorDestructible::updateActor);
-		userProjectiles.forEach(ActiveActorDestructible::updateActor);
-		enemyProjectiles.forEach(ActiveActorDestructible::updateActor);
+		for (int i = 0; i < userPlaneBucket.size(); i++) {
+			userPlaneBucket.get(i).updateActor();
+		}
+		int actorCount = enemyUnits.size() + userProjectiles.size() + enemyProjectiles.size();
+		if (actorUpdater == null || !actorUpdater.isParallel(actorCount)) {
+			for (int i = 0; i < enemyPlaneBucket.size(); i++) {
+				enemyPlaneBucket.get(i).updateActor();
+			}
+			for (int i = 0; i < bossBucket.size(); i++) {
+				bossBucket.get(i).updateActor();
+			}
+			for (int i = 0; i < userProjectileBucket.size(); i++) {
+				userProjectileBucket.get(i).updateActor();
+			}
+			for (int i = 0; i < enemyProjectileBucket.size(); i++) {
+				enemyProjectileBucket.get(i).updateActor();
+			}
+			for (int i = 0; i < bossProjectileBucket.size(); i++) {
+				bossProjectileBucket.get(i).updateActor();
+			}
+			return;
+		}
+		boolean deferEffects = deferredEffects != null && !threaded;
+		if (deferEffects) {
+			deferredEffects.setDeferred(true);
+		}
+		actorUpdater.update(parallelUpdateLists);
+		if (deferEffects) {
+			deferredEffects.setDeferred(false);
+			deferredEffects.runPending();
+		}
+	}
+
+	private static void begin(TickProfiler profiler) {
+		if (profiler != null) {
+			profiler.begin();
+		}
+	}
+
+	private static void mark(TickProfiler profiler, TickProfiler.Phase phase) {
+		if (profiler != null) {
+			profiler.mark(phase);
+		}
+	}
+
+	private void capturePreviousPositions() {
+		friendlyUnits.forEach(ActiveActorDestructible::capturePreviousPosition);
+		enemyUnits.forEach(ActiveActorDestructible::capturePreviousPosition);
+		userProjectiles.forEach(ActiveActorDestructible::capturePreviousPosition);
+		enemyProjectiles.forEach(ActiveActorDestructible::capturePreviousPosition);
+	}
+
+	/**
+	 * Syncs every actor view to its actor's interpolated position and refreshes the HUD.
+	 *
+	 * @param alpha the fraction of a tick elapsed since the last simulation step
+	 */
+	private void renderScene(double alpha) {
+		if (headless) {
+			return;
+		}
+		if (threaded) {
+			RenderFrame frame = renderFrames.acquire();
+			for (ActiveActorDestructible actor = retiredActors.poll(); actor != null; actor = retiredActors.poll()) {
+				viewLayer.retire(actor);
+			}
+			viewLayer.render(frame, alpha);
+			deferredEffects.runPending();
+			renderHud(frame);
+			return;
+		}
+		TickProfiler profiler = this.profiler;
+		begin(profiler);
+		viewLayer.render(alpha);
+		mark(profiler, TickProfiler.Phase.VIEW_SYNC);
+		updateKillCount();
+		updateLevelView();
+		if (profiler != null) {
+			profiler.mark(TickProfiler.Phase.HUD);
+			updateProfilerOverlay(profiler);
+		}
 	}
 
+	/**
+	 * Refreshes the HUD from a frame published by the simulation thread. Levels with more HUD
+	 * elements extend this.
+	 *
+	 * @param frame the frame being displayed
+	 */
+	protected void renderHud(RenderFrame frame) {
+		levelView.restoreHearts(frame.getUserHealth());
+		levelView.updateKillCountDisplay(frame.getKills());
+	}
+
+	/**
+	 * Switches the frame profiler and its overlay on or off. While off, the tick and render
+	 * paths only pay a null check per phase. Ignored while the simulation is threaded.
+	 */
+	private void toggleProfiler() {
+		if (!threaded) {
+			setProfilingEnabled(profiler == null);
+		}
+	}
+
+	/**
+	 * Enables or disables per-phase timing of the tick and, when a scene exists, its overlay.
+	 *
+	 * @param enabled whether to profile
+	 */
+	public void setProfilingEnabled(boolean enabled) {
+		if (enabled == (profiler != null)) {
+			return;
+		}
+		if (enabled) {
+			profiler = new TickProfiler(PROFILER_WINDOW);
+			lastFrameNanos = 0;
+			if (!headless) {
+				profilerOverlay = new ProfilerOverlay();
+				root.getChildren().add(profilerOverlay.getGroup());
+			}
+		} else {
+			profiler = null;
+			if (profilerOverlay != null) {
+				root.getChildren().remove(profilerOverlay.getGroup());
+				profilerOverlay = null;
+			}
+		}
+	}
+
+	/**
+	 * Gets the active frame profiler.
+	 *
+	 * @return the profiler, or {@code null} if profiling is off
+	 */
+	public TickProfiler getProfiler() {
+		return profiler;
+	}
+
+	private void updateProfilerOverlay(TickProfiler profiler) {
+		long now = System.nanoTime();
+		if (lastFrameNanos != 0) {
+			profiler.recordFrame(now - lastFrameNanos);
+		}
+		lastFrameNanos = now;
+		String actorCounts = "friendly " + friendlyUnits.size() + "  enemy " + enemyUnits.size()
+				+ "  shots " + userProjectiles.size() + "/" + enemyProjectiles.size();
+		profilerOverlay.update(profiler, actorCounts, root, Constants.PROFILER_FRAME_BUDGET_NANOS);
+	}
+
+	/**
+	 * Destroys enemies and projectiles that have left the viewport so they are removed this tick.
+	 */
+	private void despawnActorsOutsideViewport() {
+		despawnPolicy.cull(enemyUnits, DespawnPolicy.Category.ENEMY_UNIT);
+		despawnPolicy.cull(userProjectiles, DespawnPolicy.Category.USER_PROJECTILE);
+		despawnPolicy.cull(enemyProjectiles, DespawnPolicy.Category.ENEMY_PROJECTILE);
+	}
+
+	/**
+	 * Compacts every actor registry once at the end of the tick and detaches the views of the
+	 * removed actors in a single pass.
+	 */
 	private void removeAllDestroyedActors() {
-		removeDestroyedActors(friendlyUnits);
-		removeDestroyedActors(enemyUnits);
-		removeDestroyedActors(userProjectiles);
-		removeDestroyedActors(enemyProjectiles);
+		friendlyUnits.compact(actorRemovedHandler);
+		enemyUnits.compact(actorRemovedHandler);
+		userProjectiles.compact(actorRemovedHandler);
+		enemyProjectiles.compact(actorRemovedHandler);
+		if (viewLayer != null && !threaded) {
+			viewLayer.flush();
+		}
 	}
 
-	private void removeDestroyedActors(List<ActiveActorDestructible> actors) {
-		List<ActiveActorDestructible> destroyedActors = actors.stream()
-				.filter(ActiveActorDestructible::isDestroyed)
-				.collect(Collectors.toList());
-		root.getChildren().removeAll(destroyedActors);
-		actors.removeAll(destroyedActors);
+	private void onActorRemoved(ActiveActorDestructible actor) {
+		boolean pooled = projectileFactory.release(actor);
+		if (GameEvents.isActorDestroyedEnabled()) {
+			ActorDestroyedEvent event = new ActorDestroyedEvent();
+			event.actorType = actor.getClass().getSimpleName();
+			event.reason = despawnPolicy.isOutside(actor)
+					? ActorDestroyedEvent.REASON_LEFT_VIEWPORT : ActorDestroyedEvent.REASON_DESTROYED;
+			event.tick = tickCount;
+			event.pooled = pooled;
+			event.commit();
+		}
+		hideView(actor, pooled);
+	}
+
+	/**
+	 * Stops displaying a removed actor. On a simulation thread the renderer finds out from the
+	 * next frame instead, and only needs telling when the actor's view cannot be reused.
+	 */
+	private void hideView(ActiveActorDestructible actor, boolean pooled) {
+		if (viewLayer == null) {
+			return;
+		}
+		if (!threaded) {
+			viewLayer.hide(actor, pooled);
+		} else if (!pooled) {
+			retiredActors.offer(actor);
+		}
+	}
+
+	/**
+	 * Registers an actor with the level, wires its effects and shows its view.
+	 *
+	 * @param registry the registry the actor belongs to
+	 * @param actor    the actor to add
+	 */
+	private void spawn(ActorRegistry registry, ActiveActorDestructible actor) {
+		actor.setSpawnSerial(nextSpawnSerial++);
+		attach(registry, actor);
+		if (GameEvents.isActorSpawnedEnabled()) {
+			ActorSpawnedEvent event = new ActorSpawnedEvent();
+			event.actorType = actor.getClass().getSimpleName();
+			event.tick = tickCount;
+			event.x = actor.getLayoutX() + actor.getPositionX();
+			event.y = actor.getLayoutY() + actor.getPositionY();
+			event.commit();
+		}
+	}
+
+	/**
+	 * Adds an actor to a registry and shows it, without counting it as a new spawn.
+	 *
+	 * @param registry the registry the actor belongs to
+	 * @param actor    the actor to add
+	 */
+	private void attach(ActorRegistry registry, ActiveActorDestructible actor) {
+		registry.add(actor);
+		actor.setEffects(effects);
+		if (viewLayer != null && !threaded) {
+			viewLayer.show(actor);
+		}
 	}
 
 	private void spawnEnemyProjectile(ActiveActorDestructible projectile) {
 		if (projectile != null) {
-			root.getChildren().add(projectile);
-			enemyProjectiles.add(projectile);
+			spawn(enemyProjectiles, projectile);
 		}
 	}
 
@@ -311,15 +1050,158 @@ public abstract class LevelManager {
 		inputManager = new InputManager(
 				user,
 				this::fireProjectile,  // Action for firing projectiles
-				this::togglePause      // Action for toggling pause
+				this::togglePause,     // Action for toggling pause
+				this::toggleProfiler   // Action for toggling the frame profiler
 		);
 		inputManager.initializeInputHandlers(background);
+		inputManager.setRecorder(createRecorder());
+		inputManager.setDeferred(threaded);
+		inputManager.setSaveReplayAction(() -> runOnSimulationThread(this::saveReplay));
+		inputManager.setSaveStateActions(() -> runOnSimulationThread(this::quickSave), () -> runOnSimulationThread(this::quickLoad));
+		inputManager.setRewindActions(() -> runOnSimulationThread(this::startRewind), () -> runOnSimulationThread(this::stopRewind));
+		setRewindEnabled(true);
 
 		root.getChildren().add(background);
+		root.getChildren().add(viewLayer.getGroup());
+	}
+
+	private InputRecorder createRecorder() {
+		return new InputRecorder(getClass().getName(), random.getSeed(), SimulationClock.getTicksPerSecond(), this::getTickCount);
 	}
 
+	/**
+	 * Gets the snapshot taken when the displayed level started, used to restart it in place.
+	 *
+	 * @return the start-of-level snapshot, or {@code null} if the level is headless
+	 */
+	public LevelSnapshot getCheckpoint() {
+		return checkpoint;
+	}
+
+	/**
+	 * Replaces the level's state with a snapshot and, when a scene exists, brings the actor
+	 * views and HUD in line with it at once, or with the next pulse when the simulation is
+	 * threaded. The rewind history is dropped.
+	 *
+	 * @param snapshot a snapshot of this level's class
+	 * @throws IllegalArgumentException if the snapshot is of another level or tick rate
+	 */
+	public void restoreSnapshot(LevelSnapshot snapshot) {
+		snapshot.restore(this);
+		if (rewindBuffer != null) {
+			rewindBuffer.clear();
+		}
+		if (headless) {
+			return;
+		}
+		if (threaded) {
+			publishFrame();
+			return;
+		}
+		levelView.restoreHearts(user.getHealth());
+		renderScene(1.0);
+	}
+
+	/**
+	 * Gets the save file of a slot. Every level has its own slots.
+	 *
+	 * @param slot the slot number
+	 * @return the path of the slot's save file
+	 */
+	public Path getSaveSlotFile(int slot) {
+		return Path.of(Constants.SAVE_DIRECTORY, getClass().getSimpleName() + "-" + slot + Constants.SAVE_FILE_EXTENSION);
+	}
+
+	/**
+	 * Saves the level's current state to a slot.
+	 *
+	 * @param slot the slot number
+	 * @throws IOException if the save file cannot be written
+	 */
+	public void saveToSlot(int slot) throws IOException {
+		LevelSnapshot.capture(this).save(getSaveSlotFile(slot));
+	}
+
+	/**
+	 * Restores the level's state from a slot. Input recording stops, because a replay can
+	 * only describe a run from the start of the level.
+	 *
+	 * @param slot the slot number
+	 * @return {@code true} if the slot held a save; {@code false} if it was empty
+	 * @throws IOException if the save file cannot be read
+	 */
+	public boolean loadFromSlot(int slot) throws IOException {
+		Path file = getSaveSlotFile(slot);
+		if (!Files.exists(file)) {
+			return false;
+		}
+		restoreSnapshot(LevelSnapshot.load(file));
+		if (inputManager != null) {
+			inputManager.setRecorder(null);
+		}
+		return true;
+	}
+
+	private void quickSave() {
+		if (outcome != Outcome.IN_PROGRESS) {
+			return;
+		}
+		try {
+			saveToSlot(Constants.QUICK_SAVE_SLOT);
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	private void quickLoad() {
+		if (isPaused || outcome != Outcome.IN_PROGRESS) {
+			return;
+		}
+		try {
+			loadFromSlot(Constants.QUICK_SAVE_SLOT);
+		} catch (IOException | RuntimeException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Gets a replay of the player's input in this level so far.
+	 *
+	 * @return the replay, or {@code null} if input is not being recorded
+	 */
+	public InputReplay getInputReplay() {
+		InputRecorder recorder = inputManager != null ? inputManager.getRecorder() : null;
+		return recorder != null ? recorder.toReplay() : null;
+	}
+
+	/**
+	 * Saves the replay of this level so far, with the keyframes captured during play, to the
+	 * replay directory.
+	 */
+	private void saveReplay() {
+		InputReplay replay = getInputReplay();
+		if (replay == null) {
+			return;
+		}
+		Path file = Path.of(Constants.REPLAY_DIRECTORY,
+				getClass().getSimpleName() + "-" + Long.toHexString(replay.getSeed()) + "-" + replay.getEndTick() + Constants.REPLAY_FILE_EXTENSION);
+		try {
+			replay.save(file);
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Restarts the level. A displayed level restores its start-of-level checkpoint in place,
+	 * skipping the reload and countdown; otherwise the controller loads the level again.
+	 */
 	public void restartLevel() {
-		timeline.stop();
+		if (checkpoint != null && !transitioningToNextLevel) {
+			restartFromCheckpoint();
+			return;
+		}
+		gameLoop.stop();
 		if (controller != null) {
 			try {
 				controller.goToLevel(getClass().getName()); // Restart the current level
@@ -329,8 +1211,22 @@ public abstract class LevelManager {
 		}
 	}
 
+	/**
+	 * Restores the start-of-level checkpoint with a fresh seed, so the restarted run draws new
+	 * randomness rather than repeating the last attempt. Save slots keep their exact random state.
+	 */
+	private void restartFromCheckpoint() {
+		gameLoop.stop();
+		levelUIManager.hideMenu();
+		restoreSnapshot(checkpoint);
+		random.reseed(GameRandom.newSeed());
+		inputManager.setRecorder(createRecorder());
+		resumeGame();
+		background.requestFocus();
+	}
+
 	public void goToMainMenu() {
-		timeline.stop();
+		gameLoop.stop();
 		if (controller != null) {
 			try {
 				controller.goToLevel("MAIN_MENU"); // Return to main menu
@@ -341,14 +1237,16 @@ public abstract class LevelManager {
 	}
 
 	public double getScreenHeight() {
-		return this.scene.getHeight();
+		return screenHeight;
 	}
 
-	private void fireProjectile() {
+	/**
+	 * Fires a projectile from the user's plane if its cooldown allows it.
+	 */
+	public void fireProjectile() {
 		ActiveActorDestructible projectile = user.fireProjectile();
 		if (projectile != null) {
-			root.getChildren().add(projectile);
-			userProjectiles.add(projectile);
+			spawn(userProjectiles, projectile);
 		}
 	}
 
@@ -356,52 +1254,289 @@ public abstract class LevelManager {
 		enemyUnits.forEach(enemy -> spawnEnemyProjectile(((FighterPlane) enemy).fireProjectile()));
 	}
 
-	private final Map<ActiveActorDestructible, Rectangle> boundingBoxHighlights = new HashMap<>();
+	private void updateKillCount() {
+		levelView.updateKillCountDisplay(user.getNumberOfKills());
+	}
 
-	private void handleEnemyPenetration() {
-		List<ActiveActorDestructible> penetratedEnemies = new ArrayList<>();
-		for (ActiveActorDestructible enemy : enemyUnits) {
-			if (enemyHasPenetratedDefenses(enemy)) {
-				penetratedEnemies.add(enemy);
-			}
+	public UserPlane getUser() {
+		return user;
+	}
+
+	public Group getRoot() {
+		return root;
+	}
+
+	protected int getCurrentNumberOfEnemies() {
+		return enemyUnits.size();
+	}
+
+	/**
+	 * Gets the number of user projectiles in flight.
+	 *
+	 * @return the user projectile count
+	 */
+	protected int getCurrentNumberOfUserProjectiles() {
+		return userProjectiles.size();
+	}
+
+	/**
+	 * Gets the number of actors of every kind currently in the level.
+	 *
+	 * @return the total actor count
+	 */
+	public int getActorCount() {
+		return friendlyUnits.size() + enemyUnits.size() + userProjectiles.size() + enemyProjectiles.size();
+	}
+
+	/**
+	 * Gets the number of actors in each of the level's lists.
+	 *
+	 * @return the counts keyed by list name, in update order
+	 */
+	public Map<String, Integer> getActorCounts() {
+		Map<String, Integer> counts = new LinkedHashMap<>();
+		counts.put("friendlyUnits", friendlyUnits.size());
+		counts.put("enemyUnits", enemyUnits.size());
+		counts.put("userProjectiles", userProjectiles.size());
+		counts.put("enemyProjectiles", enemyProjectiles.size());
+		return counts;
+	}
+
+	/**
+	 * Describes the level's current state for diagnostics: progress, the player, every actor
+	 * with its position and health, projectile pools and despawn counters.
+	 *
+	 * @return a multi-line, human-readable dump
+	 */
+	public String describeState() {
+		StringBuilder dump = new StringBuilder();
+		dump.append(getClass().getSimpleName())
+				.append(" tick=").append(tickCount)
+				.append(" outcome=").append(outcome)
+				.append(" paused=").append(isPaused)
+				.append(" seed=").append(random.getSeed()).append('\n');
+		dump.append("user health=").append(user.getHealth())
+				.append(" kills=").append(user.getNumberOfKills()).append('\n');
+		describeActors(dump, "friendlyUnits", friendlyUnits);
+		describeActors(dump, "enemyUnits", enemyUnits);
+		describeActors(dump, "userProjectiles", userProjectiles);
+		describeActors(dump, "enemyProjectiles", enemyProjectiles);
+		for (ProjectilePool<?> pool : projectileFactory.getPools()) {
+			dump.append(pool).append('\n');
 		}
-		for (ActiveActorDestructible enemy : penetratedEnemies) {
-			enemy.destroy();
+		dump.append("culled=").append(despawnPolicy.getCulledCounts()).append('\n');
+		return dump.toString();
+	}
+
+	private static void describeActors(StringBuilder dump, String name, ActorRegistry actors) {
+		dump.append(name).append(" (").append(actors.size()).append(")\n");
+		for (ActiveActorDestructible actor : actors) {
+			dump.append("  ").append(actor.getClass().getSimpleName())
+					.append(String.format(Locale.ROOT, " x=%.1f y=%.1f",
+							actor.getLayoutX() + actor.getPositionX(), actor.getLayoutY() + actor.getPositionY()));
+			if (actor instanceof FighterPlane plane) {
+				dump.append(" health=").append(plane.getHealth());
+			}
+			dump.append(actor.isDestroyed() ? " destroyed" : "").append('\n');
 		}
 	}
 
-	private void updateKillCount() {
-		List<ActiveActorDestructible> destroyedEnemies = enemyUnits.stream()
-				.filter(enemy -> enemy.isDestroyed() && enemy.isVisibleOnScreen(screenWidth, screenHeight))
-				.collect(Collectors.toList());
+	/**
+	 * Writes the complete simulation state of the level: progress, randomness, the player and
+	 * every actor, registry by registry in dense order. Restoring it with {@link #readState(StateReader)} into a
+	 * level of the same class continues the run exactly as if it had never been interrupted.
+	 *
+	 * @param writer the destination
+	 */
+	public void writeState(StateWriter writer) {
+		writer.writeLong(tickCount);
+		writer.writeInt(currentNumberOfEnemies);
+		writer.writeString(outcome.name());
+		writer.writeString(nextLevelName);
+		writer.writeLong(nextSpawnSerial);
+		random.writeState(writer);
+		user.writeState(writer);
+		writeLevelState(writer);
+		writeActors(writer, friendlyUnits);
+		writeActors(writer, enemyUnits);
+		writeActors(writer, userProjectiles);
+		writeActors(writer, enemyProjectiles);
+	}
+
+	/**
+	 * Hashes the complete simulation state written by {@link #writeState(StateWriter)}.
+	 * Actors are folded in each registry's dense order. That is neither spawn order, since removal
+	 * swaps the last actor into the gap, nor update order, since updates run per class, but
+	 * {@link #readState(StateReader)} rebuilds every registry in exactly that order. Two levels
+	 * therefore hash alike exactly when restoring either state would continue the same run.
+	 *
+	 * @return the 64-bit state hash
+	 */
+	public long computeStateHash() {
+		stateHasher.reset();
+		writeState(stateHasher);
+		return stateHasher.getHash();
+	}
+
+	/**
+	 * Starts recording the state hash after every tick.
+	 *
+	 * @param stateHashLog the log receiving the hashes, or {@code null} to stop recording
+	 */
+	public void setStateHashLog(StateHashLog stateHashLog) {
+		this.stateHashLog = stateHashLog;
+	}
+
+	/**
+	 * Gets the log receiving the state hash after every tick.
+	 *
+	 * @return the log, or {@code null} if hashes are not being recorded
+	 */
+	public StateHashLog getStateHashLog() {
+		return stateHashLog;
+	}
 
-		for (ActiveActorDestructible enemy : destroyedEnemies) {
-			user.incrementKillCount();
-			enemyUnits.remove(enemy);
+	/**
+	 * Replaces the level's simulation state with one written by {@link #writeState(StateWriter)}.
+	 * Current actors are removed and their projectiles returned to the pools.
+	 *
+	 * @param reader the source
+	 * @throws IllegalStateException if the state is truncated or names an actor this level cannot hold
+	 */
+	public void readState(StateReader reader) {
+		discardActors(friendlyUnits);
+		discardActors(enemyUnits);
+		discardActors(userProjectiles);
+		discardActors(enemyProjectiles);
+		if (viewLayer != null && !threaded) {
+			viewLayer.flush();
 		}
 
-		levelView.updateKillCountDisplay(user.getNumberOfKills());
+		tickCount = reader.readLong();
+		currentNumberOfEnemies = reader.readInt();
+		outcome = Outcome.valueOf(reader.readString());
+		nextLevelName = reader.readString();
+		nextSpawnSerial = reader.readLong();
+		random.readState(reader);
+		user.readState(reader);
+		readLevelState(reader);
+		readActors(reader, friendlyUnits);
+		readActors(reader, enemyUnits);
+		readActors(reader, userProjectiles);
+		readActors(reader, enemyProjectiles);
 	}
 
-	private boolean enemyHasPenetratedDefenses(ActiveActorDestructible enemy) {
-		return Math.abs(enemy.getTranslateX()) > screenWidth;
+	/**
+	 * Writes state kept by a level subclass. Called by {@link #writeState(StateWriter)} after
+	 * the player and before the actor lists.
+	 *
+	 * @param writer the destination
+	 */
+	protected void writeLevelState(StateWriter writer) {
 	}
 
-	public UserPlane getUser() {
-		return user;
+	/**
+	 * Restores state written by {@link #writeLevelState(StateWriter)}.
+	 *
+	 * @param reader the source
+	 */
+	protected void readLevelState(StateReader reader) {
 	}
 
-	public Group getRoot() {
-		return root;
+	/**
+	 * Gets the boss this level fights, whose state is saved by the level itself.
+	 *
+	 * @return the boss, or {@code null} if the level has none
+	 */
+	protected Boss getBoss() {
+		return boss;
 	}
 
-	protected int getCurrentNumberOfEnemies() {
-		return enemyUnits.size();
+	private void writeActors(StateWriter writer, ActorRegistry registry) {
+		writer.writeInt(registry.size());
+		for (int i = 0; i < registry.size(); i++) {
+			ActiveActorDestructible actor = registry.get(i);
+			ActorKind kind = kindOf(actor);
+			writer.writeInt(kind.ordinal());
+			if (kind != ActorKind.USER && kind != ActorKind.BOSS) {
+				actor.writeState(writer);
+			}
+		}
+	}
+
+	private void readActors(StateReader reader, ActorRegistry registry) {
+		ActorKind[] kinds = ActorKind.values();
+		for (int count = reader.readInt(); count > 0; count--) {
+			int kind = reader.readInt();
+			if (kind < 0 || kind >= kinds.length) {
+				throw new IllegalStateException("Unknown actor kind " + kind);
+			}
+			attach(registry, restoreActor(kinds[kind], reader));
+		}
+	}
+
+	private ActorKind kindOf(ActiveActorDestructible actor) {
+		if (actor == user) {
+			return ActorKind.USER;
+		} else if (actor instanceof Boss) {
+			return ActorKind.BOSS;
+		} else if (actor instanceof EnemyPlane) {
+			return ActorKind.ENEMY_PLANE;
+		} else if (actor instanceof UserProjectile) {
+			return ActorKind.USER_PROJECTILE;
+		} else if (actor instanceof EnemyProjectile) {
+			return ActorKind.ENEMY_PROJECTILE;
+		} else if (actor instanceof BossProjectile) {
+			return ActorKind.BOSS_PROJECTILE;
+		}
+		throw new IllegalStateException("Cannot save actor of type " + actor.getClass().getName());
+	}
+
+	private ActiveActorDestructible restoreActor(ActorKind kind, StateReader reader) {
+		if (kind == ActorKind.USER) {
+			return user;
+		}
+		if (kind == ActorKind.BOSS) {
+			Boss levelBoss = getBoss();
+			if (levelBoss == null) {
+				throw new IllegalStateException(getClass().getSimpleName() + " has no boss to restore");
+			}
+			return levelBoss;
+		}
+		ActiveActorDestructible actor = switch (kind) {
+			case ENEMY_PLANE -> new EnemyPlane(0, 0, user, projectileFactory, new RandomStream(0));
+			case USER_PROJECTILE -> projectileFactory.createUserProjectile(0, 0);
+			case ENEMY_PROJECTILE -> projectileFactory.createEnemyProjectile(0, 0);
+			default -> projectileFactory.createBossProjectile(0, 0, user);
+		};
+		actor.readState(reader);
+		return actor;
+	}
+
+	/**
+	 * Removes every actor from a registry without treating it as destroyed.
+	 *
+	 * @param registry the registry to empty
+	 */
+	private void discardActors(ActorRegistry registry) {
+		for (int i = 0; i < registry.size(); i++) {
+			ActiveActorDestructible actor = registry.get(i);
+			hideView(actor, projectileFactory.release(actor));
+		}
+		registry.clear();
 	}
 
 	public void addEnemyUnit(ActiveActorDestructible enemy) {
-		enemyUnits.add(enemy);
-		root.getChildren().add(enemy);
+		spawn(enemyUnits, enemy);
+	}
+
+	/**
+	 * Adds a friendly plane to the level.
+	 *
+	 * @param friendly the plane to add
+	 */
+	protected void addFriendlyUnit(ActiveActorDestructible friendly) {
+		spawn(friendlyUnits, friendly);
 	}
 
 	protected double getEnemyMaximumYPosition() {
@@ -417,8 +1552,16 @@ public abstract class LevelManager {
 	}
 
 	public void addEnemyProjectile(ActiveActorDestructible projectile) {
-		enemyProjectiles.add(projectile);
-		root.getChildren().add(projectile);
+		spawn(enemyProjectiles, projectile);
+	}
+
+	/**
+	 * Adds a user projectile that was not fired through {@link #fireProjectile()}.
+	 *
+	 * @param projectile the projectile to add
+	 */
+	protected void addUserProjectile(ActiveActorDestructible projectile) {
+		spawn(userProjectiles, projectile);
 	}
 
 	protected void resetUserHealth(int health) {
@@ -430,7 +1573,7 @@ public abstract class LevelManager {
 	}
 
 	protected void restartToLevelOne() {
-		timeline.stop();
+		gameLoop.stop();
 		try {
 			controller.goToLevel("com.example.demo.levels.LevelOne");
 		} catch (Exception e) {
@@ -0,0 +1,256 @@
+package com.example.demo.manager;
+
+import com.example.demo.utilities.BinaryStateWriter;
+import com.example.demo.utilities.Constants;
+import com.example.demo.utilities.SimulationClock;
+import com.example.demo.utilities.StateReader;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The complete simulation state of a level at a tick boundary, compressed.
+ * Restoring a snapshot into a level of the same class continues the run exactly as the
+ * captured level would have, so snapshots serve as replay keyframes and save points.
+ *
+ * <p>The encoded form is the level class name, the tick, the tick rate and the uncompressed
+ * length, followed by the state written by {@link LevelManager#writeState} and compressed
+ * with {@link Deflater}. The compression level trades capture time for size. Save files add a
+ * magic number and a version byte in front of it.</p>
+ */
+public final class LevelSnapshot {
+
+    private static final int MAGIC = 0x53425356; // "SBSV"
+    private static final int VERSION = 1;
+
+    private final String levelClassName;
+    private final long tick;
+    private final int ticksPerSecond;
+    private final int stateLength;
+    private final byte[] compressedState;
+
+    private LevelSnapshot(String levelClassName, long tick, int ticksPerSecond, int stateLength, byte[] compressedState) {
+        this.levelClassName = levelClassName;
+        this.tick = tick;
+        this.ticksPerSecond = ticksPerSecond;
+        this.stateLength = stateLength;
+        this.compressedState = compressedState;
+    }
+
+    /**
+     * Captures a level with the default compression level.
+     *
+     * @param level the level to capture
+     * @return the snapshot
+     */
+    public static LevelSnapshot capture(LevelManager level) {
+        return capture(level, Constants.SNAPSHOT_COMPRESSION_LEVEL);
+    }
+
+    /**
+     * Captures a level.
+     *
+     * @param level            the level to capture
+     * @param compressionLevel the {@link Deflater} level, from 0 (store) to 9 (smallest)
+     * @return the snapshot
+     * @throws IllegalArgumentException if the compression level is out of range
+     */
+    public static LevelSnapshot capture(LevelManager level, int compressionLevel) {
+        if (compressionLevel < Deflater.NO_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Compression level must be between 0 and 9: " + compressionLevel);
+        }
+        BinaryStateWriter writer = new BinaryStateWriter();
+        level.writeState(writer);
+        byte[] state = writer.toByteArray();
+
+        Deflater deflater = new Deflater(compressionLevel);
+        try {
+            deflater.setInput(state);
+            deflater.finish();
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(state.length / 2 + 64);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                compressed.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return new LevelSnapshot(level.getClass().getName(), level.getTickCount(),
+                    SimulationClock.getTicksPerSecond(), state.length, compressed.toByteArray());
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Replaces a level's simulation state with this snapshot.
+     *
+     * @param level a level of the captured class
+     * @throws IllegalArgumentException if the level is of another class or the simulation runs at another tick rate
+     * @throws IllegalStateException    if the snapshot data is corrupt
+     */
+    public void restore(LevelManager level) {
+        if (!level.getClass().getName().equals(levelClassName)) {
+            throw new IllegalArgumentException("Snapshot of " + levelClassName + " cannot be restored into "
+                    + level.getClass().getName());
+        }
+        if (SimulationClock.getTicksPerSecond() != ticksPerSecond) {
+            throw new IllegalArgumentException("Snapshot was captured at " + ticksPerSecond + " ticks per second, not "
+                    + SimulationClock.getTicksPerSecond());
+        }
+        level.readState(new StateReader(inflate()));
+    }
+
+    /**
+     * Gets the class name of the captured level.
+     *
+     * @return the fully qualified level class name
+     */
+    public String getLevelClassName() {
+        return levelClassName;
+    }
+
+    /**
+     * Gets the tick the level had reached when it was captured.
+     *
+     * @return the tick count
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the simulation tick rate the level was captured at.
+     *
+     * @return the ticks per second
+     */
+    public int getTicksPerSecond() {
+        return ticksPerSecond;
+    }
+
+    /**
+     * Gets the size of the captured state before compression.
+     *
+     * @return the length in bytes
+     */
+    public int getStateLength() {
+        return stateLength;
+    }
+
+    /**
+     * Gets the size of the captured state after compression.
+     *
+     * @return the length in bytes
+     */
+    public int getCompressedLength() {
+        return compressedState.length;
+    }
+
+    /**
+     * Encodes the snapshot.
+     *
+     * @return the encoded snapshot
+     */
+    public byte[] toByteArray() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(compressedState.length + levelClassName.length() + 32);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeUTF(levelClassName);
+            InputReplay.writeVarLong(out, tick);
+            InputReplay.writeVarLong(out, ticksPerSecond);
+            InputReplay.writeVarLong(out, stateLength);
+            out.write(compressedState);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a snapshot encoded by {@link #toByteArray()}.
+     *
+     * @param bytes the encoded snapshot
+     * @return the snapshot
+     * @throws IOException if the data is not a snapshot
+     */
+    public static LevelSnapshot fromByteArray(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        String levelClassName = in.readUTF();
+        long tick = InputReplay.readVarLong(in);
+        long ticksPerSecond = InputReplay.readVarLong(in);
+        long stateLength = InputReplay.readVarLong(in);
+        if (ticksPerSecond <= 0 || ticksPerSecond > Integer.MAX_VALUE || stateLength > Integer.MAX_VALUE) {
+            throw new IOException("Malformed snapshot header");
+        }
+        byte[] compressedState = in.readAllBytes();
+        return new LevelSnapshot(levelClassName, tick, (int) ticksPerSecond, (int) stateLength, compressedState);
+    }
+
+    /**
+     * Writes the snapshot to a save file, creating parent directories as needed.
+     *
+     * @param file the destination
+     * @throws IOException if writing fails
+     */
+    public void save(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.write(toByteArray());
+        }
+    }
+
+    /**
+     * Reads a snapshot from a save file.
+     *
+     * @param file the source
+     * @return the snapshot
+     * @throws IOException if reading fails or the file is not a save file
+     */
+    public static LevelSnapshot load(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a save file");
+            }
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported save version " + version);
+            }
+            return fromByteArray(in.readAllBytes());
+        }
+    }
+
+    private byte[] inflate() {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressedState);
+            byte[] state = new byte[stateLength];
+            int length = 0;
+            while (length < stateLength && !inflater.finished()) {
+                int read = inflater.inflate(state, length, stateLength - length);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += read;
+            }
+            if (length != stateLength) {
+                throw new IllegalStateException("Snapshot state is truncated");
+            }
+            return state;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Snapshot state is corrupt", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
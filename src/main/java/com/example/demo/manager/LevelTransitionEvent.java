@@ -0,0 +1,36 @@
+package com.example.demo.manager;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event spanning a level load, from leaving the old level to the new one
+ * starting. Its duration is the load latency. Disabled by default.
+ */
+@Name("com.example.demo.LevelTransition")
+@Label("Level Transition")
+@Category({"Sky Battle", "Levels"})
+@Description("Loading and starting a level")
+@Enabled(false)
+public class LevelTransitionEvent extends jdk.jfr.Event {
+
+    @Label("From Level")
+    String fromLevel;
+
+    @Label("To Level")
+    String toLevel;
+
+    /**
+     * Constructs a {@code LevelTransitionEvent}.
+     *
+     * @param fromLevel the class name of the level being left, or {@code null} if none
+     * @param toLevel   the class name of the level being loaded
+     */
+    public LevelTransitionEvent(String fromLevel, String toLevel) {
+        this.fromLevel = fromLevel;
+        this.toLevel = toLevel;
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.demo.manager;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.utilities.Constants;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs the actor update phase over several lists, splitting large populations into chunks
+ * updated on a fork-join pool. Small populations are updated in order on the calling thread.
+ * An actor's update may change only the actor itself and read actors that are not updated in
+ * the same call, so every actor ends the phase in the same state whichever thread updated it.
+ */
+public class ParallelActorUpdater {
+
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+    private final int chunkSize;
+
+    private List<? extends ActiveActorDestructible>[] chunkLists = newListArray(16);
+    private int[] chunkStarts = new int[16];
+    private int chunkCount;
+    private long parallelUpdateCount;
+
+    /**
+     * Constructs a {@code ParallelActorUpdater} using the common pool and the default threshold
+     * and chunk size.
+     */
+    public ParallelActorUpdater() {
+        this(ForkJoinPool.commonPool(), Constants.PARALLEL_UPDATE_MIN_ACTORS, Constants.PARALLEL_UPDATE_CHUNK_ACTORS);
+    }
+
+    /**
+     * Constructs a {@code ParallelActorUpdater}.
+     *
+     * @param pool              the pool that updates the chunks
+     * @param parallelThreshold the smallest total actor count updated on the pool
+     * @param chunkSize         the number of actors updated by one task
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive
+     */
+    public ParallelActorUpdater(ForkJoinPool pool, int parallelThreshold, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Checks whether a population of the given size would be updated on the pool.
+     *
+     * @param actorCount the total number of actors to update
+     * @return {@code true} if the update would be split across the pool
+     */
+    public boolean isParallel(int actorCount) {
+        return actorCount >= parallelThreshold && actorCount > chunkSize;
+    }
+
+    /**
+     * Updates every actor of the given lists, on the pool if there are enough of them.
+     * None of the lists may be modified until the call returns.
+     *
+     * @param lists the actor lists to update
+     * @return {@code true} if the actors were updated on the pool
+     */
+    public boolean update(List<? extends List<? extends ActiveActorDestructible>> lists) {
+        int actorCount = 0;
+        for (int i = 0; i < lists.size(); i++) {
+            actorCount += lists.get(i).size();
+        }
+        if (!isParallel(actorCount)) {
+            for (int i = 0; i < lists.size(); i++) {
+                updateRange(lists.get(i), 0, lists.get(i).size());
+            }
+            return false;
+        }
+
+        chunkCount = 0;
+        for (int i = 0; i < lists.size(); i++) {
+            List<? extends ActiveActorDestructible> list = lists.get(i);
+            for (int start = 0; start < list.size(); start += chunkSize) {
+                addChunk(list, start);
+            }
+        }
+        pool.invoke(new ChunkTask(0, chunkCount));
+        Arrays.fill(chunkLists, 0, chunkCount, null);
+        parallelUpdateCount++;
+        return true;
+    }
+
+    /**
+     * Gets how many update phases have run on the pool.
+     *
+     * @return the cumulative parallel phase count
+     */
+    public long getParallelUpdateCount() {
+        return parallelUpdateCount;
+    }
+
+    private void addChunk(List<? extends ActiveActorDestructible> list, int start) {
+        if (chunkCount == chunkStarts.length) {
+            chunkLists = Arrays.copyOf(chunkLists, chunkCount * 2);
+            chunkStarts = Arrays.copyOf(chunkStarts, chunkCount * 2);
+        }
+        chunkLists[chunkCount] = list;
+        chunkStarts[chunkCount] = start;
+        chunkCount++;
+    }
+
+    private void updateChunk(int chunk) {
+        List<? extends ActiveActorDestructible> list = chunkLists[chunk];
+        int start = chunkStarts[chunk];
+        updateRange(list, start, Math.min(start + chunkSize, list.size()));
+    }
+
+    private static void updateRange(List<? extends ActiveActorDestructible> list, int start, int end) {
+        for (int i = start; i < end; i++) {
+            list.get(i).updateActor();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<? extends ActiveActorDestructible>[] newListArray(int length) {
+        return (List<? extends ActiveActorDestructible>[]) new List<?>[length];
+    }
+
+    /**
+     * Updates a range of chunks, splitting it in half until a single chunk is left.
+     */
+    private final class ChunkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        private ChunkTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                updateChunk(from);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkTask(from, middle), new ChunkTask(middle, to));
+        }
+    }
+}
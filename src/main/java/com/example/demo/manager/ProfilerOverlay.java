@@ -0,0 +1,125 @@
+package com.example.demo.manager;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Polyline;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.util.Locale;
+
+/**
+ * On-screen readout of a {@link TickProfiler}: average and worst time per phase, actor counts,
+ * the number of scene-graph nodes and a sparkline of recent frame times.
+ * The text is rebuilt a few times per second rather than every frame so the overlay itself
+ * stays out of the numbers it shows.
+ */
+public class ProfilerOverlay {
+
+    private static final double X_POSITION = 10;
+    private static final double Y_POSITION = 80;
+    private static final double WIDTH = 300;
+    private static final double PADDING = 8;
+    private static final double SPARKLINE_HEIGHT = 40;
+    private static final double SPARKLINE_SCALE_NANOS = 50_000_000;
+    private static final long REFRESH_INTERVAL_NANOS = 250_000_000;
+
+    private final Group group = new Group();
+    private final Rectangle background = new Rectangle(WIDTH, 0, Color.rgb(0, 0, 0, 0.6));
+    private final Text text = new Text();
+    private final Polyline sparkline = new Polyline();
+    private final Rectangle frameBudgetLine = new Rectangle(WIDTH - 2 * PADDING, 1, Color.rgb(255, 80, 80, 0.7));
+    private long lastRefresh;
+
+    /**
+     * Constructs a {@code ProfilerOverlay}.
+     */
+    public ProfilerOverlay() {
+        text.setFont(Font.font("Monospaced", 12));
+        text.setFill(Color.WHITE);
+        text.setLayoutX(PADDING);
+        text.setLayoutY(PADDING + 12);
+        sparkline.setStroke(Color.LIMEGREEN);
+        group.getChildren().addAll(background, text, frameBudgetLine, sparkline);
+        group.setLayoutX(X_POSITION);
+        group.setLayoutY(Y_POSITION);
+        group.setMouseTransparent(true);
+    }
+
+    /**
+     * Gets the node to add to the scene.
+     *
+     * @return the overlay's group
+     */
+    public Group getGroup() {
+        return group;
+    }
+
+    /**
+     * Refreshes the readout if enough time has passed since the last refresh.
+     *
+     * @param profiler     the profiler to read
+     * @param actorCounts  a one-line summary of the actor counts per list
+     * @param sceneRoot    the root whose descendants are counted
+     * @param frameBudget  the target frame time in nanoseconds, drawn as a guide line
+     */
+    public void update(TickProfiler profiler, String actorCounts, Parent sceneRoot, long frameBudget) {
+        long now = System.nanoTime();
+        if (now - lastRefresh < REFRESH_INTERVAL_NANOS) {
+            return;
+        }
+        lastRefresh = now;
+
+        StringBuilder lines = new StringBuilder(String.format(Locale.ROOT, "%-16s %8s %8s%n", "phase", "avg us", "max us"));
+        long total = 0;
+        for (TickProfiler.Phase phase : TickProfiler.Phase.values()) {
+            long average = profiler.getAverageNanos(phase);
+            total += average;
+            lines.append(String.format(Locale.ROOT, "%-16s %8.1f %8.1f%n",
+                    phase.getLabel(), average / 1_000.0, profiler.getMaxNanos(phase) / 1_000.0));
+        }
+        lines.append(String.format(Locale.ROOT, "%-16s %8.1f%n", "total", total / 1_000.0))
+                .append(actorCounts).append('\n')
+                .append("nodes ").append(countNodes(sceneRoot));
+        text.setText(lines.toString());
+
+        double sparklineTop = text.getLayoutBounds().getHeight() + 2 * PADDING;
+        drawSparkline(profiler.getRecentFrameNanos(), profiler.getWindow(), sparklineTop);
+        frameBudgetLine.setX(PADDING);
+        frameBudgetLine.setY(sparklineTop + SPARKLINE_HEIGHT - scale(frameBudget));
+        background.setHeight(sparklineTop + SPARKLINE_HEIGHT + PADDING);
+    }
+
+    private void drawSparkline(long[] frames, int window, double top) {
+        double step = (WIDTH - 2 * PADDING) / Math.max(1, window - 1);
+        Double[] points = new Double[frames.length * 2];
+        for (int i = 0; i < frames.length; i++) {
+            points[2 * i] = PADDING + i * step;
+            points[2 * i + 1] = top + SPARKLINE_HEIGHT - scale(frames[i]);
+        }
+        sparkline.getPoints().setAll(points);
+    }
+
+    private static double scale(long nanos) {
+        return Math.min(1.0, nanos / SPARKLINE_SCALE_NANOS) * SPARKLINE_HEIGHT;
+    }
+
+    /**
+     * Counts a node and all of its descendants.
+     *
+     * @param node the root of the subtree
+     * @return the number of nodes in the subtree
+     */
+    static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+}
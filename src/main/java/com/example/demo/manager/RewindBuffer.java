@@ -0,0 +1,376 @@
+package com.example.demo.manager;
+
+import com.example.demo.utilities.BinaryStateWriter;
+import com.example.demo.utilities.Constants;
+import com.example.demo.utilities.SimulationClock;
+import com.example.demo.utilities.StateReader;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the last few seconds of a level's state so play can be run backwards.
+ *
+ * <p>After every tick the level's state is encoded and XORed with the state of the previous
+ * tick; the difference is stored with its zero runs collapsed, so a byte that did not change
+ * costs nothing. Because XOR is its own inverse, applying a tick's difference to its state
+ * yields the state one tick earlier, so stepping back from the newest tick is cheap. Every few
+ * ticks the full state is stored as well, which lets {@link #rewindTo(LevelManager, long)} reach
+ * any retained tick by decoding at most one full-frame interval of differences.</p>
+ *
+ * <p>Records go into a preallocated byte ring and the oldest ticks are dropped as it fills.
+ * Recording allocates nothing once the scratch buffers have grown to fit the level's state.</p>
+ */
+public class RewindBuffer {
+
+    private static final int MIN_ZERO_RUN = 4;
+
+    private final byte[] ring;
+    private final int mask;
+    private final int fullFrameInterval;
+
+    private final long[] entryTicks;
+    private final long[] entryStarts;
+    private final int[] deltaLengths;
+    private final int[] stateLengths;
+    private final boolean[] fullFrames;
+    private int oldest;
+    private int count;
+    private long writePosition;
+
+    private final BinaryStateWriter writer = new BinaryStateWriter(4096);
+    private byte[] last = new byte[4096];
+    private int lastLength;
+    private byte[] scratch = new byte[4096];
+    private byte[] work = new byte[4096];
+
+    /**
+     * Constructs a {@code RewindBuffer} sized by the default rewind duration and memory limit
+     * at the current tick rate.
+     */
+    public RewindBuffer() {
+        this(Constants.REWIND_BUFFER_BYTES, Constants.REWIND_SECONDS * SimulationClock.getTicksPerSecond(),
+                Constants.REWIND_FULL_FRAME_INTERVAL_TICKS);
+    }
+
+    /**
+     * Constructs a {@code RewindBuffer}.
+     *
+     * @param capacityBytes     the size of the byte ring, a power of two
+     * @param maxTicks          the most ticks to keep, however little they take
+     * @param fullFrameInterval the number of ticks between stored full states
+     * @throws IllegalArgumentException if a size is not positive or the capacity is not a power of two
+     */
+    public RewindBuffer(int capacityBytes, int maxTicks, int fullFrameInterval) {
+        if (capacityBytes <= 0 || Integer.bitCount(capacityBytes) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two: " + capacityBytes);
+        }
+        if (maxTicks < 2 || fullFrameInterval <= 0) {
+            throw new IllegalArgumentException("Need at least two ticks and a positive full-frame interval");
+        }
+        this.ring = new byte[capacityBytes];
+        this.mask = capacityBytes - 1;
+        this.fullFrameInterval = fullFrameInterval;
+        this.entryTicks = new long[maxTicks];
+        this.entryStarts = new long[maxTicks];
+        this.deltaLengths = new int[maxTicks];
+        this.stateLengths = new int[maxTicks];
+        this.fullFrames = new boolean[maxTicks];
+    }
+
+    /**
+     * Records the level's state after a tick. If the level's tick does not follow the newest
+     * recorded one, for example after a save was loaded, the history is dropped first.
+     *
+     * @param level the level to record
+     */
+    public void record(LevelManager level) {
+        long tick = level.getTickCount();
+        if (count > 0 && tick != entryTicks[index(count - 1)] + 1) {
+            clear();
+        }
+        writer.reset();
+        level.writeState(writer);
+        byte[] state = writer.getBuffer();
+        int length = writer.size();
+
+        int span = Math.max(length, lastLength);
+        ensureLastCapacity(span);
+        int deltaLength = encodeDelta(state, length, span);
+        boolean full = tick % fullFrameInterval == 0;
+        int recordLength = deltaLength + (full ? length : 0);
+        if (recordLength > ring.length) {
+            clear();
+            copyToLast(state, length);
+            return;
+        }
+        while (count > 0 && (count == entryTicks.length || writePosition + recordLength - entryStarts[oldest] > ring.length)) {
+            oldest = index(1);
+            count--;
+        }
+
+        int entry = index(count);
+        entryTicks[entry] = tick;
+        entryStarts[entry] = writePosition;
+        deltaLengths[entry] = deltaLength;
+        stateLengths[entry] = length;
+        fullFrames[entry] = full;
+        count++;
+        writeRing(scratch, deltaLength);
+        if (full) {
+            writeRing(state, length);
+        }
+        copyToLast(state, length);
+    }
+
+    /**
+     * Steps the level back by up to the given number of ticks.
+     *
+     * @param level the level to restore, the one being recorded
+     * @param ticks the number of ticks to go back
+     * @return {@code true} if the level moved back; {@code false} if no earlier tick is retained
+     */
+    public boolean stepBack(LevelManager level, int ticks) {
+        if (count < 2) {
+            return false;
+        }
+        long target = Math.max(getOldestTick(), getNewestTick() - ticks);
+        return rewindTo(level, target);
+    }
+
+    /**
+     * Restores the level to a retained tick and forgets every later tick.
+     * Decoding starts from the nearest full state at or after the target, or from the newest
+     * state if that is closer.
+     *
+     * @param level the level to restore, the one being recorded
+     * @param tick  the tick to return to
+     * @return {@code true} if the level was restored; {@code false} if the tick is not retained
+     */
+    public boolean rewindTo(LevelManager level, long tick) {
+        if (count == 0 || tick < getOldestTick() || tick > getNewestTick()) {
+            return false;
+        }
+        int target = (int) (tick - getOldestTick());
+        int start = count - 1;
+        for (int i = target; i < count - 1; i++) {
+            if (fullFrames[index(i)]) {
+                start = i;
+                break;
+            }
+        }
+
+        int length;
+        if (start == count - 1) {
+            length = lastLength;
+            ensureWorkCapacity(length);
+            System.arraycopy(last, 0, work, 0, length);
+        } else {
+            int entry = index(start);
+            length = stateLengths[entry];
+            ensureWorkCapacity(length);
+            readRing(entryStarts[entry] + deltaLengths[entry], work, length);
+        }
+        for (int i = start; i > target; i--) {
+            int entry = index(i);
+            int previousLength = stateLengths[index(i - 1)];
+            ensureWorkCapacity(Math.max(length, previousLength));
+            Arrays.fill(work, length, Math.max(length, previousLength), (byte) 0);
+            applyDelta(entry);
+            length = previousLength;
+        }
+
+        level.readState(new StateReader(work, length));
+        int kept = index(target);
+        writePosition = entryStarts[kept] + deltaLengths[kept] + (fullFrames[kept] ? stateLengths[kept] : 0);
+        count = target + 1;
+        copyToLast(work, length);
+        return true;
+    }
+
+    /**
+     * Forgets every recorded tick.
+     */
+    public void clear() {
+        oldest = 0;
+        count = 0;
+        writePosition = 0;
+        Arrays.fill(last, 0, lastLength, (byte) 0);
+        lastLength = 0;
+    }
+
+    /**
+     * Gets the number of ticks the level can currently be stepped back.
+     *
+     * @return the retained history in ticks
+     */
+    public int getAvailableTicks() {
+        return Math.max(0, count - 1);
+    }
+
+    /**
+     * Gets the earliest tick the level can be restored to.
+     *
+     * @return the oldest retained tick, or {@code -1} if nothing is recorded
+     */
+    public long getOldestTick() {
+        return count > 0 ? entryTicks[oldest] : -1;
+    }
+
+    /**
+     * Gets the most recently recorded tick.
+     *
+     * @return the newest tick, or {@code -1} if nothing is recorded
+     */
+    public long getNewestTick() {
+        return count > 0 ? entryTicks[index(count - 1)] : -1;
+    }
+
+    /**
+     * Gets the number of ring bytes holding retained ticks.
+     *
+     * @return the bytes in use
+     */
+    public long getUsedBytes() {
+        return count > 0 ? writePosition - entryStarts[oldest] : 0;
+    }
+
+    /**
+     * Gets the size of the byte ring.
+     *
+     * @return the capacity in bytes
+     */
+    public int getCapacityBytes() {
+        return ring.length;
+    }
+
+    private int index(int offset) {
+        return (oldest + offset) % entryTicks.length;
+    }
+
+    /**
+     * Encodes {@code state XOR last} over {@code span} bytes into {@link #scratch} as a series of
+     * (zero run, literal length, literal bytes) groups with variable-length counts. Zero runs
+     * shorter than {@link #MIN_ZERO_RUN} stay inside literals, and a trailing zero run is omitted.
+     *
+     * @return the encoded length
+     */
+    private int encodeDelta(byte[] state, int length, int span) {
+        ensureScratchCapacity(3 * span + 16);
+        byte[] out = scratch;
+        int written = 0;
+        int pos = 0;
+        while (pos < span) {
+            int runStart = pos;
+            while (pos < span && xor(state, length, pos) == 0) {
+                pos++;
+            }
+            if (pos == span) {
+                break;
+            }
+            int literalStart = pos;
+            int literalEnd = pos;
+            while (pos < span && pos - literalEnd < MIN_ZERO_RUN) {
+                if (xor(state, length, pos) != 0) {
+                    literalEnd = pos + 1;
+                }
+                pos++;
+            }
+            pos = literalEnd;
+            written = writeVarInt(out, written, literalStart - runStart);
+            written = writeVarInt(out, written, literalEnd - literalStart);
+            for (int i = literalStart; i < literalEnd; i++) {
+                out[written++] = xor(state, length, i);
+            }
+        }
+        return written;
+    }
+
+    private byte xor(byte[] state, int length, int pos) {
+        return (byte) ((pos < length ? state[pos] : 0) ^ last[pos]);
+    }
+
+    /**
+     * XORs an entry's stored difference into {@link #work}.
+     */
+    private void applyDelta(int entry) {
+        long read = entryStarts[entry];
+        long end = read + deltaLengths[entry];
+        int pos = 0;
+        while (read < end) {
+            int value = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = ring[(int) (read++ & mask)];
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    break;
+                }
+            }
+            pos += value;
+            int literalLength = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = ring[(int) (read++ & mask)];
+                literalLength |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    break;
+                }
+            }
+            for (int i = 0; i < literalLength; i++) {
+                work[pos++] ^= ring[(int) (read++ & mask)];
+            }
+        }
+    }
+
+    private static int writeVarInt(byte[] out, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            out[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[position++] = (byte) value;
+        return position;
+    }
+
+    private void writeRing(byte[] source, int length) {
+        int start = (int) (writePosition & mask);
+        int first = Math.min(length, ring.length - start);
+        System.arraycopy(source, 0, ring, start, first);
+        System.arraycopy(source, first, ring, 0, length - first);
+        writePosition += length;
+    }
+
+    private void readRing(long position, byte[] target, int length) {
+        int start = (int) (position & mask);
+        int first = Math.min(length, ring.length - start);
+        System.arraycopy(ring, start, target, 0, first);
+        System.arraycopy(ring, 0, target, first, length - first);
+    }
+
+    /**
+     * Makes {@code state} the newest state, keeping every byte past its length zero.
+     */
+    private void copyToLast(byte[] state, int length) {
+        ensureLastCapacity(length);
+        System.arraycopy(state, 0, last, 0, length);
+        if (lastLength > length) {
+            Arrays.fill(last, length, lastLength, (byte) 0);
+        }
+        lastLength = length;
+    }
+
+    private void ensureLastCapacity(int length) {
+        if (last.length < length) {
+            last = Arrays.copyOf(last, Math.max(length, last.length * 2));
+        }
+    }
+
+    private void ensureScratchCapacity(int length) {
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+    }
+
+    private void ensureWorkCapacity(int length) {
+        if (work.length < length) {
+            work = Arrays.copyOf(work, Math.max(length, work.length * 2));
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.demo.manager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Result of a {@link ScenarioRunner} run: throughput, tick-time percentiles, allocation and GC activity.
+ * The report is written as sorted {@code key=value} lines, one metric per line, so two runs can be
+ * compared with a plain text diff.
+ */
+public class ScenarioReport {
+
+    private final String scenario;
+    private final String levelClassName;
+    private final long seed;
+    private final LevelManager.Outcome outcome;
+    private final long[] sortedTickNanos;
+    private final long wallNanos;
+    private final long allocatedBytes;
+    private final long gcCount;
+    private final long gcMillis;
+    private final int finalActorCount;
+
+    /**
+     * Constructs a {@code ScenarioReport}.
+     *
+     * @param scenario        the scenario name
+     * @param levelClassName  the level that was run
+     * @param seed            the level's random seed
+     * @param outcome         how the level ended
+     * @param tickNanos       the duration of every measured tick, in any order
+     * @param wallNanos       the wall-clock time of the measured section
+     * @param allocatedBytes  the bytes allocated by the simulating thread, or {@code -1} if unknown
+     * @param gcCount         the number of collections during the measured section
+     * @param gcMillis        the accumulated collection time during the measured section
+     * @param finalActorCount the number of actors left in the level
+     */
+    public ScenarioReport(String scenario, String levelClassName, long seed, LevelManager.Outcome outcome,
+                          long[] tickNanos, long wallNanos, long allocatedBytes, long gcCount, long gcMillis,
+                          int finalActorCount) {
+        this.scenario = scenario;
+        this.levelClassName = levelClassName;
+        this.seed = seed;
+        this.outcome = outcome;
+        this.sortedTickNanos = tickNanos.clone();
+        Arrays.sort(this.sortedTickNanos);
+        this.wallNanos = wallNanos;
+        this.allocatedBytes = allocatedBytes;
+        this.gcCount = gcCount;
+        this.gcMillis = gcMillis;
+        this.finalActorCount = finalActorCount;
+    }
+
+    /**
+     * Gets the scenario name.
+     *
+     * @return the name the scenario was run under
+     */
+    public String getScenario() {
+        return scenario;
+    }
+
+    /**
+     * Gets the number of measured ticks.
+     *
+     * @return the tick count
+     */
+    public int getTicks() {
+        return sortedTickNanos.length;
+    }
+
+    /**
+     * Gets how the level ended.
+     *
+     * @return the outcome, {@link LevelManager.Outcome#IN_PROGRESS} if the tick limit was hit
+     */
+    public LevelManager.Outcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Gets the measured throughput.
+     *
+     * @return simulated ticks per wall-clock second
+     */
+    public double getTicksPerSecond() {
+        return wallNanos > 0 ? sortedTickNanos.length * 1_000_000_000.0 / wallNanos : 0;
+    }
+
+    /**
+     * Gets a tick-time percentile using the nearest-rank method.
+     *
+     * @param percentile the percentile in {@code (0, 100]}
+     * @return the tick time in nanoseconds, or {@code 0} if no ticks were measured
+     */
+    public long getTickNanosPercentile(double percentile) {
+        if (sortedTickNanos.length == 0) {
+            return 0;
+        }
+        // The small tolerance keeps ranks like 99.9% of 1000 from rounding up past 999
+        int rank = (int) Math.ceil(percentile * sortedTickNanos.length / 100.0 - 1e-9);
+        return sortedTickNanos[Math.min(sortedTickNanos.length, Math.max(1, rank)) - 1];
+    }
+
+    /**
+     * Gets the bytes allocated by the simulating thread during the measured ticks.
+     *
+     * @return the allocated bytes, or {@code -1} if the JVM cannot report them
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Gets the average bytes allocated per measured tick.
+     *
+     * @return the bytes per tick, or {@code -1} if the JVM cannot report allocations or no tick was measured
+     */
+    public long getAllocatedBytesPerTick() {
+        int ticks = sortedTickNanos.length;
+        return allocatedBytes < 0 || ticks == 0 ? -1 : allocatedBytes / ticks;
+    }
+
+    /**
+     * Gets the number of garbage collections during the measured ticks.
+     *
+     * @return the collection count
+     */
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    /**
+     * Formats the report as sorted {@code key=value} lines.
+     *
+     * @return the report text
+     */
+    public String format() {
+        double seconds = wallNanos / 1_000_000_000.0;
+        int ticks = sortedTickNanos.length;
+        StringBuilder text = new StringBuilder();
+        line(text, "actors.final", finalActorCount);
+        line(text, "alloc.bytes", allocatedBytes);
+        line(text, "alloc.bytesPerTick", getAllocatedBytesPerTick());
+        line(text, "alloc.mbPerSecond", allocatedBytes < 0 || seconds == 0 ? "-1"
+                : String.format(Locale.ROOT, "%.2f", allocatedBytes / 1_048_576.0 / seconds));
+        line(text, "gc.count", gcCount);
+        line(text, "gc.millis", gcMillis);
+        line(text, "level", levelClassName);
+        line(text, "outcome", outcome);
+        line(text, "scenario", scenario);
+        line(text, "seed", seed);
+        line(text, "tick.nanos.max", ticks == 0 ? 0 : sortedTickNanos[ticks - 1]);
+        line(text, "tick.nanos.p50", getTickNanosPercentile(50));
+        line(text, "tick.nanos.p99", getTickNanosPercentile(99));
+        line(text, "tick.nanos.p99.9", getTickNanosPercentile(99.9));
+        line(text, "ticks", ticks);
+        line(text, "ticks.perSecond", String.format(Locale.ROOT, "%.1f", getTicksPerSecond()));
+        return text.toString();
+    }
+
+    /**
+     * Writes the report to a file, creating parent directories as needed.
+     *
+     * @param file the destination
+     */
+    public void write(Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.writeString(file, format());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+
+    private static void line(StringBuilder text, String key, Object value) {
+        text.append(key).append('=').append(value).append('\n');
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.demo.manager;
+
+import com.example.demo.levels.StressLevel;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Macro-benchmark that runs a whole level headless under scripted input and times every
+ * {@link LevelManager#tick()}. A run first warms the level up without measuring, then records
+ * tick durations together with the allocation and GC activity of the measured section.
+ *
+ * <p>Enemy and projectile counts can only be set for {@link StressLevel}; the story levels
+ * keep their own spawning rules.</p>
+ */
+public class ScenarioRunner {
+
+    private static final int UNSET = -1;
+
+    private final String scenario;
+    private final String levelClassName;
+    private long seed = 1L;
+    private int warmupTicks = 600;
+    private int ticks = 6_000;
+    private int enemyCount = UNSET;
+    private int projectileCount = UNSET;
+    private InputScript inputScript = InputScript.patrolAndFire(60);
+    private boolean rewindEnabled;
+
+    /**
+     * Constructs a {@code ScenarioRunner}.
+     *
+     * @param scenario       a name for the scenario, recorded in the report
+     * @param levelClassName the fully qualified class name of the level to run
+     */
+    public ScenarioRunner(String scenario, String levelClassName) {
+        this.scenario = scenario;
+        this.levelClassName = levelClassName;
+    }
+
+    /**
+     * Sets the level's random seed. Defaults to {@code 1} so repeated runs are comparable.
+     *
+     * @param seed the seed
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets how many ticks run before measurement starts.
+     *
+     * @param warmupTicks the number of unmeasured ticks
+     */
+    public void setWarmupTicks(int warmupTicks) {
+        this.warmupTicks = warmupTicks;
+    }
+
+    /**
+     * Sets how many ticks are measured.
+     *
+     * @param ticks the number of measured ticks
+     */
+    public void setTicks(int ticks) {
+        this.ticks = ticks;
+    }
+
+    /**
+     * Sets how many enemies a {@link StressLevel} keeps alive.
+     *
+     * @param enemyCount the number of enemies
+     */
+    public void setEnemyCount(int enemyCount) {
+        this.enemyCount = enemyCount;
+    }
+
+    /**
+     * Sets how many projectiles a {@link StressLevel} keeps in flight.
+     *
+     * @param projectileCount the number of projectiles
+     */
+    public void setProjectileCount(int projectileCount) {
+        this.projectileCount = projectileCount;
+    }
+
+    /**
+     * Sets the input applied before every tick.
+     *
+     * @param inputScript the scripted input
+     */
+    public void setInputScript(InputScript inputScript) {
+        this.inputScript = inputScript;
+    }
+
+    /**
+     * Sets whether the level records its rewind history, as a displayed level does.
+     *
+     * @param rewindEnabled {@code true} to measure ticks with rewind recording
+     */
+    public void setRewindEnabled(boolean rewindEnabled) {
+        this.rewindEnabled = rewindEnabled;
+    }
+
+    /**
+     * Runs the scenario. Measurement stops early if the level ends.
+     *
+     * @return the report of the measured ticks
+     * @throws IllegalArgumentException if actor counts are set for a level other than {@link StressLevel}
+     */
+    public ScenarioReport run() {
+        HeadlessRunner runner = new HeadlessRunner(levelClassName);
+        runner.setSeed(seed);
+        LevelManager level = runner.createLevel();
+        configureCounts(level);
+        level.setRewindEnabled(rewindEnabled);
+
+        long tick = 0;
+        for (; tick < warmupTicks && level.getOutcome() == LevelManager.Outcome.IN_PROGRESS; tick++) {
+            inputScript.apply(level, tick);
+            level.tick();
+        }
+
+        long[] tickNanos = new long[ticks];
+        int measured = 0;
+        long gcCountBefore = totalGcCount();
+        long gcMillisBefore = totalGcMillis();
+        long allocatedBefore = currentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        while (measured < ticks && level.getOutcome() == LevelManager.Outcome.IN_PROGRESS) {
+            inputScript.apply(level, tick++);
+            long tickStart = System.nanoTime();
+            level.tick();
+            tickNanos[measured++] = System.nanoTime() - tickStart;
+        }
+        long wallNanos = System.nanoTime() - start;
+        long allocatedAfter = currentThreadAllocatedBytes();
+
+        long allocated = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+        long[] recorded = measured == ticks ? tickNanos : Arrays.copyOf(tickNanos, measured);
+        return new ScenarioReport(scenario, levelClassName, seed, level.getOutcome(), recorded, wallNanos,
+                allocated, totalGcCount() - gcCountBefore, totalGcMillis() - gcMillisBefore, level.getActorCount());
+    }
+
+    /**
+     * Runs a scenario from the command line and writes its report.
+     * Arguments: level class name, measured ticks, enemy count, projectile count, report path;
+     * all optional. Counts of {@code -1} keep the level's defaults.
+     *
+     * @param args the command-line arguments
+     */
+    public static void main(String[] args) {
+        String levelClassName = args.length > 0 ? args[0] : StressLevel.class.getName();
+        ScenarioRunner runner = new ScenarioRunner(levelClassName.substring(levelClassName.lastIndexOf('.') + 1), levelClassName);
+        if (args.length > 1) {
+            runner.setTicks(Integer.parseInt(args[1]));
+        }
+        if (args.length > 2) {
+            runner.setEnemyCount(Integer.parseInt(args[2]));
+        }
+        if (args.length > 3) {
+            runner.setProjectileCount(Integer.parseInt(args[3]));
+        }
+        ScenarioReport report = runner.run();
+        System.out.print(report.format());
+        if (args.length > 4) {
+            report.write(Path.of(args[4]));
+        }
+    }
+
+    private void configureCounts(LevelManager level) {
+        if (enemyCount == UNSET && projectileCount == UNSET) {
+            return;
+        }
+        if (!(level instanceof StressLevel)) {
+            throw new IllegalArgumentException("Actor counts can only be set for " + StressLevel.class.getSimpleName());
+        }
+        StressLevel stressLevel = (StressLevel) level;
+        if (enemyCount != UNSET) {
+            stressLevel.setEnemyCount(enemyCount);
+        }
+        if (projectileCount != UNSET) {
+            stressLevel.setProjectileCount(projectileCount);
+        }
+    }
+
+    private static long totalGcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long totalGcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, gc.getCollectionTime());
+        }
+        return millis;
+    }
+
+    /**
+     * Reads the bytes allocated so far by the calling thread, if the JVM supports it.
+     *
+     * @return the allocated bytes, or {@code -1} if unavailable
+     */
+    static long currentThreadAllocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean allocationBean
+                && allocationBean.isThreadAllocatedMemorySupported()
+                && allocationBean.isThreadAllocatedMemoryEnabled()) {
+            return allocationBean.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.demo.manager;
+
+import java.util.Arrays;
+
+/**
+ * The state hash of a level after each tick of a run, as computed by
+ * {@link LevelManager#computeStateHash()}. Comparing the logs of two runs that should be
+ * identical, such as a recorded game and its replay, finds the first tick at which they differ.
+ *
+ * <p>The log covers a contiguous range of ticks. Recording a tick at or before the last one,
+ * as happens after a rewind or a restored save, drops the later ticks first, so the log always
+ * describes the run that led to the level's current state.</p>
+ */
+public class StateHashLog {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] hashes = new long[INITIAL_CAPACITY];
+    private long firstTick = -1;
+    private int size;
+
+    /**
+     * Records the level's current state hash for its current tick.
+     *
+     * @param level the level to record
+     */
+    public void record(LevelManager level) {
+        record(level.getTickCount(), level.computeStateHash());
+    }
+
+    /**
+     * Records a state hash.
+     *
+     * @param tick the tick the hash belongs to
+     * @param hash the state hash
+     */
+    public void record(long tick, long hash) {
+        if (size == 0 || tick < firstTick || tick > firstTick + size) {
+            firstTick = tick;
+            size = 0;
+        } else {
+            size = (int) (tick - firstTick);
+        }
+        if (size == hashes.length) {
+            hashes = Arrays.copyOf(hashes, hashes.length * 2);
+        }
+        hashes[size++] = hash;
+    }
+
+    /**
+     * Gets the first recorded tick.
+     *
+     * @return the first tick, or {@code -1} if nothing is recorded
+     */
+    public long getFirstTick() {
+        return size > 0 ? firstTick : -1;
+    }
+
+    /**
+     * Gets the last recorded tick.
+     *
+     * @return the last tick, or {@code -1} if nothing is recorded
+     */
+    public long getLastTick() {
+        return size > 0 ? firstTick + size - 1 : -1;
+    }
+
+    /**
+     * Checks whether a tick's hash is recorded.
+     *
+     * @param tick the tick
+     * @return {@code true} if the log holds the tick
+     */
+    public boolean contains(long tick) {
+        return size > 0 && tick >= firstTick && tick < firstTick + size;
+    }
+
+    /**
+     * Gets the state hash recorded for a tick.
+     *
+     * @param tick the tick
+     * @return the hash
+     * @throws IllegalArgumentException if the tick is not recorded
+     */
+    public long getHash(long tick) {
+        if (!contains(tick)) {
+            throw new IllegalArgumentException("Tick " + tick + " is not recorded");
+        }
+        return hashes[(int) (tick - firstTick)];
+    }
+
+    /**
+     * Finds the first tick both logs recorded with different hashes.
+     *
+     * @param other the log of the run to compare with
+     * @return the first diverging tick, or {@code -1} if the logs agree wherever both have a hash
+     */
+    public long firstDivergence(StateHashLog other) {
+        long from = Math.max(getFirstTick(), other.getFirstTick());
+        long to = Math.min(getLastTick(), other.getLastTick());
+        for (long tick = from; tick <= to && tick >= 0; tick++) {
+            if (getHash(tick) != other.getHash(tick)) {
+                return tick;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Forgets every recorded hash.
+     */
+    public void clear() {
+        firstTick = -1;
+        size = 0;
+    }
+}
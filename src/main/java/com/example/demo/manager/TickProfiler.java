@@ -0,0 +1,183 @@
+package com.example.demo.manager;
+
+/**
+ * Rolling timings of the phases of a level's tick and render, plus recent frame times.
+ * The level brackets each phase with {@link #begin()} and {@link #mark(Phase)}; every mark
+ * records the time since the previous mark into that phase's ring of recent samples.
+ * A level only holds a profiler while profiling is switched on, so an idle profiler costs nothing.
+ */
+public class TickProfiler {
+
+    /**
+     * The measured phases, in the order they run.
+     */
+    public enum Phase {
+        PREVIOUS_POSITIONS("prev positions"),
+        SPAWN("spawn"),
+        UPDATE_ACTORS("update actors"),
+        ENEMY_FIRE("enemy fire"),
+        DESPAWN("despawn"),
+        CAPTURE_BOUNDS("capture bounds"),
+        PLANE_COLLISIONS("plane hits"),
+        USER_PROJECTILE_COLLISIONS("user shot hits"),
+        ENEMY_PROJECTILE_COLLISIONS("enemy shot hits"),
+        REMOVAL("removal"),
+        GAME_OVER_CHECK("game over check"),
+        VIEW_SYNC("view sync"),
+        HUD("hud");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Gets the short name shown in the overlay.
+         *
+         * @return the label
+         */
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final int window;
+    private final long[][] phaseSamples;
+    private final int[] phaseCursor = new int[PHASES.length];
+    private final long[] phaseCount = new long[PHASES.length];
+    private final long[] phaseLast = new long[PHASES.length];
+    private final long[] frameSamples;
+    private int frameCursor;
+    private long frameCount;
+    private long lastMark;
+
+    /**
+     * Constructs a {@code TickProfiler}.
+     *
+     * @param window how many recent samples are kept per phase and for frame times
+     * @throws IllegalArgumentException if {@code window} is not positive
+     */
+    public TickProfiler(int window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("Window must be positive: " + window);
+        }
+        this.window = window;
+        this.phaseSamples = new long[PHASES.length][window];
+        this.frameSamples = new long[window];
+    }
+
+    /**
+     * Starts timing from now; the next {@link #mark(Phase)} measures from this point.
+     */
+    public void begin() {
+        lastMark = System.nanoTime();
+    }
+
+    /**
+     * Ends a phase, recording the time since the previous mark or {@link #begin()}.
+     *
+     * @param phase the phase that just finished
+     */
+    public void mark(Phase phase) {
+        long now = System.nanoTime();
+        record(phase, now - lastMark);
+        lastMark = now;
+    }
+
+    /**
+     * Records a duration for a phase.
+     *
+     * @param phase the phase
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(Phase phase, long nanos) {
+        int index = phase.ordinal();
+        phaseSamples[index][phaseCursor[index]] = nanos;
+        phaseLast[index] = nanos;
+        phaseCursor[index] = (phaseCursor[index] + 1) % window;
+        phaseCount[index]++;
+    }
+
+    /**
+     * Records the wall-clock length of a displayed frame.
+     *
+     * @param nanos the frame time in nanoseconds
+     */
+    public void recordFrame(long nanos) {
+        frameSamples[frameCursor] = nanos;
+        frameCursor = (frameCursor + 1) % window;
+        frameCount++;
+    }
+
+    /**
+     * Gets the most recent sample of a phase.
+     *
+     * @param phase the phase
+     * @return the latest duration in nanoseconds, or {@code 0} if none was recorded
+     */
+    public long getLastNanos(Phase phase) {
+        return phaseLast[phase.ordinal()];
+    }
+
+    /**
+     * Gets the average of a phase's recent samples.
+     *
+     * @param phase the phase
+     * @return the average duration in nanoseconds, or {@code 0} if none were recorded
+     */
+    public long getAverageNanos(Phase phase) {
+        int index = phase.ordinal();
+        int samples = (int) Math.min(phaseCount[index], window);
+        if (samples == 0) {
+            return 0;
+        }
+        long sum = 0;
+        for (int i = 0; i < samples; i++) {
+            sum += phaseSamples[index][i];
+        }
+        return sum / samples;
+    }
+
+    /**
+     * Gets the longest of a phase's recent samples.
+     *
+     * @param phase the phase
+     * @return the maximum duration in nanoseconds, or {@code 0} if none were recorded
+     */
+    public long getMaxNanos(Phase phase) {
+        int index = phase.ordinal();
+        int samples = (int) Math.min(phaseCount[index], window);
+        long max = 0;
+        for (int i = 0; i < samples; i++) {
+            max = Math.max(max, phaseSamples[index][i]);
+        }
+        return max;
+    }
+
+    /**
+     * Copies the recent frame times, oldest first.
+     *
+     * @return the frame times in nanoseconds
+     */
+    public long[] getRecentFrameNanos() {
+        int samples = (int) Math.min(frameCount, window);
+        long[] frames = new long[samples];
+        int start = samples < window ? 0 : frameCursor;
+        for (int i = 0; i < samples; i++) {
+            frames[i] = frameSamples[(start + i) % window];
+        }
+        return frames;
+    }
+
+    /**
+     * Gets how many samples are kept per phase.
+     *
+     * @return the window size
+     */
+    public int getWindow() {
+        return window;
+    }
+}
@@ -28,6 +28,7 @@ public class UIManager {
     private final double screenHeight;
     private final Group root;
     private final Controller controller;
+    private Pane menuPane;
 
     public UIManager(double screenWidth, double screenHeight, Group root, Controller controller) {
         this.screenWidth = screenWidth;
@@ -42,7 +43,7 @@ public class UIManager {
         if (levelView instanceof LevelViewLevelThree && boss != null) {
             LevelViewLevelThree levelThreeView = (LevelViewLevelThree) levelView;
             levelThreeView.updateBossHealthBar(boss.getHealth(), 100);
-            levelThreeView.updateShieldPosition(boss.getTranslateX(), boss.getTranslateY());
+            levelThreeView.updateShieldPosition(boss.getLayoutX() + boss.getPositionX(), boss.getLayoutY() + boss.getPositionY());
             if (boss.isShielded()) {
                 levelThreeView.showShield();
             } else {
@@ -78,6 +79,7 @@ public class UIManager {
         gameOverPane.getChildren().add(menuBox);
 
         root.getChildren().add(gameOverPane);
+        menuPane = gameOverPane;
     }
 
     public void showWinMenu(Runnable restartToLevelOne, Runnable goToMainMenu) {
@@ -108,6 +110,14 @@ public class UIManager {
         winPane.getChildren().add(menuBox);
 
         root.getChildren().add(winPane);
+        menuPane = winPane;
+    }
+
+    public void hideMenu() {
+        if (menuPane != null) {
+            root.getChildren().remove(menuPane);
+            menuPane = null;
+        }
     }
 
     public void startCountdown(Runnable onComplete, String levelNumber) {
@@ -2,12 +2,12 @@ package com.example.demo.models;
 
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.manager.LevelManager;
-import com.example.demo.levels.LevelThree;
 import com.example.demo.utilities.Constants;
-import com.example.demo.view.LevelViewLevelThree;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.util.Duration;
+import com.example.demo.utilities.GameRandom;
+import com.example.demo.utilities.RandomStream;
+import com.example.demo.utilities.SimulationClock;
+import com.example.demo.utilities.StateReader;
+import com.example.demo.utilities.StateWriter;
 
 import java.util.*;
 
@@ -16,7 +16,7 @@ import java.util.*;
  * Extends {@link FighterPlane} and incorporates complex behaviors such as movement patterns,
  * shield management, and projectile firing.
  */
-public class Boss extends FighterPlane {
+public final class Boss extends FighterPlane {
 
     private final List<Integer> movePattern;
     private boolean isShielded;
@@ -28,6 +28,9 @@ public class Boss extends FighterPlane {
     private boolean shieldDestroyed = false;
 
     private final LevelManager level;
+    private final RandomStream movementRandom;
+    private final RandomStream fireRandom;
+    private final RandomStream shieldRandom;
 
     /**
      * Constructs a {@code Boss} with specified level manager.
@@ -37,6 +40,9 @@ public class Boss extends FighterPlane {
     public Boss(LevelManager level) {
         super(Constants.BOSS_IMAGE_NAME, Constants.BOSS_IMAGE_HEIGHT, Constants.BOSS_INITIAL_X_POSITION, Constants.BOSS_INITIAL_Y_POSITION, Constants.BOSS_HEALTH);
         this.level = level;
+        this.movementRandom = level.getRandom().stream(GameRandom.Channel.BOSS_MOVEMENT);
+        this.fireRandom = level.getRandom().stream(GameRandom.Channel.BOSS_FIRE);
+        this.shieldRandom = level.getRandom().stream(GameRandom.Channel.BOSS_SHIELD);
         this.movePattern = new ArrayList<>();
         this.consecutiveMovesInSameDirection = 0;
         this.indexOfCurrentMove = 0;
@@ -51,65 +57,40 @@ public class Boss extends FighterPlane {
      */
     @Override
     public void updatePosition() {
-        double initialTranslateY = getTranslateY();
-        moveVertically(getNextMove());
-        double currentPosition = getLayoutY() + getTranslateY();
+        double initialTranslateY = getPositionY();
+        moveVertically(getNextMove() * SimulationClock.getTickSeconds());
+        double currentPosition = getLayoutY() + getPositionY();
 
         if (currentPosition < Constants.BOSS_Y_POSITION_UPPER_BOUND || currentPosition > Constants.BOSS_Y_POSITION_LOWER_BOUND) {
-            setTranslateY(initialTranslateY);
+            setPositionY(initialTranslateY);
         }
     }
 
     /**
      * Updates the boss's actor state, including position and shield status.
-     * Also notifies the level about the shield's current position.
      */
     @Override
     public void updateActor() {
         updatePosition();
         updateShield();
-        notifyShieldPosition();
-    }
-
-    /**
-     * Notifies the {@link LevelThree} about the boss's current shield position.
-     * This allows the level to update UI elements accordingly.
-     */
-    private void notifyShieldPosition() {
-        if (level instanceof LevelThree) {
-            double bossActualX = getLayoutX() + getTranslateX();
-            double bossActualY = getLayoutY() + getTranslateY();
-            ((LevelThree) level).updateBossShieldPosition(bossActualX, bossActualY);
-        }
     }
 
     /**
      * Fires a projectile from the boss based on firing conditions.
      * The projectile targets the {@link UserPlane}.
      *
-     * @return a new {@link BossProjectile} if firing conditions are met; {@code null} otherwise
+     * @return a pooled {@link BossProjectile} if firing conditions are met; {@code null} otherwise
      */
     @Override
     public ActiveActorDestructible fireProjectile() {
         if (bossFiresInCurrentFrame()) {
-            double adjustedProjectileX = getLayoutX() + getTranslateX() - 50;
-            double adjustedProjectileY = getLayoutY() + getTranslateY() + Constants.BOSS_PROJECTILE_Y_POSITION_OFFSET;
-            return new BossProjectile(adjustedProjectileX, adjustedProjectileY, level.getUserPlane());
+            double adjustedProjectileX = getLayoutX() + getPositionX() - 50;
+            double adjustedProjectileY = getLayoutY() + getPositionY() + Constants.BOSS_PROJECTILE_Y_POSITION_OFFSET;
+            return level.getProjectileFactory().createBossProjectile(adjustedProjectileX, adjustedProjectileY, level.getUserPlane());
         }
         return null;
     }
 
-    /**
-     * Updates the shield health bar in the level's UI.
-     * Specifically tailored for {@link LevelViewLevelThree}.
-     */
-    private void updateShieldHealthBar() {
-        if (level.getLevelView() instanceof LevelViewLevelThree) {
-            LevelViewLevelThree levelViewLevelThree = (LevelViewLevelThree) level.getLevelView();
-            levelViewLevelThree.updateShieldHealthBar(shieldHealth, Constants.BOSS_SHIELD_MAX_HEALTH);
-        }
-    }
-
     /**
      * Applies damage to the boss.
      * If the shield is active, damage is applied to the shield instead.
@@ -119,8 +100,7 @@ public class Boss extends FighterPlane {
     public void takeDamage() {
         if (isShielded) {
             shieldHealth--;
-            updateShieldHealthBar();
-            showShieldHitEffect();
+            getEffects().onShieldHit(this);
             if (shieldHealth <= 0) {
                 deactivateShield();
                 shieldDestroyed = true;
@@ -140,7 +120,7 @@ public class Boss extends FighterPlane {
             movePattern.add(-Constants.BOSS_VERTICAL_VELOCITY);
             movePattern.add(Constants.BOSS_ZERO_VELOCITY);
         }
-        Collections.shuffle(movePattern);
+        movementRandom.shuffle(movePattern);
     }
 
     /**
@@ -176,8 +156,8 @@ public class Boss extends FighterPlane {
     private int getNextMove() {
         int currentMove = movePattern.get(indexOfCurrentMove);
         consecutiveMovesInSameDirection++;
-        if (consecutiveMovesInSameDirection == Constants.BOSS_MAX_FRAMES_WITH_SAME_MOVE) {
-            Collections.shuffle(movePattern);
+        if (consecutiveMovesInSameDirection >= SimulationClock.ticksFor(Constants.BOSS_MAX_SECONDS_WITH_SAME_MOVE)) {
+            movementRandom.shuffle(movePattern);
             consecutiveMovesInSameDirection = 0;
             indexOfCurrentMove++;
         }
@@ -193,7 +173,7 @@ public class Boss extends FighterPlane {
      * @return {@code true} if the boss fires a projectile; {@code false} otherwise
      */
     private boolean bossFiresInCurrentFrame() {
-        return Math.random() < Constants.BOSS_FIRE_RATE;
+        return fireRandom.chance(SimulationClock.chancePerTick(Constants.BOSS_FIRE_RATE));
     }
 
     /**
@@ -205,7 +185,7 @@ public class Boss extends FighterPlane {
         if (shieldDestroyed) {
             return false;
         }
-        return getHealth() <= 75 && Math.random() < Constants.BOSS_SHIELD_PROBABILITY && shieldCooldownFrames == 0;
+        return getHealth() <= 75 && shieldRandom.chance(SimulationClock.chancePerTick(Constants.BOSS_SHIELD_ACTIVATION_RATE)) && shieldCooldownFrames == 0;
     }
 
     /**
@@ -214,7 +194,7 @@ public class Boss extends FighterPlane {
      * @return {@code true} if the shield is exhausted; {@code false} otherwise
      */
     private boolean shieldExhausted() {
-        return framesWithShieldActivated >= Constants.BOSS_SHIELD_COOLDOWN_FRAMES;
+        return framesWithShieldActivated >= SimulationClock.ticksFor(Constants.BOSS_SHIELD_COOLDOWN_SECONDS);
     }
 
     /**
@@ -236,32 +216,62 @@ public class Boss extends FighterPlane {
      */
     private void deactivateShield() {
         isShielded = false;
-        shieldCooldownFrames = Constants.BOSS_SHIELD_COOLDOWN_FRAMES;
+        shieldCooldownFrames = SimulationClock.ticksFor(Constants.BOSS_SHIELD_COOLDOWN_SECONDS);
     }
 
     /**
-     * Displays a visual effect when the shield is hit.
-     * Applies a temporary opacity and drop shadow effect.
+     * Checks whether the boss's shield is currently active.
+     *
+     * @return {@code true} if the shield is active; {@code false} otherwise
      */
-    private void showShieldHitEffect() {
-        if (!isShielded) {
-            return;
-        }
+    public boolean isShielded() {
+        return isShielded;
+    }
 
-        Timeline flashEffect = new Timeline(
-                new KeyFrame(Duration.seconds(0), e -> this.setStyle("-fx-opacity: 0.5; -fx-effect: dropshadow(gaussian, cyan, 30, 0.8, 0, 0);")),
-                new KeyFrame(Duration.seconds(0.1), e -> this.setStyle("-fx-opacity: 1.0; -fx-effect: none;"))
-        );
-        flashEffect.setCycleCount(1);
-        flashEffect.play();
+    /**
+     * Gets the remaining health of the boss's shield.
+     *
+     * @return the shield health
+     */
+    public int getShieldHealth() {
+        return shieldHealth;
     }
 
     /**
-     * Checks whether the boss's shield is currently active.
+     * Writes the boss's health, shield and movement state. The boss's random streams belong
+     * to the level's {@link GameRandom} and are saved with it.
      *
-     * @return {@code true} if the shield is active; {@code false} otherwise
+     * @param writer the destination
      */
-    public boolean isShielded() {
-        return isShielded;
+    @Override
+    public void writeState(StateWriter writer) {
+        super.writeState(writer);
+        writer.writeBoolean(isShielded);
+        writer.writeInt(consecutiveMovesInSameDirection);
+        writer.writeInt(indexOfCurrentMove);
+        writer.writeInt(framesWithShieldActivated);
+        writer.writeInt(shieldCooldownFrames);
+        writer.writeInt(shieldHealth);
+        writer.writeBoolean(shieldDestroyed);
+        writer.writeInt(movePattern.size());
+        for (int i = 0; i < movePattern.size(); i++) {
+            writer.writeInt(movePattern.get(i));
+        }
+    }
+
+    @Override
+    public void readState(StateReader reader) {
+        super.readState(reader);
+        isShielded = reader.readBoolean();
+        consecutiveMovesInSameDirection = reader.readInt();
+        indexOfCurrentMove = reader.readInt();
+        framesWithShieldActivated = reader.readInt();
+        shieldCooldownFrames = reader.readInt();
+        shieldHealth = reader.readInt();
+        shieldDestroyed = reader.readBoolean();
+        movePattern.clear();
+        for (int i = reader.readInt(); i > 0; i--) {
+            movePattern.add(reader.readInt());
+        }
     }
 }
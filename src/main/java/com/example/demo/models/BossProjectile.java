@@ -2,14 +2,17 @@ package com.example.demo.models;
 
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.utilities.Constants;
+import com.example.demo.utilities.SimulationClock;
+import com.example.demo.utilities.StateReader;
+import com.example.demo.utilities.StateWriter;
 
 /**
  * Class representing a projectile fired by the boss.
  * Extends {@link Projectile} with homing behavior.
  */
-public class BossProjectile extends Projectile {
+public final class BossProjectile extends Projectile {
 
-    private final UserPlane userPlane;
+    private UserPlane userPlane;
     private boolean isHoming;
     private double angle;
     private int lives;
@@ -29,6 +32,21 @@ public class BossProjectile extends Projectile {
         this.lives = 0;
     }
 
+    /**
+     * Restores the projectile's position, destroyed flag, homing state and lifespan for reuse.
+     *
+     * @param initialXPos the new X position of the projectile
+     * @param initialYPos the new Y position of the projectile
+     * @param userPlane   the {@link UserPlane} that the projectile will target
+     */
+    void reset(double initialXPos, double initialYPos, UserPlane userPlane) {
+        reset(initialXPos, initialYPos);
+        this.userPlane = userPlane;
+        this.isHoming = true;
+        this.angle = 0;
+        this.lives = 0;
+    }
+
     /**
      * Updates the position of the boss's projectile.
      * Implements homing behavior towards the user plane until certain conditions are met.
@@ -36,28 +54,29 @@ public class BossProjectile extends Projectile {
     @Override
     public void updatePosition() {
         lives++;
+        double step = Constants.BOSS_PROJECTILE_VELOCITY * SimulationClock.getTickSeconds();
 
         if (isHoming) {
-            double deltaX = userPlane.getTranslateX() + userPlane.getLayoutX() - (this.getTranslateX() + this.getLayoutX());
-            double deltaY = userPlane.getTranslateY() + userPlane.getLayoutY() - (this.getTranslateY() + this.getLayoutY());
+            double deltaX = userPlane.getPositionX() + userPlane.getLayoutX() - (this.getPositionX() + this.getLayoutX());
+            double deltaY = userPlane.getPositionY() + userPlane.getLayoutY() - (this.getPositionY() + this.getLayoutY());
             double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
 
             if (deltaX < 0 || distance > Constants.BOSS_PROJECTILE_HOMING_DISTANCE || distance < Constants.BOSS_PROJECTILE_IMAGE_HEIGHT / 2) {
                 calculateAngleForStraightLine(deltaX, deltaY);
                 isHoming = false;
             } else {
-                double normalizedX = (deltaX / distance) * Constants.BOSS_PROJECTILE_VELOCITY;
-                double normalizedY = (deltaY / distance) * Constants.BOSS_PROJECTILE_VELOCITY;
+                double normalizedX = (deltaX / distance) * step;
+                double normalizedY = (deltaY / distance) * step;
 
-                this.setTranslateX(this.getTranslateX() + normalizedX);
-                this.setTranslateY(this.getTranslateY() + normalizedY);
+                moveHorizontally(normalizedX);
+                moveVertically(normalizedY);
             }
         } else {
-            this.setTranslateX(this.getTranslateX() + Constants.BOSS_PROJECTILE_VELOCITY * Math.cos(angle));
-            this.setTranslateY(this.getTranslateY() + Constants.BOSS_PROJECTILE_VELOCITY * Math.sin(angle));
+            moveHorizontally(step * Math.cos(angle));
+            moveVertically(step * Math.sin(angle));
         }
 
-        if (lives > Constants.BOSS_PROJECTILE_MAX_LIVES || isOffScreen()) {
+        if (lives > SimulationClock.ticksFor(Constants.BOSS_PROJECTILE_LIFETIME_SECONDS)) {
             this.destroy();
         }
     }
@@ -72,18 +91,6 @@ public class BossProjectile extends Projectile {
         this.angle = Math.atan2(deltaY, deltaX);
     }
 
-    /**
-     * Determines if the projectile has moved off the screen.
-     *
-     * @return {@code true} if the projectile is off-screen, {@code false} otherwise
-     */
-    private boolean isOffScreen() {
-        double x = this.getTranslateX() + this.getLayoutX();
-        double y = this.getTranslateY() + this.getLayoutY();
-        return x < -Constants.BOSS_PROJECTILE_IMAGE_HEIGHT || x > Constants.SCREEN_WIDTH + Constants.BOSS_PROJECTILE_IMAGE_HEIGHT
-                || y < -Constants.BOSS_PROJECTILE_IMAGE_HEIGHT || y > Constants.SCREEN_HEIGHT + Constants.BOSS_PROJECTILE_IMAGE_HEIGHT;
-    }
-
     /**
      * Updates the state of the boss's projectile.
      * Called on each game loop iteration.
@@ -103,4 +110,20 @@ public class BossProjectile extends Projectile {
     public ActiveActorDestructible fireProjectile() {
         throw new UnsupportedOperationException("BossProjectile cannot fire projectiles.");
     }
+
+    @Override
+    public void writeState(StateWriter writer) {
+        super.writeState(writer);
+        writer.writeBoolean(isHoming);
+        writer.writeDouble(angle);
+        writer.writeInt(lives);
+    }
+
+    @Override
+    public void readState(StateReader reader) {
+        super.readState(reader);
+        isHoming = reader.readBoolean();
+        angle = reader.readDouble();
+        lives = reader.readInt();
+    }
 }
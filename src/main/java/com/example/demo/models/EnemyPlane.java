@@ -2,35 +2,38 @@ package com.example.demo.models;
 
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.utilities.Constants;
-import javafx.animation.PauseTransition;
-import javafx.scene.Group;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-import javafx.util.Duration;
+import com.example.demo.utilities.RandomStream;
+import com.example.demo.utilities.SimulationClock;
+import com.example.demo.utilities.StateReader;
+import com.example.demo.utilities.StateWriter;
 
 /**
  * Represents an enemy plane in the game.
  * Extends {@link FighterPlane} and handles behaviors like movement, projectile firing,
  * and visual effects upon taking damage.
  */
-public class EnemyPlane extends FighterPlane {
+public final class EnemyPlane extends FighterPlane {
 
     private final UserPlane userPlane;
-    private final Group root;
+    private final ProjectileFactory projectileFactory;
+    private final RandomStream random;
     private boolean hasPassedPlayer;
 
     /**
-     * Constructs an {@code EnemyPlane} with specified initial position, target user plane, and game root group.
+     * Constructs an {@code EnemyPlane} with specified initial position, target user plane, projectile factory
+     * and random stream.
      *
-     * @param initialXPos the initial X position of the enemy plane
-     * @param initialYPos the initial Y position of the enemy plane
-     * @param userPlane   the {@link UserPlane} instance representing the player's plane
-     * @param root        the {@link Group} representing the root node of the game scene
+     * @param initialXPos       the initial X position of the enemy plane
+     * @param initialYPos       the initial Y position of the enemy plane
+     * @param userPlane         the {@link UserPlane} instance representing the player's plane
+     * @param projectileFactory the factory providing pooled {@link EnemyProjectile}s
+     * @param random            the stream deciding when this plane fires, owned by this plane alone
      */
-    public EnemyPlane(double initialXPos, double initialYPos, UserPlane userPlane, Group root) {
+    public EnemyPlane(double initialXPos, double initialYPos, UserPlane userPlane, ProjectileFactory projectileFactory, RandomStream random) {
         super(Constants.ENEMY_PLANE_IMAGE_NAME, Constants.ENEMY_PLANE_IMAGE_HEIGHT, initialXPos, initialYPos, Constants.ENEMY_PLANE_INITIAL_HEALTH);
         this.userPlane = userPlane;
-        this.root = root;
+        this.projectileFactory = projectileFactory;
+        this.random = random;
         this.hasPassedPlayer = false;
     }
 
@@ -40,7 +43,7 @@ public class EnemyPlane extends FighterPlane {
      */
     @Override
     public void updatePosition() {
-        moveHorizontally(Constants.ENEMY_PLANE_HORIZONTAL_VELOCITY);
+        moveHorizontally(Constants.ENEMY_PLANE_HORIZONTAL_VELOCITY * SimulationClock.getTickSeconds());
 
         if (!hasPassedPlayer && hasPassedPlayerPosition()) {
             hasPassedPlayer = true;
@@ -51,26 +54,26 @@ public class EnemyPlane extends FighterPlane {
      * Fires a projectile from the enemy plane based on firing conditions.
      * The projectile is only fired if the enemy hasn't passed the player and certain conditions are met.
      *
-     * @return a new {@link EnemyProjectile} if firing conditions are met; {@code null} otherwise
+     * @return a pooled {@link EnemyProjectile} if firing conditions are met; {@code null} otherwise
      */
     @Override
     public ActiveActorDestructible fireProjectile() {
-        if (!hasPassedPlayer && !isUserPlaneUnderneath() && Math.random() < Constants.ENEMY_PLANE_FIRE_RATE) {
+        if (!hasPassedPlayer && !isUserPlaneUnderneath() && random.chance(SimulationClock.chancePerTick(Constants.ENEMY_PLANE_FIRE_RATE))) {
             double projectileXPosition = getProjectileXPosition(Constants.ENEMY_PLANE_PROJECTILE_X_OFFSET);
             double projectileYPosition = getProjectileYPosition(Constants.ENEMY_PLANE_PROJECTILE_Y_OFFSET);
-            return new EnemyProjectile(projectileXPosition, projectileYPosition);
+            return projectileFactory.createEnemyProjectile(projectileXPosition, projectileYPosition);
         }
         return null;
     }
 
     /**
-     * Applies damage to the enemy plane and triggers a visual damage effect.
+     * Applies damage to the enemy plane and reports it so a view can show a damage effect.
      * If health depletes, the plane is marked for destruction.
      */
     @Override
     public void takeDamage() {
         super.takeDamage();
-        showDamageEffect();
+        getEffects().onEnemyDamaged(this);
     }
 
     /**
@@ -88,7 +91,7 @@ public class EnemyPlane extends FighterPlane {
      * @return {@code true} if the enemy has passed the player; {@code false} otherwise
      */
     private boolean hasPassedPlayerPosition() {
-        return this.getTranslateX() + this.getLayoutX() < userPlane.getTranslateX() + userPlane.getLayoutX();
+        return this.getPositionX() + this.getLayoutX() < userPlane.getPositionX() + userPlane.getLayoutX();
     }
 
     /**
@@ -97,28 +100,22 @@ public class EnemyPlane extends FighterPlane {
      * @return {@code true} if the player's plane is underneath; {@code false} otherwise
      */
     private boolean isUserPlaneUnderneath() {
-        double enemyPlaneY = this.getTranslateY() + this.getLayoutY();
-        double userPlaneY = userPlane.getTranslateY() + userPlane.getLayoutY();
+        double enemyPlaneY = this.getPositionY() + this.getLayoutY();
+        double userPlaneY = userPlane.getPositionY() + userPlane.getLayoutY();
         return Math.abs(enemyPlaneY - userPlaneY) < Constants.ENEMY_PLANE_VERTICAL_SAFETY_DISTANCE;
     }
 
-    /**
-     * Displays a visual effect indicating that the enemy plane has taken damage.
-     * This involves showing a temporary damage image overlay.
-     */
-    private void showDamageEffect() {
-        ImageView damageEffect = new ImageView(new Image(getClass().getResource(Constants.ENEMY_PLANE_DAMAGE_IMAGE).toExternalForm()));
-
-        damageEffect.setFitWidth(getBoundsInParent().getWidth());
-        damageEffect.setFitHeight(getBoundsInParent().getHeight());
-        damageEffect.setLayoutX(getBoundsInParent().getMinX());
-        damageEffect.setLayoutY(getBoundsInParent().getMinY());
-
-        root.getChildren().add(damageEffect);
-
-        PauseTransition pause = new PauseTransition(Duration.seconds(1));
-        pause.setOnFinished(e -> root.getChildren().remove(damageEffect));
+    @Override
+    public void writeState(StateWriter writer) {
+        super.writeState(writer);
+        writer.writeBoolean(hasPassedPlayer);
+        writer.writeLong(random.getState());
+    }
 
-        pause.play();
+    @Override
+    public void readState(StateReader reader) {
+        super.readState(reader);
+        hasPassedPlayer = reader.readBoolean();
+        random.setState(reader.readLong());
     }
 }
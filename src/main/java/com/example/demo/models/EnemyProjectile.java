@@ -2,12 +2,15 @@ package com.example.demo.models;
 
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.utilities.Constants;
+import com.example.demo.utilities.SimulationClock;
+import com.example.demo.utilities.StateReader;
+import com.example.demo.utilities.StateWriter;
 
 /**
  * Represents a projectile fired by an enemy plane.
  * Extends {@link Projectile} with specific behaviors such as horizontal movement and lifespan management.
  */
-public class EnemyProjectile extends Projectile {
+public final class EnemyProjectile extends Projectile {
 
     private int lives;
 
@@ -22,19 +25,31 @@ public class EnemyProjectile extends Projectile {
         this.lives = 0;
     }
 
+    /**
+     * Restores the projectile's position, destroyed flag and lifespan for reuse.
+     *
+     * @param initialXPos the new X position of the projectile on the screen
+     * @param initialYPos the new Y position of the projectile on the screen
+     */
+    @Override
+    void reset(double initialXPos, double initialYPos) {
+        super.reset(initialXPos, initialYPos);
+        this.lives = 0;
+    }
+
     /**
      * Updates the position of the enemy projectile.
-     * Moves the projectile horizontally to the left and checks if it should be destroyed based on lifespan or off-screen status.
+     * Moves the projectile horizontally to the left and checks if it should be destroyed based on lifespan.
      */
     @Override
     public void updatePosition() {
         lives++;
 
         // Move the projectile horizontally to the left
-        this.setTranslateX(this.getTranslateX() - Constants.ENEMY_PROJECTILE_VELOCITY);
+        moveHorizontally(-Constants.ENEMY_PROJECTILE_VELOCITY * SimulationClock.getTickSeconds());
 
-        // Destroy the projectile if it exceeds its lifespan or moves off-screen
-        if (lives > Constants.ENEMY_PROJECTILE_MAX_LIVES || isOffScreen()) {
+        // Destroy the projectile if it exceeds its lifespan
+        if (lives > SimulationClock.ticksFor(Constants.ENEMY_PROJECTILE_LIFETIME_SECONDS)) {
             this.destroy();
         }
     }
@@ -59,15 +74,15 @@ public class EnemyProjectile extends Projectile {
         throw new UnsupportedOperationException("EnemyProjectile cannot fire projectiles.");
     }
 
-    /**
-     * Determines whether the projectile has moved off the screen.
-     *
-     * @return {@code true} if the projectile is off-screen; {@code false} otherwise
-     */
-    private boolean isOffScreen() {
-        double x = this.getTranslateX() + this.getLayoutX();
-        double y = this.getTranslateY() + this.getLayoutY();
-        return x < -Constants.ENEMY_PROJECTILE_IMAGE_HEIGHT || x > Constants.SCREEN_WIDTH + Constants.ENEMY_PROJECTILE_IMAGE_HEIGHT
-                || y < -Constants.ENEMY_PROJECTILE_IMAGE_HEIGHT || y > Constants.SCREEN_HEIGHT + Constants.ENEMY_PROJECTILE_IMAGE_HEIGHT;
+    @Override
+    public void writeState(StateWriter writer) {
+        super.writeState(writer);
+        writer.writeInt(lives);
+    }
+
+    @Override
+    public void readState(StateReader reader) {
+        super.readState(reader);
+        lives = reader.readInt();
     }
 }
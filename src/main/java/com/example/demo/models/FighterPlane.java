@@ -1,16 +1,15 @@
 package com.example.demo.models;
 
 import com.example.demo.actors.ActiveActorDestructible;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.util.Duration;
+import com.example.demo.utilities.StateReader;
+import com.example.demo.utilities.StateWriter;
 
 /**
  * Abstract class representing a fighter plane in the game.
  * Extends {@link ActiveActorDestructible} and provides functionalities common to all fighter planes,
  * such as health management, damage handling, and projectile firing.
  */
-public abstract class FighterPlane extends ActiveActorDestructible {
+public abstract sealed class FighterPlane extends ActiveActorDestructible permits UserPlane, EnemyPlane, Boss {
 
     public int health;
 
@@ -38,31 +37,17 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 
     /**
      * Applies damage to the fighter plane.
-     * Decreases health, triggers a visual damage effect, and destroys the plane if health reaches zero.
+     * Decreases health, reports the hit to the effects sink, and destroys the plane if health reaches zero.
      */
     @Override
     public void takeDamage() {
         health--;
-        destroyedEffect();
+        getEffects().onHit(this);
         if (healthAtZero()) {
             this.destroy();
         }
     }
 
-    /**
-     * Creates a visual effect indicating that the fighter plane has been hit.
-     * The effect involves a brief opacity change and a drop shadow.
-     */
-    private void destroyedEffect() {
-        // Create a flash effect using a timeline
-        Timeline flashEffect = new Timeline(
-                new KeyFrame(Duration.seconds(0), e -> this.setStyle("-fx-opacity: 0.5; -fx-effect: dropshadow(gaussian, white, 30, 0.8, 0, 0);")),
-                new KeyFrame(Duration.seconds(0.1), e -> this.setStyle("-fx-opacity: 1.0; -fx-effect: none;"))
-        );
-        flashEffect.setCycleCount(1);
-        flashEffect.play();
-    }
-
     /**
      * Calculates the X position for a projectile relative to the fighter plane.
      *
@@ -70,7 +55,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
      * @return the calculated X position for the projectile
      */
     protected double getProjectileXPosition(double xPositionOffset) {
-        return getLayoutX() + getTranslateX() + xPositionOffset;
+        return getLayoutX() + getPositionX() + xPositionOffset;
     }
 
     /**
@@ -80,7 +65,7 @@ public abstract class FighterPlane extends ActiveActorDestructible {
      * @return the calculated Y position for the projectile
      */
     protected double getProjectileYPosition(double yPositionOffset) {
-        return getLayoutY() + getTranslateY() + yPositionOffset;
+        return getLayoutY() + getPositionY() + yPositionOffset;
     }
 
     /**
@@ -100,4 +85,16 @@ public abstract class FighterPlane extends ActiveActorDestructible {
     public int getHealth() {
         return health;
     }
+
+    @Override
+    public void writeState(StateWriter writer) {
+        super.writeState(writer);
+        writer.writeInt(health);
+    }
+
+    @Override
+    public void readState(StateReader reader) {
+        super.readState(reader);
+        health = reader.readInt();
+    }
 }
@@ -7,7 +7,10 @@ import com.example.demo.actors.ActiveActorDestructible;
  * Extends {@link ActiveActorDestructible} and defines basic behaviors common to all projectiles,
  * such as taking damage and updating position.
  */
-public abstract class Projectile extends ActiveActorDestructible {
+public abstract sealed class Projectile extends ActiveActorDestructible
+		permits UserProjectile, EnemyProjectile, BossProjectile {
+
+	private boolean pooled;
 
 	/**
 	 * Constructs a {@code Projectile} with specified image, size, and initial position.
@@ -21,6 +24,37 @@ public abstract class Projectile extends ActiveActorDestructible {
 		super(imageName, imageHeight, initialXPos, initialYPos);
 	}
 
+	/**
+	 * Restores the projectile to its freshly constructed state at a new position.
+	 * Subclasses with additional state extend this to reset it as well.
+	 *
+	 * @param initialXPos the new X position of the projectile on the screen
+	 * @param initialYPos the new Y position of the projectile on the screen
+	 */
+	void reset(double initialXPos, double initialYPos) {
+		resetPosition(initialXPos, initialYPos);
+		setDestroyed(false);
+		setBoundsSlot(-1);
+	}
+
+	/**
+	 * Checks whether the projectile is currently held idle by a {@link ProjectilePool}.
+	 *
+	 * @return {@code true} if the projectile is pooled; {@code false} if it is in use
+	 */
+	boolean isPooled() {
+		return pooled;
+	}
+
+	/**
+	 * Marks the projectile as held by, or taken from, a {@link ProjectilePool}.
+	 *
+	 * @param pooled {@code true} if the projectile is being returned to its pool
+	 */
+	void setPooled(boolean pooled) {
+		this.pooled = pooled;
+	}
+
 	/**
 	 * Applies damage to the projectile.
 	 * For projectiles, taking any damage results in immediate destruction.
@@ -0,0 +1,87 @@
+package com.example.demo.models;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.utilities.Constants;
+
+import java.util.List;
+
+/**
+ * Creates projectiles from per-type {@link ProjectilePool}s.
+ * Every projectile handed out is reset to a fresh state; projectiles removed from the level
+ * should be passed back through {@link #release(ActiveActorDestructible)}.
+ */
+public class ProjectileFactory {
+
+    private final ProjectilePool<UserProjectile> userProjectiles = new ProjectilePool<>(
+            "UserProjectile", () -> new UserProjectile(0, 0), Constants.USER_PROJECTILE_POOL_CAPACITY);
+    private final ProjectilePool<EnemyProjectile> enemyProjectiles = new ProjectilePool<>(
+            "EnemyProjectile", () -> new EnemyProjectile(0, 0), Constants.ENEMY_PROJECTILE_POOL_CAPACITY);
+    private final ProjectilePool<BossProjectile> bossProjectiles = new ProjectilePool<>(
+            "BossProjectile", () -> new BossProjectile(0, 0, null), Constants.BOSS_PROJECTILE_POOL_CAPACITY);
+
+    /**
+     * Provides a user projectile at the specified position.
+     *
+     * @param x the initial X position
+     * @param y the initial Y position
+     * @return a reset {@link UserProjectile}
+     */
+    public UserProjectile createUserProjectile(double x, double y) {
+        UserProjectile projectile = userProjectiles.acquire();
+        projectile.reset(x, y);
+        return projectile;
+    }
+
+    /**
+     * Provides an enemy projectile at the specified position.
+     *
+     * @param x the initial X position
+     * @param y the initial Y position
+     * @return a reset {@link EnemyProjectile}
+     */
+    public EnemyProjectile createEnemyProjectile(double x, double y) {
+        EnemyProjectile projectile = enemyProjectiles.acquire();
+        projectile.reset(x, y);
+        return projectile;
+    }
+
+    /**
+     * Provides a homing boss projectile at the specified position.
+     *
+     * @param x         the initial X position
+     * @param y         the initial Y position
+     * @param userPlane the plane the projectile homes in on
+     * @return a reset {@link BossProjectile}
+     */
+    public BossProjectile createBossProjectile(double x, double y, UserPlane userPlane) {
+        BossProjectile projectile = bossProjectiles.acquire();
+        projectile.reset(x, y, userPlane);
+        return projectile;
+    }
+
+    /**
+     * Returns an actor to its pool if it is a pooled projectile type.
+     *
+     * @param actor the actor removed from the level
+     * @return {@code true} if a pool kept the actor for reuse; {@code false} otherwise
+     */
+    public boolean release(ActiveActorDestructible actor) {
+        if (actor instanceof UserProjectile) {
+            return userProjectiles.release((UserProjectile) actor);
+        } else if (actor instanceof EnemyProjectile) {
+            return enemyProjectiles.release((EnemyProjectile) actor);
+        } else if (actor instanceof BossProjectile) {
+            return bossProjectiles.release((BossProjectile) actor);
+        }
+        return false;
+    }
+
+    /**
+     * Gets the pools managed by this factory, for reporting.
+     *
+     * @return the user, enemy and boss projectile pools
+     */
+    public List<ProjectilePool<?>> getPools() {
+        return List.of(userProjectiles, enemyProjectiles, bossProjectiles);
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.demo.models;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * Fixed-capacity pool of one projectile type.
+ * Released projectiles are kept for reuse up to the pool's capacity; acquisitions that find
+ * the pool empty allocate a new projectile and are counted as misses.
+ *
+ * @param <T> the projectile type held by the pool
+ */
+public class ProjectilePool<T extends Projectile> {
+
+    private final String name;
+    private final Supplier<T> creator;
+    private final int capacity;
+    private final ArrayDeque<T> available;
+
+    private int inUse;
+    private int highWaterMark;
+    private long acquisitions;
+    private long misses;
+    private long discards;
+
+    /**
+     * Constructs a {@code ProjectilePool}.
+     *
+     * @param name     a label used when reporting pool statistics
+     * @param creator  allocates a new projectile when the pool is empty
+     * @param capacity the maximum number of idle projectiles retained
+     */
+    public ProjectilePool(String name, Supplier<T> creator, int capacity) {
+        this.name = name;
+        this.creator = creator;
+        this.capacity = capacity;
+        this.available = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Takes an idle projectile from the pool, allocating one if none is available.
+     * The caller is responsible for resetting its state.
+     *
+     * @return a projectile that is not in use
+     */
+    public T acquire() {
+        T projectile = available.pollLast();
+        if (projectile == null) {
+            projectile = creator.get();
+            misses++;
+        }
+        projectile.setPooled(false);
+        acquisitions++;
+        inUse++;
+        highWaterMark = Math.max(highWaterMark, inUse);
+        return projectile;
+    }
+
+    /**
+     * Returns a projectile to the pool. Projectiles already in the pool are ignored, and
+     * projectiles beyond the pool's capacity are left for the garbage collector.
+     *
+     * @param projectile the projectile to return
+     * @return {@code true} if the pool kept the projectile for reuse; {@code false} otherwise
+     */
+    public boolean release(T projectile) {
+        if (projectile.isPooled()) {
+            return false;
+        }
+        projectile.setPooled(true);
+        inUse = Math.max(0, inUse - 1);
+        if (available.size() < capacity) {
+            available.addLast(projectile);
+            return true;
+        }
+        discards++;
+        return false;
+    }
+
+    /**
+     * Allocates projectiles up front so the first shots do not miss.
+     *
+     * @param count the number of idle projectiles to hold, capped at the pool's capacity
+     */
+    public void prewarm(int count) {
+        while (available.size() < Math.min(count, capacity)) {
+            T projectile = creator.get();
+            projectile.setPooled(true);
+            available.addLast(projectile);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getAvailable() {
+        return available.size();
+    }
+
+    public int getInUse() {
+        return inUse;
+    }
+
+    /**
+     * Gets the largest number of projectiles from this pool that were in use at the same time.
+     *
+     * @return the high-water mark
+     */
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    public long getAcquisitions() {
+        return acquisitions;
+    }
+
+    /**
+     * Gets the number of acquisitions that had to allocate a new projectile.
+     *
+     * @return the miss count
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gets the number of released projectiles dropped because the pool was full.
+     *
+     * @return the discard count
+     */
+    public long getDiscards() {
+        return discards;
+    }
+
+    @Override
+    public String toString() {
+        return name + "[inUse=" + inUse + ", available=" + available.size() + "/" + capacity
+                + ", highWater=" + highWaterMark + ", acquisitions=" + acquisitions
+                + ", misses=" + misses + ", discards=" + discards + "]";
+    }
+}
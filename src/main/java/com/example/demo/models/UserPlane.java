@@ -2,15 +2,16 @@ package com.example.demo.models;
 
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.utilities.Constants;
-import javafx.scene.Scene;
-import javafx.scene.media.AudioClip;
+import com.example.demo.utilities.SimulationClock;
+import com.example.demo.utilities.StateReader;
+import com.example.demo.utilities.StateWriter;
 
 /**
  * Represents the player's plane in the game.
  * Extends {@link FighterPlane} and handles player-specific behaviors such as movement controls,
  * projectile firing with cooldowns, and kill count tracking.
  */
-public class UserPlane extends FighterPlane {
+public final class UserPlane extends FighterPlane {
 
     /** Multiplier for vertical velocity based on player input. */
     private int velocityMultiplier;
@@ -21,40 +22,22 @@ public class UserPlane extends FighterPlane {
     /** Number of enemy planes killed by the player. */
     private int numberOfKills;
 
-    /** The game scene the user plane is part of. */
-    private final Scene scene;
+    /** Factory providing pooled projectiles. */
+    private final ProjectileFactory projectileFactory;
 
-    /** Audio clip for shooting sound effect. */
-    private final AudioClip shootingSound;
-
-    /** Current volume level for shooting sound. */
-    private double soundVolume = 0.5;
-
-    /** Timestamp of the last time a projectile was fired. */
-    private long previousFireTime;
+    /** Simulation ticks elapsed since a projectile was last fired. */
+    private int ticksSinceLastShot = Integer.MAX_VALUE;
 
     /**
-     * Constructs a {@code UserPlane} with specified initial health and game scene.
+     * Constructs a {@code UserPlane} with specified initial health and projectile factory.
      *
-     * @param initialHealth the initial health of the user plane
-     * @param scene         the {@link Scene} the user plane is part of
+     * @param initialHealth     the initial health of the user plane
+     * @param projectileFactory the factory providing pooled {@link UserProjectile}s
      */
-    public UserPlane(int initialHealth, Scene scene) {
+    public UserPlane(int initialHealth, ProjectileFactory projectileFactory) {
         super(Constants.USER_PLANE_IMAGE_NAME, Constants.USER_PLANE_IMAGE_HEIGHT,
                 Constants.USER_PLANE_INITIAL_X_POSITION, Constants.USER_PLANE_INITIAL_Y_POSITION, initialHealth);
-        this.scene = scene;
-        this.previousFireTime = 0;
-        shootingSound = new AudioClip(getClass().getResource(Constants.USER_PLANE_SHOOTING_SOUND).toExternalForm());
-    }
-
-    /**
-     * Sets the volume for the shooting sound effect.
-     *
-     * @param volume the desired volume level (0.0 to 1.0)
-     */
-    public void setSoundVolume(double volume) {
-        this.soundVolume = Math.min(1.0, Math.max(0.0, volume));
-        shootingSound.setVolume(this.soundVolume);
+        this.projectileFactory = projectileFactory;
     }
 
     /**
@@ -72,61 +55,60 @@ public class UserPlane extends FighterPlane {
      */
     @Override
     public void updatePosition() {
-        double newTranslateY = getTranslateY() + Constants.USER_PLANE_VERTICAL_VELOCITY * velocityMultiplier;
-        double newTranslateX = getTranslateX() + Constants.USER_PLANE_HORIZONTAL_VELOCITY * horizontalVelocityMultiplier;
+        double tickSeconds = SimulationClock.getTickSeconds();
+        double newTranslateY = getPositionY() + Constants.USER_PLANE_VERTICAL_VELOCITY * velocityMultiplier * tickSeconds;
+        double newTranslateX = getPositionX() + Constants.USER_PLANE_HORIZONTAL_VELOCITY * horizontalVelocityMultiplier * tickSeconds;
 
         double planeTopPosition = getLayoutY() + newTranslateY;
-        double planeBottomPosition = planeTopPosition + getBoundsInParent().getHeight();
+        double planeBottomPosition = planeTopPosition + getHeight();
         if (planeTopPosition < Constants.USER_PLANE_UPPER_BOUND) {
             newTranslateY = Constants.USER_PLANE_UPPER_BOUND - getLayoutY();
         } else if (planeBottomPosition > Constants.USER_PLANE_LOWER_BOUND) {
-            newTranslateY = Constants.USER_PLANE_LOWER_BOUND - getBoundsInParent().getHeight() - getLayoutY();
+            newTranslateY = Constants.USER_PLANE_LOWER_BOUND - getHeight() - getLayoutY();
         }
 
         double planeLeftPosition = getLayoutX() + newTranslateX;
-        double planeRightPosition = planeLeftPosition + getBoundsInParent().getWidth();
+        double planeRightPosition = planeLeftPosition + getWidth();
         if (planeLeftPosition < Constants.USER_PLANE_LEFT_BOUND) {
             newTranslateX = Constants.USER_PLANE_LEFT_BOUND - getLayoutX();
         } else if (planeRightPosition > Constants.USER_PLANE_RIGHT_BOUND) {
-            newTranslateX = Constants.USER_PLANE_RIGHT_BOUND - getBoundsInParent().getWidth() - getLayoutX();
+            newTranslateX = Constants.USER_PLANE_RIGHT_BOUND - getWidth() - getLayoutX();
         }
 
-        setTranslateY(newTranslateY);
-        setTranslateX(newTranslateX);
+        setPositionY(newTranslateY);
+        setPositionX(newTranslateX);
     }
 
     /**
      * Updates the state of the user plane for each game loop iteration.
-     * This includes updating its position.
+     * This includes updating its position and advancing the fire cooldown.
      */
     @Override
     public void updateActor() {
         updatePosition();
+        if (ticksSinceLastShot < Integer.MAX_VALUE) {
+            ticksSinceLastShot++;
+        }
     }
 
     /**
      * Fires a projectile from the user plane.
-     * Implements a cooldown mechanism to regulate firing rate.
-     * Plays a shooting sound effect when firing.
+     * Implements a cooldown, measured in simulation ticks, to regulate firing rate.
+     * Reports each shot to the effects sink so a view can play the shooting sound.
      *
-     * @return a new {@link UserProjectile} if firing conditions are met; {@code null} otherwise
+     * @return a pooled {@link UserProjectile} if firing conditions are met; {@code null} otherwise
      */
     @Override
     public ActiveActorDestructible fireProjectile() {
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - previousFireTime < Constants.USER_PLANE_FIRE_COOLDOWN_MILLIS) {
+        if (ticksSinceLastShot < SimulationClock.ticksFor(Constants.USER_PLANE_FIRE_COOLDOWN_SECONDS)) {
             return null;
         }
-        previousFireTime = currentTime;
+        ticksSinceLastShot = 0;
+        getEffects().onShotFired(this);
 
-        shootingSound.setVolume(soundVolume);
-        if (soundVolume > 0) {
-            shootingSound.play();
-        }
-
-        double adjustedProjectileX = getLayoutX() + getTranslateX() + Constants.USER_PLANE_PROJECTILE_X_POSITION;
-        double adjustedProjectileY = getLayoutY() + getTranslateY() + Constants.USER_PLANE_PROJECTILE_Y_POSITION_OFFSET;
-        return new UserProjectile(adjustedProjectileX, adjustedProjectileY);
+        double adjustedProjectileX = getLayoutX() + getPositionX() + Constants.USER_PLANE_PROJECTILE_X_POSITION;
+        double adjustedProjectileY = getLayoutY() + getPositionY() + Constants.USER_PLANE_PROJECTILE_Y_POSITION_OFFSET;
+        return projectileFactory.createUserProjectile(adjustedProjectileX, adjustedProjectileY);
     }
 
     /**
@@ -186,4 +168,22 @@ public class UserPlane extends FighterPlane {
     public void incrementKillCount() {
         numberOfKills++;
     }
+
+    @Override
+    public void writeState(StateWriter writer) {
+        super.writeState(writer);
+        writer.writeInt(velocityMultiplier);
+        writer.writeInt(horizontalVelocityMultiplier);
+        writer.writeInt(numberOfKills);
+        writer.writeInt(ticksSinceLastShot);
+    }
+
+    @Override
+    public void readState(StateReader reader) {
+        super.readState(reader);
+        velocityMultiplier = reader.readInt();
+        horizontalVelocityMultiplier = reader.readInt();
+        numberOfKills = reader.readInt();
+        ticksSinceLastShot = reader.readInt();
+    }
 }
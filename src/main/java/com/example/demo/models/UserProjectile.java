@@ -2,11 +2,13 @@ package com.example.demo.models;
 
 import com.example.demo.actors.ActiveActorDestructible;
 import com.example.demo.utilities.Constants;
+import com.example.demo.utilities.SimulationClock;
+
 /**
  * Represents a projectile fired by the user's plane.
  * Extends {@link Projectile} with specific behaviors such as horizontal movement.
  */
-public class UserProjectile extends Projectile {
+public final class UserProjectile extends Projectile {
 
     /**
      * Constructs a {@code UserProjectile} with the specified initial position.
@@ -24,7 +26,7 @@ public class UserProjectile extends Projectile {
      */
     @Override
     public void updatePosition() {
-        moveHorizontally(Constants.USER_PROJECTILE_HORIZONTAL_VELOCITY);
+        moveHorizontally(Constants.USER_PROJECTILE_HORIZONTAL_VELOCITY * SimulationClock.getTickSeconds());
     }
 
     /**
@@ -0,0 +1,138 @@
+package com.example.demo.utilities;
+
+import java.util.Arrays;
+
+/**
+ * {@link StateWriter} that encodes values into a byte array, big-endian, in the format read by
+ * {@link StateReader}. The array is kept across {@link #reset()}, so once it has grown to fit a
+ * level's state, writing that state again allocates nothing.
+ */
+public class BinaryStateWriter implements StateWriter {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private byte[] buffer;
+    private int size;
+
+    /**
+     * Constructs an empty {@code BinaryStateWriter}.
+     */
+    public BinaryStateWriter() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty {@code BinaryStateWriter} with room for the given number of bytes.
+     *
+     * @param initialCapacity the initial buffer size
+     */
+    public BinaryStateWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    @Override
+    public void writeBoolean(boolean value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) (value ? 1 : 0);
+    }
+
+    @Override
+    public void writeInt(int value) {
+        ensureCapacity(4);
+        buffer[size++] = (byte) (value >>> 24);
+        buffer[size++] = (byte) (value >>> 16);
+        buffer[size++] = (byte) (value >>> 8);
+        buffer[size++] = (byte) value;
+    }
+
+    @Override
+    public void writeLong(long value) {
+        writeInt((int) (value >>> 32));
+        writeInt((int) value);
+    }
+
+    @Override
+    public void writeDouble(double value) {
+        writeLong(Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Writes a presence flag and, for a non-null value, the string in the modified UTF-8
+     * encoding of {@link java.io.DataOutput#writeUTF(String)}.
+     *
+     * @param value the string, or {@code null}
+     * @throws IllegalArgumentException if the encoded string is longer than 65535 bytes
+     */
+    @Override
+    public void writeString(String value) {
+        writeBoolean(value != null);
+        if (value == null) {
+            return;
+        }
+        int encodedLength = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            encodedLength += c >= 0x0001 && c <= 0x007F ? 1 : c <= 0x07FF ? 2 : 3;
+        }
+        if (encodedLength > 0xFFFF) {
+            throw new IllegalArgumentException("String is too long to encode: " + encodedLength + " bytes");
+        }
+        ensureCapacity(2 + encodedLength);
+        buffer[size++] = (byte) (encodedLength >>> 8);
+        buffer[size++] = (byte) encodedLength;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x0001 && c <= 0x007F) {
+                buffer[size++] = (byte) c;
+            } else if (c <= 0x07FF) {
+                buffer[size++] = (byte) (0xC0 | (c >> 6));
+                buffer[size++] = (byte) (0x80 | (c & 0x3F));
+            } else {
+                buffer[size++] = (byte) (0xE0 | (c >> 12));
+                buffer[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[size++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    /**
+     * Discards everything written, keeping the buffer for reuse.
+     */
+    public void reset() {
+        size = 0;
+    }
+
+    /**
+     * Gets the number of bytes written since construction or the last {@link #reset()}.
+     *
+     * @return the encoded length
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the internal buffer. Only the first {@link #size()} bytes are meaningful, and the
+     * array may be replaced by later writes.
+     *
+     * @return the buffer, without copying
+     */
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Gets everything written so far.
+     *
+     * @return a copy of the encoded bytes
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+}
@@ -6,6 +6,37 @@ public class Constants {
     public static final int SCREEN_WIDTH = 1920;
     public static final int SCREEN_HEIGHT = 1080;
 
+    // Simulation Timing
+    // Velocities below are in pixels per second, durations in seconds and
+    // random event rates in expected occurrences per second.
+    public static final int SIMULATION_TICKS_PER_SECOND = 60;
+    public static final int SIMULATION_MAX_TICKS_PER_FRAME = 5;
+    public static final double SIMULATION_MAX_FRAME_SECONDS = 0.25;
+    public static final boolean SIMULATION_THREADED = false;
+    public static final int PARALLEL_UPDATE_MIN_ACTORS = 1024;
+    public static final int PARALLEL_UPDATE_CHUNK_ACTORS = 256;
+
+    // Frame Profiler Constants
+    public static final int PROFILER_WINDOW = 120;
+    public static final long PROFILER_FRAME_BUDGET_NANOS = 1_000_000_000L / 60;
+
+    // Replay Constants
+    public static final String REPLAY_DIRECTORY = "replays";
+    public static final String REPLAY_FILE_EXTENSION = ".sbr";
+    public static final int REPLAY_KEYFRAME_INTERVAL_TICKS = 600;
+    public static final int SNAPSHOT_COMPRESSION_LEVEL = 6;
+
+    // Save State Constants
+    public static final String SAVE_DIRECTORY = "saves";
+    public static final String SAVE_FILE_EXTENSION = ".sav";
+    public static final int QUICK_SAVE_SLOT = 0;
+
+    // Rewind Constants
+    public static final int REWIND_SECONDS = 10;
+    public static final int REWIND_BUFFER_BYTES = 1 << 23;
+    public static final int REWIND_FULL_FRAME_INTERVAL_TICKS = 120;
+    public static final int REWIND_TICKS_PER_STEP = 2;
+
     // Controller Constants
     public static final String LEVEL_ONE_CLASS_NAME = "com.example.demo.levels.LevelOne";
     public static final String BACKGROUND_MUSIC_PATH = "src/main/resources/com/example/demo/audio/BastianFlightHappy.mp3";
@@ -25,36 +56,36 @@ public class Constants {
     public static final double USER_PLANE_INITIAL_X_POSITION = 5.0;
     public static final double USER_PLANE_INITIAL_Y_POSITION = 300.0;
     public static final int USER_PLANE_IMAGE_HEIGHT = 50;
-    public static final int USER_PLANE_VERTICAL_VELOCITY = 12;
-    public static final int USER_PLANE_HORIZONTAL_VELOCITY = 12;
+    public static final int USER_PLANE_VERTICAL_VELOCITY = 240;
+    public static final int USER_PLANE_HORIZONTAL_VELOCITY = 240;
     public static final int USER_PLANE_PROJECTILE_X_POSITION = 110;
     public static final int USER_PLANE_PROJECTILE_Y_POSITION_OFFSET = -20;
     public static final double USER_PLANE_UPPER_BOUND = 0;
     public static final double USER_PLANE_LOWER_BOUND = 800;
     public static final double USER_PLANE_LEFT_BOUND = 0;
     public static final double USER_PLANE_RIGHT_BOUND = 1600;
-    public static final int USER_PLANE_FIRE_COOLDOWN_MILLIS = 300;
+    public static final double USER_PLANE_FIRE_COOLDOWN_SECONDS = 0.3;
     public static final String USER_PLANE_SHOOTING_SOUND = "/com/example/demo/audio/shootingSound.mp3";
 
     // UserProjectile Constants
     public static final String USER_PROJECTILE_IMAGE_NAME = "UserProjectile.png";
     public static final int USER_PROJECTILE_IMAGE_HEIGHT = 125;
-    public static final int USER_PROJECTILE_HORIZONTAL_VELOCITY = 15;
+    public static final int USER_PROJECTILE_HORIZONTAL_VELOCITY = 300;
 
     // Boss
     public static final String BOSS_IMAGE_NAME = "BigBoss.png";
     public static final double BOSS_INITIAL_X_POSITION = 1000.0;
     public static final double BOSS_INITIAL_Y_POSITION = 400.0;
     public static final double BOSS_PROJECTILE_Y_POSITION_OFFSET = 75.0;
-    public static final double BOSS_FIRE_RATE = 0.02;
-    public static final double BOSS_SHIELD_PROBABILITY = 0.2;
-    public static final int BOSS_SHIELD_COOLDOWN_FRAMES = 300;
+    public static final double BOSS_FIRE_RATE = 0.4;
+    public static final double BOSS_SHIELD_ACTIVATION_RATE = 4.0;
+    public static final double BOSS_SHIELD_COOLDOWN_SECONDS = 15.0;
     public static final int BOSS_IMAGE_HEIGHT = 250;
-    public static final int BOSS_VERTICAL_VELOCITY = 8;
+    public static final int BOSS_VERTICAL_VELOCITY = 160;
     public static final int BOSS_HEALTH = 100;
     public static final int BOSS_MOVE_FREQUENCY_PER_CYCLE = 5;
     public static final int BOSS_ZERO_VELOCITY = 0;
-    public static final int BOSS_MAX_FRAMES_WITH_SAME_MOVE = 10;
+    public static final double BOSS_MAX_SECONDS_WITH_SAME_MOVE = 0.5;
     public static final int BOSS_Y_POSITION_UPPER_BOUND = -100;
     public static final int BOSS_Y_POSITION_LOWER_BOUND = 500;
     public static final int BOSS_SHIELD_MAX_HEALTH = 50;
@@ -62,26 +93,42 @@ public class Constants {
     // BossProjectile Constants
     public static final String BOSS_PROJECTILE_IMAGE_NAME = "fireball.png";
     public static final int BOSS_PROJECTILE_IMAGE_HEIGHT = 75;
-    public static final double BOSS_PROJECTILE_VELOCITY = 15.0;
+    public static final double BOSS_PROJECTILE_VELOCITY = 300.0;
     public static final double BOSS_PROJECTILE_HOMING_DISTANCE = 500;
-    public static final int BOSS_PROJECTILE_MAX_LIVES = 300;
+    public static final double BOSS_PROJECTILE_LIFETIME_SECONDS = 15.0;
 
     // EnemyPlane Constants
     public static final String ENEMY_PLANE_IMAGE_NAME = "EnemyPlane.png";
     public static final int ENEMY_PLANE_IMAGE_HEIGHT = 50;
-    public static final int ENEMY_PLANE_HORIZONTAL_VELOCITY = -6;
+    public static final int ENEMY_PLANE_HORIZONTAL_VELOCITY = -120;
     public static final double ENEMY_PLANE_PROJECTILE_X_OFFSET = -60.0;
     public static final double ENEMY_PLANE_PROJECTILE_Y_OFFSET = 10.0;
     public static final int ENEMY_PLANE_INITIAL_HEALTH = 1;
-    public static final double ENEMY_PLANE_FIRE_RATE = 0.01;
+    public static final double ENEMY_PLANE_FIRE_RATE = 0.2;
     public static final String ENEMY_PLANE_DAMAGE_IMAGE = "/com/example/demo/images/explode.png";
     public static final double ENEMY_PLANE_VERTICAL_SAFETY_DISTANCE = 100.0;
 
     // EnemyProjectile Constants
     public static final String ENEMY_PROJECTILE_IMAGE_NAME = "EnemyProjectile.png";
     public static final int ENEMY_PROJECTILE_IMAGE_HEIGHT = 50;
-    public static final double ENEMY_PROJECTILE_VELOCITY = 10.0;
-    public static final int ENEMY_PROJECTILE_MAX_LIVES = 300;
+    public static final double ENEMY_PROJECTILE_VELOCITY = 200.0;
+    public static final double ENEMY_PROJECTILE_LIFETIME_SECONDS = 15.0;
+
+    // ProjectileFactory Constants
+    public static final int USER_PROJECTILE_POOL_CAPACITY = 64;
+    public static final int ENEMY_PROJECTILE_POOL_CAPACITY = 128;
+    public static final int BOSS_PROJECTILE_POOL_CAPACITY = 64;
+
+    // DespawnPolicy Constants
+    public static final double DESPAWN_MARGIN = 100.0;
+
+    // CollisionManager Constants
+    public static final double SPATIAL_HASH_CELL_SIZE = 128.0;
+    public static final boolean COLLISION_PARALLEL_NARROWPHASE = true;
+    public static final int NARROWPHASE_CHUNK_PAIRS = 1024;
+    public static final int NARROWPHASE_PARALLEL_MIN_PAIRS = 4096;
+    public static final boolean SIMD_KERNELS = false;
+    public static final int SIMD_MIN_PAIRS = 256;
 
     // ActiveActorDestructible constants
     public static final double BOUNDING_BOX_WIDTH_SHRINK_FACTOR = 0.8; // Shrink width to 80% of the original
@@ -92,7 +139,7 @@ public class Constants {
     public static final String LEVEL_ONE_NEXT_LEVEL = "com.example.demo.levels.LevelTwo";
     public static final int LEVEL_ONE_TOTAL_ENEMIES = 5;
     public static final int LEVEL_ONE_KILLS_TO_ADVANCE = 10;
-    public static final double LEVEL_ONE_ENEMY_SPAWN_PROBABILITY = 0.20;
+    public static final double LEVEL_ONE_ENEMY_SPAWN_RATE = 4.0;
     public static final int LEVEL_ONE_PLAYER_INITIAL_HEALTH = 5;
 
     // LevelTwo Constants
@@ -100,13 +147,18 @@ public class Constants {
     public static final String LEVEL_TWO_NEXT_LEVEL = "com.example.demo.levels.LevelThree";
     public static final int LEVEL_TWO_TOTAL_ENEMIES = 8;
     public static final int LEVEL_TWO_KILLS_TO_ADVANCE = 20;
-    public static final double LEVEL_TWO_ENEMY_SPAWN_PROBABILITY = 0.30;
+    public static final double LEVEL_TWO_ENEMY_SPAWN_RATE = 6.0;
     public static final int LEVEL_TWO_PLAYER_INITIAL_HEALTH = 5;
 
     // LevelThree Constants
     public static final String LEVEL_THREE_BACKGROUND_IMAGE = "/com/example/demo/images/Background3.jpg";
     public static final int LEVEL_THREE_PLAYER_INITIAL_HEALTH = 8;
 
+    // StressLevel Constants
+    public static final int STRESS_LEVEL_DEFAULT_ENEMIES = 50;
+    public static final int STRESS_LEVEL_DEFAULT_PROJECTILES = 100;
+    public static final int STRESS_LEVEL_PLAYER_INITIAL_HEALTH = 1_000_000;
+
     // GameOverImage Constants
     public static final String GAME_OVER_IMAGE_PATH = "/com/example/demo/images/GameOver.png";
     public static final double GAME_OVER_IMAGE_WIDTH = 600;
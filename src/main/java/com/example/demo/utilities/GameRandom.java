@@ -0,0 +1,103 @@
+package com.example.demo.utilities;
+
+/**
+ * Per-level source of all gameplay randomness.
+ * One seed determines a separate {@link RandomStream} for each {@link Channel}, so draws made
+ * by one subsystem never shift the sequence seen by another. Running a level twice with the
+ * same seed and the same inputs therefore produces the same game.
+ */
+public final class GameRandom {
+
+    /**
+     * The subsystems that draw random numbers, each from its own stream.
+     */
+    public enum Channel {
+        ENEMY_SPAWN,
+        ENEMY_FIRE,
+        BOSS_MOVEMENT,
+        BOSS_FIRE,
+        BOSS_SHIELD
+    }
+
+    private long seed;
+    private final RandomStream[] streams = new RandomStream[Channel.values().length];
+
+    /**
+     * Constructs a {@code GameRandom} from a seed.
+     *
+     * @param seed the seed every stream is derived from
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+        for (Channel channel : Channel.values()) {
+            streams[channel.ordinal()] = new RandomStream(initialState(seed, channel));
+        }
+    }
+
+    /**
+     * Starts every stream over from a new seed, as if this instance had been created with it.
+     * The streams are reset in place, so subsystems holding one keep drawing from it.
+     *
+     * @param seed the new seed
+     */
+    public void reseed(long seed) {
+        this.seed = seed;
+        for (Channel channel : Channel.values()) {
+            streams[channel.ordinal()].setState(initialState(seed, channel));
+        }
+    }
+
+    private static long initialState(long seed, Channel channel) {
+        return RandomStream.mix64(seed + channel.ordinal() * 0x632BE59BD9B4E019L);
+    }
+
+    /**
+     * Picks a seed for a level that is not meant to be reproduced.
+     *
+     * @return a new seed
+     */
+    public static long newSeed() {
+        return RandomStream.mix64(System.nanoTime());
+    }
+
+    /**
+     * Gets the seed this instance was created or last reseeded with.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the stream reserved for a subsystem.
+     *
+     * @param channel the subsystem
+     * @return the subsystem's stream
+     */
+    public RandomStream stream(Channel channel) {
+        return streams[channel.ordinal()];
+    }
+
+    /**
+     * Writes the position of every stream.
+     *
+     * @param writer the destination
+     */
+    public void writeState(StateWriter writer) {
+        for (RandomStream stream : streams) {
+            writer.writeLong(stream.getState());
+        }
+    }
+
+    /**
+     * Restores stream positions written by {@link #writeState(StateWriter)}.
+     *
+     * @param reader the source
+     */
+    public void readState(StateReader reader) {
+        for (RandomStream stream : streams) {
+            stream.setState(reader.readLong());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.demo.utilities;
+
+import java.util.List;
+
+/**
+ * A seedable, splittable SplitMix64 pseudo-random number generator.
+ * The whole state is one {@code long}, so a stream can be saved and restored exactly,
+ * and {@link #split()} derives an independent child stream for work that runs elsewhere,
+ * such as another actor or another thread. Instances are not thread-safe; give each
+ * thread its own split instead of sharing one.
+ */
+public final class RandomStream {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    private long state;
+
+    /**
+     * Constructs a {@code RandomStream} from a seed.
+     *
+     * @param seed the initial state
+     */
+    public RandomStream(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Returns the next pseudo-random {@code long}.
+     *
+     * @return a uniformly distributed {@code long}
+     */
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix64(state);
+    }
+
+    /**
+     * Returns the next pseudo-random {@code double} in {@code [0, 1)}.
+     *
+     * @return a uniformly distributed {@code double}
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    /**
+     * Returns a pseudo-random {@code int} in {@code [0, bound)}, without modulo bias.
+     *
+     * @param bound the exclusive upper bound, must be positive
+     * @return a uniformly distributed {@code int}
+     * @throws IllegalArgumentException if {@code bound} is not positive
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive: " + bound);
+        }
+        long limit = (1L << 32) - ((1L << 32) % bound);
+        long bits;
+        do {
+            bits = nextLong() >>> 32;
+        } while (bits >= limit);
+        return (int) (bits % bound);
+    }
+
+    /**
+     * Returns {@code true} with the given probability.
+     *
+     * @param probability the chance of returning {@code true}, in {@code [0, 1]}
+     * @return the outcome of the draw
+     */
+    public boolean chance(double probability) {
+        return nextDouble() < probability;
+    }
+
+    /**
+     * Shuffles a list in place with the Fisher-Yates algorithm.
+     *
+     * @param list the list to shuffle
+     */
+    public void shuffle(List<?> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            swap(list, i, nextInt(i + 1));
+        }
+    }
+
+    /**
+     * Derives an independent stream from this one, advancing this stream by one draw.
+     *
+     * @return the child stream
+     */
+    public RandomStream split() {
+        return new RandomStream(mix64(nextLong() ^ GOLDEN_GAMMA));
+    }
+
+    /**
+     * Gets the current state, which fully determines every future draw.
+     *
+     * @return the state
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Restores a state previously read with {@link #getState()}.
+     *
+     * @param state the state to restore
+     */
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    /**
+     * Applies the SplitMix64 finalizer, scrambling every bit of the input.
+     *
+     * @param z the value to mix
+     * @return the mixed value
+     */
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static <T> void swap(List<T> list, int i, int j) {
+        T value = list.get(i);
+        list.set(i, list.get(j));
+        list.set(j, value);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.demo.utilities;
+
+/**
+ * Holds the fixed simulation tick rate shared by the game loop and every actor.
+ * Gameplay constants are expressed in per-second units; this class converts them
+ * into per-tick amounts so the tick rate can change without altering gameplay.
+ */
+public final class SimulationClock {
+
+    private static int ticksPerSecond = Constants.SIMULATION_TICKS_PER_SECOND;
+    private static double tickSeconds = 1.0 / ticksPerSecond;
+
+    private SimulationClock() {
+    }
+
+    /**
+     * Sets the number of simulation ticks executed per second of game time.
+     *
+     * @param ticks the new tick rate, must be positive
+     * @throws IllegalArgumentException if {@code ticks} is not positive
+     */
+    public static void setTicksPerSecond(int ticks) {
+        if (ticks <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive: " + ticks);
+        }
+        ticksPerSecond = ticks;
+        tickSeconds = 1.0 / ticks;
+    }
+
+    /**
+     * Retrieves the current simulation tick rate.
+     *
+     * @return the number of ticks per second
+     */
+    public static int getTicksPerSecond() {
+        return ticksPerSecond;
+    }
+
+    /**
+     * Retrieves the duration of a single simulation tick.
+     *
+     * @return the tick duration in seconds
+     */
+    public static double getTickSeconds() {
+        return tickSeconds;
+    }
+
+    /**
+     * Converts a duration into a whole number of ticks at the current tick rate.
+     *
+     * @param seconds the duration in seconds
+     * @return the equivalent number of ticks, at least one for positive durations
+     */
+    public static int ticksFor(double seconds) {
+        if (seconds <= 0) {
+            return 0;
+        }
+        return Math.max(1, (int) Math.round(seconds * ticksPerSecond));
+    }
+
+    /**
+     * Converts an event rate into the probability of the event happening in one tick.
+     *
+     * @param ratePerSecond the expected number of events per second
+     * @return the per-tick probability, clamped to {@code 1.0}
+     */
+    public static double chancePerTick(double ratePerSecond) {
+        return Math.min(1.0, ratePerSecond * tickSeconds);
+    }
+}
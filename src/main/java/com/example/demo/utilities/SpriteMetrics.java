@@ -0,0 +1,66 @@
+package com.example.demo.utilities;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads the pixel dimensions of PNG sprites straight from their {@code IHDR} header.
+ * This lets the simulation size actors without decoding images or starting the JavaFX toolkit.
+ */
+public final class SpriteMetrics {
+
+    private static final long PNG_SIGNATURE = 0x89504E470D0A1A0AL;
+    private static final int IHDR_CHUNK_TYPE = 0x49484452;
+
+    private static final Map<String, int[]> dimensions = new HashMap<>();
+
+    private SpriteMetrics() {
+    }
+
+    /**
+     * Computes the width a sprite has when scaled to a height with its aspect ratio preserved.
+     *
+     * @param path   the classpath resource path of the PNG image
+     * @param height the rendered height
+     * @return the rendered width
+     * @throws IllegalArgumentException if the resource is missing or is not a PNG image
+     */
+    public static double widthAtHeight(String path, double height) {
+        int[] size = naturalSize(path);
+        return size[1] > 0 ? (double) size[0] * height / size[1] : 0;
+    }
+
+    /**
+     * Gets the natural pixel size of a PNG sprite.
+     *
+     * @param path the classpath resource path of the PNG image
+     * @return a two-element array holding the width and height
+     * @throws IllegalArgumentException if the resource is missing or is not a PNG image
+     */
+    public static synchronized int[] naturalSize(String path) {
+        return dimensions.computeIfAbsent(path, SpriteMetrics::readHeader).clone();
+    }
+
+    private static int[] readHeader(String path) {
+        InputStream resource = SpriteMetrics.class.getResourceAsStream(path);
+        if (resource == null) {
+            throw new IllegalArgumentException("Sprite not found: " + path);
+        }
+        try (DataInputStream in = new DataInputStream(resource)) {
+            if (in.readLong() != PNG_SIGNATURE) {
+                throw new IllegalArgumentException("Not a PNG image: " + path);
+            }
+            in.readInt(); // IHDR chunk length
+            if (in.readInt() != IHDR_CHUNK_TYPE) {
+                throw new IllegalArgumentException("PNG image has no IHDR header: " + path);
+            }
+            return new int[] {in.readInt(), in.readInt()};
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read sprite header: " + path, e);
+        }
+    }
+}
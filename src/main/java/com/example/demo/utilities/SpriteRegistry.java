@@ -0,0 +1,152 @@
+package com.example.demo.utilities;
+
+import javafx.scene.image.Image;
+
+import java.lang.ref.SoftReference;
+import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Process-wide cache of decoded sprite images, keyed by resource path and requested height.
+ * Each asset is decoded once and the same {@link Image} is shared by every node that shows it.
+ * Sprites used by many actors are held strongly; rarely shown images can be placed in a
+ * soft-reference tier so the garbage collector may reclaim them under memory pressure,
+ * in which case they are decoded again on the next request.
+ */
+public final class SpriteRegistry {
+
+    /**
+     * How long a decoded sprite is retained.
+     */
+    public enum Tier {
+        /** Kept for the lifetime of the process. */
+        STRONG,
+        /** Kept until the garbage collector needs the memory. */
+        SOFT
+    }
+
+    /** Bytes per decoded pixel; JavaFX stores images as 32-bit premultiplied BGRA. */
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private static final Map<String, Image> strongSprites = new LinkedHashMap<>();
+    private static final Map<String, SoftReference<Image>> softSprites = new LinkedHashMap<>();
+    private static long decodeCount;
+
+    private SpriteRegistry() {
+    }
+
+    /**
+     * Retrieves a commonly used sprite from the strong tier.
+     *
+     * @param path            the classpath resource path of the image
+     * @param requestedHeight the height to decode the image at, or {@code 0} for its natural size
+     * @return the shared decoded image
+     * @throws IllegalArgumentException if the resource does not exist
+     */
+    public static Image get(String path, int requestedHeight) {
+        return get(path, requestedHeight, Tier.STRONG);
+    }
+
+    /**
+     * Retrieves a sprite, decoding it on first use.
+     * The aspect ratio is preserved when decoding at a requested height.
+     *
+     * @param path            the classpath resource path of the image
+     * @param requestedHeight the height to decode the image at, or {@code 0} for its natural size
+     * @param tier            the tier holding the sprite once decoded
+     * @return the shared decoded image
+     * @throws IllegalArgumentException if the resource does not exist
+     */
+    public static synchronized Image get(String path, int requestedHeight, Tier tier) {
+        String key = key(path, requestedHeight);
+        Image image = strongSprites.get(key);
+        if (image != null) {
+            return image;
+        }
+        SoftReference<Image> reference = softSprites.get(key);
+        image = reference != null ? reference.get() : null;
+        if (image != null) {
+            return image;
+        }
+
+        image = decode(path, requestedHeight);
+        if (tier == Tier.STRONG) {
+            softSprites.remove(key);
+            strongSprites.put(key, image);
+        } else {
+            softSprites.put(key, new SoftReference<>(image));
+        }
+        return image;
+    }
+
+    /**
+     * Reports the decoded size of every sprite currently held, in insertion order.
+     * Soft-tier sprites that have been reclaimed are dropped from the registry and not reported.
+     *
+     * @return the decoded bytes per asset, keyed by {@code path@height}
+     */
+    public static synchronized Map<String, Long> getDecodedBytesByAsset() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        strongSprites.forEach((key, image) -> result.put(key, decodedBytes(image)));
+        Iterator<Map.Entry<String, SoftReference<Image>>> iterator = softSprites.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, SoftReference<Image>> entry = iterator.next();
+            Image image = entry.getValue().get();
+            if (image == null) {
+                iterator.remove();
+            } else {
+                result.put(entry.getKey(), decodedBytes(image));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reports the total decoded size of all sprites currently held.
+     *
+     * @return the sum of {@link #getDecodedBytesByAsset()}
+     */
+    public static long getTotalDecodedBytes() {
+        long total = 0;
+        for (long bytes : getDecodedBytesByAsset().values()) {
+            total += bytes;
+        }
+        return total;
+    }
+
+    /**
+     * Gets how many times an image has been decoded, including re-decodes of reclaimed soft sprites.
+     *
+     * @return the cumulative decode count
+     */
+    public static synchronized long getDecodeCount() {
+        return decodeCount;
+    }
+
+    /**
+     * Drops every cached sprite. Images already shown by nodes remain valid.
+     */
+    public static synchronized void clear() {
+        strongSprites.clear();
+        softSprites.clear();
+    }
+
+    private static Image decode(String path, int requestedHeight) {
+        URL url = SpriteRegistry.class.getResource(path);
+        if (url == null) {
+            throw new IllegalArgumentException("Sprite not found: " + path);
+        }
+        decodeCount++;
+        return new Image(url.toExternalForm(), 0, Math.max(0, requestedHeight), true, true, false);
+    }
+
+    private static long decodedBytes(Image image) {
+        return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+    }
+
+    private static String key(String path, int requestedHeight) {
+        return path + "@" + requestedHeight;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.demo.utilities;
+
+/**
+ * {@link StateWriter} that folds every value into a 64-bit hash instead of storing it.
+ * Two states hash alike only if the same values were written in the same order, so hashing a
+ * level's state each tick is a cheap way to check that two runs stay bit-identical.
+ * Hashing allocates nothing and a hasher may be reused after {@link #reset()}.
+ */
+public class StateHasher implements StateWriter {
+
+    private static final long SEED = 0x243F6A8885A308D3L;
+    private static final long MULTIPLIER = 0x9E3779B97F4A7C15L;
+    private static final long VALUE_MULTIPLIER = 0xC2B2AE3D27D4EB4FL;
+
+    private long hash = SEED;
+    private long count;
+
+    @Override
+    public void writeBoolean(boolean value) {
+        mix(value ? 1 : 0);
+    }
+
+    @Override
+    public void writeInt(int value) {
+        mix(value);
+    }
+
+    @Override
+    public void writeLong(long value) {
+        mix(value);
+    }
+
+    @Override
+    public void writeDouble(double value) {
+        mix(Double.doubleToRawLongBits(value));
+    }
+
+    @Override
+    public void writeString(String value) {
+        writeBoolean(value != null);
+        if (value == null) {
+            return;
+        }
+        mix(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            mix(value.charAt(i));
+        }
+    }
+
+    /**
+     * Discards everything written, so the hasher can hash another state.
+     */
+    public void reset() {
+        hash = SEED;
+        count = 0;
+    }
+
+    /**
+     * Gets the hash of everything written since construction or the last {@link #reset()}.
+     *
+     * @return the hash
+     */
+    public long getHash() {
+        long h = hash ^ count;
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+
+    private void mix(long value) {
+        hash = Long.rotateLeft(hash ^ (value * VALUE_MULTIPLIER), 31) * MULTIPLIER;
+        count++;
+    }
+}
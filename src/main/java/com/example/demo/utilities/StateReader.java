@@ -0,0 +1,110 @@
+package com.example.demo.utilities;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Reads back state written by a {@link BinaryStateWriter}, value by value in the same order.
+ */
+public class StateReader {
+
+    private final DataInputStream in;
+
+    /**
+     * Constructs a {@code StateReader} over encoded state.
+     *
+     * @param state the bytes produced by {@link BinaryStateWriter#toByteArray()}
+     */
+    public StateReader(byte[] state) {
+        this(state, state.length);
+    }
+
+    /**
+     * Constructs a {@code StateReader} over the start of a buffer.
+     *
+     * @param state  a buffer whose first {@code length} bytes hold encoded state
+     * @param length the number of meaningful bytes
+     */
+    public StateReader(byte[] state, int length) {
+        this.in = new DataInputStream(new ByteArrayInputStream(state, 0, length));
+    }
+
+    /**
+     * Reads a boolean.
+     *
+     * @return the value
+     * @throws IllegalStateException if the state ends early
+     */
+    public boolean readBoolean() {
+        try {
+            return in.readBoolean();
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * Reads an int.
+     *
+     * @return the value
+     * @throws IllegalStateException if the state ends early
+     */
+    public int readInt() {
+        try {
+            return in.readInt();
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * Reads a long.
+     *
+     * @return the value
+     * @throws IllegalStateException if the state ends early
+     */
+    public long readLong() {
+        try {
+            return in.readLong();
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * Reads a double.
+     *
+     * @return the value
+     * @throws IllegalStateException if the state ends early
+     */
+    public double readDouble() {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    /**
+     * Reads a string.
+     *
+     * @return the value, which may be {@code null}
+     * @throws IllegalStateException if the state ends early
+     */
+    public String readString() {
+        if (!readBoolean()) {
+            return null;
+        }
+        try {
+            return in.readUTF();
+        } catch (IOException e) {
+            throw failure(e);
+        }
+    }
+
+    private static RuntimeException failure(IOException e) {
+        if (e instanceof EOFException) {
+            return new IllegalStateException("State ended unexpectedly", e);
+        }
+        return new UncheckedIOException(e);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.demo.utilities;
+
+/**
+ * Sink for the simulation state of a level and its actors.
+ * Each object writes its own fields in a fixed order and reads them back in the same order
+ * through a {@link StateReader}; the writer decides what happens to the values.
+ */
+public interface StateWriter {
+
+    /**
+     * Writes a boolean.
+     *
+     * @param value the value
+     */
+    void writeBoolean(boolean value);
+
+    /**
+     * Writes an int.
+     *
+     * @param value the value
+     */
+    void writeInt(int value);
+
+    /**
+     * Writes a long.
+     *
+     * @param value the value
+     */
+    void writeLong(long value);
+
+    /**
+     * Writes a double, preserving every bit.
+     *
+     * @param value the value
+     */
+    void writeDouble(double value);
+
+    /**
+     * Writes a string, which may be {@code null}.
+     *
+     * @param value the value
+     */
+    void writeString(String value);
+}
@@ -0,0 +1,67 @@
+package com.example.demo.utilities;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free handoff of the latest value from one writer thread to one reader thread.
+ * Three instances rotate between the writer, the reader and a shared middle slot: the writer
+ * fills its instance and publishes it by swapping it into the middle, and the reader takes the
+ * middle instance when a newer one has been published. Neither side ever waits for the other,
+ * the reader always sees a completely written instance, and instances are reused, so values that
+ * the reader is slower to take are simply skipped.
+ *
+ * @param <T> the type of the exchanged values
+ */
+public class TripleBuffer<T> {
+
+    private static final int DIRTY = 4;
+    private static final int INDEX_MASK = 3;
+
+    private final Object[] slots = new Object[3];
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int writeIndex = 0;
+    private int readIndex = 2;
+
+    /**
+     * Constructs a {@code TripleBuffer} holding three instances created by the factory.
+     *
+     * @param factory creates each of the three instances
+     */
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = factory.get();
+        }
+    }
+
+    /**
+     * Gets the instance the writer may fill. It stays the writer's until {@link #publish()}.
+     *
+     * @return the writer's instance
+     */
+    @SuppressWarnings("unchecked")
+    public T getWriteBuffer() {
+        return (T) slots[writeIndex];
+    }
+
+    /**
+     * Publishes the writer's instance as the latest value and hands the writer another one.
+     */
+    public void publish() {
+        writeIndex = middle.getAndSet(writeIndex | DIRTY) & INDEX_MASK;
+    }
+
+    /**
+     * Takes the latest published value, if any was published since the last call, and returns
+     * the reader's instance. It stays the reader's until the next call.
+     *
+     * @return the latest published instance, or the one already read if nothing newer exists
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if ((middle.get() & DIRTY) != 0) {
+            readIndex = middle.getAndSet(readIndex) & INDEX_MASK;
+        }
+        return (T) slots[readIndex];
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.demo.view;
+
+import com.example.demo.actors.ActiveActor;
+import com.example.demo.utilities.Constants;
+import com.example.demo.utilities.SpriteRegistry;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.image.ImageView;
+import javafx.util.Duration;
+
+/**
+ * JavaFX node that displays a single {@link ActiveActor}.
+ * The view holds no gameplay state; it copies the actor's simulated position every frame.
+ */
+public class ActorView extends ImageView {
+
+    private final ActiveActor actor;
+    private boolean attached;
+    private int renderedGeneration;
+
+    /**
+     * Constructs an {@code ActorView} for the given actor, using the actor's shared sprite.
+     *
+     * @param actor the actor to display
+     */
+    public ActorView(ActiveActor actor) {
+        super(SpriteRegistry.get(ActiveActor.IMAGE_LOCATION + actor.getImageName(), (int) actor.getHeight()));
+        this.actor = actor;
+        setFitHeight(actor.getHeight());
+        setPreserveRatio(true);
+        render(0);
+    }
+
+    /**
+     * Gets the actor displayed by this view.
+     *
+     * @return the displayed actor
+     */
+    public ActiveActor getActor() {
+        return actor;
+    }
+
+    /**
+     * Places the view between the actor's previous and current simulated position.
+     *
+     * @param alpha the fraction of a tick elapsed since the last simulation step
+     */
+    public void render(double alpha) {
+        setLayoutX(actor.getLayoutX());
+        setLayoutY(actor.getLayoutY());
+        setTranslateX(actor.getInterpolatedX(alpha));
+        setTranslateY(actor.getInterpolatedY(alpha));
+    }
+
+    /**
+     * Places the view at a position copied from a {@link RenderFrame}.
+     *
+     * @param layoutX    the layout X position
+     * @param layoutY    the layout Y position
+     * @param translateX the interpolated X offset
+     * @param translateY the interpolated Y offset
+     */
+    public void place(double layoutX, double layoutY, double translateX, double translateY) {
+        setLayoutX(layoutX);
+        setLayoutY(layoutY);
+        setTranslateX(translateX);
+        setTranslateY(translateY);
+    }
+
+    /**
+     * Gets the collision box of the displayed actor as drawn, shrunk by the bounding box factors.
+     * <p>
+     * Intended for debugging overlays only: it queries the scene graph and allocates a new box
+     * on every call. Collision passes read the per-tick {@code BoundsSnapshot} instead.
+     * </p>
+     *
+     * @return the adjusted bounds as a {@link BoundingBox}
+     */
+    public Bounds getAdjustedBounds() {
+        Bounds originalBounds = getBoundsInParent();
+
+        double width = originalBounds.getWidth() * Constants.BOUNDING_BOX_WIDTH_SHRINK_FACTOR;
+        double height = originalBounds.getHeight() * Constants.BOUNDING_BOX_HEIGHT_SHRINK_FACTOR;
+        double x = originalBounds.getMinX() + (originalBounds.getWidth() - width) / 2;
+        double y = originalBounds.getMinY() + (originalBounds.getHeight() - height) / 2;
+
+        return new BoundingBox(x, y, width, height);
+    }
+
+    /**
+     * Briefly dims the view and surrounds it with a coloured glow.
+     *
+     * @param color the CSS colour of the glow
+     */
+    public void flash(String color) {
+        Timeline flashEffect = new Timeline(
+                new KeyFrame(Duration.seconds(0), e -> setStyle("-fx-opacity: 0.5; -fx-effect: dropshadow(gaussian, " + color + ", 30, 0.8, 0, 0);")),
+                new KeyFrame(Duration.seconds(0.1), e -> setStyle("-fx-opacity: 1.0; -fx-effect: none;"))
+        );
+        flashEffect.setCycleCount(1);
+        flashEffect.play();
+    }
+
+    boolean isAttached() {
+        return attached;
+    }
+
+    void setAttached(boolean attached) {
+        this.attached = attached;
+    }
+
+    int getRenderedGeneration() {
+        return renderedGeneration;
+    }
+
+    void setRenderedGeneration(int renderedGeneration) {
+        this.renderedGeneration = renderedGeneration;
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.demo.view;
+
+import com.example.demo.actors.ActiveActor;
+import javafx.scene.Group;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps one {@link ActorView} per displayed actor inside a dedicated {@link Group}.
+ * Views are detached in batches so removing many actors in one tick costs a single
+ * children update, and views of pooled actors are kept so a reused actor gets its node back.
+ */
+public class ActorViewLayer {
+
+    private final Group group;
+    private final Map<ActiveActor, ActorView> views = new IdentityHashMap<>();
+    private final List<ActorView> attachedViews = new ArrayList<>();
+    private final Set<ActorView> pendingDetach = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<ActiveActor> retiredActors = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int generation;
+
+    /**
+     * Constructs an {@code ActorViewLayer} that places its views in the given group.
+     *
+     * @param group the group holding the actor views
+     */
+    public ActorViewLayer(Group group) {
+        this.group = group;
+    }
+
+    /**
+     * Gets the group holding the actor views.
+     *
+     * @return the layer's group
+     */
+    public Group getGroup() {
+        return group;
+    }
+
+    /**
+     * Displays an actor, reusing its existing view if it has one.
+     *
+     * @param actor the actor to display
+     * @return the actor's view
+     */
+    public ActorView show(ActiveActor actor) {
+        ActorView view = views.computeIfAbsent(actor, ActorView::new);
+        if (view.isAttached()) {
+            pendingDetach.remove(view);
+            return view;
+        }
+        view.setAttached(true);
+        view.render(0);
+        attachedViews.add(view);
+        group.getChildren().add(view);
+        return view;
+    }
+
+    /**
+     * Schedules an actor's view for removal on the next {@link #flush()}.
+     *
+     * @param actor         the actor to stop displaying
+     * @param keepForReuse  {@code true} to keep the view for when the actor is shown again
+     */
+    public void hide(ActiveActor actor, boolean keepForReuse) {
+        ActorView view = keepForReuse ? views.get(actor) : views.remove(actor);
+        if (view != null && view.isAttached()) {
+            pendingDetach.add(view);
+        }
+    }
+
+    /**
+     * Detaches every view hidden since the last flush in a single pass.
+     */
+    public void flush() {
+        if (pendingDetach.isEmpty()) {
+            return;
+        }
+        group.getChildren().removeAll(pendingDetach);
+        attachedViews.removeIf(pendingDetach::contains);
+        for (ActorView view : pendingDetach) {
+            view.setAttached(false);
+        }
+        pendingDetach.clear();
+    }
+
+    /**
+     * Gets the view of an actor.
+     *
+     * @param actor the displayed actor
+     * @return the actor's view, or {@code null} if it has none
+     */
+    public ActorView getView(ActiveActor actor) {
+        return views.get(actor);
+    }
+
+    /**
+     * Places every attached view at its actor's interpolated position.
+     *
+     * @param alpha the fraction of a tick elapsed since the last simulation step
+     */
+    public void render(double alpha) {
+        for (int i = 0; i < attachedViews.size(); i++) {
+            attachedViews.get(i).render(alpha);
+        }
+    }
+
+    /**
+     * Makes the displayed views match a frame: views of actors in the frame are shown and placed
+     * at the frame's interpolated positions, and every other view is detached but kept for reuse.
+     * Used when the simulation runs on another thread and only publishes frames.
+     *
+     * @param frame the frame to display
+     * @param alpha the fraction of a tick elapsed since the frame's tick
+     */
+    public void render(RenderFrame frame, double alpha) {
+        generation++;
+        for (int i = 0; i < frame.getActorCount(); i++) {
+            ActorView view = show(frame.getActor(i));
+            view.setRenderedGeneration(generation);
+            view.place(frame.getLayoutX(i), frame.getLayoutY(i), frame.getInterpolatedX(i, alpha), frame.getInterpolatedY(i, alpha));
+        }
+        for (int i = 0; i < attachedViews.size(); i++) {
+            ActorView view = attachedViews.get(i);
+            if (view.getRenderedGeneration() != generation) {
+                pendingDetach.add(view);
+            }
+        }
+        for (Iterator<ActiveActor> iterator = retiredActors.iterator(); iterator.hasNext(); ) {
+            ActiveActor actor = iterator.next();
+            ActorView view = views.get(actor);
+            if (view == null || view.getRenderedGeneration() != generation) {
+                views.remove(actor);
+                iterator.remove();
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Drops an actor's view once a frame rendered by {@link #render(RenderFrame, double)} no
+     * longer contains the actor, for actors that will not be shown again.
+     *
+     * @param actor the removed actor
+     */
+    public void retire(ActiveActor actor) {
+        retiredActors.add(actor);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.demo.view;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.GameEffects;
+import com.example.demo.utilities.Constants;
+import com.example.demo.utilities.SpriteRegistry;
+import javafx.animation.PauseTransition;
+import javafx.scene.image.ImageView;
+import javafx.scene.media.AudioClip;
+import javafx.util.Duration;
+
+/**
+ * {@link GameEffects} that shows gameplay events in the JavaFX scene:
+ * hit flashes on actor views, explosion overlays on damaged enemies and the shooting sound.
+ */
+public class FxGameEffects implements GameEffects {
+
+    private final ActorViewLayer viewLayer;
+    private final AudioClip shootingSound;
+    private double soundVolume = 0.5;
+
+    /**
+     * Constructs an {@code FxGameEffects} that draws into the given view layer.
+     *
+     * @param viewLayer the layer holding the actor views
+     */
+    public FxGameEffects(ActorViewLayer viewLayer) {
+        this.viewLayer = viewLayer;
+        this.shootingSound = new AudioClip(getClass().getResource(Constants.USER_PLANE_SHOOTING_SOUND).toExternalForm());
+    }
+
+    /**
+     * Sets the volume for the shooting sound effect.
+     *
+     * @param volume the desired volume level (0.0 to 1.0)
+     */
+    public void setSoundVolume(double volume) {
+        this.soundVolume = Math.min(1.0, Math.max(0.0, volume));
+        shootingSound.setVolume(this.soundVolume);
+    }
+
+    @Override
+    public void onHit(ActiveActorDestructible actor) {
+        flash(actor, "white");
+    }
+
+    @Override
+    public void onShieldHit(ActiveActorDestructible actor) {
+        flash(actor, "cyan");
+    }
+
+    /**
+     * Shows a temporary damage image over the enemy's current bounds.
+     *
+     * @param enemy the damaged enemy
+     */
+    @Override
+    public void onEnemyDamaged(ActiveActorDestructible enemy) {
+        ImageView damageEffect = new ImageView(SpriteRegistry.get(Constants.ENEMY_PLANE_DAMAGE_IMAGE, Constants.ENEMY_PLANE_IMAGE_HEIGHT, SpriteRegistry.Tier.SOFT));
+
+        damageEffect.setFitWidth(enemy.getWidth());
+        damageEffect.setFitHeight(enemy.getHeight());
+        damageEffect.setLayoutX(enemy.getLayoutX() + enemy.getPositionX());
+        damageEffect.setLayoutY(enemy.getLayoutY() + enemy.getPositionY());
+
+        viewLayer.getGroup().getChildren().add(damageEffect);
+
+        PauseTransition pause = new PauseTransition(Duration.seconds(1));
+        pause.setOnFinished(e -> viewLayer.getGroup().getChildren().remove(damageEffect));
+        pause.play();
+    }
+
+    @Override
+    public void onShotFired(ActiveActorDestructible shooter) {
+        shootingSound.setVolume(soundVolume);
+        if (soundVolume > 0) {
+            shootingSound.play();
+        }
+    }
+
+    private void flash(ActiveActorDestructible actor, String color) {
+        ActorView view = viewLayer.getView(actor);
+        if (view != null) {
+            view.flash(color);
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.example.demo.view;
 
 import com.example.demo.utilities.Constants;
-import javafx.scene.image.Image;
+import com.example.demo.utilities.SpriteRegistry;
 import javafx.scene.image.ImageView;
 
 /**
@@ -18,7 +18,7 @@ public class GameOverImage extends ImageView {
      * @param screenHeight the height of the game screen
      */
     public GameOverImage(double screenWidth, double screenHeight) {
-        setImage(new Image(getClass().getResource(Constants.GAME_OVER_IMAGE_PATH).toExternalForm()));
+        setImage(SpriteRegistry.get(Constants.GAME_OVER_IMAGE_PATH, 0, SpriteRegistry.Tier.SOFT));
 
         setFitWidth(Constants.GAME_OVER_IMAGE_WIDTH);
         setPreserveRatio(true);
@@ -1,7 +1,7 @@
 package com.example.demo.view;
 
 import com.example.demo.utilities.Constants;
-import javafx.scene.image.Image;
+import com.example.demo.utilities.SpriteRegistry;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
@@ -48,12 +48,23 @@ public class HeartDisplay {
      */
     private void initializeHearts() {
         for (int i = 0; i < heartsDisplay; i++) {
-            ImageView heart = new ImageView(new Image(getClass().getResource(Constants.HEART_IMAGE_PATH).toExternalForm()));
+            addHeart();
+        }
+    }
 
-            heart.setFitHeight(Constants.HEART_IMAGE_HEIGHT);
-            heart.setPreserveRatio(true);
-            container.getChildren().add(heart);
+    /**
+     * Adds one heart to the display.
+     * If the display already shows its initial number of hearts, the method does nothing.
+     */
+    public void addHeart() {
+        if (container.getChildren().size() >= heartsDisplay) {
+            return;
         }
+        ImageView heart = new ImageView(SpriteRegistry.get(Constants.HEART_IMAGE_PATH, Constants.HEART_IMAGE_HEIGHT));
+
+        heart.setFitHeight(Constants.HEART_IMAGE_HEIGHT);
+        heart.setPreserveRatio(true);
+        container.getChildren().add(heart);
     }
 
     /**
@@ -175,4 +175,18 @@ public class LevelView {
 			heartDisplay.removeHeart();
 		}
 	}
+
+	/**
+	 * Shows exactly the specified number of hearts, adding hearts back if needed, up to the
+	 * initial number. Used when a saved state with more health is restored.
+	 *
+	 * @param heartsRemaining the number of hearts to display
+	 */
+	public void restoreHearts(int heartsRemaining) {
+		int currentNumberOfHearts = heartDisplay.getContainer().getChildren().size();
+		for (int i = currentNumberOfHearts; i < heartsRemaining; i++) {
+			heartDisplay.addHeart();
+		}
+		removeHearts(heartsRemaining);
+	}
 }
@@ -0,0 +1,241 @@
+package com.example.demo.view;
+
+import com.example.demo.actors.ActiveActor;
+
+import java.util.Arrays;
+
+/**
+ * Everything the JavaFX thread needs to draw one simulated tick: each displayed actor with its
+ * previous and current position, and the values shown in the HUD. A frame is filled by the
+ * simulation thread and handed over through a {@link com.example.demo.utilities.TripleBuffer},
+ * after which the simulation never touches it until the renderer has let it go, so the renderer
+ * can read it without synchronization while the next tick runs. Frames are reused and only
+ * allocate when they grow.
+ */
+public class RenderFrame {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private ActiveActor[] actors = new ActiveActor[INITIAL_CAPACITY];
+    private double[] layoutX = new double[INITIAL_CAPACITY];
+    private double[] layoutY = new double[INITIAL_CAPACITY];
+    private double[] previousX = new double[INITIAL_CAPACITY];
+    private double[] previousY = new double[INITIAL_CAPACITY];
+    private double[] positionX = new double[INITIAL_CAPACITY];
+    private double[] positionY = new double[INITIAL_CAPACITY];
+    private int actorCount;
+
+    private long tick;
+    private int userHealth;
+    private int kills;
+    private boolean bossPresent;
+    private int bossHealth;
+    private int bossShieldHealth;
+    private boolean bossShielded;
+    private double bossX;
+    private double bossY;
+
+    /**
+     * Starts a new frame for a tick, dropping the actors of the previous one.
+     *
+     * @param tick       the tick the frame shows
+     * @param userHealth the player's health
+     * @param kills      the player's kill count
+     */
+    public void begin(long tick, int userHealth, int kills) {
+        for (int i = 0; i < actorCount; i++) {
+            actors[i] = null;
+        }
+        actorCount = 0;
+        this.tick = tick;
+        this.userHealth = userHealth;
+        this.kills = kills;
+        this.bossPresent = false;
+    }
+
+    /**
+     * Adds an actor at its current simulated position.
+     *
+     * @param actor the actor to display
+     */
+    public void addActor(ActiveActor actor) {
+        if (actorCount == actors.length) {
+            int capacity = actors.length * 2;
+            actors = Arrays.copyOf(actors, capacity);
+            layoutX = Arrays.copyOf(layoutX, capacity);
+            layoutY = Arrays.copyOf(layoutY, capacity);
+            previousX = Arrays.copyOf(previousX, capacity);
+            previousY = Arrays.copyOf(previousY, capacity);
+            positionX = Arrays.copyOf(positionX, capacity);
+            positionY = Arrays.copyOf(positionY, capacity);
+        }
+        int i = actorCount++;
+        actors[i] = actor;
+        layoutX[i] = actor.getLayoutX();
+        layoutY[i] = actor.getLayoutY();
+        previousX[i] = actor.getInterpolatedX(0);
+        previousY[i] = actor.getInterpolatedY(0);
+        positionX[i] = actor.getPositionX();
+        positionY[i] = actor.getPositionY();
+    }
+
+    /**
+     * Sets the boss values shown in the HUD.
+     *
+     * @param health       the boss's health
+     * @param shieldHealth the boss's shield health
+     * @param shielded     whether the shield is up
+     * @param x            the boss's horizontal screen position
+     * @param y            the boss's vertical screen position
+     */
+    public void setBoss(int health, int shieldHealth, boolean shielded, double x, double y) {
+        bossPresent = true;
+        bossHealth = health;
+        bossShieldHealth = shieldHealth;
+        bossShielded = shielded;
+        bossX = x;
+        bossY = y;
+    }
+
+    /**
+     * Gets the number of displayed actors.
+     *
+     * @return the actor count
+     */
+    public int getActorCount() {
+        return actorCount;
+    }
+
+    /**
+     * Gets a displayed actor.
+     *
+     * @param index the actor's index in the frame
+     * @return the actor
+     */
+    public ActiveActor getActor(int index) {
+        return actors[index];
+    }
+
+    /**
+     * Gets an actor's layout X position.
+     *
+     * @param index the actor's index in the frame
+     * @return the layout X position
+     */
+    public double getLayoutX(int index) {
+        return layoutX[index];
+    }
+
+    /**
+     * Gets an actor's layout Y position.
+     *
+     * @param index the actor's index in the frame
+     * @return the layout Y position
+     */
+    public double getLayoutY(int index) {
+        return layoutY[index];
+    }
+
+    /**
+     * Gets an actor's horizontal offset, between its previous and current simulated position.
+     *
+     * @param index the actor's index in the frame
+     * @param alpha the fraction of a tick elapsed since the frame's tick
+     * @return the interpolated X offset
+     */
+    public double getInterpolatedX(int index, double alpha) {
+        return previousX[index] + (positionX[index] - previousX[index]) * alpha;
+    }
+
+    /**
+     * Gets an actor's vertical offset, between its previous and current simulated position.
+     *
+     * @param index the actor's index in the frame
+     * @param alpha the fraction of a tick elapsed since the frame's tick
+     * @return the interpolated Y offset
+     */
+    public double getInterpolatedY(int index, double alpha) {
+        return previousY[index] + (positionY[index] - previousY[index]) * alpha;
+    }
+
+    /**
+     * Gets the tick the frame shows.
+     *
+     * @return the tick count
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the player's health.
+     *
+     * @return the health
+     */
+    public int getUserHealth() {
+        return userHealth;
+    }
+
+    /**
+     * Gets the player's kill count.
+     *
+     * @return the kills
+     */
+    public int getKills() {
+        return kills;
+    }
+
+    /**
+     * Checks whether the frame has boss values.
+     *
+     * @return {@code true} if the level has a boss
+     */
+    public boolean isBossPresent() {
+        return bossPresent;
+    }
+
+    /**
+     * Gets the boss's health.
+     *
+     * @return the health
+     */
+    public int getBossHealth() {
+        return bossHealth;
+    }
+
+    /**
+     * Gets the boss's shield health.
+     *
+     * @return the shield health
+     */
+    public int getBossShieldHealth() {
+        return bossShieldHealth;
+    }
+
+    /**
+     * Checks whether the boss's shield is up.
+     *
+     * @return {@code true} if shielded
+     */
+    public boolean isBossShielded() {
+        return bossShielded;
+    }
+
+    /**
+     * Gets the boss's horizontal screen position.
+     *
+     * @return the X position
+     */
+    public double getBossX() {
+        return bossX;
+    }
+
+    /**
+     * Gets the boss's vertical screen position.
+     *
+     * @return the Y position
+     */
+    public double getBossY() {
+        return bossY;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.demo.view;
 
 import com.example.demo.utilities.Constants;
+import com.example.demo.utilities.SpriteRegistry;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
@@ -28,7 +29,7 @@ public class ShieldImage extends ImageView {
      */
     private void initializeShield() {
         try {
-            Image shieldImage = new Image(getClass().getResourceAsStream(Constants.SHIELD_IMAGE_PATH));
+            Image shieldImage = SpriteRegistry.get(Constants.SHIELD_IMAGE_PATH, Constants.SHIELD_SIZE, SpriteRegistry.Tier.SOFT);
             setImage(shieldImage);
             setFitWidth(Constants.SHIELD_SIZE);
             setFitHeight(Constants.SHIELD_SIZE);
@@ -1,7 +1,7 @@
 package com.example.demo.view;
 
 import com.example.demo.utilities.Constants;
-import javafx.scene.image.Image;
+import com.example.demo.utilities.SpriteRegistry;
 import javafx.scene.image.ImageView;
 
 /**
@@ -18,7 +18,7 @@ public class WinImage extends ImageView {
      * @param screenHeight the height of the game screen
      */
     public WinImage(double screenWidth, double screenHeight) {
-        setImage(new Image(getClass().getResource(Constants.WIN_IMAGE_PATH).toExternalForm()));
+        setImage(SpriteRegistry.get(Constants.WIN_IMAGE_PATH, 0, SpriteRegistry.Tier.SOFT));
 
         setFitWidth(Constants.WIN_IMAGE_WIDTH);
         setPreserveRatio(true);
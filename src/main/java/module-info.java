@@ -3,6 +3,9 @@ module com.example.demo {
     requires javafx.fxml;
     requires javafx.media;
     requires javafx.graphics;
+    requires java.management;
+    requires jdk.management;
+    requires jdk.jfr;
 
     opens com.example.demo.controller to javafx.fxml;
     opens com.example.demo.levels to javafx.fxml;
@@ -19,4 +22,5 @@ module com.example.demo {
     opens com.example.demo.manager to javafx.fxml;
     exports com.example.demo.models;
     opens com.example.demo.models to javafx.fxml;
+    exports com.example.demo.collision;
 }
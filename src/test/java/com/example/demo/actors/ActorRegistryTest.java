@@ -0,0 +1,165 @@
+package com.example.demo.actors;
+
+import com.example.demo.models.EnemyProjectile;
+import com.example.demo.models.UserProjectile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link ActorRegistry} class.
+ */
+public class ActorRegistryTest {
+
+    private ActorRegistry registry;
+
+    @BeforeEach
+    public void setUpEach() {
+        registry = new ActorRegistry();
+    }
+
+    @Test
+    public void testDestroyedActorsStayUntilCompaction() {
+        ActiveActorDestructible a = createActor();
+        ActiveActorDestructible b = createActor();
+        registry.add(a);
+        registry.add(b);
+
+        a.destroy();
+        assertEquals(2, registry.size(), "Removal must be deferred until compaction.");
+        assertSame(a, registry.get(0));
+
+        List<ActiveActorDestructible> removed = new ArrayList<>();
+        assertEquals(1, registry.compact(removed::add));
+        assertEquals(List.of(a), removed);
+        assertEquals(List.of(b), registry);
+    }
+
+    @Test
+    public void testCompactionFillsGapsWithLastActor() {
+        List<ActiveActorDestructible> actors = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ActiveActorDestructible actor = createActor();
+            actors.add(actor);
+            registry.add(actor);
+        }
+        actors.get(0).destroy();
+        actors.get(4).destroy();
+        registry.markForRemoval(actors.get(2));
+
+        registry.compact(actor -> { });
+
+        assertEquals(List.of(actors.get(3), actors.get(1)), registry);
+    }
+
+    @Test
+    public void testHandlesAreInvalidatedOnRemoval() {
+        ActiveActorDestructible first = createActor();
+        long firstHandle = registry.register(first);
+        assertSame(first, registry.resolve(firstHandle));
+
+        first.destroy();
+        registry.compact(actor -> { });
+        assertNull(registry.resolve(firstHandle));
+        assertEquals(ActorRegistry.NO_HANDLE, first.getRegistryHandle());
+
+        ActiveActorDestructible second = createActor();
+        long secondHandle = registry.register(second);
+        assertNotEquals(firstHandle, secondHandle, "A reused slot must get a new generation.");
+        assertNull(registry.resolve(firstHandle));
+        assertSame(second, registry.resolve(secondHandle));
+    }
+
+    @Test
+    public void testForEachSkipsActorsAddedDuringIteration() {
+        registry.add(createActor());
+        registry.add(createActor());
+
+        int[] visited = new int[1];
+        registry.forEach(actor -> {
+            visited[0]++;
+            registry.add(createActor());
+        });
+
+        assertEquals(2, visited[0]);
+        assertEquals(4, registry.size());
+    }
+
+    @Test
+    public void testRegisteringTwiceIsRejected() {
+        ActiveActorDestructible actor = createActor();
+        registry.add(actor);
+
+        assertThrows(IllegalStateException.class, () -> new ActorRegistry().add(actor));
+    }
+
+    @Test
+    public void testBucketsFollowRegistrationAndCompaction() {
+        List<ActiveActorDestructible> actors = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            ActiveActorDestructible actor = createActor(i % 3 == 0 ? EnemyProjectile.class : UserProjectile.class);
+            actors.add(actor);
+            registry.add(actor);
+        }
+        actors.get(0).destroy();
+        actors.get(4).destroy();
+        actors.get(5).destroy();
+        registry.markForRemoval(actors.get(9));
+        registry.compact(actor -> { });
+
+        assertEquals(2, registry.getBucketCount());
+        assertEquals(bucketContents(registry.bucket(UserProjectile.class)), actorsOfClass(UserProjectile.class));
+        assertEquals(bucketContents(registry.bucket(EnemyProjectile.class)), actorsOfClass(EnemyProjectile.class));
+
+        registry.clear();
+        assertEquals(0, registry.bucket(UserProjectile.class).size());
+        assertEquals(0, registry.bucket(EnemyProjectile.class).size());
+    }
+
+    @Test
+    public void testRestrictedRegistryRejectsOtherClasses() {
+        ActorRegistry restricted = new ActorRegistry(List.of(UserProjectile.class));
+        restricted.add(createActor());
+
+        assertEquals(1, restricted.bucket(UserProjectile.class).size());
+        assertThrows(IllegalArgumentException.class, () -> restricted.add(createActor(EnemyProjectile.class)));
+        assertThrows(IllegalArgumentException.class, () -> restricted.bucket(EnemyProjectile.class));
+        assertEquals(1, restricted.size());
+    }
+
+    private Set<ActiveActorDestructible> actorsOfClass(Class<?> type) {
+        Set<ActiveActorDestructible> actors = new HashSet<>();
+        for (ActiveActorDestructible actor : registry) {
+            if (actor.getClass() == type) {
+                actors.add(actor);
+            }
+        }
+        return actors;
+    }
+
+    private static Set<ActiveActorDestructible> bucketContents(ActorBucket<?> bucket) {
+        Set<ActiveActorDestructible> actors = new HashSet<>();
+        for (int i = 0; i < bucket.size(); i++) {
+            actors.add(bucket.get(i));
+        }
+        assertEquals(bucket.size(), actors.size(), "A bucket must not hold an actor twice.");
+        return actors;
+    }
+
+    private static ActiveActorDestructible createActor() {
+        return createActor(UserProjectile.class);
+    }
+
+    private static ActiveActorDestructible createActor(Class<? extends ActiveActorDestructible> type) {
+        ActiveActorDestructible actor = mock(type, CALLS_REAL_METHODS);
+        actor.setRegistryHandle(ActorRegistry.NO_HANDLE);
+        return actor;
+    }
+}
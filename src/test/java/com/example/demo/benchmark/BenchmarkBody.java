@@ -0,0 +1,18 @@
+package com.example.demo.benchmark;
+
+/**
+ * One invocation of a benchmarked operation.
+ *
+ * @param <S> the type of the state prepared for each parameter value
+ */
+@FunctionalInterface
+public interface BenchmarkBody<S> {
+
+    /**
+     * Runs the operation once.
+     *
+     * @param state     the state prepared by the benchmark's setup
+     * @param blackhole the sink for values the operation produces
+     */
+    void run(S state, Blackhole blackhole);
+}
@@ -0,0 +1,174 @@
+package com.example.demo.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.IntFunction;
+
+/**
+ * Minimal JMH-style harness that needs nothing beyond the JDK.
+ * Each benchmark is run once per actor count: a fresh state is built, the operation is warmed up,
+ * and then timed over several fixed-length iterations. Results are written as JSON in the same
+ * shape as JMH's {@code -rf json} output, so stored baselines can be compared with common tools.
+ *
+ * <p>Iteration counts and lengths can be overridden with the {@code benchmark.warmupIterations},
+ * {@code benchmark.measurementIterations} and {@code benchmark.iterationMillis} system properties;
+ * {@code benchmark.actorCounts} takes a comma-separated list of actor counts.</p>
+ */
+public class BenchmarkHarness {
+
+    /** The actor counts every benchmark is run with unless overridden. */
+    public static final int[] DEFAULT_ACTOR_COUNTS = {10, 100, 1_000, 10_000};
+
+    private static final Path OUTPUT_DIRECTORY = Path.of("target", "benchmarks");
+
+    private final String suite;
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationNanos;
+    private final int[] actorCounts;
+    private final List<BenchmarkResult> results = new ArrayList<>();
+    private final Blackhole blackhole = new Blackhole();
+
+    /**
+     * Constructs a {@code BenchmarkHarness}.
+     *
+     * @param suite the suite name, used as the JSON file name and as a prefix for benchmark names
+     */
+    public BenchmarkHarness(String suite) {
+        this(suite, DEFAULT_ACTOR_COUNTS);
+    }
+
+    /**
+     * Constructs a {@code BenchmarkHarness} with its own default actor counts, for suites whose
+     * operations are only interesting at other scales. The system property still overrides them.
+     *
+     * @param suite         the suite name, used as the JSON file name and as a prefix for benchmark names
+     * @param defaultCounts the actor counts to run with unless overridden
+     */
+    public BenchmarkHarness(String suite, int[] defaultCounts) {
+        this.suite = suite;
+        this.warmupIterations = Integer.getInteger("benchmark.warmupIterations", 3);
+        this.measurementIterations = Integer.getInteger("benchmark.measurementIterations", 5);
+        this.iterationNanos = Long.getLong("benchmark.iterationMillis", 200) * 1_000_000;
+        this.actorCounts = parseActorCounts(System.getProperty("benchmark.actorCounts"), defaultCounts);
+    }
+
+    /**
+     * Measures an operation for every configured actor count.
+     *
+     * @param name  the benchmark name
+     * @param setup builds the state for an actor count
+     * @param body  the operation to time
+     * @param <S>   the state type
+     */
+    public <S> void run(String name, IntFunction<S> setup, BenchmarkBody<S> body) {
+        for (int actorCount : actorCounts) {
+            S state = setup.apply(actorCount);
+            for (int i = 0; i < warmupIterations; i++) {
+                iteration(state, body);
+            }
+            double[] samples = new double[measurementIterations];
+            for (int i = 0; i < measurementIterations; i++) {
+                samples[i] = iteration(state, body);
+            }
+            BenchmarkResult result = new BenchmarkResult(suite + "." + name, actorCount, samples);
+            results.add(result);
+            System.out.printf(Locale.ROOT, "%-60s actors=%-6d %14.1f +- %.1f ns/op%n",
+                    result.benchmark(), actorCount, result.score(), result.error());
+        }
+        blackhole.flush();
+    }
+
+    /**
+     * Gets the results measured so far.
+     *
+     * @return the results in the order they were measured
+     */
+    public List<BenchmarkResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Writes the results to {@code target/benchmarks/<suite>.json}.
+     *
+     * @return the path of the written file
+     */
+    public Path writeJson() {
+        try {
+            Files.createDirectories(OUTPUT_DIRECTORY);
+            Path file = OUTPUT_DIRECTORY.resolve(suite + ".json");
+            Files.writeString(file, toJson());
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Formats the results as a JMH-compatible JSON array.
+     *
+     * @return the JSON text
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder("[\n");
+        for (int i = 0; i < results.size(); i++) {
+            BenchmarkResult result = results.get(i);
+            json.append("  {\n")
+                    .append("    \"benchmark\" : \"").append(result.benchmark()).append("\",\n")
+                    .append("    \"mode\" : \"avgt\",\n")
+                    .append("    \"warmupIterations\" : ").append(warmupIterations).append(",\n")
+                    .append("    \"measurementIterations\" : ").append(measurementIterations).append(",\n")
+                    .append("    \"measurementTime\" : \"").append(iterationNanos / 1_000_000).append(" ms\",\n")
+                    .append("    \"params\" : { \"actorCount\" : \"").append(result.actorCount()).append("\" },\n")
+                    .append("    \"primaryMetric\" : {\n")
+                    .append("      \"score\" : ").append(number(result.score())).append(",\n")
+                    .append("      \"scoreError\" : ").append(number(result.error())).append(",\n")
+                    .append("      \"scoreUnit\" : \"ns/op\",\n")
+                    .append("      \"rawData\" : [ [ ");
+            double[] samples = result.samples();
+            for (int j = 0; j < samples.length; j++) {
+                json.append(j > 0 ? ", " : "").append(number(samples[j]));
+            }
+            json.append(" ] ]\n    }\n  }").append(i < results.size() - 1 ? "," : "").append('\n');
+        }
+        return json.append("]\n").toString();
+    }
+
+    /**
+     * Runs the operation repeatedly for one iteration's duration.
+     *
+     * @return the average nanoseconds per operation
+     */
+    private <S> double iteration(S state, BenchmarkBody<S> body) {
+        long operations = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            body.run(state, blackhole);
+            operations++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < iterationNanos);
+        return (double) elapsed / operations;
+    }
+
+    private static String number(double value) {
+        return Double.isFinite(value) ? String.format(Locale.ROOT, "%.3f", value) : "\"NaN\"";
+    }
+
+    private static int[] parseActorCounts(String property, int[] defaultCounts) {
+        if (property == null || property.isBlank()) {
+            return defaultCounts;
+        }
+        String[] parts = property.split(",");
+        int[] counts = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            counts[i] = Integer.parseInt(parts[i].trim());
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.demo.benchmark;
+
+/**
+ * Average time per operation measured for one benchmark and parameter value.
+ *
+ * @param benchmark  the benchmark name
+ * @param actorCount the actor count parameter
+ * @param samples    the average nanoseconds per operation of each measurement iteration
+ */
+public record BenchmarkResult(String benchmark, int actorCount, double[] samples) {
+
+    /**
+     * Gets the mean of the iteration samples.
+     *
+     * @return the score in nanoseconds per operation
+     */
+    public double score() {
+        double sum = 0;
+        for (double sample : samples) {
+            sum += sample;
+        }
+        return sum / samples.length;
+    }
+
+    /**
+     * Gets the half-width of the 99.9% confidence interval around the score,
+     * using a normal approximation as a JDK-only stand-in for the Student t distribution.
+     *
+     * @return the score error in nanoseconds per operation
+     */
+    public double error() {
+        if (samples.length < 2) {
+            return Double.NaN;
+        }
+        double mean = score();
+        double squares = 0;
+        for (double sample : samples) {
+            squares += (sample - mean) * (sample - mean);
+        }
+        double standardDeviation = Math.sqrt(squares / (samples.length - 1));
+        return 3.29 * standardDeviation / Math.sqrt(samples.length);
+    }
+}
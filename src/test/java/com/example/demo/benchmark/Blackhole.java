@@ -0,0 +1,53 @@
+package com.example.demo.benchmark;
+
+/**
+ * Sink for benchmark results, so the JIT cannot remove the measured work as dead code.
+ */
+public final class Blackhole {
+
+    private volatile long sink;
+    private long accumulator;
+
+    /**
+     * Consumes a reference.
+     *
+     * @param value the value to consume
+     */
+    public void consume(Object value) {
+        accumulator += System.identityHashCode(value);
+    }
+
+    /**
+     * Consumes a {@code long}.
+     *
+     * @param value the value to consume
+     */
+    public void consume(long value) {
+        accumulator += value;
+    }
+
+    /**
+     * Consumes a {@code double}.
+     *
+     * @param value the value to consume
+     */
+    public void consume(double value) {
+        accumulator += Double.doubleToRawLongBits(value);
+    }
+
+    /**
+     * Consumes a {@code boolean}.
+     *
+     * @param value the value to consume
+     */
+    public void consume(boolean value) {
+        accumulator += value ? 1 : 0;
+    }
+
+    /**
+     * Publishes everything consumed so far to a volatile field.
+     */
+    void flush() {
+        sink = accumulator;
+    }
+}
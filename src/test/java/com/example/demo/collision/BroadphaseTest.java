@@ -0,0 +1,111 @@
+package com.example.demo.collision;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.models.UserProjectile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link Broadphase} implementations.
+ */
+public class BroadphaseTest {
+
+    private List<ActiveActorDestructible> first;
+    private List<ActiveActorDestructible> second;
+    private List<double[]> boxes;
+    private BoundsSnapshot bounds;
+    private Random random;
+
+    @BeforeEach
+    public void setUpEach() {
+        random = new Random(42);
+        boxes = new ArrayList<>();
+        first = createActors(40);
+        second = createActors(200);
+        bounds = new BoundsSnapshot();
+        captureBounds(0);
+    }
+
+    @Test
+    public void testSpatialHashMatchesBruteForce() {
+        assertEquals(overlappingPairs(new BruteForceBroadphase()), overlappingPairs(new SpatialHashBroadphase(64)));
+    }
+
+    @Test
+    public void testSweepAndPruneMatchesBruteForce() {
+        assertEquals(overlappingPairs(new BruteForceBroadphase()), overlappingPairs(new SweepAndPruneBroadphase()));
+    }
+
+    @Test
+    public void testSpatialHashOnlyRebucketsActorsThatChangeCells() {
+        SpatialHashBroadphase broadphase = new SpatialHashBroadphase(1000);
+        overlappingPairs(broadphase);
+
+        // Nudging every actor by one pixel keeps almost all of them inside their cells
+        captureBounds(1);
+        overlappingPairs(broadphase);
+
+        assertTrue(broadphase.getRebucketCount() < second.size() / 10, "Only actors crossing a cell boundary should move");
+    }
+
+    @Test
+    public void testRemovedActorsAreNoLongerReported() {
+        Broadphase[] strategies = {new SpatialHashBroadphase(64), new SweepAndPruneBroadphase()};
+        for (Broadphase broadphase : strategies) {
+            overlappingPairs(broadphase);
+            List<ActiveActorDestructible> removed = new ArrayList<>(second.subList(0, 100));
+            second.removeAll(removed);
+
+            broadphase.findPairs(first, second, bounds, (a, b) -> {
+                assertFalse(removed.contains(b), "Removed actor reported by " + broadphase.getClass().getSimpleName());
+                return true;
+            });
+            second.addAll(0, removed);
+        }
+    }
+
+    private Set<List<ActiveActorDestructible>> overlappingPairs(Broadphase broadphase) {
+        Set<List<ActiveActorDestructible>> pairs = new HashSet<>();
+        broadphase.findPairs(first, second, bounds, (a, b) -> {
+            if (bounds.intersects(a, b)) {
+                pairs.add(List.of(a, b));
+            }
+            return true;
+        });
+        return pairs;
+    }
+
+    private void captureBounds(double offsetX) {
+        bounds.clear();
+        List<ActiveActorDestructible> all = new ArrayList<>(first);
+        all.addAll(second);
+        for (int i = 0; i < all.size(); i++) {
+            double[] box = boxes.get(i);
+            bounds.capture(all.get(i), box[0] + offsetX, box[1], box[2] + offsetX, box[3]);
+        }
+    }
+
+    private List<ActiveActorDestructible> createActors(int count) {
+        List<ActiveActorDestructible> actors = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ActiveActorDestructible actor = mock(UserProjectile.class);
+            when(actor.getBoundsSlot()).thenCallRealMethod();
+            doCallRealMethod().when(actor).setBoundsSlot(anyInt());
+
+            double x = random.nextDouble() * 1600;
+            double y = random.nextDouble() * 900;
+            boxes.add(new double[]{x, y, x + 20 + random.nextDouble() * 80, y + 10 + random.nextDouble() * 40});
+            actors.add(actor);
+        }
+        return actors;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.demo.collision;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.models.UserProjectile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link Narrowphase} class.
+ */
+public class NarrowphaseTest {
+
+    private final List<ActiveActorDestructible> first = new ArrayList<>();
+    private final List<ActiveActorDestructible> second = new ArrayList<>();
+    private final BoundsSnapshot bounds = new BoundsSnapshot();
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    public void setUpEach() {
+        Random random = new Random(7);
+        for (int i = 0; i < 60; i++) {
+            first.add(captureRandom(random));
+        }
+        for (int i = 0; i < 300; i++) {
+            second.add(captureRandom(random));
+        }
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    public void tearDownEach() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testContactsAreInCandidateOrder() {
+        Narrowphase narrowphase = new Narrowphase(16, 0);
+        List<List<ActiveActorDestructible>> expected = new ArrayList<>();
+
+        narrowphase.begin(bounds);
+        new BruteForceBroadphase().findPairs(first, second, bounds, (a, b) -> {
+            if (bounds.intersects(a, b)) {
+                expected.add(List.of(a, b));
+            }
+            return narrowphase.onPair(a, b);
+        });
+        narrowphase.run();
+
+        assertEquals(first.size() * second.size(), narrowphase.getCandidateCount());
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, contacts(narrowphase));
+    }
+
+    @Test
+    public void testPooledRunMatchesInlineRun() {
+        Narrowphase inline = new Narrowphase(16, 0);
+        Narrowphase pooled = new Narrowphase(16, 0);
+        pooled.setPool(pool);
+
+        for (int round = 0; round < 3; round++) {
+            // Later rounds reuse the buffers with fewer candidates
+            List<ActiveActorDestructible> queried = second.subList(0, second.size() - round * 100);
+            List<List<ActiveActorDestructible>> inlineContacts = collect(inline, queried);
+            List<List<ActiveActorDestructible>> pooledContacts = collect(pooled, queried);
+            assertEquals(inlineContacts, pooledContacts);
+        }
+    }
+
+    private List<List<ActiveActorDestructible>> collect(Narrowphase narrowphase, List<ActiveActorDestructible> queried) {
+        narrowphase.begin(bounds);
+        new BruteForceBroadphase().findPairs(first, queried, bounds, narrowphase);
+        narrowphase.run();
+        return contacts(narrowphase);
+    }
+
+    private static List<List<ActiveActorDestructible>> contacts(Narrowphase narrowphase) {
+        List<List<ActiveActorDestructible>> contacts = new ArrayList<>();
+        for (int i = 0; i < narrowphase.getContactCount(); i++) {
+            int pair = narrowphase.getContact(i);
+            contacts.add(List.of(narrowphase.getFirst(pair), narrowphase.getSecond(pair)));
+        }
+        return contacts;
+    }
+
+    private ActiveActorDestructible captureRandom(Random random) {
+        ActiveActorDestructible actor = mock(UserProjectile.class);
+        when(actor.getBoundsSlot()).thenCallRealMethod();
+        doCallRealMethod().when(actor).setBoundsSlot(anyInt());
+
+        double x = random.nextDouble() * 1000;
+        double y = random.nextDouble() * 1000;
+        bounds.capture(actor, x, y, x + 20 + random.nextDouble() * 60, y + 20 + random.nextDouble() * 60);
+        return actor;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.demo.collision;
+
+import com.example.demo.models.UserProjectile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link VectorAabbKernel} class.
+ * Only compiled and run by the {@code vector} build profile.
+ */
+public class VectorAabbKernelTest {
+
+    private static final int PAIRS = 1_000;
+
+    private final BoundsSnapshot bounds = new BoundsSnapshot();
+    private final int[] firstSlots = new int[PAIRS];
+    private final int[] secondSlots = new int[PAIRS];
+
+    @BeforeEach
+    public void setUpEach() {
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            double x = random.nextDouble() * 1000;
+            double y = random.nextDouble() * 1000;
+            bounds.capture(mock(UserProjectile.class), x, y, x + 20 + random.nextDouble() * 60, y + 20 + random.nextDouble() * 60);
+        }
+        for (int i = 0; i < PAIRS; i++) {
+            firstSlots[i] = random.nextInt(bounds.size());
+            secondSlots[i] = random.nextInt(bounds.size());
+        }
+    }
+
+    @Test
+    public void testVectorKernelMatchesScalarKernel() {
+        AabbKernel vector = new VectorAabbKernel(0, AabbKernels.scalar());
+
+        // Ranges that are not a multiple of the vector length exercise the scalar tail
+        for (int from : new int[] {0, 3, 17}) {
+            for (int to : new int[] {from, from + 1, PAIRS - 5, PAIRS}) {
+                int[] expected = new int[PAIRS];
+                int[] actual = new int[PAIRS];
+                int expectedCount = AabbKernels.scalar().intersectAll(bounds, firstSlots, secondSlots, from, to, expected);
+                int actualCount = vector.intersectAll(bounds, firstSlots, secondSlots, from, to, actual);
+
+                assertArrayEquals(Arrays.copyOf(expected, expectedCount), Arrays.copyOf(actual, actualCount),
+                        "range " + from + ".." + to);
+            }
+        }
+    }
+
+    @Test
+    public void testShortRangesGoToFallback() {
+        AabbKernel fallback = mock(AabbKernel.class);
+        int[] contacts = new int[PAIRS];
+        AabbKernel vector = new VectorAabbKernel(64, fallback);
+
+        vector.intersectAll(bounds, firstSlots, secondSlots, 0, 63, contacts);
+        vector.intersectAll(bounds, firstSlots, secondSlots, 0, 64, contacts);
+
+        verify(fallback).intersectAll(bounds, firstSlots, secondSlots, 0, 63, contacts);
+        verifyNoMoreInteractions(fallback);
+    }
+
+    @Test
+    public void testVectorKernelIsAvailable() {
+        assertInstanceOf(VectorAabbKernel.class, AabbKernels.vector());
+    }
+}
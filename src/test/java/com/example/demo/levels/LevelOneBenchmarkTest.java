@@ -0,0 +1,35 @@
+package com.example.demo.levels;
+
+import com.example.demo.benchmark.BenchmarkHarness;
+import com.example.demo.models.EnemyPlane;
+import com.example.demo.utilities.RandomStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmarks for the enemy spawn checks of {@link LevelOne}.
+ * Excluded from the default build; run with {@code mvn test -P benchmark}.
+ */
+@Tag("benchmark")
+public class LevelOneBenchmarkTest {
+
+    @Test
+    public void benchmarkSpawnChecks() {
+        BenchmarkHarness harness = new BenchmarkHarness("levelOne");
+
+        harness.run("isPositionValid", count -> {
+            LevelOne level = new LevelOne(1080, 1920, null, true, count);
+            RandomStream random = new RandomStream(count);
+            for (int i = 0; i < count; i++) {
+                level.addEnemyUnit(new EnemyPlane(random.nextDouble() * 1920, random.nextDouble() * 980,
+                        level.getUser(), level.getProjectileFactory(), random.split()));
+            }
+            return level;
+        }, (level, blackhole) -> blackhole.consume(level.isPositionValid(1920, 540)));
+
+        assertFalse(harness.getResults().isEmpty());
+        harness.writeJson();
+    }
+}
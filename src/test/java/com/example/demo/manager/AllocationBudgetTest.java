@@ -0,0 +1,68 @@
+package com.example.demo.manager;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestFactory;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Fails when a steady-state headless tick allocates more than its scenario's budget.
+ * Each scenario warms its level up, then measures the bytes allocated by the simulating
+ * thread over a run of ticks. Budgets are averages per tick and leave room for the actors
+ * a level legitimately spawns, but not for per-tick garbage in the loop itself.
+ *
+ * <p>Tagged {@code allocation} so Maven runs it in a separate JVM: classes retransformed by
+ * inline mocks in other tests allocate on every call and would skew the measurement.</p>
+ */
+@Tag("allocation")
+public class AllocationBudgetTest {
+
+    private static final int WARMUP_TICKS = 1_000;
+    private static final int MEASURED_TICKS = 2_000;
+
+    /**
+     * A scenario and the most it may allocate per tick on average.
+     */
+    private record Budget(String scenario, String levelClassName, InputScript input, boolean rewind, long maxBytesPerTick) {
+
+        Budget(String scenario, String levelClassName, InputScript input, long maxBytesPerTick) {
+            this(scenario, levelClassName, input, false, maxBytesPerTick);
+        }
+    }
+
+    private static final Budget[] BUDGETS = {
+            new Budget("levelOne-idle", "com.example.demo.levels.LevelOne", InputScript.NONE, 256),
+            new Budget("levelOne-patrol", "com.example.demo.levels.LevelOne", InputScript.patrolAndFire(60), 256),
+            new Budget("levelTwo-patrol", "com.example.demo.levels.LevelTwo", InputScript.patrolAndFire(60), 256),
+            new Budget("levelThree-patrol", "com.example.demo.levels.LevelThree", InputScript.patrolAndFire(60), 256),
+            new Budget("stress-patrol", "com.example.demo.levels.StressLevel", InputScript.patrolAndFire(60), 1_024),
+            new Budget("stress-rewind", "com.example.demo.levels.StressLevel", InputScript.patrolAndFire(60), true, 1_024),
+    };
+
+    @TestFactory
+    public Stream<DynamicTest> steadyStateTicksStayWithinBudget() {
+        return Stream.of(BUDGETS).map(budget -> DynamicTest.dynamicTest(budget.scenario(), () -> check(budget)));
+    }
+
+    private static void check(Budget budget) {
+        assumeTrue(ScenarioRunner.currentThreadAllocatedBytes() >= 0,
+                "This JVM cannot report per-thread allocation.");
+
+        ScenarioRunner runner = new ScenarioRunner(budget.scenario(), budget.levelClassName());
+        runner.setInputScript(budget.input());
+        runner.setRewindEnabled(budget.rewind());
+        runner.setWarmupTicks(WARMUP_TICKS);
+        runner.setTicks(MEASURED_TICKS);
+
+        ScenarioReport report = runner.run();
+
+        assertTrue(report.getTicks() > 0, "The level ended before any tick was measured.");
+        assertTrue(report.getAllocatedBytesPerTick() <= budget.maxBytesPerTick(),
+                budget.scenario() + " allocated " + report.getAllocatedBytesPerTick()
+                        + " bytes per tick; the budget is " + budget.maxBytesPerTick());
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.demo.manager;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.ActorRegistry;
+import com.example.demo.benchmark.BenchmarkHarness;
+import com.example.demo.collision.AabbKernel;
+import com.example.demo.collision.AabbKernels;
+import com.example.demo.collision.BoundsSnapshot;
+import com.example.demo.collision.Broadphase;
+import com.example.demo.collision.BruteForceBroadphase;
+import com.example.demo.collision.CollisionPairCategory;
+import com.example.demo.collision.Narrowphase;
+import com.example.demo.collision.SpatialHashBroadphase;
+import com.example.demo.collision.SweepAndPruneBroadphase;
+import com.example.demo.models.EnemyPlane;
+import com.example.demo.models.ProjectileFactory;
+import com.example.demo.models.UserPlane;
+import com.example.demo.utilities.RandomStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmarks for the per-tick collision and removal paths driven by {@link LevelManager}.
+ * Excluded from the default build; run with {@code mvn test -P benchmark}.
+ */
+@Tag("benchmark")
+public class CollisionBenchmarkTest {
+
+    private static final double SCREEN_WIDTH = 1920;
+    private static final double SCREEN_HEIGHT = 1080;
+
+    @Test
+    public void benchmarkCollisionPaths() {
+        BenchmarkHarness harness = new BenchmarkHarness("collision");
+
+        harness.run("captureBounds", Playfield::new, (field, blackhole) -> {
+            field.collisionManager.captureBounds(field.friendlyUnits);
+            blackhole.consume(field.collisionManager.getBounds().size());
+        });
+        harness.run("handleCollisions", Playfield::new, (field, blackhole) -> {
+            field.collisionManager.captureBounds(field.friendlyUnits);
+            field.collisionManager.handleCollisions(field.userProjectiles, field.enemyUnits);
+            blackhole.consume(field.collisionManager.getBounds().size());
+        });
+        benchmarkBroadphase(harness, "userProjectileCollisions.bruteForce", BruteForceBroadphase::new);
+        benchmarkBroadphase(harness, "userProjectileCollisions.spatialHash", SpatialHashBroadphase::new);
+        benchmarkBroadphase(harness, "userProjectileCollisions.sweepAndPrune", SweepAndPruneBroadphase::new);
+        harness.run("removeDestroyedActors", Playfield::new, (field, blackhole) -> {
+            // Destroys a quarter of the projectiles, compacts, then refills from the pool as the next tick would
+            for (int i = 0; i < field.userProjectiles.size(); i += 4) {
+                field.userProjectiles.get(i).destroy();
+            }
+            field.userProjectiles.compact(field.released::add);
+            for (ActiveActorDestructible projectile : field.released) {
+                field.factory.release(projectile);
+                field.userProjectiles.add(field.factory.createUserProjectile(projectile.getLayoutX(), projectile.getLayoutY()));
+            }
+            blackhole.consume(field.released.size());
+            field.released.clear();
+        });
+
+        assertFalse(harness.getResults().isEmpty());
+        harness.writeJson();
+    }
+
+    @Test
+    public void benchmarkAabbKernels() {
+        BenchmarkHarness harness = new BenchmarkHarness("aabb-kernels", new int[]{1_000, 10_000, 100_000});
+
+        benchmarkKernel(harness, "narrowphase.scalar", AabbKernels.scalar());
+        if (AabbKernels.vector() != null) {
+            benchmarkKernel(harness, "narrowphase.vector", AabbKernels.vector());
+        }
+
+        assertFalse(harness.getResults().isEmpty());
+        harness.writeJson();
+    }
+
+    private static void benchmarkKernel(BenchmarkHarness harness, String name, AabbKernel kernel) {
+        harness.run(name, count -> {
+            // Every projectile paired with one of a few enemies, as a brute-force pass would report them
+            Narrowphase narrowphase = new Narrowphase(1_024, Integer.MAX_VALUE);
+            narrowphase.setKernel(kernel);
+            Playfield field = new Playfield(count);
+            field.collisionManager.captureBounds(field.friendlyUnits);
+            BoundsSnapshot bounds = field.collisionManager.getBounds();
+            narrowphase.begin(bounds);
+            for (int i = 0; i < count; i++) {
+                narrowphase.onPair(field.enemyUnits.get(i % 64), field.userProjectiles.get(i));
+            }
+            return narrowphase;
+        }, (narrowphase, blackhole) -> blackhole.consume(narrowphase.run()));
+    }
+
+    private static void benchmarkBroadphase(BenchmarkHarness harness, String name, Supplier<Broadphase> broadphase) {
+        harness.run(name, count -> {
+            Playfield field = new Playfield(count);
+            field.collisionManager.setBroadphase(CollisionPairCategory.USER_PROJECTILE_ENEMY, broadphase.get());
+            return field;
+        }, (field, blackhole) -> {
+            field.collisionManager.captureBounds(field.friendlyUnits);
+            field.collisionManager.handleUserProjectileCollisions(() -> { });
+            blackhole.consume(field.collisionManager.getBounds().size());
+        });
+    }
+
+    /**
+     * A level's actor lists filled with enemies on the right and user projectiles on the left,
+     * so collision passes do full work without destroying anything between operations.
+     */
+    private static final class Playfield {
+
+        private final ProjectileFactory factory = new ProjectileFactory();
+        private final UserPlane user = new UserPlane(5, factory);
+        private final ActorRegistry friendlyUnits = new ActorRegistry();
+        private final ActorRegistry enemyUnits = new ActorRegistry();
+        private final ActorRegistry userProjectiles = new ActorRegistry();
+        private final ActorRegistry enemyProjectiles = new ActorRegistry();
+        private final List<ActiveActorDestructible> released = new ArrayList<>();
+        private final CollisionManager collisionManager;
+
+        private Playfield(int actorCount) {
+            RandomStream random = new RandomStream(actorCount);
+            friendlyUnits.add(user);
+            for (int i = 0; i < actorCount; i++) {
+                double y = random.nextDouble() * (SCREEN_HEIGHT - 100);
+                enemyUnits.add(new EnemyPlane(1000 + random.nextDouble() * 800, y, user, factory, random.split()));
+                userProjectiles.add(factory.createUserProjectile(200 + random.nextDouble() * 600, random.nextDouble() * (SCREEN_HEIGHT - 100)));
+            }
+            collisionManager = new CollisionManager(SCREEN_WIDTH, SCREEN_HEIGHT, enemyUnits, userProjectiles, enemyProjectiles, user);
+        }
+    }
+}
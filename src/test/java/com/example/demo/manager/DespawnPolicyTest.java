@@ -0,0 +1,73 @@
+package com.example.demo.manager;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.models.UserProjectile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link DespawnPolicy} class.
+ */
+public class DespawnPolicyTest {
+
+    private DespawnPolicy policy;
+
+    @BeforeEach
+    public void setUpEach() {
+        policy = new DespawnPolicy(800, 600, 50);
+    }
+
+    @Test
+    public void testBoxInsideMarginIsKept() {
+        assertFalse(policy.isOutside(810, 100, 860, 120), "Partly visible actors must be kept.");
+        assertFalse(policy.isOutside(-90, 100, -40, 120), "Actors within the margin must be kept.");
+    }
+
+    @Test
+    public void testBoxBeyondMarginIsCulled() {
+        assertTrue(policy.isOutside(851, 100, 900, 120));
+        assertTrue(policy.isOutside(-120, 100, -51, 120));
+        assertTrue(policy.isOutside(100, 651, 150, 700));
+    }
+
+    @Test
+    public void testViewportResizeMovesTheBoundary() {
+        policy.setViewport(1200, 600);
+
+        assertFalse(policy.isOutside(900, 100, 950, 120));
+    }
+
+    @Test
+    public void testCullDestroysAndCountsOnlyOutsideActors() {
+        ActiveActorDestructible inside = projectileAt(400, 300);
+        ActiveActorDestructible outside = projectileAt(1000, 300);
+
+        int culled = policy.cull(List.of(inside, outside), DespawnPolicy.Category.USER_PROJECTILE);
+
+        assertEquals(1, culled);
+        assertFalse(inside.isDestroyed());
+        assertTrue(outside.isDestroyed());
+        assertEquals(1, policy.getCulledCount(DespawnPolicy.Category.USER_PROJECTILE));
+        assertEquals(0, policy.getCulledCount(DespawnPolicy.Category.ENEMY_UNIT));
+
+        policy.cull(List.of(inside, outside), DespawnPolicy.Category.USER_PROJECTILE);
+        assertEquals(1, policy.getCulledCount(DespawnPolicy.Category.USER_PROJECTILE),
+                "Actors that are already destroyed must not be counted again.");
+    }
+
+    private static ActiveActorDestructible projectileAt(double x, double y) {
+        UserProjectile projectile = mock(UserProjectile.class, CALLS_REAL_METHODS);
+        doReturn(x).when(projectile).getLayoutX();
+        doReturn(y).when(projectile).getLayoutY();
+        doReturn(0.0).when(projectile).getPositionX();
+        doReturn(0.0).when(projectile).getPositionY();
+        doReturn(20.0).when(projectile).getWidth();
+        doReturn(10.0).when(projectile).getHeight();
+        return projectile;
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.demo.manager;
+
+import com.example.demo.collision.BruteForceBroadphase;
+import com.example.demo.collision.CollisionPairCategory;
+import com.example.demo.collision.Narrowphase;
+import com.example.demo.levels.StressLevel;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link DesyncDetector} and {@link StateHashLog} classes, and for
+ * simulation settings that must not change the outcome of a run.
+ */
+public class DesyncDetectorTest {
+
+    private static final String LEVEL = "com.example.demo.levels.LevelThree";
+    private static final InputScript INPUT = InputScript.patrolAndFire(45);
+
+    @Test
+    public void testSnapshotRoundTripsDoNotDiverge() {
+        HeadlessRunner actual = runner(8L);
+        actual.setTickListener(level -> {
+            if (level.getTickCount() % 25 == 0) {
+                LevelSnapshot.capture(level).restore(level);
+            }
+        });
+
+        assertNull(new DesyncDetector(runner(8L), actual).run(1_500));
+    }
+
+    @Test
+    public void testFirstDivergingTickIsFound() {
+        HeadlessRunner actual = runner(8L);
+        actual.setTickListener(level -> {
+            if (level.getTickCount() == 137) {
+                level.getUser().setLayoutX(level.getUser().getLayoutX() + 0.5);
+            }
+        });
+
+        DesyncDetector.Divergence divergence = new DesyncDetector(runner(8L), actual).run(1_000);
+
+        assertNotNull(divergence);
+        assertEquals(137, divergence.getTick());
+        assertNotEquals(divergence.getExpectedHash(), divergence.getActualHash());
+        assertNotNull(new DesyncDetector(runner(8L), runner(9L)).run(10), "Different seeds should differ.");
+    }
+
+    @Test
+    public void testHashLogFollowsRewinds() {
+        HeadlessRunner runner = runner(3L);
+        LevelManager level = runner.createLevel();
+        StateHashLog log = new StateHashLog();
+        level.setStateHashLog(log);
+        runner.run(level, 200);
+        long hashAt120 = log.getHash(120);
+
+        LevelSnapshot snapshot = LevelSnapshot.capture(level);
+        level.setRewindEnabled(true);
+        runner.run(level, 100);
+        assertTrue(level.getRewindBuffer().rewindTo(level, 250));
+        runner.run(level, 1);
+
+        assertEquals(1, log.getFirstTick());
+        assertEquals(251, log.getLastTick(), "Ticks after the rewind target should be replaced.");
+        assertEquals(hashAt120, log.getHash(120));
+
+        StateHashLog other = new StateHashLog();
+        level.setStateHashLog(other);
+        snapshot.restore(level);
+        runner.run(level, 51);
+        assertEquals(-1, log.firstDivergence(other));
+        other.record(251, 0L);
+        assertEquals(251, log.firstDivergence(other));
+    }
+
+    @Test
+    public void testPooledNarrowphaseMatchesSequential() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            HeadlessRunner runner = new HeadlessRunner("com.example.demo.levels.StressLevel");
+            runner.setSeed(5L);
+            runner.setInputScript(INPUT);
+            LevelManager expected = crowdedStressLevel(runner);
+            expected.getCollisionManager().getNarrowphase().setPool(null);
+            LevelManager actual = crowdedStressLevel(runner);
+            Narrowphase pooled = new Narrowphase(32, 0);
+            pooled.setPool(pool);
+            actual.getCollisionManager().setNarrowphase(pooled);
+
+            assertNull(new DesyncDetector(runner, runner).run(expected, actual, 300));
+            assertTrue(actual.getCollisionManager().getContactCount() > 0);
+            assertEquals(expected.getCollisionManager().getPairTestCount(), actual.getCollisionManager().getPairTestCount());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testParallelActorUpdateMatchesSerial() {
+        HeadlessRunner runner = new HeadlessRunner("com.example.demo.levels.StressLevel");
+        runner.setSeed(6L);
+        runner.setInputScript(INPUT);
+        StressLevel expected = (StressLevel) runner.createLevel();
+        StressLevel actual = (StressLevel) runner.createLevel();
+        expected.setParallelActorUpdate(false);
+        for (StressLevel level : new StressLevel[]{expected, actual}) {
+            level.setEnemyCount(600);
+            level.setProjectileCount(900);
+        }
+
+        assertTrue(actual.isParallelActorUpdate());
+        assertNull(new DesyncDetector(runner, runner).run(expected, actual, 200));
+    }
+
+    private static LevelManager crowdedStressLevel(HeadlessRunner runner) {
+        StressLevel level = (StressLevel) runner.createLevel();
+        level.setEnemyCount(200);
+        level.setProjectileCount(400);
+        // Every enemy against every projectile, so each pass has thousands of candidates
+        level.getCollisionManager().setBroadphase(CollisionPairCategory.USER_PROJECTILE_ENEMY, new BruteForceBroadphase());
+        return level;
+    }
+
+    private static HeadlessRunner runner(long seed) {
+        HeadlessRunner runner = new HeadlessRunner(LEVEL);
+        runner.setSeed(seed);
+        runner.setInputScript(INPUT);
+        return runner;
+    }
+}
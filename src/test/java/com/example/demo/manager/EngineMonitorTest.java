@@ -0,0 +1,156 @@
+package com.example.demo.manager;
+
+import com.example.demo.controller.Controller;
+import com.example.demo.levels.StressLevel;
+import com.example.demo.testutils.JavaFXTestUtils;
+import javafx.application.Platform;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for the {@link EngineMonitor} class.
+ * Game-thread actions run inline so results are visible immediately, except in the threaded
+ * level test, which goes through the JavaFX thread as the game does.
+ */
+public class EngineMonitorTest {
+
+    private static final Pattern SECTION_HEADER =
+            Pattern.compile("(?:friendlyUnits|enemyUnits|userProjectiles|enemyProjectiles) \\((\\d+)\\)");
+
+    @Test
+    public void testAttributesAreReadableThroughPlatformServer() throws Exception {
+        EngineMonitor monitor = new EngineMonitor(Runnable::run);
+        LevelManager level = new HeadlessRunner("com.example.demo.levels.LevelOne").createLevel();
+        new HeadlessRunner("com.example.demo.levels.LevelOne").run(level, 30);
+        monitor.setLevel(level);
+        monitor.register();
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(EngineMonitor.OBJECT_NAME);
+        try {
+            assertEquals("LevelOne", server.getAttribute(name, "Level"));
+            assertEquals(30L, server.getAttribute(name, "TickCount"));
+            assertNotNull(server.getAttribute(name, "ActorCounts"));
+            assertNotNull(server.getAttribute(name, "PoolOccupancy"));
+            assertEquals(60, server.getAttribute(name, "TickRate"));
+            assertFalse(Arrays.stream(server.getMBeanInfo(name).getAttributes())
+                    .filter(attribute -> attribute.getName().equals("TickRate"))
+                    .findFirst().orElseThrow().isWritable());
+            String dump = (String) server.invoke(name, "dumpState", null, null);
+            assertTrue(dump.startsWith("LevelOne tick=30"), dump);
+            assertSectionsComplete(dump);
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+    @Test
+    public void testTotalKillsAccumulateAcrossLevels() {
+        EngineMonitor monitor = new EngineMonitor(Runnable::run);
+        LevelManager first = new HeadlessRunner("com.example.demo.levels.LevelOne").createLevel();
+        LevelManager second = new HeadlessRunner("com.example.demo.levels.LevelOne").createLevel();
+        first.getUser().incrementKillCount();
+        first.getUser().incrementKillCount();
+        second.getUser().incrementKillCount();
+
+        monitor.setLevel(first);
+        monitor.setLevel(second);
+
+        assertEquals(1, monitor.getLevelKills());
+        assertEquals(3, monitor.getTotalKills());
+    }
+
+    @Test
+    public void testSimulationSpeedIsAppliedToLevel() {
+        EngineMonitor monitor = new EngineMonitor(Runnable::run);
+        LevelManager level = new HeadlessRunner("com.example.demo.levels.LevelOne").createLevel();
+        monitor.setLevel(level);
+
+        monitor.setSimulationSpeed(2.5);
+
+        assertEquals(2.5, level.getGameLoop().getTimeScale());
+        assertThrows(IllegalArgumentException.class, () -> monitor.setSimulationSpeed(0));
+    }
+
+    @Test
+    public void testDumpStateRunsOnSimulationThreadOfThreadedLevel() throws Exception {
+        assumeTrue(JavaFXTestUtils.isJavaFXAvailable(), "The JavaFX toolkit cannot start here.");
+        Set<String> dumpThreads = ConcurrentHashMap.newKeySet();
+        LevelManager level = onFxThread(() -> {
+            LevelManager threaded = new StressLevel(1080, 1920, mock(Controller.class)) {
+                @Override
+                public String describeState() {
+                    dumpThreads.add(Thread.currentThread().getName());
+                    return super.describeState();
+                }
+            };
+            threaded.setSimulationThreaded(true);
+            threaded.initializeScene();
+            return threaded;
+        });
+        // The loop starts once the level's countdown ends, as in the game
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!level.getGameLoop().isRunning()) {
+            assertTrue(System.nanoTime() < deadline, "The level never started.");
+            Thread.sleep(20);
+        }
+        EngineMonitor monitor = new EngineMonitor(Platform::runLater);
+        monitor.setLevel(level);
+        try {
+            for (int i = 0; i < 20; i++) {
+                String dump = monitor.dumpState();
+                assertTrue(dump.startsWith("StressLevel tick="), dump);
+                assertSectionsComplete(dump);
+            }
+            assertEquals(Set.of("simulation"), dumpThreads);
+        } finally {
+            onFxThread(() -> {
+                level.stop();
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Checks that every actor section of a dump lists as many actors as its header counts,
+     * which a dump taken while the simulation thread compacts a registry would not.
+     */
+    private static void assertSectionsComplete(String dump) {
+        String[] lines = dump.split("\n");
+        int sections = 0;
+        for (int i = 0; i < lines.length; i++) {
+            Matcher header = SECTION_HEADER.matcher(lines[i]);
+            if (!header.matches()) {
+                continue;
+            }
+            int listed = 0;
+            while (i + 1 + listed < lines.length && lines[i + 1 + listed].startsWith("  ")) {
+                listed++;
+            }
+            assertEquals(Integer.parseInt(header.group(1)), listed, lines[i]);
+            sections++;
+        }
+        assertEquals(4, sections, dump);
+    }
+
+    private static <T> T onFxThread(Callable<T> action) throws Exception {
+        FutureTask<T> task = new FutureTask<>(action);
+        Platform.runLater(task);
+        return task.get(10, TimeUnit.SECONDS);
+    }
+}
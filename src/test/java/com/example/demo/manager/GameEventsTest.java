@@ -0,0 +1,62 @@
+package com.example.demo.manager;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the engine's Flight Recorder events.
+ */
+public class GameEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testEventsAreDisabledByDefault() {
+        assertFalse(GameEvents.isGameTickEnabled());
+        assertFalse(GameEvents.isActorSpawnedEnabled());
+        assertFalse(GameEvents.isActorDestroyedEnabled());
+        assertFalse(GameEvents.isCollisionPassEnabled());
+    }
+
+    @Test
+    public void testRecordingCapturesTickSpawnAndCollisionEvents() throws Exception {
+        LevelManager level = new HeadlessRunner("com.example.demo.levels.LevelOne").createLevel();
+        Path file = tempDir.resolve("game.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(GameTickEvent.class).withoutThreshold();
+            recording.enable(ActorSpawnedEvent.class);
+            recording.enable(ActorDestroyedEvent.class);
+            recording.enable(CollisionPassEvent.class).withoutThreshold();
+            recording.start();
+            for (int i = 0; i < 600; i++) {
+                level.fireProjectile();
+                level.tick();
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertEquals(600, count(events, "com.example.demo.GameTick"), "Every tick should be recorded.");
+        assertEquals(600, count(events, "com.example.demo.CollisionPassCompleted"));
+        assertTrue(count(events, "com.example.demo.ActorSpawned") > 0, "Fired projectiles should be recorded.");
+        assertTrue(events.stream()
+                        .filter(event -> event.getEventType().getName().equals("com.example.demo.GameTick"))
+                        .allMatch(event -> event.getString("level").equals("LevelOne")),
+                "Tick events should name the level.");
+    }
+
+    private static long count(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).count();
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.demo.manager;
+
+import com.example.demo.utilities.Constants;
+import com.example.demo.utilities.SimulationClock;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link GameLoop} class.
+ * Frames are fed through {@link GameLoop#advance(double)}, so no animation timer is needed.
+ */
+public class GameLoopTest {
+
+    private static final double TICK = SimulationClock.getTickSeconds();
+    private static final double EPSILON = 1e-9;
+
+    private int ticks;
+    private double alpha = -1;
+
+    private GameLoop newLoop(int maxTicksPerFrame) {
+        return new GameLoop(() -> ticks++, value -> alpha = value, maxTicksPerFrame);
+    }
+
+    @Test
+    public void testRenderAlphaIsFractionOfTickLeft() {
+        GameLoop loop = newLoop(5);
+
+        assertEquals(1, loop.advance(1.5 * TICK));
+        assertEquals(0.5, alpha, EPSILON);
+
+        assertEquals(0, loop.advance(0.25 * TICK));
+        assertEquals(0.75, alpha, EPSILON);
+        assertEquals(1, ticks);
+    }
+
+    @Test
+    public void testCatchUpIsCappedPerFrame() {
+        GameLoop loop = newLoop(3);
+
+        assertEquals(3, loop.advance(7.5 * TICK));
+        assertEquals(3, ticks);
+    }
+
+    @Test
+    public void testBacklogBeyondCapIsDropped() {
+        GameLoop loop = newLoop(3);
+        loop.advance(7.5 * TICK);
+
+        // Only the partial tick survives; the four whole ticks left over are not carried over
+        assertEquals(0.5, alpha, EPSILON);
+        assertEquals(0, loop.advance(0));
+        assertEquals(3, ticks);
+    }
+
+    @Test
+    public void testOverlongFramesAreClamped() {
+        GameLoop loop = newLoop(1_000);
+        loop.advance(0.5 * TICK);
+
+        int clampedTicks = (int) Math.round(Constants.SIMULATION_MAX_FRAME_SECONDS / TICK);
+        assertEquals(clampedTicks, loop.advance(10.0));
+        assertEquals(0.5, alpha, EPSILON);
+    }
+
+    @Test
+    public void testNegativeElapsedTimeIsIgnored() {
+        GameLoop loop = newLoop(5);
+        loop.advance(0.5 * TICK);
+
+        assertEquals(0, loop.advance(-1.0));
+        assertEquals(0.5, alpha, EPSILON);
+    }
+
+    @Test
+    public void testTickThatPausesLoopEndsFrame() {
+        GameLoop[] loop = new GameLoop[1];
+        loop[0] = new GameLoop(() -> {
+            ticks++;
+            loop[0].pause();
+        }, value -> alpha = value, 5);
+
+        assertEquals(1, loop[0].advance(3.5 * TICK));
+        assertEquals(1, ticks);
+    }
+}
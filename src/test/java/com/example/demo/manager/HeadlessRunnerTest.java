@@ -0,0 +1,67 @@
+package com.example.demo.manager;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link HeadlessRunner} class.
+ * These run without the JavaFX toolkit, so any accidental scene access fails them.
+ */
+public class HeadlessRunnerTest {
+
+    @Test
+    public void testLevelOneRunsWithoutToolkit() {
+        HeadlessRunner runner = new HeadlessRunner("com.example.demo.levels.LevelOne");
+        runner.setTickListener(LevelManager::fireProjectile);
+
+        HeadlessRunner.Result result = runner.run(3_000);
+
+        assertTrue(result.getTicks() > 0, "The level should have been stepped.");
+        assertTrue(result.getTicks() == 3_000 || result.getOutcome() != LevelManager.Outcome.IN_PROGRESS,
+                "The run should stop only at the tick limit or when the level ends.");
+    }
+
+    @Test
+    public void testLevelThreeSpawnsBossHeadless() {
+        HeadlessRunner runner = new HeadlessRunner("com.example.demo.levels.LevelThree");
+        LevelManager level = runner.createLevel();
+
+        runner.run(level, 10);
+
+        assertTrue(level.isHeadless());
+        assertEquals(1, level.enemyUnits.size(), "The boss should be the only enemy.");
+        assertEquals(10, level.getTickCount());
+    }
+
+    @Test
+    public void testSameSeedReplaysIdentically() {
+        long[] first = traceRun(1234L);
+        long[] second = traceRun(1234L);
+
+        assertArrayEquals(first, second, "Runs with the same seed and input must match tick for tick.");
+    }
+
+    @Test
+    public void testUnknownLevelIsRejected() {
+        HeadlessRunner runner = new HeadlessRunner("com.example.demo.levels.NoSuchLevel");
+        assertThrows(IllegalArgumentException.class, runner::createLevel);
+    }
+
+    private static long[] traceRun(long seed) {
+        HeadlessRunner runner = new HeadlessRunner("com.example.demo.levels.LevelOne");
+        runner.setSeed(seed);
+        long[] trace = new long[2_000];
+        runner.setTickListener(level -> {
+            level.fireProjectile();
+            long hash = level.getUser().getHealth() * 31L + level.getUser().getNumberOfKills();
+            for (ActiveActorDestructible enemy : level.enemyUnits) {
+                hash = hash * 31 + Double.doubleToLongBits(enemy.getLayoutY() + enemy.getPositionX());
+            }
+            trace[(int) level.getTickCount() - 1] = hash;
+        });
+        runner.run(trace.length);
+        return trace;
+    }
+}
@@ -7,6 +7,12 @@ import javafx.scene.input.KeyEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 /**
@@ -58,6 +64,60 @@ public class InputManagerTest {
         verify(mockUserPlane, times(1)).stopHorizontal();
     }
 
+    @Test
+    public void testDeferredCommandsWaitForSimulation() {
+        inputManager.setDeferred(true);
+        simulateKeyPressed(KeyCode.UP);
+        simulateKeyPressed(KeyCode.SPACE);
+        simulateKeyPressed(KeyCode.ESCAPE);
+        verify(mockUserPlane, never()).moveUp();
+        verify(mockFireProjectileAction, never()).run();
+        verify(mockTogglePauseAction, times(1)).run();
+
+        inputManager.executePending();
+        verify(mockUserPlane, times(1)).moveUp();
+        verify(mockFireProjectileAction, times(1)).run();
+    }
+
+    @Test
+    public void testDeferredPauseIsRecordedOnSimulationThread() throws InterruptedException {
+        AtomicLong tick = new AtomicLong();
+        AtomicReference<Thread> owner = new AtomicReference<>();
+        AtomicInteger foreignRecords = new AtomicInteger();
+        AtomicInteger toggles = new AtomicInteger();
+        InputRecorder recorder = new InputRecorder("level", 1L, 60, () -> {
+            if (Thread.currentThread() != owner.get()) {
+                foreignRecords.incrementAndGet();
+            }
+            return tick.get();
+        });
+        InputManager deferred = new InputManager(mockUserPlane, mockFireProjectileAction, toggles::incrementAndGet);
+        deferred.setRecorder(recorder);
+        deferred.setDeferred(true);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread simulation = new Thread(() -> {
+            while (running.get()) {
+                deferred.executePending();
+                tick.incrementAndGet();
+            }
+            deferred.executePending();
+        });
+        owner.set(simulation);
+        simulation.start();
+        for (int i = 0; i < 1_000; i++) {
+            deferred.execute(InputCommand.PAUSE);
+            deferred.execute(InputCommand.FIRE);
+        }
+        running.set(false);
+        simulation.join();
+        owner.set(Thread.currentThread());
+
+        assertEquals(0, foreignRecords.get(), "Only the simulation thread should touch the recorder.");
+        assertEquals(1_000, toggles.get());
+        assertTrue(recorder.toReplay().getFrameCount() > 0);
+    }
+
     private void simulateKeyPressed(KeyCode keyCode) {
         KeyEvent keyPressedEvent = new KeyEvent(KeyEvent.KEY_PRESSED, "", "", keyCode, false, false, false, false);
         background.getOnKeyPressed().handle(keyPressedEvent);
@@ -0,0 +1,189 @@
+package com.example.demo.manager;
+
+import com.example.demo.utilities.BinaryStateWriter;
+import com.example.demo.utilities.Constants;
+import com.example.demo.utilities.SimulationClock;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link InputRecorder} and {@link InputReplay} classes.
+ */
+public class InputReplayTest {
+
+    private static final String LEVEL = "com.example.demo.levels.LevelTwo";
+    private static final int TICKS = 3_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testReplayReproducesRecordedRun() throws IOException {
+        HeadlessRunner runner = new HeadlessRunner(LEVEL);
+        runner.setSeed(99L);
+        LevelManager level = runner.createLevel();
+        level.setStateHashLog(new StateHashLog());
+        InputManager input = new InputManager(level.getUser(), level::fireProjectile, () -> { });
+        input.setRecorder(new InputRecorder(LEVEL, 99L, 60, level::getTickCount));
+
+        Random player = new Random(7);
+        InputCommand[] commands = InputCommand.values();
+        while (level.getTickCount() < TICKS && level.getOutcome() == LevelManager.Outcome.IN_PROGRESS) {
+            if (player.nextInt(8) == 0) {
+                input.execute(commands[player.nextInt(commands.length)]);
+            }
+            level.tick();
+        }
+        InputReplay replay = input.getRecorder().toReplay();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        replay.write(bytes);
+        InputReplay loaded = InputReplay.read(new ByteArrayInputStream(bytes.toByteArray()));
+
+        HeadlessRunner replayRunner = new HeadlessRunner(loaded.getLevelClassName());
+        replayRunner.setSeed(loaded.getSeed());
+        replayRunner.setInputScript(loaded.player());
+        LevelManager replayed = replayRunner.createLevel();
+        replayed.setStateHashLog(new StateHashLog());
+        replayRunner.run(replayed, loaded.getEndTick());
+
+        StateHashLog recorded = level.getStateHashLog();
+        assertEquals(recorded.getLastTick(), replayed.getStateHashLog().getLastTick());
+        assertEquals(-1, recorded.firstDivergence(replayed.getStateHashLog()),
+                "The replay should match the recorded run tick for tick.");
+        assertTrue(bytes.size() < loaded.getFrameCount() * 3 + 64, "Frames should take about two bytes each.");
+    }
+
+    @Test
+    public void testHeldKeysAndRepeatedCommandsAreNotStored() {
+        long[] tick = {0};
+        InputRecorder recorder = new InputRecorder(LEVEL, 1L, 60, () -> tick[0]);
+
+        recorder.record(InputCommand.MOVE_UP);
+        for (tick[0] = 1; tick[0] < 100; tick[0]++) {
+            recorder.record(InputCommand.MOVE_UP);
+        }
+        recorder.record(InputCommand.FIRE);
+        recorder.record(InputCommand.STOP_VERTICAL);
+
+        InputReplay replay = recorder.toReplay();
+        assertEquals(2, replay.getFrameCount(), "Only the first press and the final change should be stored.");
+        assertEquals(100, replay.getEndTick());
+    }
+
+    @Test
+    public void testUnknownDataIsRejected() {
+        byte[] notAReplay = "not a replay".getBytes();
+        assertThrows(IOException.class, () -> InputReplay.read(new ByteArrayInputStream(notAReplay)));
+    }
+
+    @Test
+    public void testSeekMatchesStraightReplay() throws IOException {
+        long[] tick = {0};
+        InputRecorder recorder = new InputRecorder(LEVEL, 42L, 60, () -> tick[0]);
+        Random player = new Random(3);
+        InputCommand[] commands = InputCommand.values();
+        for (tick[0] = 0; tick[0] < TICKS; tick[0]++) {
+            if (player.nextInt(10) == 0) {
+                recorder.record(commands[player.nextInt(commands.length)]);
+            }
+        }
+        InputReplay keyframed = recorder.toReplay().withKeyframes(500, 1);
+        assertTrue(keyframed.getKeyframeCount() > 0, "The run should last past the first keyframe.");
+        assertEquals(500, keyframed.getKeyframeTick(0));
+
+        Path file = tempDir.resolve("run.sbr");
+        keyframed.save(file);
+        InputReplay loaded = InputReplay.load(file);
+        assertEquals(keyframed.getKeyframeCount(), loaded.getKeyframeCount());
+
+        long target = Math.min(1_234, loaded.getKeyframeTick(loaded.getKeyframeCount() - 1) + 1);
+        HeadlessRunner runner = new HeadlessRunner(LEVEL);
+        runner.setSeed(42L);
+        runner.setInputScript(loaded.player());
+        LevelManager straight = runner.createLevel();
+        runner.run(straight, target);
+
+        LevelManager sought = loaded.seek(target);
+        assertEquals(straight.getTickCount(), sought.getTickCount());
+        assertArrayEquals(state(straight), state(sought), "Seeking should land on the same state as replaying.");
+    }
+
+    @Test
+    public void testKeyframesCapturedDuringPlayMatchReplayedKeyframes() throws IOException {
+        HeadlessRunner runner = new HeadlessRunner(LEVEL);
+        runner.setSeed(5L);
+        LevelManager level = runner.createLevel();
+        InputManager input = new InputManager(level.getUser(), level::fireProjectile, () -> { });
+        InputRecorder recorder = new InputRecorder(LEVEL, 5L, SimulationClock.getTicksPerSecond(), level::getTickCount);
+        input.setRecorder(recorder);
+
+        Random player = new Random(11);
+        InputCommand[] commands = InputCommand.values();
+        while (level.getTickCount() < TICKS && level.getOutcome() == LevelManager.Outcome.IN_PROGRESS) {
+            if (player.nextInt(8) == 0) {
+                input.execute(commands[player.nextInt(commands.length)]);
+            }
+            level.tick();
+            recorder.captureKeyframe(level);
+        }
+        InputReplay live = recorder.toReplay();
+        InputReplay replayed = live.withKeyframes();
+
+        assertEquals(level.getTickCount() / Constants.REPLAY_KEYFRAME_INTERVAL_TICKS, live.getKeyframeCount());
+        assertEquals(replayed.getKeyframeCount(), live.getKeyframeCount());
+        for (int i = 0; i < live.getKeyframeCount(); i++) {
+            assertEquals(replayed.getKeyframeTick(i), live.getKeyframeTick(i));
+            assertArrayEquals(replayed.getKeyframe(i).toByteArray(), live.getKeyframe(i).toByteArray(),
+                    "A keyframe taken during play should match one taken while replaying.");
+        }
+    }
+
+    @Test
+    public void testVersionOneReplaysAreStillRead() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0x53425250);
+        out.writeByte(1);
+        out.writeUTF(LEVEL);
+        out.writeLong(8L);
+        InputReplay.writeVarLong(out, 60);
+        InputReplay.writeVarLong(out, 90);
+        InputReplay.writeVarLong(out, 1);
+        InputReplay.writeVarLong(out, 30);
+        out.writeByte(InputReplay.FIRE);
+
+        InputReplay replay = InputReplay.read(new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertEquals(90, replay.getEndTick());
+        assertEquals(1, replay.getFrameCount());
+        assertEquals(0, replay.getKeyframeCount());
+        assertEquals(90, replay.seek(90).getTickCount());
+    }
+
+    @Test
+    public void testReplayAtAnotherTickRateIsRejected() {
+        int ticksPerSecond = SimulationClock.getTicksPerSecond();
+        InputReplay replay = new InputReplay(LEVEL, 8L, ticksPerSecond * 2, new long[0], new byte[0], 90);
+
+        assertThrows(IllegalStateException.class, replay::play);
+        assertThrows(IllegalStateException.class, () -> replay.seek(30));
+        assertThrows(IllegalStateException.class, replay::withKeyframes);
+        assertEquals(ticksPerSecond, SimulationClock.getTicksPerSecond(), "The shared clock should be left alone.");
+    }
+
+    private static byte[] state(LevelManager level) {
+        BinaryStateWriter writer = new BinaryStateWriter();
+        level.writeState(writer);
+        return writer.toByteArray();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.demo.manager;
+
+import com.example.demo.utilities.BinaryStateWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link LevelSnapshot} class.
+ */
+public class LevelSnapshotTest {
+
+    private static final InputScript INPUT = InputScript.patrolAndFire(45);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testRestoredLevelContinuesIdentically() throws IOException {
+        for (String levelClassName : new String[]{
+                "com.example.demo.levels.LevelTwo",
+                "com.example.demo.levels.LevelThree",
+                "com.example.demo.levels.StressLevel"}) {
+            HeadlessRunner runner = new HeadlessRunner(levelClassName);
+            runner.setSeed(5L);
+            runner.setInputScript(INPUT);
+            LevelManager original = runner.createLevel();
+            runner.run(original, 400);
+
+            LevelSnapshot snapshot = LevelSnapshot.fromByteArray(LevelSnapshot.capture(original).toByteArray());
+            LevelManager restored = new HeadlessRunner(levelClassName).createLevel();
+            snapshot.restore(restored);
+            assertEquals(400, restored.getTickCount());
+
+            for (int i = 0; i < 300 && original.getOutcome() == LevelManager.Outcome.IN_PROGRESS; i++) {
+                runner.run(original, 1);
+                runner.run(restored, 1);
+                assertArrayEquals(state(original), state(restored),
+                        levelClassName + " diverged at tick " + original.getTickCount());
+            }
+        }
+    }
+
+    @Test
+    public void testRestoreRejectsAnotherLevel() {
+        LevelManager levelOne = new HeadlessRunner("com.example.demo.levels.LevelOne").createLevel();
+        LevelManager levelTwo = new HeadlessRunner("com.example.demo.levels.LevelTwo").createLevel();
+        LevelSnapshot snapshot = LevelSnapshot.capture(levelOne);
+
+        assertThrows(IllegalArgumentException.class, () -> snapshot.restore(levelTwo));
+        assertThrows(IllegalArgumentException.class, () -> LevelSnapshot.capture(levelOne, 10));
+    }
+
+    @Test
+    public void testSaveFileRestoresLevelInPlace() throws IOException {
+        HeadlessRunner runner = new HeadlessRunner("com.example.demo.levels.LevelThree");
+        runner.setSeed(11L);
+        runner.setInputScript(INPUT);
+        LevelManager level = runner.createLevel();
+        runner.run(level, 250);
+        byte[] saved = state(level);
+        Path file = tempDir.resolve("slot.sav");
+        LevelSnapshot.capture(level).save(file);
+
+        runner.run(level, 250);
+        level.restoreSnapshot(LevelSnapshot.load(file));
+
+        assertEquals(250, level.getTickCount());
+        assertArrayEquals(saved, state(level), "Loading a save should rewind the level to the saved state.");
+        Files.write(file, "not a save".getBytes());
+        assertThrows(IOException.class, () -> LevelSnapshot.load(file));
+    }
+
+    private static byte[] state(LevelManager level) {
+        BinaryStateWriter writer = new BinaryStateWriter();
+        level.writeState(writer);
+        return writer.toByteArray();
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.demo.manager;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.ActorRegistry;
+import com.example.demo.models.ProjectileFactory;
+import com.example.demo.utilities.RandomStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ParallelActorUpdater} class.
+ */
+public class ParallelActorUpdaterTest {
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    public void setUpEach() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    public void tearDownEach() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testParallelUpdateMatchesSerialUpdate() {
+        List<ActorRegistry> serial = createLists();
+        List<ActorRegistry> parallel = createLists();
+        ParallelActorUpdater serialUpdater = new ParallelActorUpdater(pool, Integer.MAX_VALUE, 16);
+        ParallelActorUpdater parallelUpdater = new ParallelActorUpdater(pool, 0, 16);
+
+        for (int tick = 0; tick < 20; tick++) {
+            assertFalse(serialUpdater.update(serial));
+            assertTrue(parallelUpdater.update(parallel));
+        }
+
+        assertEquals(20, parallelUpdater.getParallelUpdateCount());
+        for (int list = 0; list < serial.size(); list++) {
+            for (int i = 0; i < serial.get(list).size(); i++) {
+                ActiveActorDestructible expected = serial.get(list).get(i);
+                ActiveActorDestructible actual = parallel.get(list).get(i);
+                assertEquals(expected.getPositionX(), actual.getPositionX());
+                assertEquals(expected.getPositionY(), actual.getPositionY());
+            }
+        }
+    }
+
+    @Test
+    public void testSmallPopulationsStaySerial() {
+        ParallelActorUpdater updater = new ParallelActorUpdater(pool, 1_000, 16);
+
+        assertFalse(updater.isParallel(999));
+        assertTrue(updater.isParallel(1_000));
+        assertFalse(new ParallelActorUpdater(pool, 0, 16).isParallel(16), "A single chunk is not worth forking.");
+        assertFalse(updater.update(createLists()));
+        assertEquals(0, updater.getParallelUpdateCount());
+    }
+
+    @Test
+    public void testChunkSizeMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelActorUpdater(pool, 0, 0));
+    }
+
+    private static List<ActorRegistry> createLists() {
+        ProjectileFactory factory = new ProjectileFactory();
+        RandomStream random = new RandomStream(11L);
+        ActorRegistry userProjectiles = new ActorRegistry();
+        ActorRegistry enemyProjectiles = new ActorRegistry();
+        for (int i = 0; i < 150; i++) {
+            userProjectiles.add(factory.createUserProjectile(random.nextDouble() * 1000, random.nextDouble() * 800));
+        }
+        for (int i = 0; i < 90; i++) {
+            enemyProjectiles.add(factory.createEnemyProjectile(random.nextDouble() * 1000, random.nextDouble() * 800));
+        }
+        return List.of(userProjectiles, new ActorRegistry(), enemyProjectiles);
+    }
+}
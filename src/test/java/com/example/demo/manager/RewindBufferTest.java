@@ -0,0 +1,113 @@
+package com.example.demo.manager;
+
+import com.example.demo.utilities.BinaryStateWriter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link RewindBuffer} class.
+ */
+public class RewindBufferTest {
+
+    private static final String LEVEL = "com.example.demo.levels.StressLevel";
+    private static final InputScript INPUT = InputScript.patrolAndFire(45);
+
+    @Test
+    public void testStepBackRestoresEveryRecordedTick() {
+        HeadlessRunner runner = runner();
+        LevelManager level = runner.createLevel();
+        RewindBuffer buffer = new RewindBuffer(1 << 20, 200, 50);
+        List<byte[]> states = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            runner.run(level, 1);
+            buffer.record(level);
+            states.add(state(level));
+        }
+
+        for (int i = states.size() - 2; i >= 0; i--) {
+            assertTrue(buffer.stepBack(level, 1));
+            assertEquals(i + 1, level.getTickCount());
+            assertArrayEquals(states.get(i), state(level), "Stepping back should restore tick " + (i + 1));
+        }
+        assertFalse(buffer.stepBack(level, 1), "Nothing is recorded before the first tick.");
+    }
+
+    @Test
+    public void testRewindToReachesAnyRetainedTick() {
+        HeadlessRunner runner = runner();
+        LevelManager level = runner.createLevel();
+        RewindBuffer buffer = new RewindBuffer(1 << 22, 400, 30);
+        List<byte[]> states = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            runner.run(level, 1);
+            buffer.record(level);
+            states.add(state(level));
+        }
+
+        for (long tick : new long[]{290, 245, 200, 61, 60, 1}) {
+            assertTrue(buffer.rewindTo(level, tick));
+            assertArrayEquals(states.get((int) tick - 1), state(level), "Rewinding should restore tick " + tick);
+            assertEquals(tick, buffer.getNewestTick(), "Later ticks should be forgotten.");
+        }
+        assertFalse(buffer.rewindTo(level, 2));
+    }
+
+    @Test
+    public void testFullRingDropsOldestTicks() {
+        HeadlessRunner runner = runner();
+        LevelManager level = runner.createLevel();
+        RewindBuffer buffer = new RewindBuffer(1 << 17, 1_000, 40);
+        List<byte[]> states = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            runner.run(level, 1);
+            buffer.record(level);
+            states.add(state(level));
+            assertTrue(buffer.getUsedBytes() <= buffer.getCapacityBytes());
+        }
+
+        assertEquals(600, buffer.getNewestTick());
+        assertTrue(buffer.getOldestTick() > 1, "A small ring should have dropped the earliest ticks.");
+        long oldest = buffer.getOldestTick();
+        assertTrue(buffer.rewindTo(level, oldest));
+        assertArrayEquals(states.get((int) oldest - 1), state(level));
+    }
+
+    @Test
+    public void testPlayAfterRewindRepeatsTheRun() {
+        HeadlessRunner runner = runner();
+        LevelManager level = runner.createLevel();
+        level.setRewindEnabled(true);
+        runner.run(level, 400);
+        byte[] original = state(level);
+
+        assertTrue(level.getRewindBuffer().stepBack(level, 100));
+        assertEquals(300, level.getTickCount());
+        runner.run(level, 100);
+
+        assertEquals(400, level.getTickCount());
+        assertArrayEquals(original, state(level), "Playing on from a rewound tick should repeat the run.");
+        assertEquals(400, level.getRewindBuffer().getNewestTick());
+    }
+
+    @Test
+    public void testCapacityMustBePowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new RewindBuffer(1_000, 100, 10));
+    }
+
+    private static HeadlessRunner runner() {
+        HeadlessRunner runner = new HeadlessRunner(LEVEL);
+        runner.setSeed(21L);
+        runner.setInputScript(INPUT);
+        return runner;
+    }
+
+    private static byte[] state(LevelManager level) {
+        BinaryStateWriter writer = new BinaryStateWriter();
+        level.writeState(writer);
+        return writer.toByteArray();
+    }
+}
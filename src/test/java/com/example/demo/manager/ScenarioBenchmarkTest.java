@@ -0,0 +1,36 @@
+package com.example.demo.manager;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Whole-level scenarios timed tick by tick. Each report is written to
+ * {@code target/benchmarks/scenario-<name>.properties} for diffing against earlier runs.
+ * Excluded from the default build; run with {@code mvn test -P benchmark}.
+ */
+@Tag("benchmark")
+public class ScenarioBenchmarkTest {
+
+    @Test
+    public void benchmarkScenarios() {
+        run(new ScenarioRunner("levelOne", "com.example.demo.levels.LevelOne"));
+        run(new ScenarioRunner("levelTwo", "com.example.demo.levels.LevelTwo"));
+        run(new ScenarioRunner("levelThree", "com.example.demo.levels.LevelThree"));
+
+        ScenarioRunner stress = new ScenarioRunner("stress", "com.example.demo.levels.StressLevel");
+        stress.setEnemyCount(500);
+        stress.setProjectileCount(1_000);
+        run(stress);
+    }
+
+    private static void run(ScenarioRunner runner) {
+        ScenarioReport report = runner.run();
+        System.out.print(report.format());
+        report.write(Path.of("target", "benchmarks", "scenario-" + report.getScenario() + ".properties"));
+        assertTrue(report.getTicks() > 0);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.demo.manager;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ScenarioRunner} and {@link ScenarioReport} classes.
+ */
+public class ScenarioRunnerTest {
+
+    @Test
+    public void testPercentilesUseNearestRank() {
+        long[] ticks = new long[1000];
+        for (int i = 0; i < ticks.length; i++) {
+            ticks[ticks.length - 1 - i] = i + 1;
+        }
+        ScenarioReport report = new ScenarioReport("test", "Level", 1, LevelManager.Outcome.IN_PROGRESS,
+                ticks, 1_000_000_000L, 0, 0, 0, 0);
+
+        assertEquals(500, report.getTickNanosPercentile(50));
+        assertEquals(990, report.getTickNanosPercentile(99));
+        assertEquals(999, report.getTickNanosPercentile(99.9));
+        assertEquals(1000, report.getTickNanosPercentile(100));
+        assertEquals(1000.0, report.getTicksPerSecond(), 1e-9);
+    }
+
+    @Test
+    public void testStressScenarioReportsEveryMetric() {
+        ScenarioRunner runner = new ScenarioRunner("stress", "com.example.demo.levels.StressLevel");
+        runner.setWarmupTicks(10);
+        runner.setTicks(50);
+        runner.setEnemyCount(30);
+        runner.setProjectileCount(60);
+
+        ScenarioReport report = runner.run();
+
+        assertEquals(50, report.getTicks());
+        String text = report.format();
+        for (String key : new String[] {"ticks.perSecond=", "tick.nanos.p50=", "tick.nanos.p99=",
+                "tick.nanos.p99.9=", "tick.nanos.max=", "alloc.bytes=", "gc.count="}) {
+            assertTrue(text.contains(key), "Missing " + key);
+        }
+    }
+
+    @Test
+    public void testActorCountsRequireStressLevel() {
+        ScenarioRunner runner = new ScenarioRunner("levelOne", "com.example.demo.levels.LevelOne");
+        runner.setEnemyCount(10);
+        assertThrows(IllegalArgumentException.class, runner::run);
+    }
+}
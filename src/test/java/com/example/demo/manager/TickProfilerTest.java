@@ -0,0 +1,54 @@
+package com.example.demo.manager;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link TickProfiler} class.
+ */
+public class TickProfilerTest {
+
+    @Test
+    public void testRollingWindowKeepsRecentSamples() {
+        TickProfiler profiler = new TickProfiler(3);
+        for (long nanos : new long[]{100, 200, 300, 900}) {
+            profiler.record(TickProfiler.Phase.SPAWN, nanos);
+        }
+
+        assertEquals((200 + 300 + 900) / 3, profiler.getAverageNanos(TickProfiler.Phase.SPAWN));
+        assertEquals(900, profiler.getMaxNanos(TickProfiler.Phase.SPAWN));
+        assertEquals(0, profiler.getAverageNanos(TickProfiler.Phase.HUD), "Unrecorded phases should read zero.");
+    }
+
+    @Test
+    public void testFrameTimesAreReturnedOldestFirst() {
+        TickProfiler profiler = new TickProfiler(3);
+        profiler.recordFrame(1);
+        profiler.recordFrame(2);
+        assertArrayEquals(new long[]{1, 2}, profiler.getRecentFrameNanos());
+
+        profiler.recordFrame(3);
+        profiler.recordFrame(4);
+        assertArrayEquals(new long[]{2, 3, 4}, profiler.getRecentFrameNanos());
+    }
+
+    @Test
+    public void testHeadlessTicksRecordEverySimulationPhase() {
+        LevelManager level = new HeadlessRunner("com.example.demo.levels.LevelOne").createLevel();
+        assertNull(level.getProfiler(), "Profiling should be off by default.");
+
+        level.setProfilingEnabled(true);
+        level.tick();
+
+        TickProfiler profiler = level.getProfiler();
+        for (TickProfiler.Phase phase : TickProfiler.Phase.values()) {
+            if (phase != TickProfiler.Phase.VIEW_SYNC && phase != TickProfiler.Phase.HUD) {
+                assertTrue(profiler.getMaxNanos(phase) > 0, phase + " should have been timed.");
+            }
+        }
+
+        level.setProfilingEnabled(false);
+        assertNull(level.getProfiler());
+    }
+}
@@ -61,8 +61,8 @@ public class UIManagerTest {
         LevelView mockLevelViewLevelThree = mock(LevelView.class);
         when(mockUserPlane.getHealth()).thenReturn(3);
         when(mockBoss.getHealth()).thenReturn(50);
-        when(mockBoss.getTranslateX()).thenReturn(100.0);
-        when(mockBoss.getTranslateY()).thenReturn(200.0);
+        when(mockBoss.getPositionX()).thenReturn(100.0);
+        when(mockBoss.getPositionY()).thenReturn(200.0);
         when(mockBoss.isShielded()).thenReturn(true);
 
         // Act
@@ -2,6 +2,7 @@ package com.example.demo.models;
 
 import com.example.demo.testutils.JavaFXTestUtils;
 import com.example.demo.utilities.Constants;
+import com.example.demo.utilities.SimulationClock;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,8 +26,8 @@ public class BossProjectileTest {
         mockUserPlane = mock(UserPlane.class);
 
         // Configure mock behavior for UserPlane
-        when(mockUserPlane.getTranslateX()).thenReturn(400.0);
-        when(mockUserPlane.getTranslateY()).thenReturn(300.0);
+        when(mockUserPlane.getPositionX()).thenReturn(400.0);
+        when(mockUserPlane.getPositionY()).thenReturn(300.0);
         when(mockUserPlane.getLayoutX()).thenReturn(0.0);
         when(mockUserPlane.getLayoutY()).thenReturn(0.0);
 
@@ -37,7 +38,7 @@ public class BossProjectileTest {
     @Test
     public void testProjectileSwitchesToStraightLine() {
         // Simulate UserPlane far from projectile
-        when(mockUserPlane.getTranslateX()).thenReturn(-100.0);
+        when(mockUserPlane.getPositionX()).thenReturn(-100.0);
 
         // Update projectile position multiple times
         for (int i = 0; i < 5; i++) {
@@ -45,13 +46,13 @@ public class BossProjectileTest {
         }
 
         // Verify that homing has stopped and projectile moves in a straight line
-        assertFalse(bossProjectile.getTranslateX() == 200.0, "Projectile X should continue in a straight line");
+        assertFalse(bossProjectile.getPositionX() == 200.0, "Projectile X should continue in a straight line");
     }
 
     @Test
     public void testProjectileDestructionAfterMaxLives() {
         // Simulate update for longer than the allowed lives
-        for (int i = 0; i <= Constants.BOSS_PROJECTILE_MAX_LIVES; i++) {
+        for (int i = 0; i <= SimulationClock.ticksFor(Constants.BOSS_PROJECTILE_LIFETIME_SECONDS); i++) {
             bossProjectile.updatePosition();
         }
 
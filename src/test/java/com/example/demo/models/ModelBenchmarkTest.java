@@ -0,0 +1,142 @@
+package com.example.demo.models;
+
+import com.example.demo.actors.ActiveActorDestructible;
+import com.example.demo.actors.ActorBucket;
+import com.example.demo.actors.ActorRegistry;
+import com.example.demo.benchmark.BenchmarkHarness;
+import com.example.demo.levels.LevelThree;
+import com.example.demo.utilities.RandomStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmarks for per-actor movement updates and how they are dispatched.
+ * Excluded from the default build; run with {@code mvn test -P benchmark}.
+ */
+@Tag("benchmark")
+public class ModelBenchmarkTest {
+
+    @Test
+    public void benchmarkMovement() {
+        BenchmarkHarness harness = new BenchmarkHarness("models");
+
+        harness.run("bossProjectileUpdatePosition", count -> {
+            ProjectileFactory factory = new ProjectileFactory();
+            UserPlane user = new UserPlane(5, factory);
+            List<BossProjectile> projectiles = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                projectiles.add(new BossProjectile(1500, i % 1000, user));
+            }
+            return projectiles;
+        }, (projectiles, blackhole) -> {
+            for (int i = 0; i < projectiles.size(); i++) {
+                BossProjectile projectile = projectiles.get(i);
+                projectile.updatePosition();
+                blackhole.consume(projectile.getPositionY());
+            }
+        });
+        harness.run("bossNextMove", count -> {
+            LevelThree level = new LevelThree(1080, 1920, null, true, count);
+            List<Boss> bosses = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                bosses.add(new Boss(level));
+            }
+            return bosses;
+        }, (bosses, blackhole) -> {
+            // Boss.getNextMove is private; updatePosition is its only caller and adds a bounds check
+            for (int i = 0; i < bosses.size(); i++) {
+                Boss boss = bosses.get(i);
+                boss.updatePosition();
+                blackhole.consume(boss.getPositionY());
+            }
+        });
+
+        assertFalse(harness.getResults().isEmpty());
+        harness.writeJson();
+    }
+
+    @Test
+    public void benchmarkUpdateDispatch() {
+        BenchmarkHarness harness = new BenchmarkHarness("update-dispatch");
+
+        // Before: each registry walked through forEach, as LevelManager.updateActors used to
+        harness.run("updateActors.sharedCallSite", Population::new, (population, blackhole) -> {
+            for (ActorRegistry registry : population.registries) {
+                registry.forEach(ActiveActorDestructible::updateActor);
+            }
+            blackhole.consume(population.user.getPositionY());
+        });
+        // After: one loop per concrete class over the registries' buckets
+        harness.run("updateActors.typeBuckets", Population::new, (population, blackhole) -> {
+            population.updateByType();
+            blackhole.consume(population.user.getPositionY());
+        });
+
+        assertFalse(harness.getResults().isEmpty());
+        harness.writeJson();
+    }
+
+    /**
+     * The four actor registries of a level holding every concrete actor class in roughly
+     * the proportions of a busy boss fight.
+     */
+    private static final class Population {
+
+        private final ProjectileFactory factory = new ProjectileFactory();
+        private final UserPlane user = new UserPlane(5, factory);
+        private final ActorRegistry friendlyUnits = new ActorRegistry(List.of(UserPlane.class));
+        private final ActorRegistry enemyUnits = new ActorRegistry(List.of(EnemyPlane.class, Boss.class));
+        private final ActorRegistry userProjectiles = new ActorRegistry(List.of(UserProjectile.class));
+        private final ActorRegistry enemyProjectiles = new ActorRegistry(List.of(EnemyProjectile.class, BossProjectile.class));
+        private final List<ActorRegistry> registries = List.of(friendlyUnits, enemyUnits, userProjectiles, enemyProjectiles);
+
+        private Population(int actorCount) {
+            LevelThree level = new LevelThree(1080, 1920, null, true, actorCount);
+            RandomStream random = new RandomStream(actorCount);
+            friendlyUnits.add(user);
+            for (int i = 0; i < actorCount; i++) {
+                double x = random.nextDouble() * 1800;
+                double y = random.nextDouble() * 900;
+                switch (i % 8) {
+                    case 0, 1 -> enemyUnits.add(new EnemyPlane(x, y, user, factory, random.split()));
+                    case 2 -> enemyUnits.add(new Boss(level));
+                    case 3, 4 -> userProjectiles.add(new UserProjectile(x, y));
+                    case 5, 6 -> enemyProjectiles.add(new EnemyProjectile(x, y));
+                    default -> enemyProjectiles.add(new BossProjectile(x, y, user));
+                }
+            }
+        }
+
+        private void updateByType() {
+            ActorBucket<UserPlane> users = friendlyUnits.bucket(UserPlane.class);
+            for (int i = 0; i < users.size(); i++) {
+                users.get(i).updateActor();
+            }
+            ActorBucket<EnemyPlane> enemies = enemyUnits.bucket(EnemyPlane.class);
+            for (int i = 0; i < enemies.size(); i++) {
+                enemies.get(i).updateActor();
+            }
+            ActorBucket<Boss> bosses = enemyUnits.bucket(Boss.class);
+            for (int i = 0; i < bosses.size(); i++) {
+                bosses.get(i).updateActor();
+            }
+            ActorBucket<UserProjectile> userShots = userProjectiles.bucket(UserProjectile.class);
+            for (int i = 0; i < userShots.size(); i++) {
+                userShots.get(i).updateActor();
+            }
+            ActorBucket<EnemyProjectile> enemyShots = enemyProjectiles.bucket(EnemyProjectile.class);
+            for (int i = 0; i < enemyShots.size(); i++) {
+                enemyShots.get(i).updateActor();
+            }
+            ActorBucket<BossProjectile> bossShots = enemyProjectiles.bucket(BossProjectile.class);
+            for (int i = 0; i < bossShots.size(); i++) {
+                bossShots.get(i).updateActor();
+            }
+        }
+    }
+}
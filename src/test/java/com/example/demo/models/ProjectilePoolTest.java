@@ -0,0 +1,64 @@
+package com.example.demo.models;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link ProjectilePool} class.
+ */
+public class ProjectilePoolTest {
+
+    private ProjectilePool<UserProjectile> pool;
+
+    @BeforeEach
+    public void setUpEach() {
+        pool = new ProjectilePool<>("test", () -> mock(UserProjectile.class, CALLS_REAL_METHODS), 2);
+    }
+
+    @Test
+    public void testReleasedProjectileIsReused() {
+        UserProjectile first = pool.acquire();
+        pool.release(first);
+
+        assertSame(first, pool.acquire());
+        assertEquals(1, pool.getMisses(), "Only the first acquisition should allocate.");
+        assertEquals(2, pool.getAcquisitions());
+    }
+
+    @Test
+    public void testHighWaterMarkTracksPeakUsage() {
+        UserProjectile a = pool.acquire();
+        UserProjectile b = pool.acquire();
+        UserProjectile c = pool.acquire();
+        pool.release(a);
+        pool.release(b);
+        pool.release(c);
+
+        assertEquals(3, pool.getHighWaterMark());
+        assertEquals(0, pool.getInUse());
+        assertEquals(2, pool.getAvailable(), "Idle projectiles should be capped at the pool capacity.");
+        assertEquals(1, pool.getDiscards());
+    }
+
+    @Test
+    public void testDoubleReleaseIsIgnored() {
+        UserProjectile projectile = pool.acquire();
+        pool.release(projectile);
+        pool.release(projectile);
+
+        assertEquals(1, pool.getAvailable());
+        assertNotSame(pool.acquire(), pool.acquire(), "A projectile must never be handed out twice.");
+    }
+
+    @Test
+    public void testPrewarmAvoidsMisses() {
+        pool.prewarm(2);
+        pool.acquire();
+        pool.acquire();
+
+        assertEquals(0, pool.getMisses());
+    }
+}
@@ -1,12 +1,14 @@
 package com.example.demo.testutils;
 
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import javafx.application.Platform;
 
 public class JavaFXTestUtils {
 
     private static boolean javaFXInitialized = false;
+    private static Boolean javaFXAvailable;
 
     /**
      * Initializes the JavaFX platform if it hasn't been initialized already.
@@ -25,6 +27,39 @@ public class JavaFXTestUtils {
         }
     }
 
+    /**
+     * Starts the JavaFX platform if possible and checks that its thread runs tasks.
+     * A platform that failed to start in an earlier test blocks {@code runLater} forever,
+     * so the check runs on its own thread and gives up after a few seconds. The answer is
+     * remembered for the rest of the run.
+     *
+     * @return {@code true} if JavaFX is usable, {@code false} if there is no display to start it on
+     */
+    public static synchronized boolean isJavaFXAvailable() {
+        if (javaFXAvailable == null) {
+            javaFXAvailable = probeJavaFX();
+        }
+        return javaFXAvailable;
+    }
+
+    private static boolean probeJavaFX() {
+        try {
+            initializeJavaFX();
+        } catch (UnsupportedOperationException e) {
+            return false;
+        }
+        CountDownLatch started = new CountDownLatch(1);
+        Thread probe = new Thread(() -> Platform.runLater(started::countDown), "fx-probe");
+        probe.setDaemon(true);
+        probe.start();
+        try {
+            return started.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     public static void awaitFXTasks() {
         try {
             Thread.sleep(100); // Give the JavaFX thread some time to process
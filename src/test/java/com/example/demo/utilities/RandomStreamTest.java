@@ -0,0 +1,87 @@
+package com.example.demo.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link RandomStream} and {@link GameRandom} classes.
+ */
+public class RandomStreamTest {
+
+    @Test
+    public void testSameSeedGivesSameSequence() {
+        RandomStream a = new RandomStream(42);
+        RandomStream b = new RandomStream(42);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(a.nextLong(), b.nextLong());
+        }
+    }
+
+    @Test
+    public void testRestoredStateReplaysDraws() {
+        RandomStream stream = new RandomStream(7);
+        stream.nextLong();
+        long state = stream.getState();
+        double first = stream.nextDouble();
+        int second = stream.nextInt(10);
+
+        stream.setState(state);
+        assertEquals(first, stream.nextDouble());
+        assertEquals(second, stream.nextInt(10));
+    }
+
+    @Test
+    public void testDrawsStayInRange() {
+        RandomStream stream = new RandomStream(1);
+        for (int i = 0; i < 10_000; i++) {
+            double d = stream.nextDouble();
+            assertTrue(d >= 0 && d < 1);
+            int n = stream.nextInt(3);
+            assertTrue(n >= 0 && n < 3);
+        }
+        assertThrows(IllegalArgumentException.class, () -> stream.nextInt(0));
+    }
+
+    @Test
+    public void testShuffleIsDeterministicPermutation() {
+        List<Integer> a = new ArrayList<>(List.of(0, 1, 2, 3, 4, 5, 6, 7));
+        List<Integer> b = new ArrayList<>(a);
+        new RandomStream(99).shuffle(a);
+        new RandomStream(99).shuffle(b);
+
+        assertEquals(a, b);
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7), a.stream().sorted().toList());
+    }
+
+    @Test
+    public void testChannelsAreIndependent() {
+        GameRandom plain = new GameRandom(5);
+        GameRandom busy = new GameRandom(5);
+        for (int i = 0; i < 50; i++) {
+            busy.stream(GameRandom.Channel.BOSS_FIRE).nextLong();
+        }
+
+        assertEquals(plain.stream(GameRandom.Channel.ENEMY_SPAWN).nextLong(),
+                busy.stream(GameRandom.Channel.ENEMY_SPAWN).nextLong(),
+                "Draws on one channel must not shift another channel.");
+        assertNotEquals(new GameRandom(5).stream(GameRandom.Channel.ENEMY_SPAWN).nextLong(),
+                new GameRandom(5).stream(GameRandom.Channel.ENEMY_FIRE).nextLong());
+    }
+
+    @Test
+    public void testReseedStartsStreamsOverInPlace() {
+        GameRandom random = new GameRandom(1L);
+        RandomStream spawn = random.stream(GameRandom.Channel.ENEMY_SPAWN);
+        spawn.nextLong();
+
+        random.reseed(2L);
+        RandomStream fresh = new GameRandom(2L).stream(GameRandom.Channel.ENEMY_SPAWN);
+        assertEquals(2L, random.getSeed());
+        assertSame(spawn, random.stream(GameRandom.Channel.ENEMY_SPAWN));
+        assertEquals(fresh.nextLong(), spawn.nextLong());
+    }
+}
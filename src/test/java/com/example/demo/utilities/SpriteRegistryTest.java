@@ -0,0 +1,77 @@
+package com.example.demo.utilities;
+
+import com.example.demo.testutils.JavaFXTestUtils;
+import javafx.scene.image.Image;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for the {@link SpriteRegistry} class.
+ * Decoding an image needs the JavaFX toolkit, so tests that decode are skipped where it cannot start.
+ */
+public class SpriteRegistryTest {
+
+    private static final String PATH = "/com/example/demo/images/EnemyProjectile.png";
+
+    @BeforeEach
+    public void setUpEach() {
+        SpriteRegistry.clear();
+    }
+
+    @AfterEach
+    public void tearDownEach() {
+        SpriteRegistry.clear();
+    }
+
+    @Test
+    public void testSpriteIsDecodedOncePerPathAndHeight() {
+        assumeToolkit();
+        long decodes = SpriteRegistry.getDecodeCount();
+
+        Image first = SpriteRegistry.get(PATH, 50);
+        Image second = SpriteRegistry.get(PATH, 50);
+        Image taller = SpriteRegistry.get(PATH, 80);
+
+        assertSame(first, second);
+        assertNotSame(first, taller);
+        assertEquals(decodes + 2, SpriteRegistry.getDecodeCount());
+    }
+
+    @Test
+    public void testDecodedBytesAreReportedAsSoonAsSpriteIsReturned() {
+        assumeToolkit();
+        Image image = SpriteRegistry.get(PATH, 50);
+
+        assertEquals(50, image.getHeight());
+        Map<String, Long> bytes = SpriteRegistry.getDecodedBytesByAsset();
+        assertEquals(Map.of(PATH + "@50", (long) image.getWidth() * 50 * 4), bytes);
+        assertTrue(SpriteRegistry.getTotalDecodedBytes() > 0);
+    }
+
+    @Test
+    public void testSoftSpriteIsPromotedWithoutDecodingAgain() {
+        assumeToolkit();
+        Image soft = SpriteRegistry.get(PATH, 30, SpriteRegistry.Tier.SOFT);
+        long decodes = SpriteRegistry.getDecodeCount();
+
+        assertTrue(SpriteRegistry.getDecodedBytesByAsset().get(PATH + "@30") > 0);
+        assertSame(soft, SpriteRegistry.get(PATH, 30));
+        assertEquals(decodes, SpriteRegistry.getDecodeCount());
+        assertEquals(1, SpriteRegistry.getDecodedBytesByAsset().size(), "A promoted sprite should be held once.");
+    }
+
+    @Test
+    public void testMissingSpriteIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> SpriteRegistry.get("/com/example/demo/images/Missing.png", 50));
+    }
+
+    private static void assumeToolkit() {
+        assumeTrue(JavaFXTestUtils.isJavaFXAvailable(), "The JavaFX toolkit cannot start here.");
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.demo.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link TripleBuffer} class.
+ */
+public class TripleBufferTest {
+
+    @Test
+    public void testReaderGetsLatestPublishedValue() {
+        TripleBuffer<long[]> buffer = new TripleBuffer<>(() -> new long[1]);
+        long[] initial = buffer.acquire();
+
+        buffer.getWriteBuffer()[0] = 1;
+        buffer.publish();
+        buffer.getWriteBuffer()[0] = 2;
+        buffer.publish();
+
+        assertEquals(2, buffer.acquire()[0], "Values published before a read should be skipped.");
+        assertEquals(2, buffer.acquire()[0], "Without a new value the reader keeps its instance.");
+        assertNotSame(initial, buffer.getWriteBuffer());
+        assertNotSame(buffer.acquire(), buffer.getWriteBuffer());
+    }
+
+    @Test
+    public void testConcurrentReaderNeverSeesPartialValues() throws InterruptedException {
+        TripleBuffer<long[]> buffer = new TripleBuffer<>(() -> new long[64]);
+        int values = 200_000;
+        Thread writer = new Thread(() -> {
+            for (long value = 1; value <= values; value++) {
+                long[] slot = buffer.getWriteBuffer();
+                for (int i = 0; i < slot.length; i++) {
+                    slot[i] = value;
+                }
+                buffer.publish();
+            }
+        });
+        writer.start();
+
+        long last = 0;
+        while (last < values) {
+            long[] slot = buffer.acquire();
+            long value = slot[0];
+            for (long element : slot) {
+                assertEquals(value, element, "A published value was read while being written.");
+            }
+            assertTrue(value >= last, "Values should never go backwards.");
+            last = value;
+        }
+        writer.join();
+    }
+}